@@ -16,6 +16,7 @@ package com.toshiba.mwcloud.gs.tools.common;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Date;
@@ -40,9 +41,6 @@ public class GridDBJdbcUtils {
 	 */
 	public static List<TablePartitionProperty> getTablePartitionProperties(Connection conn, String name) throws GridDBJdbcException {
 
-		TablePartitionProperty partProp = null;
-		TablePartitionProperty subProp = null;
-
 		PreparedStatement pstmt = null;
 		ResultSet rs = null;
 		try {
@@ -53,34 +51,7 @@ public class GridDBJdbcUtils {
 			if ( !rs.next() ){
 				throw new GridDBJdbcException("Container not found. name=["+name+"]");
 			}
-
-			String partType = rs.getString(ToolConstants.META_TABLES_PARTITION_TYPE);
-			String partColumn = rs.getString(ToolConstants.META_TABLES_PARTITION_COLUMN);
-
-			if (partType != null) {
-				if (partType.equals(ToolConstants.TABLE_PARTITION_TYPE_HASH)) {
-					partProp = new TablePartitionProperty(partType, partColumn,
-							rs.getInt(ToolConstants.META_TABLES_PARTITION_DIVISION_COUNT));
-				} else if (partType.equals(ToolConstants.TABLE_PARTITION_TYPE_INTERVAL)) {
-					partProp = new TablePartitionProperty(partType, partColumn,
-							rs.getString(ToolConstants.META_TABLES_PARTITION_INTERVAL_VALUE),
-							rs.getString(ToolConstants.META_TABLES_PARTITION_INTERVAL_UNIT));
-				}
-			}
-
-			String subPartType = rs.getString(ToolConstants.META_TABLES_SUBPARTITION_TYPE);
-			String subPartColumn = rs.getString(ToolConstants.META_TABLES_SUBPARTITION_COLUMN);
-
-			if (subPartType != null) {
-				if (subPartType.equals(ToolConstants.TABLE_PARTITION_TYPE_HASH)) {
-					subProp = new TablePartitionProperty(subPartType, subPartColumn,
-							rs.getInt(ToolConstants.META_TABLES_SUBPARTITION_DIVISION_COUNT));
-				} else if (subPartType.equals(ToolConstants.TABLE_PARTITION_TYPE_INTERVAL)) {
-					subProp = new TablePartitionProperty(subPartType, subPartColumn,
-							rs.getString(ToolConstants.META_TABLES_SUBPARTITION_INTERVAL_VALUE),
-							rs.getString(ToolConstants.META_TABLES_SUBPARTITION_INTERVAL_UNIT));
-				}
-			}
+			return getTablePartitionProperties(rs);
 
 		} catch (Exception e) {
 			throw new GridDBJdbcException("Failed to get table partitioning information. name=[" + name + "]", e);
@@ -94,6 +65,49 @@ public class GridDBJdbcUtils {
 				}
 			} catch (Exception e) {}
 		}
+	}
+
+	/**
+	 * メタテーブル#tablesの現在の行からテーブルパーティショニング情報リストを取得します。
+	 * <p>
+	 * テーブルパーティショニング情報が存在しない場合はnullを返します。
+	 *
+	 * @param rs メタテーブル#tablesの検索結果(全カラム)
+	 * @return テーブルパーティショニング情報リスト
+	 * @throws SQLException
+	 */
+	public static List<TablePartitionProperty> getTablePartitionProperties(ResultSet rs) throws SQLException {
+
+		TablePartitionProperty partProp = null;
+		TablePartitionProperty subProp = null;
+
+		String partType = rs.getString(ToolConstants.META_TABLES_PARTITION_TYPE);
+		String partColumn = rs.getString(ToolConstants.META_TABLES_PARTITION_COLUMN);
+
+		if (partType != null) {
+			if (partType.equals(ToolConstants.TABLE_PARTITION_TYPE_HASH)) {
+				partProp = new TablePartitionProperty(partType, partColumn,
+						rs.getInt(ToolConstants.META_TABLES_PARTITION_DIVISION_COUNT));
+			} else if (partType.equals(ToolConstants.TABLE_PARTITION_TYPE_INTERVAL)) {
+				partProp = new TablePartitionProperty(partType, partColumn,
+						rs.getString(ToolConstants.META_TABLES_PARTITION_INTERVAL_VALUE),
+						rs.getString(ToolConstants.META_TABLES_PARTITION_INTERVAL_UNIT));
+			}
+		}
+
+		String subPartType = rs.getString(ToolConstants.META_TABLES_SUBPARTITION_TYPE);
+		String subPartColumn = rs.getString(ToolConstants.META_TABLES_SUBPARTITION_COLUMN);
+
+		if (subPartType != null) {
+			if (subPartType.equals(ToolConstants.TABLE_PARTITION_TYPE_HASH)) {
+				subProp = new TablePartitionProperty(subPartType, subPartColumn,
+						rs.getInt(ToolConstants.META_TABLES_SUBPARTITION_DIVISION_COUNT));
+			} else if (subPartType.equals(ToolConstants.TABLE_PARTITION_TYPE_INTERVAL)) {
+				subProp = new TablePartitionProperty(subPartType, subPartColumn,
+						rs.getString(ToolConstants.META_TABLES_SUBPARTITION_INTERVAL_VALUE),
+						rs.getString(ToolConstants.META_TABLES_SUBPARTITION_INTERVAL_UNIT));
+			}
+		}
 
 		// テーブルパーティショニング情報が無かったらnullを返す
 		if (partProp == null) {
@@ -120,8 +134,6 @@ public class GridDBJdbcUtils {
 	 */
 	public static ExpirationInfo getExpirationInfo(Connection conn, String name) throws GridDBJdbcException {
 
-		ExpirationInfo expInfo = null;
-
 		PreparedStatement pstmt = null;
 		ResultSet rs = null;
 		try {
@@ -130,15 +142,7 @@ public class GridDBJdbcUtils {
 			if ( !rs.next() ){
 				throw new GridDBJdbcException("Container not found. name=["+name+"]");
 			}
-
-			String expType = rs.getString(ToolConstants.META_TABLES_EXPIRATION_TYPE);
-			int expTime = rs.getInt(ToolConstants.META_TABLES_EXPIRATION_TIME);
-			String expTimeUnitStr = rs.getString(ToolConstants.META_TABLES_EXPIRATION_TIME_UNIT);
-
-			// type=nullまたはtype=rowのときは未設定とみなす
-			if (expType != null && !expType.equalsIgnoreCase(ToolConstants.EXPIRATION_TYPE_ROW)) {
-				expInfo = new ExpirationInfo(expType, expTime, TimeUnit.valueOf(expTimeUnitStr));
-			}
+			return getExpirationInfo(rs);
 
 		} catch (Exception e) {
 			throw new GridDBJdbcException("Failed to get expiration information. name=[" + name + "]", e);
@@ -152,13 +156,30 @@ public class GridDBJdbcUtils {
 				}
 			} catch (Exception e) {}
 		}
+	}
 
-		// 期限解放情報が無かったらnullを返す
-		if (expInfo == null) {
-			return null;
+	/**
+	 * メタテーブル#tablesの現在の行から期限解放情報を取得します。
+	 * <p>
+	 * 期限解放情報が存在しない場合、expiration_type='row'の場合はnullを返します。
+	 *
+	 * @param rs メタテーブル#tablesの検索結果(全カラム)
+	 * @return 期限解放情報
+	 * @throws SQLException
+	 */
+	public static ExpirationInfo getExpirationInfo(ResultSet rs) throws SQLException {
+
+		String expType = rs.getString(ToolConstants.META_TABLES_EXPIRATION_TYPE);
+		int expTime = rs.getInt(ToolConstants.META_TABLES_EXPIRATION_TIME);
+		String expTimeUnitStr = rs.getString(ToolConstants.META_TABLES_EXPIRATION_TIME_UNIT);
+
+		// type=nullまたはtype=rowのときは未設定とみなす
+		if (expType != null && !expType.equalsIgnoreCase(ToolConstants.EXPIRATION_TYPE_ROW)) {
+			return new ExpirationInfo(expType, expTime, TimeUnit.valueOf(expTimeUnitStr));
 		}
 
-		return expInfo;
+		// 期限解放情報が無かったらnullを返す
+		return null;
 	}
 
 	/**
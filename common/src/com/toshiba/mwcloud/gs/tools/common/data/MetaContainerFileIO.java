@@ -528,6 +528,9 @@ public class MetaContainerFileIO {
 							} else if ( key.equalsIgnoreCase(ToolConstants.JSON_META_CONTAINER_INTERNAL_FILE)){
 								ci.setContainerInternalFileName(value);
 
+							} else if ( key.equalsIgnoreCase(ToolConstants.JSON_META_HIGH_WATERMARK)){
+								ci.setHighWatermark(value);
+
 							} else if (key.equalsIgnoreCase(ToolConstants.JSON_META_DATA_AFFINITY)) {
 								ci.setDataAffinity(value);
 							} else if (key.equalsIgnoreCase(ToolConstants.JSON_META_EXPIRATION_TYPE)) {
@@ -558,6 +561,10 @@ public class MetaContainerFileIO {
 							ci.setIntervalWorkerGroup(number);
 						} else if (key.equalsIgnoreCase(ToolConstants.JSON_META_INTERVAL_WORKER_GROUP_POSITION)) {
 							ci.setIntervalWorkerGroupPos(number);
+						} else if (key.equalsIgnoreCase(ToolConstants.JSON_META_CONTAINER_FILE_OFFSET)) {
+							ci.setContainerFileOffset(jp.getLong());
+						} else if (key.equalsIgnoreCase(ToolConstants.JSON_META_CONTAINER_FILE_ROW_COUNT)) {
+							ci.setContainerFileRowCount(jp.getLong());
 						}
 					}
 					break;
@@ -1762,6 +1769,11 @@ private JsonGenerator buildJson(ToolContainerInfo cInfo, JsonGenerator gen) thro
 	if ( cInfo.getContainerInternalFileName() != null ){
 		gen.write(ToolConstants.JSON_META_CONTAINER_INTERNAL_FILE, cInfo.getContainerInternalFileName());
 	}
+	// マルチコンテナCSVの場合のファイル内の位置
+	if ( (cInfo.getContainerFileList() != null) && (cInfo.getContainerFileOffset() >= 0) ){
+		gen.write(ToolConstants.JSON_META_CONTAINER_FILE_OFFSET, cInfo.getContainerFileOffset());
+		gen.write(ToolConstants.JSON_META_CONTAINER_FILE_ROW_COUNT, cInfo.getContainerFileRowCount());
+	}
 	if(cInfo.getDataAffinity()!=null){
 		gen.write(ToolConstants.JSON_META_DATA_AFFINITY, cInfo.getDataAffinity());// Data Affinity
 	}
@@ -1995,6 +2007,11 @@ private JsonGenerator buildJson(ToolContainerInfo cInfo, JsonGenerator gen) thro
 	if ( cInfo.getTimeIntervalInfos() == null || cInfo.getTimeIntervalInfos().size() == 0){
 		// 出力しない。
 	} else {
+		// エクスポート済みロウキーの最大値
+		if ( cInfo.getHighWatermark() != null ){
+			gen.write(ToolConstants.JSON_META_HIGH_WATERMARK, cInfo.getHighWatermark());
+		}
+
 		gen.writeStartArray(ToolConstants.JSON_META_TIME_INTERVAL_INFO);
 		for (TimeIntervalInfo splitFileInfo : cInfo.getTimeIntervalInfos()){
 			gen.writeStartObject();
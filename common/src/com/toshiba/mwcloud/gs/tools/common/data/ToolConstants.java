@@ -21,7 +21,7 @@ public class ToolConstants {
 
 
 	/** ロウファイルのタイプ(CSV/バイナリ) */
-	public static enum RowFileType { CSV, BINARY, AVRO, ARCHIVE_CSV }
+	public static enum RowFileType { CSV, BINARY, AVRO, COLUMNAR, ARCHIVE_CSV }
 
 	/** JSONファイルの文字コード */
 	public static final String ENCODING_JSON			= "UTF-8";
@@ -50,6 +50,9 @@ public class ToolConstants {
 	public static final String JSON_META_CONTAINER_ATTRIBUTE	= "attribute";
 	public static final String JSON_META_CONTAINER_FILE			= "containerFile";
 	public static final String JSON_META_CONTAINER_INTERNAL_FILE	= "containerInternalFile";
+	public static final String JSON_META_CONTAINER_FILE_OFFSET	= "containerFileOffset";
+	public static final String JSON_META_CONTAINER_FILE_ROW_COUNT	= "containerFileRowCount";
+	public static final String JSON_META_HIGH_WATERMARK			= "highWatermark";
 	public static final String JSON_META_CONTAINER_FILE_TYPE	= "containerFileType";
 	public static final String JSON_META_DATA_AFFINITY			= "dataAffinity";
 	public static final String JSON_META_ROW_KEY				= "rowKeyAssigned";
@@ -85,6 +88,7 @@ public class ToolConstants {
 		JSON_META_DBNAME, JSON_META_CONTAINER, JSON_META_CONTAINER_TYPE, JSON_META_CONTAINER_ATTRIBUTE,
 		JSON_META_CONTAINER_FILE, JSON_META_CONTAINER_FILE_TYPE, JSON_META_DATA_AFFINITY,
 		JSON_META_ROW_KEY, JSON_META_PARTITION_NO, JSON_META_ROWKEY_SET, JSON_META_CONTAINER_INTERNAL_FILE,
+		JSON_META_CONTAINER_FILE_OFFSET, JSON_META_CONTAINER_FILE_ROW_COUNT, JSON_META_HIGH_WATERMARK,
 		JSON_META_EXPIRATION_TYPE, JSON_META_EXPIRATION_TIME, JSON_META_EXPIRATION_TIME_UNIT,
 		JSON_META_ARCHIVE_INFO, JSON_META_NODE_ADDR, JSON_META_NODE_PORT,
 		JSON_META_DATABASE_ID, JSON_META_CONTAINER_ID, JSON_META_DATAPARTITION_ID,
@@ -232,6 +236,7 @@ public class ToolConstants {
 	 */
 	public static final String META_TABLES 				= "#tables";
 	public static final String META_TABLE_PARTITIONS	= "#table_partitions";
+	public static final String META_TABLES_STATS		= "#tables_stats";
 	public static final String META_COLUMNS				= "#columns";
 	public static final String META_INDEX_INFO			= "#index_info";
 	public static final String META_PRIMARY_KEYS		= "#primary_keys";
@@ -299,6 +304,12 @@ public class ToolConstants {
     /** select table has interval worker group **/
 	public static final String STMT_SELECT_META_TABLES_INTERVAL_WORKER_GROUP = "SELECT TABLE_NAME," + ToolConstants.META_TABLES_INTERVAL_WORKER_GROUP + "," + ToolConstants.META_TABLES_INTERVAL_WORKER_GROUP_POS + " FROM \"" + META_TABLES + "\" WHERE PARTITION_TYPE = 'INTERVAL' AND ((" + ToolConstants.META_TABLES_INTERVAL_WORKER_GROUP + " IS NOT NULL) OR (" + ToolConstants.META_TABLES_INTERVAL_WORKER_GROUP_POS + " IS NOT NULL))";
 
+	/** インターバルパーティションの境界値の最大値と最小値をテーブルごとに取得 */	// SELECT TABLE_NAME, MAX(PARTITION_BOUNDARY_VALUE) AS BOUNDARY_MAX, MIN(PARTITION_BOUNDARY_VALUE) AS BOUNDARY_MIN FROM "#table_partitions" GROUP BY TABLE_NAME
+	public static final String STMT_SELECT_META_TABLE_PARTITIONS_BOUNDARY = "SELECT TABLE_NAME, MAX(PARTITION_BOUNDARY_VALUE) AS BOUNDARY_MAX, MIN(PARTITION_BOUNDARY_VALUE) AS BOUNDARY_MIN FROM \"" + META_TABLE_PARTITIONS + "\" GROUP BY TABLE_NAME";
+
+	/** テーブルのロウ数一覧取得 */	// SELECT TABLE_NAME, NUM_ROWS FROM "#tables_stats"
+	public static final String STMT_SELECT_META_TABLES_STATS_NUM_ROWS = "SELECT TABLE_NAME, NUM_ROWS FROM \"" + META_TABLES_STATS + "\"";
+
 	/*
 	 * プリペアードステートメント
 	 */
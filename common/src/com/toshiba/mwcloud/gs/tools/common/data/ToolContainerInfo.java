@@ -101,6 +101,11 @@ public class ToolContainerInfo {
 	 * タイムインターバル情報リスト
 	 */
 	private List<TimeIntervalInfo> m_timeIntervalInfos;
+
+	/**
+	 * タイムインターバル情報のエクスポート済みロウキーの最大値(インクリメンタルエクスポート用、null:なし)
+	 */
+	private String m_highWatermark;
 	
 	/**
 	 * 期限解放情報
@@ -130,12 +135,25 @@ public class ToolContainerInfo {
 	 * バイナリマルチの場合のZipファイル内のファイル名(Exp/Imp用)
 	 */
 	private String containerInternalFileName;
+	/**
+	 * マルチコンテナCSVの場合のファイル内のコンテナの開始位置(バイト)(Exp/Imp用、-1:なし)
+	 */
+	private long containerFileOffset = -1;
+	/**
+	 * マルチコンテナCSVの場合のファイル内のコンテナのロウ数(Exp/Imp用、-1:なし)
+	 */
+	private long containerFileRowCount = -1;
 
 	/**
 	 * ファイル名のベース  (Exp/Imp用)
 	 */
 	private String fileBaseName;
 
+	/**
+	 * ロウデータファイル名のベースに付加する文字列(ロウキーの範囲ごとのエクスポート用、null:なし)  (Exp/Imp用)
+	 */
+	private String fileNameSuffix;
+
 	/**
 	 * ロウデータファイルの境界値(日付)
 	 */
@@ -220,6 +238,7 @@ public class ToolContainerInfo {
 		m_timeSeriesProperties = tcInfo.getTimeSeriesProperties();	// 参照コピー
 		m_tablePartitionProperties = tcInfo.getTablePartitionProperties();	// 参照コピー
 		m_timeIntervalInfos = tcInfo.getTimeIntervalInfos();	// 参照コピー
+		m_highWatermark = tcInfo.getHighWatermark();
 		m_expirationInfo = tcInfo.getExpirationInfo();
 
 		partitionNo = tcInfo.getPartitionNo();
@@ -228,6 +247,8 @@ public class ToolContainerInfo {
 		containerFileType = tcInfo.getContainerFileType();
 		containerFileList = tcInfo.getContainerFileList();			// 参照コピー
 		containerInternalFileName = tcInfo.getContainerInternalFileName();			// 参照コピー
+		containerFileOffset = tcInfo.getContainerFileOffset();
+		containerFileRowCount = tcInfo.getContainerFileRowCount();
 		fileBaseName = tcInfo.getFileBaseName();
 		filterCondition = tcInfo.getFilterCondition();
 
@@ -757,6 +778,9 @@ public class ToolContainerInfo {
 		} else if ( fileType.toUpperCase().equalsIgnoreCase(RowFileType.AVRO.toString()) ){
 			containerFileType = RowFileType.AVRO;
 
+		} else if ( fileType.toUpperCase().equalsIgnoreCase(RowFileType.COLUMNAR.toString()) ){
+			containerFileType = RowFileType.COLUMNAR;
+
 		} else if ( fileType.toUpperCase().equalsIgnoreCase(RowFileType.ARCHIVE_CSV.toString()) ){
 			containerFileType = RowFileType.ARCHIVE_CSV;
 
@@ -781,6 +805,12 @@ public class ToolContainerInfo {
 	public void setContainerInternalFileName(String fileName){
 		containerInternalFileName = fileName;
 	}
+	public void setContainerFileOffset(long offset){
+		containerFileOffset = offset;
+	}
+	public void setContainerFileRowCount(long rowCount){
+		containerFileRowCount = rowCount;
+	}
 	/*
 	public void setContainerFile(String arg) {
 		containerFileList = new ArrayList<String>(1);
@@ -855,6 +885,23 @@ public class ToolContainerInfo {
 		return fileBaseName;
 	}
 
+	/**
+	 * ロウデータファイル名のベースに付加する文字列を設定します。
+	 *
+	 * @param suffix 付加する文字列(null:なし)
+	 */
+	public void setFileNameSuffix(String suffix){
+		fileNameSuffix = suffix;
+	}
+
+	/**
+	 * ロウデータファイル名のベースに付加する文字列を返します。
+	 * @return 付加する文字列(null:なし)
+	 */
+	public String getFileNameSuffix(){
+		return fileNameSuffix;
+	}
+
 
 	/**
 	 * ロウデータファイルの境界値(日付)を設定します。
@@ -910,6 +957,14 @@ public class ToolContainerInfo {
 		return containerInternalFileName;
 	}
 
+	public long getContainerFileOffset() {
+		return containerFileOffset;
+	}
+
+	public long getContainerFileRowCount() {
+		return containerFileRowCount;
+	}
+
 
 	/**
 	 * (互換性用)コンテナ属性文字列の取得
@@ -958,6 +1013,22 @@ public class ToolContainerInfo {
 	public void setTimeIntervalInfos(List<TimeIntervalInfo> timeIntervalInfos) {
 		m_timeIntervalInfos = timeIntervalInfos;
 	}	
+
+	/**
+	 * エクスポート済みロウキーの最大値の取得
+	 * @return m_highWatermark エクスポート済みロウキーの最大値
+	 */
+	public String getHighWatermark() {
+		return m_highWatermark;
+	}
+
+	/**
+	 * エクスポート済みロウキーの最大値の設定
+	 * @param highWatermark エクスポート済みロウキーの最大値
+	 */
+	public void setHighWatermark(String highWatermark) {
+		m_highWatermark = highWatermark;
+	}
 	
 	/**
 	 * 期限解放情報の取得
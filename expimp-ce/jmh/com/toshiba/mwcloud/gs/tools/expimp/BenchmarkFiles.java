@@ -0,0 +1,44 @@
+/*
+    Copyright (c) 2021 TOSHIBA Digital Solutions Corporation.
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+        http://www.apache.org/licenses/LICENSE-2.0
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package com.toshiba.mwcloud.gs.tools.expimp;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+/**
+ * Temporary directory of the benchmarks that write files.
+ */
+class BenchmarkFiles {
+
+	private BenchmarkFiles(){
+	}
+
+	static File createTempDirectory() throws IOException {
+		return Files.createTempDirectory("gs_expimp_jmh").toFile();
+	}
+
+	static void delete(File file){
+		if ( file == null ){
+			return;
+		}
+		File[] children = file.listFiles();
+		if ( children != null ){
+			for ( File child : children ){
+				delete(child);
+			}
+		}
+		file.delete();
+	}
+}
@@ -0,0 +1,136 @@
+/*
+    Copyright (c) 2021 TOSHIBA Digital Solutions Corporation.
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+        http://www.apache.org/licenses/LICENSE-2.0
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package com.toshiba.mwcloud.gs.tools.expimp;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.toshiba.mwcloud.gs.Container;
+import com.toshiba.mwcloud.gs.GSType;
+import com.toshiba.mwcloud.gs.Row;
+
+/**
+ * Benchmark of the column value conversion of the CSV format.
+ *
+ *   getRowValue : Row -> CSV string (export)
+ *   setRowValue : CSV string -> Row (import)
+ *
+ * BLOB values go through the external files (.blob) in a temporary directory,
+ * as in the real export/import. The score is rows per second.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class CsvRowValueBenchmark {
+
+	static final int ROWS = 128;
+
+	@Param({"4", "16", "64"})
+	public int columnCount;
+
+	@Param({"numeric", "string", "mixed", "array", "blob"})
+	public String typeMix;
+
+	@Param({"0.0", "0.3"})
+	public double nullRatio;
+
+	@Param({"1024", "65536"})
+	public int blobSize;
+
+	private File m_dir;
+
+	private rowCsvFileIO m_fileIO;
+
+	private SyntheticSchema m_schema;
+
+	private GSType[] m_types;
+
+	private List<Row> m_rows;
+
+	private Container<Object, Row> m_container;
+
+	private String[][] m_values;
+
+	@Setup
+	public void setup() throws Exception {
+		m_dir = BenchmarkFiles.createTempDirectory();
+		commandLineInfo cli = new commandLineInfo();
+		cli.setDirectoryPath(m_dir.getAbsolutePath());
+		m_fileIO = new rowCsvFileIO(cli);
+
+		m_schema = new SyntheticSchema(columnCount, typeMix, nullRatio, blobSize);
+		m_types = m_schema.getTypeList().toArray(new GSType[0]);
+		m_rows = m_schema.createRows(ROWS);
+		m_container = m_schema.createContainer();
+		m_fileIO.startWriteContainer(m_schema.getToolContainerInfo());
+
+		// CSV strings for setRowValue (the external BLOB files are written here)
+		m_values = new String[ROWS][m_types.length];
+		for ( int i = 0; i < ROWS; i++ ){
+			for ( int j = 0; j < m_types.length; j++ ){
+				m_values[i][j] = m_fileIO.getRowValue(m_rows.get(i), i, m_types[j], j);
+			}
+		}
+	}
+
+	@TearDown
+	public void tearDown(){
+		m_fileIO.endWriteContainer();
+		m_fileIO.endWrite();
+		BenchmarkFiles.delete(m_dir);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(ROWS)
+	public void getRowValue(Blackhole bh) throws Exception {
+		for ( int i = 0; i < ROWS; i++ ){
+			Row row = m_rows.get(i);
+			for ( int j = 0; j < m_types.length; j++ ){
+				bh.consume(m_fileIO.getRowValue(row, i, m_types[j], j));
+			}
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(ROWS)
+	public void setRowValue(Blackhole bh) throws Exception {
+		for ( int i = 0; i < ROWS; i++ ){
+			Row row = m_container.createRow();
+			String[] values = m_values[i];
+			for ( int j = 0; j < m_types.length; j++ ){
+				m_fileIO.setRowValue(m_container, row, m_types[j], values[j], j);
+			}
+			bh.consume(row);
+		}
+	}
+}
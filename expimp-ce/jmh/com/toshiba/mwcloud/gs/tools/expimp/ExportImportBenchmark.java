@@ -0,0 +1,203 @@
+/*
+    Copyright (c) 2021 TOSHIBA Digital Solutions Corporation.
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+        http://www.apache.org/licenses/LICENSE-2.0
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package com.toshiba.mwcloud.gs.tools.expimp;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
+
+/**
+ * Throughput driver of the whole gs_export / gs_import against the in-memory cluster (MemoryGridStore).
+ *
+ *   For each --parallel level, gs_export (--all --binary --out) and then gs_import (--all) of the exported data
+ *   are run in child processes (MemoryStoreMain), and the rows/s of the processing metrics are output as a table.
+ *   (exportMain / importMain end the process with System.exit)
+ *
+ *   usage: ExportImportBenchmark [--parallel 1,2,4,8] [--jvmArgs "-Xmx2g"] [property=value ...]
+ *     property=value : memoryStore.xxx settings of the in-memory cluster  (memoryStore.containers=64 memoryStore.latency=200 ...)
+ *                      or gs_expimp.properties of both commands.
+ *                      memoryStore.containers applies to the export only. The import starts with an empty cluster.
+ */
+public class ExportImportBenchmark {
+
+	private static final String USER = "admin/admin";
+
+	private static final String MEMORY_STORE_PREFIX = "memoryStore.";
+
+	public static void main(String[] args) throws Exception {
+		List<Integer> parallelList = Arrays.asList(1, 2, 4, 8);
+		List<String> jvmArgs = Arrays.asList("-Xmx2g");
+		Properties props = new Properties();
+		props.setProperty(MemoryGridStore.PROP_CONTAINERS, "16");
+		props.setProperty(MemoryGridStore.PROP_ROWS, "20000");
+		props.setProperty(MemoryGridStore.PROP_NODE_COUNT, "4");
+
+		for ( int i = 0; i < args.length; i++ ){
+			if ( args[i].equals("--parallel") && (i + 1 < args.length) ){
+				parallelList = new ArrayList<Integer>();
+				for ( String p : args[++i].split(",") ){
+					parallelList.add(Integer.parseInt(p.trim()));
+				}
+			} else if ( args[i].equals("--jvmArgs") && (i + 1 < args.length) ){
+				jvmArgs = Arrays.asList(args[++i].trim().split("\\s+"));
+			} else if ( args[i].contains("=") ){
+				String[] kv = args[i].split("=", 2);
+				props.setProperty(kv[0].trim(), kv[1].trim());
+			} else {
+				System.err.println("usage: ExportImportBenchmark [--parallel 1,2,4,8] [--jvmArgs \"-Xmx2g\"] [property=value ...]");
+				System.exit(2);
+			}
+		}
+
+		File work = BenchmarkFiles.createTempDirectory();
+		try {
+			System.out.println("memoryStore : " + props);
+			System.out.println(String.format("%8s %12s %14s %12s %14s", "parallel", "rows", "export rows/s", "rows", "import rows/s"));
+			for ( int parallel : parallelList ){
+				File dataDir = new File(work, "data_" + parallel);
+
+				List<String> exportArgs = new ArrayList<String>(Arrays.asList(
+						"--all", "-d", dataDir.getAbsolutePath(), "-u", USER, "--binary", "--out", "bench"));
+				if ( parallel >= GSConstants.PARALLEL_MIN ){
+					exportArgs.add("--parallel");
+					exportArgs.add(Integer.toString(parallel));
+				}
+				JsonObject exportMetrics = run(work, "export_" + parallel, "export", exportArgs, jvmArgs, props, true);
+
+				// The parallel count of the import is taken from gs_export.json
+				List<String> importArgs = Arrays.asList("--all", "-d", dataDir.getAbsolutePath(), "-u", USER);
+				JsonObject importMetrics = run(work, "import_" + parallel, "import", importArgs, jvmArgs, props, false);
+
+				System.out.println(String.format("%8d %12d %14.0f %12d %14.0f", parallel,
+						exportMetrics.getJsonNumber("rows").longValue(), exportMetrics.getJsonNumber("rowsPerSec").doubleValue(),
+						importMetrics.getJsonNumber("rows").longValue(), importMetrics.getJsonNumber("rowsPerSec").doubleValue()));
+				BenchmarkFiles.delete(dataDir);
+			}
+		} finally {
+			BenchmarkFiles.delete(work);
+		}
+	}
+
+	/**
+	 * Runs a command in a child process and returns its processing metrics.
+	 *
+	 * @param work Work directory
+	 * @param name Name of the run (the directory of gs_expimp.properties and the output file)
+	 * @param command export or import
+	 * @param args Command arguments
+	 * @param jvmArgs JVM arguments of the child process
+	 * @param props Properties given to the driver
+	 * @param generate true: The in-memory cluster generates the containers (export)
+	 * @return Processing metrics (JSON)
+	 */
+	private static JsonObject run(File work, String name, String command, List<String> args, List<String> jvmArgs,
+			Properties props, boolean generate) throws Exception {
+		File confDir = new File(work, name);
+		confDir.mkdirs();
+		File metricsFile = new File(work, name + "_metrics.json");
+		File outputFile = new File(work, name + ".out");
+		File memoryStoreFile = new File(confDir, "memoryStore.properties");
+
+		// gs_expimp.properties : The connection settings are required but not used
+		Properties conf = new Properties();
+		conf.setProperty(GSConstants.PROP_CLUSTER_NAME, "bench");
+		conf.setProperty("mode", "MULTICAST");
+		conf.setProperty("hostAddress", "239.0.0.1");
+		conf.setProperty("hostPort", "31999");
+		conf.setProperty("jdbcAddress", "239.0.0.1");
+		conf.setProperty("jdbcPort", "41999");
+		conf.setProperty("logPath", new File(work, "log").getAbsolutePath());
+		// memoryStore.properties : Settings of the in-memory cluster
+		Properties memoryStore = new Properties();
+		for ( Map.Entry<Object, Object> e : props.entrySet() ){
+			String key = (String)e.getKey();
+			if ( key.startsWith(MEMORY_STORE_PREFIX) ){
+				memoryStore.setProperty(key, (String)e.getValue());
+			} else {
+				conf.setProperty(key, (String)e.getValue());
+			}
+		}
+		if ( !generate ){
+			memoryStore.setProperty(MemoryGridStore.PROP_DATABASES, "0");
+			memoryStore.setProperty(MemoryGridStore.PROP_CONTAINERS, "0");
+		}
+		conf.setProperty(GSConstants.PROP_METRICS_PATH, metricsFile.getAbsolutePath());
+		conf.setProperty(GSConstants.PROP_METRICS_FORMAT, ProcessMetrics.FORMAT_JSON);
+		store(conf, new File(confDir, "gs_expimp.properties"));
+		store(memoryStore, memoryStoreFile);
+		// Only the warnings and errors are logged (to the output file)
+		Writer writer = new OutputStreamWriter(new FileOutputStream(new File(confDir, "logback.xml")), StandardCharsets.UTF_8);
+		try {
+			writer.write("<configuration>\n"
+					+ "  <appender name=\"STDOUT\" class=\"ch.qos.logback.core.ConsoleAppender\">\n"
+					+ "    <encoder><pattern>%level %logger %msg%n</pattern></encoder>\n"
+					+ "  </appender>\n"
+					+ "  <root level=\"warn\"><appender-ref ref=\"STDOUT\" /></root>\n"
+					+ "</configuration>\n");
+		} finally {
+			writer.close();
+		}
+
+		List<String> commandLine = new ArrayList<String>();
+		commandLine.add(new File(new File(System.getProperty("java.home"), "bin"), "java").getAbsolutePath());
+		commandLine.addAll(jvmArgs);
+		commandLine.add("-cp");
+		commandLine.add(confDir.getAbsolutePath() + File.pathSeparator + System.getProperty("java.class.path"));
+		commandLine.add(MemoryStoreMain.class.getName());
+		commandLine.add(memoryStoreFile.getAbsolutePath());
+		commandLine.add(command);
+		commandLine.addAll(args);
+
+		ProcessBuilder pb = new ProcessBuilder(commandLine);
+		pb.redirectErrorStream(true);
+		pb.redirectOutput(outputFile);
+		int exitCode = pb.start().waitFor();
+		if ( (exitCode != 0) || !metricsFile.exists() ){
+			System.err.println(new String(Files.readAllBytes(outputFile.toPath()), StandardCharsets.UTF_8));
+			throw new IllegalStateException(name + " failed: exit=" + exitCode);
+		}
+
+		InputStream in = new FileInputStream(metricsFile);
+		try {
+			JsonReader reader = Json.createReader(in);
+			return reader.readObject();
+		} finally {
+			in.close();
+		}
+	}
+
+	private static void store(Properties props, File file) throws Exception {
+		OutputStream out = new FileOutputStream(file);
+		try {
+			props.store(out, null);
+		} finally {
+			out.close();
+		}
+	}
+}
@@ -0,0 +1,104 @@
+/*
+    Copyright (c) 2021 TOSHIBA Digital Solutions Corporation.
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+        http://www.apache.org/licenses/LICENSE-2.0
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package com.toshiba.mwcloud.gs.tools.expimp;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.sql.Blob;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Arrays;
+
+/**
+ * In-memory Blob for the benchmarks and MemoryGridStore. (Container.createBlob)
+ *
+ * Unlike SerialBlob, setBinaryStream(1) is supported,
+ * which is used by the import of the CSV format (external BLOB file).
+ */
+class MemoryBlob implements Blob {
+
+	private byte[] m_data;
+
+	MemoryBlob(){
+		m_data = new byte[0];
+	}
+
+	MemoryBlob(byte[] data){
+		m_data = data;
+	}
+
+	public long length() throws SQLException {
+		return m_data.length;
+	}
+
+	public byte[] getBytes(long pos, int length) throws SQLException {
+		int from = (int)(pos - 1);
+		return Arrays.copyOfRange(m_data, from, Math.min(from + length, m_data.length));
+	}
+
+	public InputStream getBinaryStream() throws SQLException {
+		return new ByteArrayInputStream(m_data);
+	}
+
+	public InputStream getBinaryStream(long pos, long length) throws SQLException {
+		return new ByteArrayInputStream(m_data, (int)(pos - 1), (int)length);
+	}
+
+	public OutputStream setBinaryStream(long pos) throws SQLException {
+		if ( pos != 1 ){
+			throw new SQLFeatureNotSupportedException("pos="+pos);
+		}
+		return new ByteArrayOutputStream(){
+			@Override
+			public void flush(){
+				m_data = toByteArray();
+			}
+			@Override
+			public void close(){
+				m_data = toByteArray();
+			}
+		};
+	}
+
+	public int setBytes(long pos, byte[] bytes) throws SQLException {
+		return setBytes(pos, bytes, 0, bytes.length);
+	}
+
+	public int setBytes(long pos, byte[] bytes, int offset, int len) throws SQLException {
+		int from = (int)(pos - 1);
+		if ( m_data.length < from + len ){
+			m_data = Arrays.copyOf(m_data, from + len);
+		}
+		System.arraycopy(bytes, offset, m_data, from, len);
+		return len;
+	}
+
+	public long position(byte[] pattern, long start) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	public long position(Blob pattern, long start) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	public void truncate(long len) throws SQLException {
+		m_data = Arrays.copyOf(m_data, (int)len);
+	}
+
+	public void free() throws SQLException {
+		m_data = new byte[0];
+	}
+}
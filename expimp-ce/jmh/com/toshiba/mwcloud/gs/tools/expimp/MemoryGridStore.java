@@ -0,0 +1,988 @@
+/*
+    Copyright (c) 2021 TOSHIBA Digital Solutions Corporation.
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+        http://www.apache.org/licenses/LICENSE-2.0
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package com.toshiba.mwcloud.gs.tools.expimp;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.InetAddress;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.toshiba.mwcloud.gs.AggregationResult;
+import com.toshiba.mwcloud.gs.Container;
+import com.toshiba.mwcloud.gs.ContainerInfo;
+import com.toshiba.mwcloud.gs.ContainerType;
+import com.toshiba.mwcloud.gs.FetchOption;
+import com.toshiba.mwcloud.gs.GSException;
+import com.toshiba.mwcloud.gs.GSType;
+import com.toshiba.mwcloud.gs.GridStore;
+import com.toshiba.mwcloud.gs.IndexInfo;
+import com.toshiba.mwcloud.gs.PartitionController;
+import com.toshiba.mwcloud.gs.Query;
+import com.toshiba.mwcloud.gs.Row;
+import com.toshiba.mwcloud.gs.RowSet;
+import com.toshiba.mwcloud.gs.experimental.DatabaseInfo;
+import com.toshiba.mwcloud.gs.experimental.Experimentals;
+import com.toshiba.mwcloud.gs.experimental.PrivilegeInfo;
+import com.toshiba.mwcloud.gs.experimental.UserInfo;
+import com.toshiba.mwcloud.gs.tools.common.data.ToolConstants;
+import com.toshiba.mwcloud.gs.tools.expimp.util.Utility;
+
+/**
+ * In-memory stand-in of a GridDB cluster for the benchmarks.
+ *
+ *   Set with gridStoreServerIO.setConnectionFactory() (MemoryStoreMain), gridStoreServerIO.getConnection /
+ *   getJdbcConnection return a connection to this object instead of the cluster, so that the whole
+ *   export/import can be measured without a cluster. The settings are the memoryStore.xxx properties.
+ *   The containers and their rows are generated by SyntheticSchema when the command starts,
+ *   and the imported rows are held in memory until the command ends.
+ *
+ *   Supported operations:
+ *     GridStore           : getContainer, getContainerInfo, putContainer, dropContainer, createRow,
+ *                           fetchAll, multiPut, getPartitionController,
+ *                           (Experimental) getDatabases, getCurrentDatabase, putDatabase, getUsers, getCurrentUser
+ *     Container           : createRow, createBlob, put, query, commit, abort, flush, createIndex, createTrigger
+ *     Query (TQL)         : select * [where (column condition) and ...], select count(*), select MIN(column) / MAX(column)
+ *                           (a column condition compares an integer or TIMESTAMP column with
+ *                            an integer, TO_TIMESTAMP_MS(n) or TIMESTAMP('...'))
+ *                           (FetchOption.LIMIT is applied, the other fetch options are ignored)
+ *     PartitionController : all  (the partitions are owned by nodeCount hosts 127.0.0.1-)
+ *     JDBC                : an empty catalog  (no partitioned tables, no views)
+ *   The other operations throw GSException (SQLFeatureNotSupportedException for JDBC).
+ *
+ *   The response time of a cluster is simulated by memoryStore.latency (microseconds per request)
+ *   and memoryStore.rowLatency (nanoseconds per row put or fetched).
+ */
+public class MemoryGridStore implements gridStoreServerIO.ConnectionFactory {
+
+	static final String PROP_DATABASES			= "memoryStore.databases";
+	static final String PROP_CONTAINERS			= "memoryStore.containers";
+	static final String PROP_ROWS				= "memoryStore.rows";
+	static final String PROP_COLUMNS			= "memoryStore.columns";
+	static final String PROP_TYPE_MIX			= "memoryStore.typeMix";
+	static final String PROP_NULL_RATIO			= "memoryStore.nullRatio";
+	static final String PROP_BLOB_SIZE			= "memoryStore.blobSize";
+	static final String PROP_CONTAINER_TYPE		= "memoryStore.containerType";
+	static final String PROP_PARTITION_COUNT	= "memoryStore.partitionCount";
+	static final String PROP_NODE_COUNT			= "memoryStore.nodeCount";
+	static final String PROP_LATENCY			= "memoryStore.latency";
+	static final String PROP_ROW_LATENCY		= "memoryStore.rowLatency";
+
+	/** Name prefix of the generated databases and containers */
+	static final String NAME_PREFIX = "bench_";
+
+	private static final Pattern TQL_PATTERN = Pattern.compile(
+			"select\\s+(\\*|count\\s*\\(\\s*\\*\\s*\\)|(min|max)\\s*\\(\\s*(\"[^\"]+\"|\\w+)\\s*\\))(\\s+where\\s+(.+))?",
+			Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
+	private static final Pattern AND_PATTERN = Pattern.compile("\\s+and\\s+", Pattern.CASE_INSENSITIVE);
+
+	private static final Pattern CONDITION_PATTERN = Pattern.compile("(.+?)\\s*(<=|>=|<|>|=)\\s*(.+)", Pattern.DOTALL);
+
+	private static final Pattern TO_TIMESTAMP_MS_PATTERN = Pattern.compile("to_timestamp_ms\\s*\\(\\s*(-?\\d+)\\s*\\)", Pattern.CASE_INSENSITIVE);
+
+	private static final Pattern TIMESTAMP_PATTERN = Pattern.compile("timestamp\\s*\\(\\s*'([^']+)'\\s*\\)", Pattern.CASE_INSENSITIVE);
+
+	private final int m_partitionCount;
+
+	private final int m_nodeCount;
+
+	/** Latency of a request (nanoseconds) */
+	private final long m_latencyNanos;
+
+	/** Latency of a row (nanoseconds) */
+	private final long m_rowLatencyNanos;
+
+	/** Settings for the log */
+	private final String m_description;
+
+	/** Database name (lower case) => Database */
+	private final Map<String, StoredDatabase> m_databases = new HashMap<String, StoredDatabase>();
+
+	/**
+	 * Creates the in-memory cluster from the memoryStore.xxx properties.
+	 *
+	 * @param configuration memoryStore.xxx properties
+	 * @return In-memory cluster
+	 * @throws GSEIException A property is invalid
+	 */
+	static MemoryGridStore create(Properties configuration) throws GSEIException {
+		int databases = (int)getLong(configuration, PROP_DATABASES, 0, 0, 10000);
+		int containers = (int)getLong(configuration, PROP_CONTAINERS, 0, 0, 1000000);
+		int rows = (int)getLong(configuration, PROP_ROWS, 1000, 0, Integer.MAX_VALUE);
+		int columns = (int)getLong(configuration, PROP_COLUMNS, 8, 1, 1024);
+		int blobSize = (int)getLong(configuration, PROP_BLOB_SIZE, 1024, 0, Integer.MAX_VALUE);
+		int partitionCount = (int)getLong(configuration, PROP_PARTITION_COUNT, 128, 1, 10000);
+		int nodeCount = (int)getLong(configuration, PROP_NODE_COUNT, 1, 1, 254);
+		long latency = getLong(configuration, PROP_LATENCY, 0, 0, Integer.MAX_VALUE);
+		long rowLatency = getLong(configuration, PROP_ROW_LATENCY, 0, 0, Integer.MAX_VALUE);
+
+		String typeMix = configuration.getProperty(PROP_TYPE_MIX, SyntheticSchema.MIX_NUMERIC).trim();
+		double nullRatio = 0.0;
+		String nullRatioStr = configuration.getProperty(PROP_NULL_RATIO);
+		if ( (nullRatioStr != null) && !nullRatioStr.trim().isEmpty() ){
+			try {
+				nullRatio = Double.parseDouble(nullRatioStr.trim());
+				if ( (nullRatio < 0) || (nullRatio > 1) ){
+					throw new NumberFormatException();
+				}
+			} catch ( NumberFormatException e ){
+				throw new GSEIException(Utility.getResource().getString("MESS_COMM_ERR_PROPINFO_1")
+						+"('"+PROP_NULL_RATIO+"' must be a double value of 0.0 to 1.0.)", e);
+			}
+		}
+		ContainerType containerType = ContainerType.COLLECTION;
+		String containerTypeStr = configuration.getProperty(PROP_CONTAINER_TYPE);
+		if ( (containerTypeStr != null) && !containerTypeStr.trim().isEmpty() ){
+			try {
+				containerType = ContainerType.valueOf(containerTypeStr.trim().toUpperCase());
+			} catch ( IllegalArgumentException e ){
+				throw new GSEIException(Utility.getResource().getString("MESS_COMM_ERR_PROPINFO_1")
+						+"('"+PROP_CONTAINER_TYPE+"' must be COLLECTION or TIME_SERIES.)", e);
+			}
+		}
+
+		MemoryGridStore store = new MemoryGridStore(partitionCount, nodeCount, latency * 1000, rowLatency,
+				"databases=" + databases + " containers=" + containers + " rows=" + rows + " columns=" + columns
+				+ " typeMix=" + typeMix + " nullRatio=" + nullRatio + " blobSize=" + blobSize + " containerType=" + containerType
+				+ " partitionCount=" + partitionCount + " nodeCount=" + nodeCount + " latency=" + latency + " rowLatency=" + rowLatency);
+
+		// Generate the containers of each database
+		List<String> dbNameList = new ArrayList<String>();
+		dbNameList.add(ToolConstants.PUBLIC_DB);
+		for ( int i = 0; i < databases; i++ ){
+			dbNameList.add(NAME_PREFIX + "db" + i);
+		}
+		for ( String dbName : dbNameList ){
+			StoredDatabase db = store.getDatabase(dbName);
+			for ( int i = 0; i < containers; i++ ){
+				String name = NAME_PREFIX + i;
+				SyntheticSchema schema = null;
+				try {
+					schema = new SyntheticSchema(name, containerType, columns, typeMix, nullRatio, blobSize);
+				} catch ( IllegalArgumentException e ){
+					throw new GSEIException(Utility.getResource().getString("MESS_COMM_ERR_PROPINFO_1")
+							+"('"+PROP_TYPE_MIX+"' must be numeric, string, mixed, array or blob.)", e);
+				}
+				try {
+					db.put(name, schema.getSchema()).put(schema.createRows(rows));
+				} catch ( Exception e ){
+					throw new GSEIException(Utility.getResource().getString("MESS_COMM_ERR_PROPINFO_1")
+							+"(memoryStore: "+e.getMessage()+")", e);
+				}
+			}
+		}
+		return store;
+	}
+
+	private static long getLong(Properties configuration, String key, long defaultValue, long min, long max) throws GSEIException {
+		String value = configuration.getProperty(key);
+		if ( (value == null) || value.trim().isEmpty() ){
+			return defaultValue;
+		}
+		try {
+			long result = Long.parseLong(value.trim());
+			if ( (result < min) || (result > max) ){
+				throw new NumberFormatException();
+			}
+			return result;
+		} catch ( NumberFormatException e ){
+			throw new GSEIException(Utility.getResource().getString("MESS_COMM_ERR_PROPINFO_1")
+					+"('"+key+"' must be an integer of "+min+" to "+max+".)", e);
+		}
+	}
+
+	private MemoryGridStore(int partitionCount, int nodeCount, long latencyNanos, long rowLatencyNanos, String description){
+		m_partitionCount = partitionCount;
+		m_nodeCount = nodeCount;
+		m_latencyNanos = latencyNanos;
+		m_rowLatencyNanos = rowLatencyNanos;
+		m_description = description;
+	}
+
+	@Override
+	public String toString(){
+		return m_description;
+	}
+
+	/**
+	 * Connects to a database.  (The database is created if it does not exist)
+	 *
+	 * @param database Database name (null: public)
+	 * @param user User name
+	 * @return GridStore object
+	 */
+	public GridStore connect(String database, String user){
+		delay(0);
+		StoredDatabase db = getDatabase((database != null) ? database : ToolConstants.PUBLIC_DB);
+		return (GridStore)Proxy.newProxyInstance(MemoryGridStore.class.getClassLoader(),
+				new Class<?>[]{ GridStore.class, Experimentals.StoreProvider.class }, new StoreHandler(db, user));
+	}
+
+	/**
+	 * Connects with JDBC.  (The catalog is always empty)
+	 *
+	 * @param database Database name
+	 * @return JDBC connection
+	 */
+	public Connection connectJdbc(String database){
+		delay(0);
+		return (Connection)createJdbcObject(Connection.class);
+	}
+
+	private synchronized StoredDatabase getDatabase(String name){
+		StoredDatabase db = m_databases.get(name.toLowerCase());
+		if ( db == null ){
+			db = new StoredDatabase(name);
+			m_databases.put(name.toLowerCase(), db);
+		}
+		return db;
+	}
+
+	private synchronized void dropDatabase(String name){
+		m_databases.remove(name.toLowerCase());
+	}
+
+	private synchronized Map<String, DatabaseInfo> getDatabaseInfos(){
+		Map<String, DatabaseInfo> map = new HashMap<String, DatabaseInfo>();
+		for ( StoredDatabase db : m_databases.values() ){
+			if ( !db.m_name.equalsIgnoreCase(ToolConstants.PUBLIC_DB) ){
+				map.put(db.m_name, new DatabaseInfo(db.m_name, new HashMap<String, PrivilegeInfo>()));
+			}
+		}
+		return map;
+	}
+
+	private int getPartitionIndex(String containerName){
+		return (containerName.toLowerCase().hashCode() & Integer.MAX_VALUE) % m_partitionCount;
+	}
+
+	private InetAddress getOwnerHost(int partition) throws GSException {
+		try {
+			return InetAddress.getByAddress(new byte[]{ 127, 0, 0, (byte)(1 + (partition % m_nodeCount)) });
+		} catch ( Exception e ){
+			throw new GSException(e);
+		}
+	}
+
+	/**
+	 * Waits for the simulated response time.
+	 *
+	 * @param rows Number of rows put or fetched by the request
+	 */
+	private void delay(long rows){
+		long nanos = m_latencyNanos + (rows * m_rowLatencyNanos);
+		if ( nanos > 0 ){
+			LockSupport.parkNanos(nanos);
+		}
+	}
+
+	private static GSException unsupported(String name){
+		return new GSException(name + " is not supported by the memory store");
+	}
+
+
+	/**
+	 * Database of the in-memory cluster
+	 */
+	private static class StoredDatabase {
+
+		private final String m_name;
+
+		/** Container name (lower case) => Container */
+		private final Map<String, StoredContainer> m_containers = new HashMap<String, StoredContainer>();
+
+		StoredDatabase(String name){
+			m_name = name;
+		}
+
+		synchronized StoredContainer get(String name){
+			return m_containers.get(name.toLowerCase());
+		}
+
+		synchronized StoredContainer put(String name, ContainerInfo info){
+			StoredContainer container = m_containers.get(name.toLowerCase());
+			if ( container == null ){
+				container = new StoredContainer(name, info);
+				m_containers.put(name.toLowerCase(), container);
+			}
+			return container;
+		}
+
+		synchronized void remove(String name){
+			m_containers.remove(name.toLowerCase());
+		}
+
+		synchronized List<String> getNames(){
+			List<String> names = new ArrayList<String>();
+			for ( StoredContainer container : m_containers.values() ){
+				names.add(container.m_info.getName());
+			}
+			Collections.sort(names);
+			return names;
+		}
+	}
+
+	/**
+	 * Container of the in-memory cluster
+	 */
+	private static class StoredContainer {
+
+		private final ContainerInfo m_info;
+
+		private final List<Integer> m_keyColumnList;
+
+		private final List<IndexInfo> m_indexInfoList = new ArrayList<IndexInfo>();
+
+		/** Row key => Row  (In the order of the row key. In the order of the registration if the row key is not single) */
+		private final Map<Object, Row> m_rows;
+
+		/** Sequence used as the row key of a container without row key */
+		private long m_sequence = 0;
+
+		StoredContainer(String name, ContainerInfo info){
+			m_info = copy(info);
+			m_info.setName(name);
+			m_keyColumnList = new ArrayList<Integer>(m_info.getRowKeyColumnList());
+			if ( m_keyColumnList.size() == 1 ){
+				m_rows = new TreeMap<Object, Row>();
+			} else {
+				m_rows = new LinkedHashMap<Object, Row>();
+			}
+		}
+
+		/**
+		 * Copies the container information.
+		 *   (The copy constructor of ContainerInfo does not copy the row key of some objects)
+		 */
+		private static ContainerInfo copy(ContainerInfo info){
+			ContainerInfo result = new ContainerInfo(info);
+			List<Integer> keyColumnList = info.getRowKeyColumnList();
+			result.setRowKeyColumnList((keyColumnList != null) ? new ArrayList<Integer>(keyColumnList) : new ArrayList<Integer>());
+			return result;
+		}
+
+		synchronized ContainerInfo getInfo(){
+			ContainerInfo info = copy(m_info);
+			if ( !m_indexInfoList.isEmpty() ){
+				info.setIndexInfoList(new ArrayList<IndexInfo>(m_indexInfoList));
+			}
+			return info;
+		}
+
+		synchronized void addIndex(IndexInfo indexInfo){
+			m_indexInfoList.add(indexInfo);
+		}
+
+		/**
+		 * Puts the rows.  (A copy of the row is held, as the client library serializes it)
+		 */
+		synchronized int put(Collection<?> rows) throws GSException {
+			for ( Object obj : rows ){
+				Row row = (Row)obj;
+				m_rows.put(getKey(row), row.createRow());
+			}
+			return rows.size();
+		}
+
+		private Object getKey(Row row) throws GSException {
+			if ( m_keyColumnList.isEmpty() ){
+				return m_sequence++;
+			} else if ( m_keyColumnList.size() == 1 ){
+				return row.getValue(m_keyColumnList.get(0));
+			}
+			List<Object> key = new ArrayList<Object>(m_keyColumnList.size());
+			for ( int column : m_keyColumnList ){
+				key.add(row.getValue(column));
+			}
+			return key;
+		}
+
+		synchronized List<Row> select(List<Condition> conditions) throws GSException {
+			List<Row> result = new ArrayList<Row>();
+			for ( Row row : m_rows.values() ){
+				boolean matches = true;
+				for ( Condition condition : conditions ){
+					if ( !condition.matches(row) ){
+						matches = false;
+						break;
+					}
+				}
+				if ( matches ){
+					result.add(row);
+				}
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * Column condition of a TQL  (column  operator  value)
+	 */
+	private static class Condition {
+
+		private final int m_column;
+
+		private final String m_operator;
+
+		private final long m_value;
+
+		Condition(int column, String operator, long value){
+			m_column = column;
+			m_operator = operator;
+			m_value = value;
+		}
+
+		boolean matches(Row row) throws GSException {
+			Object value = row.getValue(m_column);
+			if ( value == null ){
+				return false;
+			}
+			long v = (value instanceof Date) ? ((Date)value).getTime() : ((Number)value).longValue();
+			int cmp = Long.compare(v, m_value);
+			if ( m_operator.equals("<") ){
+				return cmp < 0;
+			} else if ( m_operator.equals("<=") ){
+				return cmp <= 0;
+			} else if ( m_operator.equals(">") ){
+				return cmp > 0;
+			} else if ( m_operator.equals(">=") ){
+				return cmp >= 0;
+			}
+			return cmp == 0;
+		}
+	}
+
+	/**
+	 * Parsed TQL
+	 */
+	private static class Tql {
+
+		/** Aggregation (null: select *, count, min, max) */
+		private String m_aggregation;
+
+		/** Column of MIN / MAX */
+		private int m_column = -1;
+
+		private final List<Condition> m_conditions = new ArrayList<Condition>();
+
+		static Tql parse(ContainerInfo info, String tql) throws GSException {
+			Matcher m = TQL_PATTERN.matcher(tql.trim());
+			if ( !m.matches() ){
+				throw unsupported("TQL [" + tql + "]");
+			}
+			Tql result = new Tql();
+			if ( m.group(2) != null ){
+				result.m_aggregation = m.group(2).toLowerCase();
+				result.m_column = getColumn(info, m.group(3), tql);
+			} else if ( !m.group(1).equals("*") ){
+				result.m_aggregation = "count";
+			}
+			if ( m.group(5) != null ){
+				for ( String term : AND_PATTERN.split(m.group(5).trim()) ){
+					result.m_conditions.add(parseCondition(info, term.trim(), tql));
+				}
+			}
+			return result;
+		}
+
+		private static Condition parseCondition(ContainerInfo info, String term, String tql) throws GSException {
+			Matcher m = CONDITION_PATTERN.matcher(term);
+			if ( !m.matches() ){
+				throw unsupported("TQL [" + tql + "]");
+			}
+			String left = m.group(1).trim();
+			String operator = m.group(2);
+			String right = m.group(3).trim();
+			if ( findColumn(info, left) < 0 ){
+				// value  operator  column
+				String tmp = left;
+				left = right;
+				right = tmp;
+				if ( operator.startsWith("<") ){
+					operator = operator.replace('<', '>');
+				} else if ( operator.startsWith(">") ){
+					operator = operator.replace('>', '<');
+				}
+			}
+			int column = getColumn(info, left, tql);
+			GSType type = info.getColumnInfo(column).getType();
+			if ( (type != GSType.BYTE) && (type != GSType.SHORT) && (type != GSType.INTEGER)
+					&& (type != GSType.LONG) && (type != GSType.TIMESTAMP) ){
+				throw unsupported("TQL [" + tql + "]");
+			}
+			return new Condition(column, operator, parseValue(right, tql));
+		}
+
+		private static long parseValue(String value, String tql) throws GSException {
+			try {
+				Matcher m = TO_TIMESTAMP_MS_PATTERN.matcher(value);
+				if ( m.matches() ){
+					return Long.parseLong(m.group(1));
+				}
+				m = TIMESTAMP_PATTERN.matcher(value);
+				if ( m.matches() ){
+					return new SimpleDateFormat(GSConstants.DATE_FORMAT).parse(m.group(1)).getTime();
+				}
+				return Long.parseLong(value);
+			} catch ( NumberFormatException e ){
+				throw unsupported("TQL [" + tql + "]");
+			} catch ( ParseException e ){
+				throw unsupported("TQL [" + tql + "]");
+			}
+		}
+
+		private static int findColumn(ContainerInfo info, String name){
+			if ( (name.length() >= 2) && name.startsWith("\"") && name.endsWith("\"") ){
+				name = name.substring(1, name.length() - 1);
+			}
+			for ( int i = 0; i < info.getColumnCount(); i++ ){
+				if ( info.getColumnInfo(i).getName().equalsIgnoreCase(name) ){
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		private static int getColumn(ContainerInfo info, String name, String tql) throws GSException {
+			int column = findColumn(info, name);
+			if ( column < 0 ){
+				throw new GSException("Column not found: " + name + " TQL [" + tql + "]");
+			}
+			return column;
+		}
+
+		/**
+		 * Executes the TQL.
+		 *
+		 * @return Rows, or an AggregationResult (empty if MIN / MAX of no rows)
+		 */
+		List<Object> execute(StoredContainer container) throws GSException {
+			List<Row> rows = container.select(m_conditions);
+			if ( m_aggregation == null ){
+				return new ArrayList<Object>(rows);
+			} else if ( m_aggregation.equals("count") ){
+				return Collections.singletonList(createAggregationResult(Long.valueOf(rows.size())));
+			}
+			Object best = null;
+			for ( Row row : rows ){
+				Object value = row.getValue(m_column);
+				if ( value == null ){
+					continue;
+				}
+				if ( best == null ){
+					best = value;
+				} else {
+					@SuppressWarnings("unchecked")
+					int cmp = ((Comparable<Object>)value).compareTo(best);
+					if ( m_aggregation.equals("min") ? (cmp < 0) : (cmp > 0) ){
+						best = value;
+					}
+				}
+			}
+			if ( best == null ){
+				return Collections.emptyList();
+			}
+			return Collections.singletonList(createAggregationResult(best));
+		}
+	}
+
+	private static Object createAggregationResult(final Object value){
+		return Proxy.newProxyInstance(MemoryGridStore.class.getClassLoader(),
+				new Class<?>[]{ AggregationResult.class }, new Handler(){
+			Object invoke(Object proxy, String name, Object[] args) throws Exception {
+				if ( name.equals("getLong") ){
+					return (value instanceof Date) ? ((Date)value).getTime() : ((Number)value).longValue();
+				} else if ( name.equals("getDouble") ){
+					return (value instanceof Date) ? (double)((Date)value).getTime() : ((Number)value).doubleValue();
+				} else if ( name.equals("getTimestamp") ){
+					return (value instanceof Date) ? (Date)value : null;
+				} else if ( name.equals("getPreciseTimestamp") ){
+					return (value instanceof Date) ? new Timestamp(((Date)value).getTime()) : null;
+				}
+				throw unsupported("AggregationResult." + name);
+			}
+		});
+	}
+
+
+	/**
+	 * Base of the handlers of the proxy objects
+	 */
+	private static abstract class Handler implements InvocationHandler {
+
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			String name = method.getName();
+			if ( method.getDeclaringClass() == Object.class ){
+				if ( name.equals("equals") ){
+					return proxy == args[0];
+				} else if ( name.equals("hashCode") ){
+					return System.identityHashCode(proxy);
+				}
+				return getClass().getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(proxy));
+			}
+			return invoke(proxy, name, (args != null) ? args : new Object[0]);
+		}
+
+		abstract Object invoke(Object proxy, String name, Object[] args) throws Exception;
+	}
+
+	/**
+	 * GridStore
+	 */
+	private class StoreHandler extends Handler {
+
+		private final StoredDatabase m_db;
+
+		private final String m_user;
+
+		StoreHandler(StoredDatabase db, String user){
+			m_db = db;
+			m_user = user;
+		}
+
+		Object invoke(Object proxy, String name, Object[] args) throws Exception {
+			if ( name.equals("getContainer") && (args.length == 1) ){
+				delay(0);
+				StoredContainer container = m_db.get((String)args[0]);
+				return (container != null) ? createContainer(container) : null;
+
+			} else if ( name.equals("getContainerInfo") ){
+				delay(0);
+				StoredContainer container = m_db.get((String)args[0]);
+				return (container != null) ? container.getInfo() : null;
+
+			} else if ( name.equals("putContainer") && (args.length == 3) && (args[1] instanceof ContainerInfo) ){
+				delay(0);
+				return createContainer(m_db.put((String)args[0], (ContainerInfo)args[1]));
+
+			} else if ( name.equals("dropContainer") ){
+				delay(0);
+				m_db.remove((String)args[0]);
+				return null;
+
+			} else if ( name.equals("createRow") ){
+				return new MemoryRow((ContainerInfo)args[0]);
+
+			} else if ( name.equals("fetchAll") ){
+				long rows = 0;
+				for ( Object query : (List<?>)args[0] ){
+					rows += ((QueryHandler)Proxy.getInvocationHandler(query)).fetchAll();
+				}
+				delay(rows);
+				return null;
+
+			} else if ( name.equals("multiPut") ){
+				long rows = 0;
+				for ( Map.Entry<?, ?> entry : ((Map<?, ?>)args[0]).entrySet() ){
+					StoredContainer container = m_db.get((String)entry.getKey());
+					if ( container == null ){
+						throw new GSException("Container not found: " + entry.getKey());
+					}
+					rows += container.put((List<?>)entry.getValue());
+				}
+				delay(rows);
+				return null;
+
+			} else if ( name.equals("getPartitionController") ){
+				return Proxy.newProxyInstance(MemoryGridStore.class.getClassLoader(),
+						new Class<?>[]{ PartitionController.class }, new PartitionHandler(m_db));
+
+			} else if ( name.equals("getExperimentalStore") ){
+				return Proxy.newProxyInstance(MemoryGridStore.class.getClassLoader(),
+						new Class<?>[]{ Experimentals.AsStore.class }, new ExperimentalStoreHandler(m_db, m_user));
+
+			} else if ( name.equals("close") ){
+				return null;
+			}
+			throw unsupported("GridStore." + name);
+		}
+	}
+
+	private Container<?, ?> createContainer(StoredContainer container){
+		return (Container<?, ?>)Proxy.newProxyInstance(MemoryGridStore.class.getClassLoader(),
+				new Class<?>[]{ Container.class }, new ContainerHandler(container));
+	}
+
+	/**
+	 * Container
+	 */
+	private class ContainerHandler extends Handler {
+
+		private final StoredContainer m_container;
+
+		ContainerHandler(StoredContainer container){
+			m_container = container;
+		}
+
+		Object invoke(Object proxy, String name, Object[] args) throws Exception {
+			if ( name.equals("createRow") ){
+				return new MemoryRow(m_container.m_info);
+
+			} else if ( name.equals("createBlob") ){
+				return new MemoryBlob();
+
+			} else if ( name.equals("put") ){
+				Object rows = args[args.length - 1];
+				int count = m_container.put((rows instanceof Collection) ? (Collection<?>)rows : Collections.singletonList(rows));
+				delay(count);
+				return true;
+
+			} else if ( name.equals("query") ){
+				Tql tql = Tql.parse(m_container.m_info, (String)args[0]);
+				return Proxy.newProxyInstance(MemoryGridStore.class.getClassLoader(),
+						new Class<?>[]{ Query.class }, new QueryHandler(m_container, tql));
+
+			} else if ( name.equals("createIndex") ){
+				delay(0);
+				if ( args[0] instanceof IndexInfo ){
+					m_container.addIndex((IndexInfo)args[0]);
+				}
+				return null;
+
+			} else if ( name.equals("commit") || name.equals("abort") || name.equals("flush") || name.equals("createTrigger") ){
+				delay(0);
+				return null;
+
+			} else if ( name.equals("setAutoCommit") || name.equals("close") ){
+				return null;
+
+			} else if ( name.equals("getType") ){
+				return m_container.m_info.getType();
+			}
+			throw unsupported("Container." + name);
+		}
+	}
+
+	/**
+	 * Query
+	 */
+	private class QueryHandler extends Handler {
+
+		private final StoredContainer m_container;
+
+		private final Tql m_tql;
+
+		/** Result of fetchAll (for getRowSet) */
+		private List<Object> m_result;
+
+		/** FetchOption.LIMIT (-1: no limit) */
+		private long m_limit = -1;
+
+		QueryHandler(StoredContainer container, Tql tql){
+			m_container = container;
+			m_tql = tql;
+		}
+
+		int fetchAll() throws GSException {
+			m_result = limit(m_tql.execute(m_container));
+			return m_result.size();
+		}
+
+		private List<Object> limit(List<Object> result){
+			if ( (m_limit >= 0) && (result.size() > m_limit) ){
+				return result.subList(0, (int)m_limit);
+			}
+			return result;
+		}
+
+		Object invoke(Object proxy, String name, Object[] args) throws Exception {
+			if ( name.equals("fetch") ){
+				List<Object> result = limit(m_tql.execute(m_container));
+				delay(result.size());
+				return createRowSet(result);
+
+			} else if ( name.equals("getRowSet") ){
+				List<Object> result = m_result;
+				m_result = null;
+				return (result != null) ? createRowSet(result) : null;
+
+			} else if ( name.equals("setFetchOption") ){
+				if ( args[0] == FetchOption.LIMIT ){
+					m_limit = ((Number)args[1]).longValue();
+				}
+				return null;
+			} else if ( name.equals("close") ){
+				return null;
+			}
+			throw unsupported("Query." + name);
+		}
+
+		private Object createRowSet(final List<Object> result){
+			final Iterator<Object> it = result.iterator();
+			return Proxy.newProxyInstance(MemoryGridStore.class.getClassLoader(),
+					new Class<?>[]{ RowSet.class }, new Handler(){
+				Object invoke(Object proxy, String name, Object[] args) throws Exception {
+					if ( name.equals("hasNext") ){
+						return it.hasNext();
+					} else if ( name.equals("next") ){
+						if ( !it.hasNext() ){
+							throw new GSException("No more rows");
+						}
+						return it.next();
+					} else if ( name.equals("size") ){
+						return result.size();
+					} else if ( name.equals("getSchema") ){
+						return m_container.getInfo();
+					} else if ( name.equals("close") ){
+						return null;
+					}
+					throw unsupported("RowSet." + name);
+				}
+			});
+		}
+	}
+
+	/**
+	 * PartitionController
+	 */
+	private class PartitionHandler extends Handler {
+
+		private final StoredDatabase m_db;
+
+		PartitionHandler(StoredDatabase db){
+			m_db = db;
+		}
+
+		Object invoke(Object proxy, String name, Object[] args) throws Exception {
+			if ( name.equals("getPartitionCount") ){
+				return m_partitionCount;
+
+			} else if ( name.equals("getContainerCount") || name.equals("getContainerNames") ){
+				delay(0);
+				int partition = (Integer)args[0];
+				List<String> names = new ArrayList<String>();
+				for ( String containerName : m_db.getNames() ){
+					if ( getPartitionIndex(containerName) == partition ){
+						names.add(containerName);
+					}
+				}
+				if ( name.equals("getContainerCount") ){
+					return (long)names.size();
+				}
+				int start = (int)Math.min((Long)args[1], names.size());
+				int end = (args[2] != null) ? (int)Math.min(start + (Long)args[2], names.size()) : names.size();
+				return new ArrayList<String>(names.subList(start, end));
+
+			} else if ( name.equals("getPartitionIndexOfContainer") ){
+				return getPartitionIndex((String)args[0]);
+
+			} else if ( name.equals("getOwnerHost") ){
+				return getOwnerHost((Integer)args[0]);
+
+			} else if ( name.equals("getHosts") ){
+				return Collections.singletonList(getOwnerHost((Integer)args[0]));
+
+			} else if ( name.equals("getBackupHosts") ){
+				return new ArrayList<InetAddress>();
+
+			} else if ( name.equals("assignPreferableHost") || name.equals("close") ){
+				return null;
+			}
+			throw unsupported("PartitionController." + name);
+		}
+	}
+
+	/**
+	 * Experimentals.AsStore  (The users and the privileges are accepted but not held)
+	 */
+	private class ExperimentalStoreHandler extends Handler {
+
+		private final StoredDatabase m_db;
+
+		private final String m_user;
+
+		ExperimentalStoreHandler(StoredDatabase db, String user){
+			m_db = db;
+			m_user = user;
+		}
+
+		Object invoke(Object proxy, String name, Object[] args) throws Exception {
+			delay(0);
+			if ( name.equals("getDatabases") ){
+				return getDatabaseInfos();
+			} else if ( name.equals("getCurrentDatabase") ){
+				return new DatabaseInfo(m_db.m_name, new HashMap<String, PrivilegeInfo>());
+			} else if ( name.equals("putDatabase") ){
+				getDatabase((String)args[0]);
+				return null;
+			} else if ( name.equals("dropDatabase") ){
+				dropDatabase((String)args[0]);
+				return null;
+			} else if ( name.equals("getUsers") ){
+				return new HashMap<String, UserInfo>();
+			} else if ( name.equals("getCurrentUser") ){
+				return new UserInfo(m_user, null, true);
+			} else if ( name.equals("putUser") || name.equals("dropUser")
+					|| name.equals("putPrivilege") || name.equals("dropPrivilege") ){
+				return null;
+			}
+			throw unsupported("Experimentals.AsStore." + name);
+		}
+	}
+
+	/**
+	 * JDBC Connection / Statement / PreparedStatement / ResultSet of an empty catalog.
+	 *   The queries return no rows, and the updates change no rows.
+	 */
+	private static Object createJdbcObject(Class<?> type){
+		return Proxy.newProxyInstance(MemoryGridStore.class.getClassLoader(), new Class<?>[]{ type }, new InvocationHandler(){
+			public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+				String name = method.getName();
+				Class<?> returnType = method.getReturnType();
+				if ( method.getDeclaringClass() == Object.class ){
+					if ( name.equals("equals") ){
+						return proxy == args[0];
+					} else if ( name.equals("hashCode") ){
+						return System.identityHashCode(proxy);
+					}
+					return "MemoryJdbc" + "@" + Integer.toHexString(System.identityHashCode(proxy));
+				} else if ( (returnType == Statement.class) || (returnType == PreparedStatement.class) || (returnType == ResultSet.class) ){
+					return createJdbcObject(returnType);
+				} else if ( returnType == void.class ){
+					return null;
+				} else if ( returnType == boolean.class ){
+					// next(), execute(), isClosed() ...
+					return false;
+				} else if ( returnType == int.class ){
+					return 0;
+				} else if ( returnType == long.class ){
+					return 0L;
+				}
+				throw new SQLFeatureNotSupportedException(name + " is not supported by the memory store");
+			}
+		});
+	}
+}
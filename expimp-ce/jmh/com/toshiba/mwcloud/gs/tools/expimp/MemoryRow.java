@@ -0,0 +1,272 @@
+/*
+    Copyright (c) 2021 TOSHIBA Digital Solutions Corporation.
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+        http://www.apache.org/licenses/LICENSE-2.0
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package com.toshiba.mwcloud.gs.tools.expimp;
+
+import java.sql.Blob;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import com.toshiba.mwcloud.gs.ColumnInfo;
+import com.toshiba.mwcloud.gs.ContainerInfo;
+import com.toshiba.mwcloud.gs.GSException;
+import com.toshiba.mwcloud.gs.Geometry;
+import com.toshiba.mwcloud.gs.Row;
+
+/**
+ * In-memory Row for the benchmarks and MemoryGridStore.
+ *
+ * The values are held in an Object array without any conversion,
+ * so that the benchmarks measure the codecs and not the client library.
+ */
+class MemoryRow implements Row {
+
+	private final ContainerInfo m_schema;
+
+	private final Object[] m_values;
+
+	MemoryRow(ContainerInfo schema){
+		m_schema = schema;
+		m_values = new Object[schema.getColumnCount()];
+	}
+
+	public ContainerInfo getSchema() throws GSException {
+		return m_schema;
+	}
+
+	public Row createRow() throws GSException {
+		MemoryRow row = new MemoryRow(m_schema);
+		System.arraycopy(m_values, 0, row.m_values, 0, m_values.length);
+		return row;
+	}
+
+	public Row.Key createKey() throws GSException {
+		List<Integer> keyList = m_schema.getRowKeyColumnList();
+		if ( keyList.isEmpty() ){
+			throw new GSException("The container has no row key: " + m_schema.getName());
+		}
+		List<ColumnInfo> columnList = new ArrayList<ColumnInfo>(keyList.size());
+		List<Integer> keyColumnList = new ArrayList<Integer>(keyList.size());
+		for ( int column : keyList ){
+			keyColumnList.add(columnList.size());
+			columnList.add(m_schema.getColumnInfo(column));
+		}
+		ContainerInfo keySchema = new ContainerInfo();
+		keySchema.setColumnInfoList(columnList);
+		keySchema.setRowKeyColumnList(keyColumnList);
+		MemoryRow key = new KeyRow(keySchema);
+		for ( int i = 0; i < keyList.size(); i++ ){
+			key.m_values[i] = m_values[keyList.get(i)];
+		}
+		return (Row.Key)key;
+	}
+
+	/**
+	 * Row key (the row key columns of a row)
+	 */
+	private static class KeyRow extends MemoryRow implements Row.Key {
+		KeyRow(ContainerInfo schema){
+			super(schema);
+		}
+	}
+
+	public void setValue(int column, Object value) throws GSException {
+		m_values[column] = value;
+	}
+
+	public Object getValue(int column) throws GSException {
+		return m_values[column];
+	}
+
+	public void setNull(int column) throws GSException {
+		m_values[column] = null;
+	}
+
+	public boolean isNull(int column) throws GSException {
+		return m_values[column] == null;
+	}
+
+	public void setString(int column, String value) throws GSException {
+		m_values[column] = value;
+	}
+
+	public String getString(int column) throws GSException {
+		return (String)m_values[column];
+	}
+
+	public void setBool(int column, boolean value) throws GSException {
+		m_values[column] = value;
+	}
+
+	public boolean getBool(int column) throws GSException {
+		return (Boolean)m_values[column];
+	}
+
+	public void setByte(int column, byte value) throws GSException {
+		m_values[column] = value;
+	}
+
+	public byte getByte(int column) throws GSException {
+		return (Byte)m_values[column];
+	}
+
+	public void setShort(int column, short value) throws GSException {
+		m_values[column] = value;
+	}
+
+	public short getShort(int column) throws GSException {
+		return (Short)m_values[column];
+	}
+
+	public void setInteger(int column, int value) throws GSException {
+		m_values[column] = value;
+	}
+
+	public int getInteger(int column) throws GSException {
+		return (Integer)m_values[column];
+	}
+
+	public void setLong(int column, long value) throws GSException {
+		m_values[column] = value;
+	}
+
+	public long getLong(int column) throws GSException {
+		return (Long)m_values[column];
+	}
+
+	public void setFloat(int column, float value) throws GSException {
+		m_values[column] = value;
+	}
+
+	public float getFloat(int column) throws GSException {
+		return (Float)m_values[column];
+	}
+
+	public void setDouble(int column, double value) throws GSException {
+		m_values[column] = value;
+	}
+
+	public double getDouble(int column) throws GSException {
+		return (Double)m_values[column];
+	}
+
+	public void setTimestamp(int column, Date value) throws GSException {
+		m_values[column] = value;
+	}
+
+	public Date getTimestamp(int column) throws GSException {
+		return (Date)m_values[column];
+	}
+
+	public void setPreciseTimestamp(int column, Timestamp value) throws GSException {
+		m_values[column] = value;
+	}
+
+	public Timestamp getPreciseTimestamp(int column) throws GSException {
+		Object value = m_values[column];
+		if ( (value == null) || (value instanceof Timestamp) ){
+			return (Timestamp)value;
+		}
+		return new Timestamp(((Date)value).getTime());
+	}
+
+	public void setGeometry(int column, Geometry value) throws GSException {
+		m_values[column] = value;
+	}
+
+	public Geometry getGeometry(int column) throws GSException {
+		return (Geometry)m_values[column];
+	}
+
+	public void setBlob(int column, Blob value) throws GSException {
+		m_values[column] = value;
+	}
+
+	public Blob getBlob(int column) throws GSException {
+		return (Blob)m_values[column];
+	}
+
+	public void setStringArray(int column, String[] value) throws GSException {
+		m_values[column] = value;
+	}
+
+	public String[] getStringArray(int column) throws GSException {
+		return (String[])m_values[column];
+	}
+
+	public void setBoolArray(int column, boolean[] value) throws GSException {
+		m_values[column] = value;
+	}
+
+	public boolean[] getBoolArray(int column) throws GSException {
+		return (boolean[])m_values[column];
+	}
+
+	public void setByteArray(int column, byte[] value) throws GSException {
+		m_values[column] = value;
+	}
+
+	public byte[] getByteArray(int column) throws GSException {
+		return (byte[])m_values[column];
+	}
+
+	public void setShortArray(int column, short[] value) throws GSException {
+		m_values[column] = value;
+	}
+
+	public short[] getShortArray(int column) throws GSException {
+		return (short[])m_values[column];
+	}
+
+	public void setIntegerArray(int column, int[] value) throws GSException {
+		m_values[column] = value;
+	}
+
+	public int[] getIntegerArray(int column) throws GSException {
+		return (int[])m_values[column];
+	}
+
+	public void setLongArray(int column, long[] value) throws GSException {
+		m_values[column] = value;
+	}
+
+	public long[] getLongArray(int column) throws GSException {
+		return (long[])m_values[column];
+	}
+
+	public void setFloatArray(int column, float[] value) throws GSException {
+		m_values[column] = value;
+	}
+
+	public float[] getFloatArray(int column) throws GSException {
+		return (float[])m_values[column];
+	}
+
+	public void setDoubleArray(int column, double[] value) throws GSException {
+		m_values[column] = value;
+	}
+
+	public double[] getDoubleArray(int column) throws GSException {
+		return (double[])m_values[column];
+	}
+
+	public void setTimestampArray(int column, Date[] value) throws GSException {
+		m_values[column] = value;
+	}
+
+	public Date[] getTimestampArray(int column) throws GSException {
+		return (Date[])m_values[column];
+	}
+}
@@ -0,0 +1,52 @@
+/*
+    Copyright (c) 2021 TOSHIBA Digital Solutions Corporation.
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+        http://www.apache.org/licenses/LICENSE-2.0
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package com.toshiba.mwcloud.gs.tools.expimp;
+
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Properties;
+
+/**
+ * Runs gs_export / gs_import against the in-memory cluster (MemoryGridStore).
+ *
+ *   usage: MemoryStoreMain <memoryStore properties file> export|import [command arguments ...]
+ *     The properties file has the memoryStore.xxx settings (memoryStore.containers=64 memoryStore.latency=200 ...).
+ *     The connection settings of gs_expimp.properties are required but not used.
+ */
+public class MemoryStoreMain {
+
+	public static void main(String[] args) throws Exception {
+		if ( (args.length < 2) || !(args[1].equals("export") || args[1].equals("import")) ){
+			System.err.println("usage: MemoryStoreMain <memoryStore properties file> export|import [command arguments ...]");
+			System.exit(2);
+		}
+
+		Properties props = new Properties();
+		InputStream in = new FileInputStream(args[0]);
+		try {
+			props.load(in);
+		} finally {
+			in.close();
+		}
+		gridStoreServerIO.setConnectionFactory(MemoryGridStore.create(props));
+
+		String[] commandArgs = Arrays.copyOfRange(args, 2, args.length);
+		if ( args[1].equals("export") ){
+			exportMain.main(commandArgs);
+		} else {
+			importMain.main(commandArgs);
+		}
+	}
+}
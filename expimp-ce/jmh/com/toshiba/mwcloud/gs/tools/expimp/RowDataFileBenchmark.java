@@ -0,0 +1,129 @@
+/*
+    Copyright (c) 2021 TOSHIBA Digital Solutions Corporation.
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+        http://www.apache.org/licenses/LICENSE-2.0
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package com.toshiba.mwcloud.gs.tools.expimp;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.toshiba.mwcloud.gs.Container;
+import com.toshiba.mwcloud.gs.Row;
+import com.toshiba.mwcloud.gs.tools.common.data.ToolContainerInfo;
+
+/**
+ * Benchmark of the binary row data file (rowDataFileIO, single container format).
+ *
+ *   write : startWriteContainer - writeRow - endWriteContainer  (Zip file in a temporary directory)
+ *   read  : readContainer - hasNextRow/readRow
+ *
+ * The score is rows per second.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class RowDataFileBenchmark {
+
+	static final int ROWS = 128;
+
+	@Param({"4", "16", "64"})
+	public int columnCount;
+
+	@Param({"numeric", "string", "mixed", "array", "blob"})
+	public String typeMix;
+
+	@Param({"0.0", "0.3"})
+	public double nullRatio;
+
+	@Param({"1024", "65536"})
+	public int blobSize;
+
+	private File m_dir;
+
+	private rowDataFileIO m_writer;
+
+	private rowDataFileIO m_reader;
+
+	private ToolContainerInfo m_contInfo;
+
+	private List<Row> m_rows;
+
+	private Container<Object, Row> m_container;
+
+	private List<String> m_fileList;
+
+	@Setup
+	public void setup() throws Exception {
+		m_dir = BenchmarkFiles.createTempDirectory();
+		commandLineInfo cli = new commandLineInfo();
+		cli.setDirectoryPath(m_dir.getAbsolutePath());
+		m_writer = new rowDataFileIO(cli);
+		m_reader = new rowDataFileIO(cli);
+
+		SyntheticSchema schema = new SyntheticSchema(columnCount, typeMix, nullRatio, blobSize);
+		m_contInfo = schema.getToolContainerInfo();
+		m_rows = schema.createRows(ROWS);
+		m_container = schema.createContainer();
+
+		// Row data file for read
+		write();
+		m_fileList = new ArrayList<String>(m_contInfo.getContainerFileList());
+	}
+
+	@TearDown
+	public void tearDown(){
+		BenchmarkFiles.delete(m_dir);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(ROWS)
+	public void write() throws Exception {
+		m_writer.startWrite();
+		m_writer.startWriteContainer(m_contInfo);
+		for ( int i = 0; i < ROWS; i++ ){
+			m_writer.writeRow(m_rows.get(i), i);
+		}
+		m_writer.endWriteContainer();
+		m_writer.endWrite();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(ROWS)
+	public void read(Blackhole bh) throws Exception {
+		m_reader.readContainer(m_contInfo, m_fileList);
+		while ( m_reader.hasNextRow() ){
+			bh.consume(m_reader.readRow(m_container));
+		}
+		// Close the Zip file of the reader as well
+		m_reader.endWrite();
+	}
+}
@@ -0,0 +1,113 @@
+/*
+    Copyright (c) 2021 TOSHIBA Digital Solutions Corporation.
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+        http://www.apache.org/licenses/LICENSE-2.0
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package com.toshiba.mwcloud.gs.tools.expimp;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.toshiba.mwcloud.gs.Row;
+
+/**
+ * Benchmark of RowSerialize (binary row data file of the old format).
+ *
+ * The score is rows per second.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class RowSerializeBenchmark {
+
+	static final int ROWS = 128;
+
+	@Param({"4", "16", "64"})
+	public int columnCount;
+
+	@Param({"numeric", "string", "mixed", "array", "blob"})
+	public String typeMix;
+
+	@Param({"0.0", "0.3"})
+	public double nullRatio;
+
+	@Param({"1024", "65536"})
+	public int blobSize;
+
+	private SyntheticSchema m_schema;
+
+	private List<Row> m_rows;
+
+	private Row m_readRow;
+
+	private RowSerialize m_serializer = new RowSerialize();
+
+	private ByteArrayOutputStream m_out = new ByteArrayOutputStream();
+
+	private byte[] m_serialized;
+
+	@Setup
+	public void setup() throws Exception {
+		m_schema = new SyntheticSchema(columnCount, typeMix, nullRatio, blobSize);
+		m_rows = m_schema.createRows(ROWS);
+		m_readRow = new MemoryRow(m_schema.getSchema());
+
+		writeExternal2();
+		m_serialized = m_out.toByteArray();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(ROWS)
+	public int writeExternal2() throws Exception {
+		RowSerialize.setColumnTypeList(m_schema.getTypeList());
+		m_out.reset();
+		ObjectOutputStream out = new ObjectOutputStream(m_out);
+		for ( Row row : m_rows ){
+			RowSerialize.setRow(row);
+			m_serializer.writeExternal2(out);
+		}
+		out.flush();
+		return m_out.size();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(ROWS)
+	public void readExternal2(Blackhole bh) throws Exception {
+		RowSerialize.setColumnTypeList(m_schema.getTypeList());
+		ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(m_serialized));
+		for ( int i = 0; i < ROWS; i++ ){
+			RowSerialize.setRow(m_readRow);
+			m_serializer.readExternal2(in);
+			bh.consume(m_readRow);
+		}
+	}
+}
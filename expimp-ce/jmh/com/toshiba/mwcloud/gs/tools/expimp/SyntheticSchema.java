@@ -0,0 +1,273 @@
+/*
+    Copyright (c) 2021 TOSHIBA Digital Solutions Corporation.
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+        http://www.apache.org/licenses/LICENSE-2.0
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package com.toshiba.mwcloud.gs.tools.expimp;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+
+import com.toshiba.mwcloud.gs.ColumnInfo;
+import com.toshiba.mwcloud.gs.Container;
+import com.toshiba.mwcloud.gs.ContainerInfo;
+import com.toshiba.mwcloud.gs.ContainerType;
+import com.toshiba.mwcloud.gs.GSType;
+import com.toshiba.mwcloud.gs.GSException;
+import com.toshiba.mwcloud.gs.Geometry;
+import com.toshiba.mwcloud.gs.Row;
+import com.toshiba.mwcloud.gs.TimeSeriesProperties;
+import com.toshiba.mwcloud.gs.tools.common.data.ToolConstants;
+import com.toshiba.mwcloud.gs.tools.common.data.ToolContainerInfo;
+
+/**
+ * Synthetic container schema and rows for the benchmarks and MemoryGridStore.
+ *
+ *   column 0 : LONG row key (TIMESTAMP for a time series container, never null)
+ *   column 1- : the column types of the type mix in turn
+ *
+ * The rows are generated with a fixed seed, so every run uses the same data.
+ */
+class SyntheticSchema {
+
+	static final String MIX_NUMERIC	= "numeric";
+	static final String MIX_STRING	= "string";
+	static final String MIX_MIXED	= "mixed";
+	static final String MIX_ARRAY	= "array";
+	static final String MIX_BLOB	= "blob";
+
+	private static final long BASE_TIME = 1704067200000L;	// 2024-01-01T00:00:00Z
+
+	private static final int ARRAY_LENGTH = 4;
+
+	private static final char[] CHARS = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789".toCharArray();
+
+	private final ToolContainerInfo m_contInfo;
+
+	private final ContainerInfo m_schema;
+
+	private final List<GSType> m_typeList;
+
+	private final double m_nullRatio;
+
+	private final int m_blobSize;
+
+	private final Random m_random = new Random(1);
+
+	/**
+	 * Constructor
+	 *
+	 * @param columnCount Number of columns (including the row key)
+	 * @param typeMix Type mix (MIX_xxx)
+	 * @param nullRatio Ratio of NULL values of the columns other than the row key
+	 * @param blobSize Size of a BLOB value in bytes
+	 */
+	SyntheticSchema(int columnCount, String typeMix, double nullRatio, int blobSize){
+		this("bench_"+typeMix+"_"+columnCount, ContainerType.COLLECTION, columnCount, typeMix, nullRatio, blobSize);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param name Container name
+	 * @param containerType Container type
+	 * @param columnCount Number of columns (including the row key)
+	 * @param typeMix Type mix (MIX_xxx)
+	 * @param nullRatio Ratio of NULL values of the columns other than the row key
+	 * @param blobSize Size of a BLOB value in bytes
+	 */
+	SyntheticSchema(String name, ContainerType containerType, int columnCount, String typeMix, double nullRatio, int blobSize){
+		GSType[] types = getTypes(typeMix);
+		m_nullRatio = nullRatio;
+		m_blobSize = blobSize;
+
+		m_typeList = new ArrayList<GSType>();
+		List<ColumnInfo> columnInfoList = new ArrayList<ColumnInfo>();
+		if ( containerType == ContainerType.TIME_SERIES ){
+			m_typeList.add(GSType.TIMESTAMP);
+			columnInfoList.add(new ColumnInfo("time", GSType.TIMESTAMP));
+		} else {
+			m_typeList.add(GSType.LONG);
+			columnInfoList.add(new ColumnInfo("key", GSType.LONG));
+		}
+		for ( int i = 1; i < columnCount; i++ ){
+			GSType type = types[(i-1) % types.length];
+			m_typeList.add(type);
+			columnInfoList.add(new ColumnInfo("c"+i, type));
+		}
+
+		m_contInfo = new ToolContainerInfo();
+		m_contInfo.setName(name);
+		m_contInfo.setDbName(ToolConstants.PUBLIC_DB);
+		m_contInfo.setType(containerType);
+		m_contInfo.setVersion(GSConstants.EXPORT_MNG_FILE_VERSION);
+		m_contInfo.setColumnInfoList(columnInfoList);
+		m_contInfo.setRowKeyAssigned(true);
+		if ( containerType == ContainerType.TIME_SERIES ){
+			m_contInfo.setTimeSeriesProperties(new TimeSeriesProperties());
+		}
+		m_schema = m_contInfo.getContainerInfo();
+	}
+
+	private static GSType[] getTypes(String typeMix){
+		if ( MIX_NUMERIC.equals(typeMix) ){
+			return new GSType[]{ GSType.LONG, GSType.DOUBLE, GSType.INTEGER, GSType.TIMESTAMP };
+		} else if ( MIX_STRING.equals(typeMix) ){
+			return new GSType[]{ GSType.STRING };
+		} else if ( MIX_MIXED.equals(typeMix) ){
+			return new GSType[]{ GSType.STRING, GSType.BOOL, GSType.BYTE, GSType.SHORT, GSType.INTEGER,
+					GSType.FLOAT, GSType.DOUBLE, GSType.TIMESTAMP, GSType.GEOMETRY };
+		} else if ( MIX_ARRAY.equals(typeMix) ){
+			return new GSType[]{ GSType.STRING_ARRAY, GSType.BOOL_ARRAY, GSType.INTEGER_ARRAY,
+					GSType.LONG_ARRAY, GSType.DOUBLE_ARRAY, GSType.TIMESTAMP_ARRAY };
+		} else if ( MIX_BLOB.equals(typeMix) ){
+			return new GSType[]{ GSType.TIMESTAMP, GSType.STRING, GSType.INTEGER, GSType.BLOB };
+		}
+		throw new IllegalArgumentException("typeMix=["+typeMix+"]");
+	}
+
+	ToolContainerInfo getToolContainerInfo(){
+		return m_contInfo;
+	}
+
+	ContainerInfo getSchema(){
+		return m_schema;
+	}
+
+	List<GSType> getTypeList(){
+		return m_typeList;
+	}
+
+	/**
+	 * Returns a container that only creates rows and BLOBs.
+	 * (The other operations throw GSException)
+	 */
+	@SuppressWarnings("unchecked")
+	Container<Object, Row> createContainer(){
+		return (Container<Object, Row>)Proxy.newProxyInstance(Container.class.getClassLoader(),
+				new Class<?>[]{ Container.class }, new InvocationHandler(){
+			public Object invoke(Object proxy, Method method, Object[] args) throws GSException {
+				String name = method.getName();
+				if ( name.equals("createRow") ){
+					return new MemoryRow(m_schema);
+				} else if ( name.equals("createBlob") ){
+					return new MemoryBlob();
+				} else if ( name.equals("hashCode") ){
+					return System.identityHashCode(proxy);
+				} else if ( name.equals("equals") ){
+					return proxy == args[0];
+				} else if ( name.equals("toString") ){
+					return "Container["+m_schema.getName()+"]";
+				}
+				throw new GSException(name + " is not supported by the synthetic container");
+			}
+		});
+	}
+
+	/**
+	 * Generates rows.
+	 *
+	 * @param count Number of rows
+	 * @return Rows
+	 */
+	List<Row> createRows(int count) throws Exception {
+		List<Row> rows = new ArrayList<Row>(count);
+		for ( int i = 0; i < count; i++ ){
+			MemoryRow row = new MemoryRow(m_schema);
+			if ( m_typeList.get(0) == GSType.TIMESTAMP ){
+				row.setTimestamp(0, new Date(BASE_TIME + i * 1000L));
+			} else {
+				row.setLong(0, i);
+			}
+			for ( int j = 1; j < m_typeList.size(); j++ ){
+				if ( m_random.nextDouble() < m_nullRatio ){
+					row.setNull(j);
+				} else {
+					row.setValue(j, createValue(m_typeList.get(j)));
+				}
+			}
+			rows.add(row);
+		}
+		return rows;
+	}
+
+	private Object createValue(GSType type) throws Exception {
+		switch ( type ){
+		case BOOL:
+			return m_random.nextBoolean();
+		case BYTE:
+			return (byte)m_random.nextInt();
+		case SHORT:
+			return (short)m_random.nextInt();
+		case INTEGER:
+			return m_random.nextInt();
+		case LONG:
+			return m_random.nextLong();
+		case FLOAT:
+			return m_random.nextFloat() * 1000;
+		case DOUBLE:
+			return m_random.nextDouble() * 1000000;
+		case TIMESTAMP:
+			return createDate();
+		case STRING:
+			return createString();
+		case GEOMETRY:
+			return Geometry.valueOf("POINT("+m_random.nextInt(1000)+" "+m_random.nextInt(1000)+")");
+		case BLOB:
+			byte[] data = new byte[m_blobSize];
+			m_random.nextBytes(data);
+			return new MemoryBlob(data);
+		case STRING_ARRAY:
+			String[] sa = new String[ARRAY_LENGTH];
+			for ( int i = 0; i < sa.length; i++ ) sa[i] = createString();
+			return sa;
+		case BOOL_ARRAY:
+			boolean[] ba = new boolean[ARRAY_LENGTH];
+			for ( int i = 0; i < ba.length; i++ ) ba[i] = m_random.nextBoolean();
+			return ba;
+		case INTEGER_ARRAY:
+			int[] ia = new int[ARRAY_LENGTH];
+			for ( int i = 0; i < ia.length; i++ ) ia[i] = m_random.nextInt();
+			return ia;
+		case LONG_ARRAY:
+			long[] la = new long[ARRAY_LENGTH];
+			for ( int i = 0; i < la.length; i++ ) la[i] = m_random.nextLong();
+			return la;
+		case DOUBLE_ARRAY:
+			double[] da = new double[ARRAY_LENGTH];
+			for ( int i = 0; i < da.length; i++ ) da[i] = m_random.nextDouble();
+			return da;
+		case TIMESTAMP_ARRAY:
+			Date[] ta = new Date[ARRAY_LENGTH];
+			for ( int i = 0; i < ta.length; i++ ) ta[i] = createDate();
+			return ta;
+		default:
+			throw new IllegalArgumentException("type=["+type+"]");
+		}
+	}
+
+	private Date createDate(){
+		return new Date(BASE_TIME + (m_random.nextInt(365*24*3600) * 1000L) + m_random.nextInt(1000));
+	}
+
+	private String createString(){
+		char[] c = new char[8 + m_random.nextInt(25)];
+		for ( int i = 0; i < c.length; i++ ){
+			c[i] = CHARS[m_random.nextInt(CHARS.length)];
+		}
+		return new String(c);
+	}
+}
@@ -0,0 +1,92 @@
+/*
+    Copyright (c) 2021 TOSHIBA Digital Solutions Corporation.
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+        http://www.apache.org/licenses/LICENSE-2.0
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package com.toshiba.mwcloud.gs.tools.expimp;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Random;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmark of rowCsvFileIO.convertStr2Date (TIMESTAMP column of the CSV format).
+ *
+ *   utc    : 2024-01-02T03:04:05.678Z
+ *   offset : 2024-01-02T12:04:05.678+09:00
+ *   local  : 2024-01-02 03:04:05.678  (without time zone)
+ *
+ * The score is values per second.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimestampParseBenchmark {
+
+	static final int VALUES = 1024;
+
+	@Param({"utc", "offset", "local"})
+	public String format;
+
+	private rowCsvFileIO m_fileIO;
+
+	private String[] m_values;
+
+	@Setup
+	public void setup(){
+		m_fileIO = new rowCsvFileIO(new commandLineInfo());
+
+		SimpleDateFormat dateFormat;
+		if ( format.equals("utc") ){
+			dateFormat = new SimpleDateFormat(GSConstants.DATE_FORMAT);
+			dateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
+		} else if ( format.equals("offset") ){
+			dateFormat = new SimpleDateFormat(GSConstants.DATE_FORMAT);
+			dateFormat.setTimeZone(TimeZone.getTimeZone("Asia/Tokyo"));
+		} else {
+			dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS");
+		}
+
+		Random random = new Random(1);
+		m_values = new String[VALUES];
+		for ( int i = 0; i < VALUES; i++ ){
+			long time = 1704067200000L + (random.nextInt(365*24*3600) * 1000L) + random.nextInt(1000);
+			m_values[i] = dateFormat.format(new Date(time));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(VALUES)
+	public void convertStr2Date(Blackhole bh) throws Exception {
+		for ( String value : m_values ){
+			bh.consume(m_fileIO.convertStr2Date(value));
+		}
+	}
+}
@@ -0,0 +1,296 @@
+/*
+    Copyright (c) 2021 TOSHIBA Digital Solutions Corporation.
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+        http://www.apache.org/licenses/LICENSE-2.0
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package com.toshiba.mwcloud.gs.tools.expimp;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ResourceBundle;
+
+import com.toshiba.mwcloud.gs.tools.common.data.ToolConstants;
+import com.toshiba.mwcloud.gs.tools.expimp.util.Utility;
+
+/**
+ * Checkpoint journal of export and import for --resume.
+ *
+ * One record is one line "type TAB database TAB container [TAB value ...]".
+ * A record is appended and synchronized to the disk when the work it shows is finished,
+ * so the journal never shows unfinished work. A line that is not terminated by a
+ * newline (the process stopped while writing) is ignored and removed.
+ *
+ *   CONTAINER : The container is finished.       (export : meta information file name)
+ *   INTERVAL  : The row data file of a day is written. (export : boundary value, file name, max row key)
+ *   BATCH     : The rows are registered.         (import : row file index, row number in the file)
+ *   CREATED   : The registration to the container is started. (import : NEW = the container is created by the import,
+ *               EXISTING = the rows are added to the existing container)
+ *
+ * The journal is deleted when the command ends normally.
+ */
+class CheckpointJournal {
+
+	static final String TYPE_CONTAINER	= "CONTAINER";
+	static final String TYPE_INTERVAL	= "INTERVAL";
+	static final String TYPE_BATCH		= "BATCH";
+	static final String TYPE_CREATED	= "CREATED";
+
+	/**
+	 * Values of CREATED
+	 */
+	static final String CREATED_NEW			= "NEW";
+	static final String CREATED_EXISTING	= "EXISTING";
+
+	private static final Charset CHARSET = Charset.forName("UTF-8");
+
+	/**
+	 * Internationalized message resource
+	 */
+	private static ResourceBundle messageResource = Utility.getResource();
+
+	/**
+	 * Journal file
+	 */
+	private File m_file;
+
+	/**
+	 * Output stream (append)
+	 */
+	private FileOutputStream m_out;
+
+	/**
+	 * Records of the previous run  key=type TAB database TAB container
+	 */
+	private Map<String, List<String[]>> m_records = new HashMap<String, List<String[]>>();
+
+	/**
+	 * Constructor
+	 *
+	 * @param file Journal file
+	 * @param resume true: read the records of the previous run, false: start a new journal
+	 * @throws GSEIException
+	 */
+	CheckpointJournal(File file, boolean resume) throws GSEIException {
+		m_file = file;
+		try {
+			if ( resume && file.exists() ){
+				load();
+			}
+			m_out = new FileOutputStream(file, resume);
+
+		} catch ( Exception e ){
+			// D00948: An unexpected error occurred while reading the checkpoint journal file.
+			throw new GSEIException(messageResource.getString("MESS_COMM_ERR_METAINFO_48")
+					+": path=["+file.getAbsolutePath()+"] msg=["+e.getMessage()+"]", e);
+		}
+	}
+
+	/**
+	 * Read the records and cut off the last line that is not terminated.
+	 */
+	private void load() throws IOException {
+		RandomAccessFile raf = new RandomAccessFile(m_file, "rw");
+		try {
+			byte[] data = new byte[(int)raf.length()];
+			raf.readFully(data);
+			int start = 0;
+			for ( int i = 0; i < data.length; i++ ){
+				if ( data[i] != '\n' ) continue;
+				String[] fields = new String(data, start, i - start, CHARSET).split("\t", -1);
+				start = i + 1;
+				if ( fields.length < 3 ) continue;
+				for ( int j = 0; j < fields.length; j++ ){
+					fields[j] = unescape(fields[j]);
+				}
+				String key = createKey(fields[0], fields[1], fields[2]);
+				List<String[]> list = m_records.get(key);
+				if ( list == null ){
+					list = new ArrayList<String[]>();
+					m_records.put(key, list);
+				}
+				String[] values = new String[fields.length - 3];
+				System.arraycopy(fields, 3, values, 0, values.length);
+				list.add(values);
+			}
+			if ( start < data.length ){
+				raf.setLength(start);
+			}
+		} finally {
+			raf.close();
+		}
+	}
+
+	private static String createKey(String type, String dbName, String contName){
+		return type + "\t" + normalizeDbName(dbName) + "\t" + contName;
+	}
+
+	private static String normalizeDbName(String dbName){
+		if ( (dbName == null) || (dbName.length() == 0) || dbName.equalsIgnoreCase(ToolConstants.PUBLIC_DB) ){
+			return ToolConstants.PUBLIC_DB;
+		}
+		return dbName;
+	}
+
+	/**
+	 * Append a record and synchronize it to the disk.
+	 *
+	 * @param type Record type
+	 * @param dbName Database name
+	 * @param contName Container name
+	 * @param values Values
+	 * @throws GSEIException
+	 */
+	synchronized void append(String type, String dbName, String contName, String... values) throws GSEIException {
+		StringBuilder sb = new StringBuilder();
+		sb.append(type).append('\t').append(escape(normalizeDbName(dbName))).append('\t').append(escape(contName));
+		for ( String value : values ){
+			sb.append('\t').append(escape(value));
+		}
+		sb.append('\n');
+		try {
+			m_out.write(sb.toString().getBytes(CHARSET));
+			m_out.getFD().sync();
+		} catch ( IOException e ){
+			// D00949: An unexpected error occurred while writing the checkpoint journal file.
+			throw new GSEIException(messageResource.getString("MESS_COMM_ERR_METAINFO_49")
+					+": path=["+m_file.getAbsolutePath()+"] msg=["+e.getMessage()+"]", e);
+		}
+	}
+
+	/**
+	 * Returns the records of the previous run.
+	 *
+	 * @param type Record type
+	 * @param dbName Database name
+	 * @param contName Container name
+	 * @return Values of the records in the order of writing (empty if none)
+	 */
+	List<String[]> getRecords(String type, String dbName, String contName){
+		List<String[]> list = m_records.get(createKey(type, dbName, contName));
+		if ( list == null ){
+			return Collections.emptyList();
+		}
+		return list;
+	}
+
+	/**
+	 * Returns the last record of the previous run.
+	 *
+	 * @return Values of the record (null if none)
+	 */
+	String[] getLastRecord(String type, String dbName, String contName){
+		List<String[]> list = getRecords(type, dbName, contName);
+		if ( list.isEmpty() ){
+			return null;
+		}
+		return list.get(list.size()-1);
+	}
+
+	/**
+	 * Returns whether the container was finished in the previous run.
+	 */
+	boolean isFinished(String dbName, String contName){
+		return getLastRecord(TYPE_CONTAINER, dbName, contName) != null;
+	}
+
+	/**
+	 * Close the journal.
+	 */
+	synchronized void close(){
+		try {
+			if ( m_out != null ) m_out.close();
+		} catch ( IOException e ){}
+		m_out = null;
+	}
+
+	/**
+	 * Close and delete the journal (normal end).
+	 */
+	synchronized void delete(){
+		close();
+		m_file.delete();
+	}
+
+	/**
+	 * Record a registered batch of rows after the rows are registered.
+	 * (Passed to the row registration with the rows)
+	 */
+	static class Mark {
+		private CheckpointJournal m_journal;
+		private String m_dbName;
+		private String m_contName;
+		private int m_fileIndex;
+		private long m_rowNo;
+
+		Mark(CheckpointJournal journal, String dbName, String contName, int fileIndex, long rowNo){
+			m_journal = journal;
+			m_dbName = dbName;
+			m_contName = contName;
+			m_fileIndex = fileIndex;
+			m_rowNo = rowNo;
+		}
+
+		void commit() throws GSEIException {
+			m_journal.append(TYPE_BATCH, m_dbName, m_contName, String.valueOf(m_fileIndex), String.valueOf(m_rowNo));
+		}
+	}
+
+	private static String escape(String value){
+		if ( value == null ){
+			return "";
+		}
+		if ( (value.indexOf('\\') < 0) && (value.indexOf('\t') < 0) && (value.indexOf('\n') < 0) && (value.indexOf('\r') < 0) ){
+			return value;
+		}
+		StringBuilder sb = new StringBuilder(value.length() + 8);
+		for ( int i = 0; i < value.length(); i++ ){
+			char c = value.charAt(i);
+			switch ( c ){
+				case '\\': sb.append("\\\\"); break;
+				case '\t': sb.append("\\t"); break;
+				case '\n': sb.append("\\n"); break;
+				case '\r': sb.append("\\r"); break;
+				default: sb.append(c);
+			}
+		}
+		return sb.toString();
+	}
+
+	private static String unescape(String value){
+		if ( value.indexOf('\\') < 0 ){
+			return value;
+		}
+		StringBuilder sb = new StringBuilder(value.length());
+		for ( int i = 0; i < value.length(); i++ ){
+			char c = value.charAt(i);
+			if ( (c == '\\') && (i + 1 < value.length()) ){
+				char n = value.charAt(++i);
+				switch ( n ){
+					case 't': sb.append('\t'); break;
+					case 'n': sb.append('\n'); break;
+					case 'r': sb.append('\r'); break;
+					default: sb.append(n);
+				}
+			} else {
+				sb.append(c);
+			}
+		}
+		return sb.toString();
+	}
+}
@@ -0,0 +1,408 @@
+/*
+    Copyright (c) 2021 TOSHIBA Digital Solutions Corporation.
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+        http://www.apache.org/licenses/LICENSE-2.0
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package com.toshiba.mwcloud.gs.tools.expimp;
+
+import java.lang.reflect.Array;
+import java.sql.Blob;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.toshiba.mwcloud.gs.ContainerInfo;
+import com.toshiba.mwcloud.gs.GSType;
+import com.toshiba.mwcloud.gs.Row;
+
+/**
+ * Size of the batches of rows registered by Container.put().
+ *
+ *   import.adaptiveCommit=false : A batch is commitCount rows (the former behavior).
+ *   import.adaptiveCommit=true  : A batch is closed when the estimated size of its rows reaches the window (bytes).
+ *     The first batch is commitCount rows (up to import.adaptiveCommit.maxBytes), and its size is the first window. After each put, the window is changed
+ *     from the registration time, like the congestion window of TCP.
+ *       time <= target : The window is doubled below the threshold (slow start), and then increased by the minimum.
+ *       time >  target : The window is halved, and the threshold is set to the window.
+ *     The window is kept between import.adaptiveCommit.minBytes and import.adaptiveCommit.maxBytes.
+ *
+ * The size of a row is estimated from the values in the layout of the row data of the server
+ * (fixed size of each type, the bytes of the string, BLOB and array values, the NULL bitmap).
+ * It is estimated only when it is used (adaptive, metrics or the memory budget), because the variable size values are read.
+ *
+ * With import.memoryBudget, the estimated bytes of each row are reserved in MemoryGovernor before
+ * the row is kept in the batch (reserve()), and released after the batch is registered (putDone()).
+ *
+ * [Memo] reserve()/add()/closeBatch() are called by the reading thread and putDone() may be called by the
+ *   registration thread of RowPutPipeline.
+ */
+class CommitBatchSizer {
+
+	/**
+	 * Size of the variable size value header
+	 */
+	private static final int VAR_HEADER_SIZE = 4;
+
+	/**
+	 * Column types
+	 */
+	private final GSType[] m_types;
+
+	/**
+	 * Fixed size of a row (the fixed size columns and the NULL bitmap)
+	 */
+	private final int m_fixedSize;
+
+	/**
+	 * Whether some column has a variable size
+	 */
+	private final boolean m_hasVariable;
+
+	private final boolean m_adaptive;
+	private final boolean m_estimate;
+	private final int m_commitCount;
+	private final long m_minBytes;
+	private final long m_maxBytes;
+	private final long m_targetNanos;
+
+	/**
+	 * Memory budget (null: none)
+	 */
+	private final MemoryGovernor m_governor;
+
+	/**
+	 * Bytes reserved by this object and not released yet
+	 */
+	private final AtomicLong m_reserved = new AtomicLong();
+
+	/**
+	 * Estimated bytes of the row of reserve()
+	 */
+	private long m_rowBytes;
+
+	/**
+	 * Window (bytes. 0: the first batch is not registered yet)
+	 */
+	private volatile long m_window;
+
+	/**
+	 * Threshold of the slow start
+	 */
+	private long m_threshold;
+
+	/**
+	 * Rows and bytes of the current batch
+	 */
+	private int m_batchRows;
+	private long m_batchBytes;
+
+	/**
+	 * Constructor
+	 *
+	 * @param cli Command parameter information
+	 * @param containerInfo Container information (the column types)
+	 * @param governor Memory budget (null: none)
+	 */
+	CommitBatchSizer(commandLineInfo cli, ContainerInfo containerInfo, MemoryGovernor governor){
+		m_adaptive = cli.getImportAdaptiveCommit();
+		m_governor = governor;
+		m_estimate = m_adaptive || ProcessMetrics.isEnabled() || (governor != null);
+		m_commitCount = Math.max(cli.getCommitCount(), 1);
+		m_minBytes = cli.getImportAdaptiveCommitMinBytes();
+		m_maxBytes = Math.max(cli.getImportAdaptiveCommitMaxBytes(), m_minBytes);
+		m_targetNanos = cli.getImportAdaptiveCommitTargetMillis() * 1000000L;
+		m_threshold = m_maxBytes;
+
+		int columnCount = containerInfo.getColumnCount();
+		m_types = new GSType[columnCount];
+		int fixedSize = (columnCount + 7) / 8;
+		boolean hasVariable = false;
+		for ( int i = 0; i < columnCount; i++ ){
+			m_types[i] = containerInfo.getColumnInfo(i).getType();
+			int size = getFixedSize(m_types[i]);
+			if ( size > 0 ){
+				fixedSize += size;
+			} else {
+				fixedSize += VAR_HEADER_SIZE;
+				hasVariable = true;
+			}
+		}
+		m_fixedSize = fixedSize;
+		m_hasVariable = hasVariable;
+	}
+
+	/**
+	 * Estimates the bytes of a row and reserves them in the memory budget.
+	 * If the budget is used up and the current batch is empty, waits for the budget.
+	 *
+	 * @param row Row read from the row file
+	 * @return true: Reserved (or no budget). Call add()
+	 *         false: The budget is used up. Register the current batch, call awaitReserve() and then add()
+	 * @throws Exception Failed to read a value, or interrupted
+	 */
+	boolean reserve(Row row) throws Exception {
+		m_rowBytes = m_estimate ? estimateSize(row) : 0;
+		if ( m_governor == null ){
+			return true;
+		}
+		if ( m_governor.tryReserve(m_rowBytes) ){
+			m_reserved.addAndGet(m_rowBytes);
+			return true;
+		}
+		if ( m_batchRows > 0 ){
+			return false;
+		}
+		awaitReserve();
+		return true;
+	}
+
+	/**
+	 * Estimates the bytes of a row already in memory (CsvChunkReader) and reserves them
+	 * in the memory budget without waiting.
+	 *
+	 * @param row Row converted from the row file
+	 * @return true: Call add()
+	 *         false: The budget is used up. Register the current batch first and then call add()
+	 * @throws Exception Failed to read a value
+	 */
+	boolean reserveParsed(Row row) throws Exception {
+		m_rowBytes = m_estimate ? estimateSize(row) : 0;
+		if ( m_governor == null ){
+			return true;
+		}
+		boolean reserved = m_governor.tryReserve(m_rowBytes);
+		if ( !reserved ){
+			m_governor.forceReserve(m_rowBytes);
+		}
+		m_reserved.addAndGet(m_rowBytes);
+		return reserved || (m_batchRows == 0);
+	}
+
+	/**
+	 * Waits for the budget of the row of reserve() after the current batch is registered.
+	 *
+	 * @throws InterruptedException
+	 */
+	void awaitReserve() throws InterruptedException {
+		m_governor.reserve(m_rowBytes);
+		m_reserved.addAndGet(m_rowBytes);
+	}
+
+	/**
+	 * Adds the row of reserve() to the current batch.
+	 *
+	 * @return true: The batch is full. Register it and call closeBatch()
+	 */
+	boolean add(){
+		m_batchRows++;
+		m_batchBytes += m_rowBytes;
+		m_rowBytes = 0;
+		if ( !m_adaptive ){
+			return m_batchRows >= m_commitCount;
+		}
+		long window = m_window;
+		if ( window == 0 ){
+			// Until the first batch is registered : commitCount rows, but not more than the maximum window
+			// (With import.putQueueSize, several batches may be closed before the first registration ends)
+			return (m_batchRows >= m_commitCount) || (m_batchBytes >= m_maxBytes);
+		}
+		return m_batchBytes >= window;
+	}
+
+	/**
+	 * Closes the current batch. Call putDone() with the return value after the batch is registered.
+	 *
+	 * @return Estimated bytes of the batch (0: not estimated)
+	 */
+	long closeBatch(){
+		long bytes = m_batchBytes;
+		m_batchRows = 0;
+		m_batchBytes = 0;
+		return bytes;
+	}
+
+	/**
+	 * Releases the bytes of a registered batch and changes the window from its registration time.
+	 *
+	 * @param bytes Return value of closeBatch()
+	 * @param nanos Registration time (ns)
+	 */
+	void putDone(long bytes, long nanos){
+		release(bytes);
+		if ( m_adaptive ){
+			adjustWindow(bytes, nanos);
+		}
+	}
+
+	/**
+	 * Releases the bytes of a batch that is not registered by Container.put() (multiPut).
+	 *
+	 * @param bytes Return value of closeBatch()
+	 */
+	void release(long bytes){
+		if ( (m_governor != null) && (bytes > 0) ){
+			m_reserved.addAndGet(-bytes);
+			m_governor.release(bytes);
+		}
+	}
+
+	/**
+	 * Releases all the bytes not released yet (the batches not registered because of an error).
+	 * Call after the registration thread ends.
+	 */
+	void releaseAll(){
+		if ( m_governor != null ){
+			m_governor.release(m_reserved.getAndSet(0));
+		}
+	}
+
+	private synchronized void adjustWindow(long bytes, long nanos){
+		long window = m_window;
+		if ( window == 0 ){
+			// First batch : commitCount rows
+			m_window = clamp(bytes);
+			return;
+		}
+		if ( nanos > m_targetNanos ){
+			// A batch closed before the last decrease (about twice the window) does not decrease the window again
+			if ( bytes <= window + window / 2 ){
+				m_threshold = clamp(window / 2);
+				m_window = m_threshold;
+			}
+		} else if ( bytes >= window ){
+			// Only a full batch increases the window (not the last batch of a file)
+			if ( window < m_threshold ){
+				m_window = clamp(Math.min(window * 2, m_threshold));
+			} else {
+				m_window = clamp(window + m_minBytes);
+			}
+		}
+	}
+
+	/**
+	 * Returns the current window.
+	 *
+	 * @return Window (bytes. 0: not adaptive or the first batch)
+	 */
+	long getWindow(){
+		return m_window;
+	}
+
+	private long clamp(long bytes){
+		return Math.min(Math.max(bytes, m_minBytes), m_maxBytes);
+	}
+
+	/**
+	 * Returns the estimated size of a row.
+	 *
+	 * @param row Row
+	 * @return Size (bytes)
+	 * @throws Exception Failed to read a value
+	 */
+	long estimateSize(Row row) throws Exception {
+		long size = m_fixedSize;
+		if ( !m_hasVariable ){
+			return size;
+		}
+		for ( int i = 0; i < m_types.length; i++ ){
+			GSType type = m_types[i];
+			if ( getFixedSize(type) > 0 || row.isNull(i) ){
+				continue;
+			}
+			switch ( type ){
+			case STRING:
+				size += getStringSize(row.getString(i));
+				break;
+			case GEOMETRY:
+				size += getStringSize(String.valueOf(row.getValue(i)));
+				break;
+			case BLOB:
+				Blob blob = row.getBlob(i);
+				size += (blob != null) ? blob.length() : 0;
+				break;
+			case STRING_ARRAY:
+				String[] strings = row.getStringArray(i);
+				if ( strings != null ){
+					for ( String s : strings ){
+						size += getStringSize(s) + VAR_HEADER_SIZE;
+					}
+				}
+				break;
+			default:
+				// Array of fixed size values
+				Object array = row.getValue(i);
+				if ( array != null ){
+					size += (long)Array.getLength(array) * getElementSize(type);
+				}
+				break;
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * Returns the bytes of a string in UTF-8 (without creating the bytes).
+	 */
+	private static long getStringSize(String value){
+		if ( value == null ){
+			return 0;
+		}
+		long size = value.length();
+		for ( int i = 0; i < value.length(); i++ ){
+			char c = value.charAt(i);
+			if ( c >= 0x80 ){
+				// 2 bytes (up to U+07FF) or 3 bytes. A surrogate pair is 4 bytes in total
+				size += ( (c < 0x800) || Character.isSurrogate(c) ) ? 1 : 2;
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * Returns the size of a fixed size type.
+	 *
+	 * @return Size (0: variable size)
+	 */
+	private static int getFixedSize(GSType type){
+		switch ( type ){
+		case BOOL:
+		case BYTE:
+			return 1;
+		case SHORT:
+			return 2;
+		case INTEGER:
+		case FLOAT:
+			return 4;
+		case LONG:
+		case DOUBLE:
+		case TIMESTAMP:
+			return 8;
+		default:
+			return 0;
+		}
+	}
+
+	/**
+	 * Returns the size of an element of an array type.
+	 */
+	private static int getElementSize(GSType type){
+		switch ( type ){
+		case BOOL_ARRAY:
+		case BYTE_ARRAY:
+			return 1;
+		case SHORT_ARRAY:
+			return 2;
+		case INTEGER_ARRAY:
+		case FLOAT_ARRAY:
+			return 4;
+		default:
+			return 8;
+		}
+	}
+}
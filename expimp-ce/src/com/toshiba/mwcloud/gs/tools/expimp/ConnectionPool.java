@@ -0,0 +1,424 @@
+/*
+    Copyright (c) 2021 TOSHIBA Digital Solutions Corporation.
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+        http://www.apache.org/licenses/LICENSE-2.0
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package com.toshiba.mwcloud.gs.tools.expimp;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.toshiba.mwcloud.gs.Container;
+import com.toshiba.mwcloud.gs.GSException;
+import com.toshiba.mwcloud.gs.GridStore;
+import com.toshiba.mwcloud.gs.Row;
+
+/**
+ * Pool of the GridStore objects and the JDBC connections shared by the export/import threads (connectionPool=true).
+ *
+ * gridStoreServerIO.getConnection()/getJdbcConnection() lend a connection of the database from the pool,
+ * and close() of the lent object returns it to the pool instead of closing it. So the callers keep
+ * closing the connection when the database changes, and the connection is reused by the next
+ * container of the database in any thread.
+ *
+ *   - A lent object is a proxy of the public interfaces of the connection, and is used by one thread at a time.
+ *   - A connection on which a method threw an exception is closed instead of being returned.
+ *   - A new GridStore object is checked by the "DUMMY" container search as before. A pooled connection is
+ *     checked again only when it was idle longer than connectionPool.validateSeconds.
+ *   - The GridStore objects and the JDBC connections are each limited to connectionPool.maxConnections.
+ *     At the limit, an idle connection of another database is closed, or the thread waits for a returned
+ *     connection. After connectionPool.maxWaitSeconds, a connection is opened beyond the limit (with a warning),
+ *     because a thread may hold a connection while it waits for another one.
+ */
+class ConnectionPool {
+
+	private static final Logger log = LoggerFactory.getLogger(ConnectionPool.class);
+
+	/**
+	 * Timeout (s) of Connection.isValid()
+	 */
+	private static final int JDBC_VALIDATE_TIMEOUT = 5;
+
+	private final int m_maxConnections;
+	private final long m_validateNanos;
+	private final long m_maxWaitNanos;
+
+	private final Pool<GridStore> m_stores = new Pool<GridStore>("GridStore", GridStore.class){
+		@Override
+		GridStore open(commandLineInfo cli, String database) throws GSEIException {
+			return gridStoreServerIO.openConnection(cli, database);
+		}
+		@Override
+		boolean isValid(GridStore store){
+			try {
+				// The same check as a new connection
+				Container<Object, Row> container = store.getContainer("DUMMY");
+				if ( container != null ){
+					container.close();
+				}
+				return true;
+			} catch ( Exception e ){
+				return false;
+			}
+		}
+		@Override
+		void closeQuietly(GridStore store){
+			try {
+				store.close();
+			} catch ( Exception e ){}
+		}
+		@Override
+		Exception createClosedError(){
+			return new GSException("The connection is already closed");
+		}
+	};
+
+	private final Pool<Connection> m_jdbcConnections = new Pool<Connection>("JDBC", Connection.class){
+		@Override
+		Connection open(commandLineInfo cli, String database) throws GSEIException {
+			return gridStoreServerIO.openJdbcConnection(cli, database);
+		}
+		@Override
+		boolean isValid(Connection conn){
+			try {
+				if ( conn.isClosed() ){
+					return false;
+				}
+				return conn.isValid(JDBC_VALIDATE_TIMEOUT);
+			} catch ( SQLFeatureNotSupportedException e ){
+				return true;
+			} catch ( Exception e ){
+				return false;
+			}
+		}
+		@Override
+		void closeQuietly(Connection conn){
+			try {
+				conn.close();
+			} catch ( Exception e ){}
+		}
+		@Override
+		Exception createClosedError(){
+			return new SQLException("The connection is already closed");
+		}
+	};
+
+	/**
+	 * Constructor
+	 *
+	 * @param maxConnections Upper limit of the GridStore objects and of the JDBC connections (0: No limit)
+	 * @param validateSeconds Idle time (s) after which a pooled connection is checked before it is lent
+	 * @param maxWaitSeconds Time (s) to wait for a connection at the limit
+	 */
+	ConnectionPool(int maxConnections, int validateSeconds, int maxWaitSeconds){
+		m_maxConnections = maxConnections;
+		m_validateNanos = validateSeconds * 1000000000L;
+		m_maxWaitNanos = maxWaitSeconds * 1000000000L;
+	}
+
+	/**
+	 * Lends a GridStore object of the database.
+	 *
+	 * @param cli Command parameter information
+	 * @param database Database name
+	 * @return GridStore object (close() returns it to the pool)
+	 * @throws GSEIException Failed to connect
+	 */
+	GridStore getStore(commandLineInfo cli, String database) throws GSEIException {
+		return m_stores.acquire(cli, database);
+	}
+
+	/**
+	 * Lends a JDBC connection of the database.
+	 *
+	 * @param cli Command parameter information
+	 * @param database Database name
+	 * @return JDBC connection (close() returns it to the pool)
+	 * @throws GSEIException Failed to connect
+	 */
+	Connection getJdbcConnection(commandLineInfo cli, String database) throws GSEIException {
+		return m_jdbcConnections.acquire(cli, database);
+	}
+
+	/**
+	 * Closes the idle connections and logs the statistics.
+	 * The connections returned after this are closed.
+	 */
+	void close(){
+		m_stores.close();
+		m_jdbcConnections.close();
+	}
+
+	@Override
+	public String toString(){
+		return "maxConnections=" + m_maxConnections + " validateSeconds=" + (m_validateNanos / 1000000000L)
+				+ " maxWaitSeconds=" + (m_maxWaitNanos / 1000000000L);
+	}
+
+	/**
+	 * Idle connection
+	 */
+	private static class Idle<T> {
+		final T m_connection;
+		final long m_idleSince = System.nanoTime();
+
+		Idle(T connection){
+			m_connection = connection;
+		}
+	}
+
+	/**
+	 * Pool of one kind of connection
+	 */
+	private abstract class Pool<T> {
+		private final String m_name;
+		private final Class<T> m_type;
+
+		/**
+		 * Idle connections of each database (the last returned is at the tail)
+		 */
+		private final Map<String, Deque<Idle<T>>> m_idle = new HashMap<String, Deque<Idle<T>>>();
+
+		/**
+		 * Number of the open connections (lent and idle)
+		 */
+		private int m_openCount;
+
+		private boolean m_closed;
+
+		private long m_createCount;
+		private long m_reuseCount;
+		private long m_evictCount;
+		private long m_overflowCount;
+		private int m_maxOpenCount;
+
+		Pool(String name, Class<T> type){
+			m_name = name;
+			m_type = type;
+		}
+
+		abstract T open(commandLineInfo cli, String database) throws GSEIException;
+
+		abstract boolean isValid(T connection);
+
+		abstract void closeQuietly(T connection);
+
+		abstract Exception createClosedError();
+
+		T acquire(commandLineInfo cli, String database) throws GSEIException {
+			String key = (database != null) ? database : "";
+			Idle<T> reuse = null;
+			T evict = null;
+			synchronized ( this ){
+				long deadline = System.nanoTime() + m_maxWaitNanos;
+				while ( true ){
+					Deque<Idle<T>> idle = m_idle.get(key);
+					if ( (idle != null) && !idle.isEmpty() ){
+						reuse = idle.pollLast();
+						break;
+					}
+					if ( (m_maxConnections <= 0) || (m_openCount < m_maxConnections) ){
+						m_openCount++;
+						break;
+					}
+					Idle<T> oldest = pollOldest();
+					if ( oldest != null ){
+						// Replaced with a connection of this database
+						evict = oldest.m_connection;
+						m_evictCount++;
+						break;
+					}
+					long remaining = deadline - System.nanoTime();
+					if ( remaining <= 0 ){
+						if ( m_overflowCount++ == 0 ){
+							log.warn("The " + m_name + " connections exceed connectionPool.maxConnections=[" + m_maxConnections
+									+ "] after waiting " + (m_maxWaitNanos / 1000000000L) + " seconds.");
+						}
+						m_openCount++;
+						break;
+					}
+					try {
+						wait(Math.max(remaining / 1000000L, 1));
+					} catch ( InterruptedException e ){
+						Thread.currentThread().interrupt();
+						throw new GSEIException("Interrupted while waiting for a connection: database=[" + database + "]", e);
+					}
+				}
+				m_maxOpenCount = Math.max(m_maxOpenCount, m_openCount);
+			}
+			if ( evict != null ){
+				closeQuietly(evict);
+			}
+
+			if ( reuse != null ){
+				if ( (System.nanoTime() - reuse.m_idleSince <= m_validateNanos) || isValid(reuse.m_connection) ){
+					synchronized ( this ){
+						m_reuseCount++;
+					}
+					return lend(key, reuse.m_connection);
+				}
+				// Replaced with a new connection
+				closeQuietly(reuse.m_connection);
+			}
+
+			T connection;
+			try {
+				connection = open(cli, database);
+			} catch ( GSEIException e ){
+				synchronized ( this ){
+					m_openCount--;
+					notifyAll();
+				}
+				throw e;
+			}
+			synchronized ( this ){
+				m_createCount++;
+			}
+			return lend(key, connection);
+		}
+
+		/**
+		 * Returns the idle connection returned first of all the databases.
+		 */
+		private Idle<T> pollOldest(){
+			Deque<Idle<T>> oldestDeque = null;
+			for ( Deque<Idle<T>> idle : m_idle.values() ){
+				if ( !idle.isEmpty() && ((oldestDeque == null) || (idle.peekFirst().m_idleSince < oldestDeque.peekFirst().m_idleSince)) ){
+					oldestDeque = idle;
+				}
+			}
+			return (oldestDeque != null) ? oldestDeque.pollFirst() : null;
+		}
+
+		private T lend(String key, T connection){
+			Set<Class<?>> interfaces = new LinkedHashSet<Class<?>>();
+			interfaces.add(m_type);
+			for ( Class<?> c = connection.getClass(); c != null; c = c.getSuperclass() ){
+				addPublicInterfaces(c, interfaces);
+			}
+			Object proxy = Proxy.newProxyInstance(ConnectionPool.class.getClassLoader(),
+					interfaces.toArray(new Class<?>[interfaces.size()]), new Lease<T>(this, key, connection));
+			return m_type.cast(proxy);
+		}
+
+		void release(String key, T connection, boolean broken){
+			synchronized ( this ){
+				if ( !broken && !m_closed ){
+					Deque<Idle<T>> idle = m_idle.get(key);
+					if ( idle == null ){
+						idle = new ArrayDeque<Idle<T>>();
+						m_idle.put(key, idle);
+					}
+					idle.addLast(new Idle<T>(connection));
+					notifyAll();
+					return;
+				}
+				m_openCount--;
+				notifyAll();
+			}
+			closeQuietly(connection);
+		}
+
+		void close(){
+			Deque<Idle<T>> closing = new ArrayDeque<Idle<T>>();
+			synchronized ( this ){
+				m_closed = true;
+				for ( Iterator<Deque<Idle<T>>> it = m_idle.values().iterator(); it.hasNext(); ){
+					Deque<Idle<T>> idle = it.next();
+					m_openCount -= idle.size();
+					closing.addAll(idle);
+					it.remove();
+				}
+				if ( m_createCount > 0 ){
+					log.info("Connection pool (" + m_name + ") : created=[" + m_createCount + "] reused=[" + m_reuseCount
+							+ "] evicted=[" + m_evictCount + "] overLimit=[" + m_overflowCount + "] maxOpen=[" + m_maxOpenCount + "]");
+				}
+			}
+			for ( Idle<T> idle : closing ){
+				closeQuietly(idle.m_connection);
+			}
+		}
+	}
+
+	private static void addPublicInterfaces(Class<?> c, Set<Class<?>> interfaces){
+		for ( Class<?> i : c.getInterfaces() ){
+			if ( Modifier.isPublic(i.getModifiers()) ){
+				interfaces.add(i);
+			}
+			addPublicInterfaces(i, interfaces);
+		}
+	}
+
+	/**
+	 * Lent connection. close() returns the connection to the pool.
+	 */
+	private static class Lease<T> implements InvocationHandler {
+		private final Pool<T> m_pool;
+		private final String m_key;
+		private final T m_connection;
+		private boolean m_released;
+		private boolean m_broken;
+
+		Lease(Pool<T> pool, String key, T connection){
+			m_pool = pool;
+			m_key = key;
+			m_connection = connection;
+		}
+
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			String name = method.getName();
+			if ( method.getDeclaringClass() == Object.class ){
+				if ( name.equals("equals") ){
+					return proxy == args[0];
+				} else if ( name.equals("hashCode") ){
+					return System.identityHashCode(proxy);
+				}
+				return "pooled " + m_connection;
+			}
+			if ( name.equals("close") && (method.getParameterTypes().length == 0) ){
+				if ( !m_released ){
+					m_released = true;
+					m_pool.release(m_key, m_connection, m_broken);
+				}
+				return null;
+			}
+			if ( name.equals("isClosed") && (method.getParameterTypes().length == 0) && m_released ){
+				return true;
+			}
+			if ( m_released ){
+				throw m_pool.createClosedError();
+			}
+			try {
+				return method.invoke(m_connection, args);
+			} catch ( InvocationTargetException e ){
+				// The state of the connection is unknown after an error
+				m_broken = true;
+				throw e.getCause();
+			}
+		}
+	}
+}
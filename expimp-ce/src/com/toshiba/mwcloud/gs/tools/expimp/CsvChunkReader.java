@@ -0,0 +1,584 @@
+/*
+    Copyright (c) 2021 TOSHIBA Digital Solutions Corporation.
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+        http://www.apache.org/licenses/LICENSE-2.0
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package com.toshiba.mwcloud.gs.tools.expimp;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.ResourceBundle;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.opencsv.CSVParser;
+import com.opencsv.CSVReader;
+import com.opencsv.CSVReaderBuilder;
+import com.toshiba.mwcloud.gs.Container;
+import com.toshiba.mwcloud.gs.GSException;
+import com.toshiba.mwcloud.gs.GridStore;
+import com.toshiba.mwcloud.gs.Row;
+import com.toshiba.mwcloud.gs.tools.common.data.ToolContainerInfo;
+import com.toshiba.mwcloud.gs.tools.expimp.util.Utility;
+
+/**
+ * Parallel reading of one CSV row data file.
+ *
+ * The splitter thread reads the file from the line after the container name line, and divides it
+ * into chunks of about GSConstants.CSV_PARSE_CHUNK_SIZE bytes at the ends of the lines.
+ * A line break inside a quoted value is not the end of a line (the quote and the escape character
+ * are tracked byte by byte. They are ASCII, so UTF-8 multi-byte characters do not matter).
+ * The chunks are parsed and converted to rows by the worker threads, and nextRows() returns the
+ * rows in the order of the file.  While the number of the chunks waiting is at the upper limit,
+ * the splitter waits.
+ * With import.memoryBudget, the bytes of each chunk are reserved in MemoryGovernor before it is
+ * parsed, and released when nextRows() returns its rows (the rows are reserved by CommitBatchSizer).
+ * The splitter stops at the container name line of the next container (multi-container format file).
+ *
+ * [Memo] The container object is not thread-safe, so each line converter has its own container object
+ *   to create the rows. The container object that registers the rows is not used.
+ */
+class CsvChunkReader {
+
+	/**
+	 * Internationalized message resource
+	 */
+	private static ResourceBundle messageResource = Utility.getResource();
+
+	/**
+	 * Chunk that shows the end of the file
+	 */
+	private static final Future<Chunk> END_OF_CHUNKS = new FutureTask<Chunk>(new Callable<Chunk>(){
+		public Chunk call(){
+			return null;
+		}
+	});
+
+	/**
+	 * Rows converted from a chunk
+	 */
+	private static class Chunk {
+		/** Rows */
+		List<Row> m_rows = new ArrayList<Row>();
+		/** Whether the chunk contains the container name line of the next container */
+		boolean m_endOfContainer;
+		/** Bytes of the lines (reserved in the memory budget) */
+		long m_bytes;
+	}
+
+	/**
+	 * Line converter used by one worker at a time
+	 */
+	private static class LineConverter {
+		/** Row file object that converts the lines */
+		rowCsvFileIO m_fileIO;
+		/** Container object that creates the rows */
+		Container<?, Row> m_rowFactory;
+
+		LineConverter(rowCsvFileIO fileIO, Container<?, Row> rowFactory){
+			m_fileIO = fileIO;
+			m_rowFactory = rowFactory;
+		}
+	}
+
+	/** Container information */
+	private ToolContainerInfo m_containerInfo;
+
+	/** CSV row data file */
+	private File m_file;
+
+	/** File name */
+	private String m_fileName;
+
+	/** Row file object of the file (creates the line converters of the workers) */
+	private rowCsvFileIO m_fileIO;
+
+	/** Container name in the container name line */
+	private String m_identifier;
+
+	/** Escape character (0: none) */
+	private char m_escape;
+
+	/** Position of the line after the container name line */
+	private long m_dataOffset;
+
+	/** Number of the lines before m_dataOffset */
+	private int m_headerLineCount;
+
+	/** Worker threads */
+	private ExecutorService m_workers;
+
+	/** Line converters that are not used by a worker */
+	private BlockingQueue<LineConverter> m_converters;
+
+	/** All the line converters */
+	private List<LineConverter> m_converterList = new ArrayList<LineConverter>();
+
+	/** Chunks in the order of the file */
+	private BlockingQueue<Future<Chunk>> m_chunks;
+
+	/** Splitter thread */
+	private Thread m_splitter;
+
+	/** Error that occurred in the splitter thread */
+	private volatile GSEIException m_error;
+
+	/** Whether all the rows of the container have been returned */
+	private boolean m_finished;
+
+	/** Read time (ms) : time that nextRows() waited for the chunks */
+	private long m_timeRead;
+
+	/** Memory budget (null: none) */
+	private MemoryGovernor m_governor;
+
+	/** Bytes of the chunks reserved and not returned by nextRows() yet */
+	private final AtomicLong m_reservedBytes = new AtomicLong();
+
+	/**
+	 * Constructor
+	 *
+	 * @param store GridStore object (gets the container objects of the line converters)
+	 * @param contInfo Container information
+	 * @param fileIO Row file object of the CSV file
+	 * @param fileName CSV file name
+	 * @param threadNum Number of worker threads
+	 * @param governor Memory budget (null: none)
+	 * @throws GSException
+	 * @throws GSEIException
+	 */
+	CsvChunkReader(GridStore store, ToolContainerInfo contInfo, rowCsvFileIO fileIO,
+			String fileName, int threadNum, MemoryGovernor governor) throws GSException, GSEIException {
+		m_governor = governor;
+		m_containerInfo = contInfo;
+		m_fileIO = fileIO;
+		m_fileName = fileName;
+		m_file = new File(fileIO.m_targetPath, fileName);
+
+		m_converters = new ArrayBlockingQueue<LineConverter>(threadNum);
+		try {
+			for ( int i = 0; i < threadNum; i++ ){
+				Container<?, Row> rowFactory = store.getContainer(contInfo.getName());
+				if ( rowFactory == null ){
+					throw new GSEIException(messageResource.getString("MESS_IMPORT_ERR_IMPORTPROC_33")+": containerName=["+
+							contInfo.getFullName() +"] msg=[container not found]");
+				}
+				LineConverter converter = new LineConverter(fileIO.createLineConverter(contInfo, fileName), rowFactory);
+				m_converterList.add(converter);
+				m_converters.add(converter);
+			}
+		} catch ( GSException e ){
+			closeConverters();
+			throw e;
+		} catch ( GSEIException e ){
+			closeConverters();
+			throw e;
+		}
+
+		m_chunks = new ArrayBlockingQueue<Future<Chunk>>(threadNum * 2);
+		final String threadName = "CsvChunkReader-" + Thread.currentThread().getName();
+		m_workers = Executors.newFixedThreadPool(threadNum, new ThreadFactory(){
+			private int m_num = 0;
+			public synchronized Thread newThread(Runnable r){
+				Thread t = new Thread(r, threadName + "-" + (m_num++));
+				t.setDaemon(true);
+				return t;
+			}
+		});
+	}
+
+	/**
+	 * Finds the container name line, and starts the splitter thread.
+	 *
+	 *   Only the head of the file (one chunk) is searched for the container name line.
+	 *
+	 * @return true:Started / false:The container name line was not found at the head of the file
+	 * @throws GSEIException
+	 */
+	boolean start() throws GSEIException {
+		rowCsvFileIO converter = m_converters.peek().m_fileIO;
+		m_identifier = converter.getContainerIdentifier();
+		m_escape = converter.getEscapeChar();
+
+		InputStream in = null;
+		try {
+			in = new FileInputStream(m_file);
+			byte[] head = new byte[GSConstants.CSV_PARSE_CHUNK_SIZE];
+			int len = readFully(in, head, 0, head.length);
+
+			CSVParser parser = converter.createCsvParser();
+			int lineStart = 0;
+			int lineCount = 0;
+			while ( lineStart < len ){
+				int lineEnd = findLineEnd(head, lineStart, len);
+				if ( lineEnd < 0 ){
+					break;
+				}
+				lineCount++;
+				String[] line = parser.parseLine(new String(head, lineStart, lineEnd - lineStart, GSConstants.ENCODING_CSV));
+				lineStart = lineEnd;
+				if ( (line.length >= 2) && (line[0] != null) && line[0].trim().equals("$")
+						&& (line[1] != null) && line[1].trim().contains(m_identifier) ){
+					m_dataOffset = lineStart;
+					m_headerLineCount = lineCount;
+					m_splitter = new Thread(new Runnable(){
+						public void run(){
+							split();
+						}
+					}, "CsvChunkReader-" + Thread.currentThread().getName());
+					m_splitter.setDaemon(true);
+					m_splitter.start();
+					return true;
+				}
+			}
+			return false;
+
+		} catch ( Exception e ){
+			throw new GSEIException(messageResource.getString("MESS_COMM_ERR_ROWCSV_31")+": db=["+m_containerInfo.getDbName()
+					+"] containerName=["+m_containerInfo.getName()+"] path=["+m_file.getAbsolutePath()+"] msg=["+e.getMessage()+"]", e);
+		} finally {
+			if ( in != null ){
+				try {
+					in.close();
+				} catch ( Exception e ){}
+			}
+		}
+	}
+
+	/**
+	 * Returns the position after the end of the first line from start, or -1 if the line does not end.
+	 */
+	private int findLineEnd(byte[] b, int start, int end){
+		boolean inQuotes = false;
+		for ( int i = start; i < end; i++ ){
+			byte c = b[i];
+			if ( inQuotes && (m_escape != 0) && (c == m_escape) && (i+1 < end)
+					&& ((b[i+1] == CSVParser.DEFAULT_QUOTE_CHARACTER) || (b[i+1] == m_escape)) ){
+				i++;
+			} else if ( c == CSVParser.DEFAULT_QUOTE_CHARACTER ){
+				inQuotes = !inQuotes;
+			} else if ( (c == '\n') && !inQuotes ){
+				return i + 1;
+			}
+		}
+		return -1;
+	}
+
+	private static int readFully(InputStream in, byte[] b, int off, int len) throws Exception {
+		int allSize = 0;
+		while ( allSize < len ){
+			int readSize = in.read(b, off + allSize, len - allSize);
+			if ( readSize == -1 ){
+				break;
+			}
+			allSize += readSize;
+		}
+		return allSize;
+	}
+
+	/**
+	 * Splitter thread : divides the file into chunks and hands them to the workers.
+	 */
+	private void split(){
+		FileInputStream in = null;
+		try {
+			in = new FileInputStream(m_file);
+			in.getChannel().position(m_dataOffset);
+			CSVParser parser = m_converters.peek().m_fileIO.createCsvParser();
+
+			byte[] buf = new byte[GSConstants.CSV_PARSE_CHUNK_SIZE];
+			int len = 0;				// Bytes in buf
+			int scanned = 0;			// Bytes scanned in buf
+			int lastLineEnd = 0;		// Position after the end of the last line in buf
+			int lineCount = 0;			// Lines in buf[0, lastLineEnd)
+			int firstLine = m_headerLineCount;
+			boolean inQuotes = false;
+			boolean eof = false;
+			int nextContainerLine = -1;	// Position of the container name line of the next container in buf
+
+			while ( true ){
+				if ( !eof && (len < buf.length) ){
+					int readSize = in.read(buf, len, buf.length - len);
+					if ( readSize == -1 ){
+						eof = true;
+					} else {
+						len += readSize;
+					}
+				}
+
+				// Scan the lines
+				for ( ; scanned < len; scanned++ ){
+					byte c = buf[scanned];
+					if ( inQuotes && (m_escape != 0) && (c == m_escape) ){
+						if ( scanned+1 >= len ){
+							// The next byte has not been read
+							break;
+						}
+						byte n = buf[scanned+1];
+						if ( (n == CSVParser.DEFAULT_QUOTE_CHARACTER) || (n == m_escape) ){
+							scanned++;
+						}
+					} else if ( c == CSVParser.DEFAULT_QUOTE_CHARACTER ){
+						inQuotes = !inQuotes;
+					} else if ( (c == '\n') && !inQuotes ){
+						if ( isNextContainerLine(parser, buf, lastLineEnd, scanned + 1) ){
+							nextContainerLine = lastLineEnd;
+							break;
+						}
+						lastLineEnd = scanned + 1;
+						lineCount++;
+					}
+				}
+
+				if ( nextContainerLine >= 0 ){
+					// The rows of the container end before the line
+					if ( nextContainerLine > 0 ){
+						submit(Arrays.copyOf(buf, nextContainerLine), firstLine);
+					}
+					break;
+				}
+				if ( eof ){
+					// The last line may not end with a line break
+					if ( len > 0 ){
+						submit(Arrays.copyOf(buf, len), firstLine);
+					}
+					break;
+				}
+				if ( len < buf.length ){
+					continue;
+				}
+
+				if ( lastLineEnd == 0 ){
+					// A line is longer than the buffer
+					buf = Arrays.copyOf(buf, buf.length * 2);
+					continue;
+				}
+
+				// Hand the lines to the workers and move the rest to the head of the buffer
+				submit(Arrays.copyOf(buf, lastLineEnd), firstLine);
+				firstLine += lineCount;
+				byte[] next = new byte[Math.max(GSConstants.CSV_PARSE_CHUNK_SIZE, len - lastLineEnd)];
+				System.arraycopy(buf, lastLineEnd, next, 0, len - lastLineEnd);
+				buf = next;
+				len -= lastLineEnd;
+				scanned -= lastLineEnd;
+				lastLineEnd = 0;
+				lineCount = 0;
+			}
+
+		} catch ( InterruptedException e ){
+			// Stopped by close()
+			return;
+		} catch ( Exception e ){
+			m_error = new GSEIException(messageResource.getString("MESS_COMM_ERR_ROWCSV_32")+": db=["+m_containerInfo.getDbName()
+					+"] containerName=["+m_containerInfo.getName()+"] path=["+m_file.getAbsolutePath()+"] msg=["+e.getMessage()+"]", e);
+		} finally {
+			if ( in != null ){
+				try {
+					in.close();
+				} catch ( Exception e ){}
+			}
+		}
+
+		try {
+			m_chunks.put(END_OF_CHUNKS);
+		} catch ( InterruptedException e ){
+			// Stopped by close()
+		}
+	}
+
+	/**
+	 * Returns whether the line is the container name line of another container.
+	 *
+	 * @param parser CSV parser of the splitter thread
+	 * @param b Buffer
+	 * @param start Head of the line
+	 * @param end Position after the end of the line
+	 */
+	private boolean isNextContainerLine(CSVParser parser, byte[] b, int start, int end) throws Exception {
+		// Only the lines that start with "$" are parsed
+		int i = start;
+		while ( (i < end) && ((b[i] == ' ') || (b[i] == '\t')) ){
+			i++;
+		}
+		if ( (i < end) && (b[i] == CSVParser.DEFAULT_QUOTE_CHARACTER) ){
+			i++;
+		}
+		if ( (i >= end) || (b[i] != '$') ){
+			return false;
+		}
+		String[] line = parser.parseLine(new String(b, start, end - start, GSConstants.ENCODING_CSV));
+		return (line.length == 2) && (line[0] != null) && line[0].trim().equals("$")
+				&& (line[1] != null) && !line[1].trim().equalsIgnoreCase(m_identifier);
+	}
+
+	/**
+	 * Hands a chunk to the workers.  Waits while the number of the chunks waiting is at the upper limit,
+	 * or while the memory budget is used up.
+	 */
+	private void submit(final byte[] data, final int firstLine) throws InterruptedException {
+		if ( m_governor != null ){
+			m_governor.reserveAhead(data.length, m_reservedBytes);
+			m_reservedBytes.addAndGet(data.length);
+		}
+		Future<Chunk> future = m_workers.submit(new Callable<Chunk>(){
+			public Chunk call() throws Exception {
+				return parse(data, firstLine);
+			}
+		});
+		m_chunks.put(future);
+	}
+
+	/**
+	 * Worker thread : converts the lines of the chunk to rows.
+	 *
+	 * @param data Lines of the chunk
+	 * @param firstLine Number of the lines before the chunk
+	 * @return Rows
+	 */
+	private Chunk parse(byte[] data, int firstLine) throws Exception {
+		LineConverter lineConverter = m_converters.take();
+		rowCsvFileIO converter = lineConverter.m_fileIO;
+		try {
+			Chunk chunk = new Chunk();
+			chunk.m_bytes = data.length;
+			CSVReader reader = new CSVReaderBuilder(new InputStreamReader(
+						new ByteArrayInputStream(data), GSConstants.ENCODING_CSV))
+						.withCSVParser(converter.createCsvParser())
+						.withKeepCarriageReturn(true)
+						.build();
+			int lineCount = firstLine;
+			String[] line;
+			while ( (line = reader.readNext()) != null ){
+				lineCount++;
+				if ( line[0] != null ){
+					// Skip for comment lines
+					if ( line[0].trim().indexOf("#") == 0 ) continue;
+
+					// Container name line check (ends with another container name)
+					if ( (line.length == 2) && line[0].trim().equals("$")
+							&& !line[1].trim().equalsIgnoreCase(m_identifier) ){
+						chunk.m_endOfContainer = true;
+						break;
+					}
+				}
+				chunk.m_rows.add(converter.convertLine(lineConverter.m_rowFactory, line, lineCount));
+			}
+			return chunk;
+
+		} finally {
+			m_converters.put(lineConverter);
+		}
+	}
+
+	/**
+	 * Returns the rows of the next chunk.
+	 *
+	 * @return Rows (null: end of the rows)
+	 * @throws GSEIException An error occurred in the splitter or the workers
+	 */
+	List<Row> nextRows() throws GSEIException {
+		if ( m_finished ){
+			return null;
+		}
+		long start = System.currentTimeMillis();
+		long metricsStart = ProcessMetrics.startTime();
+		try {
+			Future<Chunk> future = m_chunks.take();
+			if ( future == END_OF_CHUNKS ){
+				m_finished = true;
+				if ( m_error != null ) throw m_error;
+				return null;
+			}
+			Chunk chunk = future.get();
+			if ( m_governor != null ){
+				m_reservedBytes.addAndGet(-chunk.m_bytes);
+				m_governor.release(chunk.m_bytes);
+			}
+			if ( chunk.m_endOfContainer ){
+				m_finished = true;
+			}
+			return chunk.m_rows;
+
+		} catch ( ExecutionException e ){
+			if ( e.getCause() instanceof GSEIException ){
+				throw (GSEIException)e.getCause();
+			}
+			throw new GSEIException(messageResource.getString("MESS_COMM_ERR_ROWCSV_33")+": db=["+m_containerInfo.getDbName()
+					+"] containerName=["+m_containerInfo.getName()+"] path=["+m_file.getAbsolutePath()+"] msg=["+e.getCause().getMessage()+"]", e.getCause());
+		} catch ( InterruptedException e ){
+			throw new GSEIException(messageResource.getString("MESS_COMM_ERR_ROWCSV_33")+": db=["+m_containerInfo.getDbName()
+					+"] containerName=["+m_containerInfo.getName()+"] path=["+m_file.getAbsolutePath()+"] msg=["+e.getMessage()+"]", e);
+		} finally {
+			m_timeRead += ( System.currentTimeMillis()-start );
+			ProcessMetrics.record(ProcessMetrics.Phase.READ_ROW, metricsStart);
+		}
+	}
+
+	/**
+	 * Stops the splitter and the workers.
+	 */
+	void close(){
+		if ( (m_splitter != null) && m_splitter.isAlive() ){
+			m_splitter.interrupt();
+			try {
+				m_splitter.join();
+			} catch ( InterruptedException e ){
+				Thread.currentThread().interrupt();
+			}
+		}
+		m_workers.shutdownNow();
+		try {
+			m_workers.awaitTermination(10, TimeUnit.SECONDS);
+		} catch ( InterruptedException e ){
+			Thread.currentThread().interrupt();
+		}
+		m_chunks.clear();
+		if ( m_governor != null ){
+			// Chunks not returned (stopped or failed)
+			m_governor.release(m_reservedBytes.getAndSet(0));
+		}
+		closeConverters();
+	}
+
+	private void closeConverters(){
+		for ( LineConverter converter : m_converterList ){
+			try {
+				converter.m_rowFactory.close();
+			} catch ( Exception e ){}
+		}
+		m_converterList.clear();
+	}
+
+	/**
+	 * Returns the time that the rows were waited for.
+	 *
+	 * @return Read time (ms)
+	 */
+	long getTimeRead(){
+		return m_timeRead;
+	}
+}
@@ -72,6 +72,9 @@ public class GSConstants {
 	public static final String FILE_GS_EXPORT_ACL_JSON	= "gs_export_acl.json";
 	/** View definition file name */
 	public static final String FILE_GS_EXPORT_VIEW_JSON	= "gs_export_view.json";
+	// チェックポイントジャーナルファイル(--resume)
+	public static final String FILE_GS_EXPORT_JOURNAL	= "gs_export_journal.log";
+	public static final String FILE_GS_IMPORT_JOURNAL	= "gs_import_journal.log";
 
 	/** File extension (CSV file) */
 	public static final String FILE_EXT_CSV				= ".csv";
@@ -83,6 +86,18 @@ public class GSConstants {
 	public static final String FILE_EXT_BINARY_MULTI	= ".mc";
 	/** File extension (JSON file) */
 	public static final String FILE_EXT_JSON			= ".json";
+	/** File extension (Avro container file) */
+	public static final String FILE_EXT_AVRO			= ".avro";
+
+	/** Compression level of the Avro data blocks (deflate) */
+	public static final int AVRO_DEFLATE_LEVEL			= 6;
+
+	/** File extension (columnar block file) */
+	public static final String FILE_EXT_COLUMNAR		= ".gscb";
+	/** Number of rows in a block of the columnar block file */
+	public static final int COLUMNAR_BLOCK_ROW_NUM		= 8192;
+	/** Buffer size of the columnar block file */
+	public static final int COLUMNAR_BUFFER_SIZE		= 1024 * 1024;
 
 	/** Character between file name and ROW number (.scFile) */
 	public static final String FILENAME_SEPARATOR 		= "_";
@@ -90,6 +105,11 @@ public class GSConstants {
 	/** Character between file name and split number (binary mode split) */
 	public static final String FILENAME_SEPARATOR_DIV 	= "_div";
 
+	/** Magic number at the head of each entry of the binary row data ("GSRC") */
+	public static final long BINARY_ROW_MAGIC			= 0x4753524300000000L;
+	/** Binary row data format version (1: Schema-driven codec. Old format has no entry header) */
+	public static final int BINARY_ROW_FORMAT_VERSION	= 1;
+
 
 	/** Character code of CSV file and external file */
 	public static final String ENCODING_CSV				= "UTF-8";
@@ -99,6 +119,12 @@ public class GSConstants {
 	/** Read buffer size */
 	public static final int READ_BUFFER_SIZE			= 8192;
 
+	/** Write buffer size of CSV row data file (Byte) */
+	public static final int CSV_WRITE_BUFFER_SIZE		= 1024 * 1024;
+
+	/** Size of the chunks of CSV row data file parsed in parallel (Byte) */
+	public static final int CSV_PARSE_CHUNK_SIZE		= 4 * 1024 * 1024;
+
 	/** JDBC connection destination URL prefix */
 	public static final String JDBC_URL_PREFIX			= "jdbc:gs://";
 
@@ -170,6 +196,28 @@ public class GSConstants {
 	public static final String PROP_TRUST_STORE_PASSWORD = "trustStore.password";
 
 	public static final String PROP_INTERVAL_TIMEZONE = "intervalTimeZone";
+
+	public static final String PROP_CSV_WRITE_BUFFER_SIZE	= "csvWriteBufferSize";
+	public static final String PROP_IMPORT_CONTAINER_THREAD_NUM	= "import.containerThreadNum";
+	public static final String PROP_EXPORT_CONTAINER_THREAD_NUM	= "export.containerThreadNum";
+	public static final String PROP_EXPORT_PIPELINE_QUEUE_SIZE	= "export.pipelineQueueSize";
+	public static final String PROP_IMPORT_PUT_QUEUE_SIZE	= "import.putQueueSize";
+	public static final String PROP_IMPORT_MULTI_PUT_FILE_SIZE	= "import.multiPutFileSize";
+	public static final String PROP_EXPORT_FETCH_ALL_NUM	= "export.fetchAllContainerNum";
+	public static final String PROP_EXPORT_FETCH_ALL_MAX_ROWS	= "export.fetchAllMaxRows";
+	public static final String PROP_IMPORT_CSV_PARSE_THREAD_NUM	= "import.csvParseThreadNum";
+	public static final String PROP_IMPORT_ADAPTIVE_COMMIT	= "import.adaptiveCommit";
+	public static final String PROP_IMPORT_ADAPTIVE_COMMIT_MIN_BYTES	= "import.adaptiveCommit.minBytes";
+	public static final String PROP_IMPORT_ADAPTIVE_COMMIT_MAX_BYTES	= "import.adaptiveCommit.maxBytes";
+	public static final String PROP_IMPORT_ADAPTIVE_COMMIT_TARGET_MILLIS	= "import.adaptiveCommit.targetMillis";
+	public static final String PROP_IMPORT_MEMORY_BUDGET	= "import.memoryBudget";
+	public static final String PROP_CONNECTION_POOL			= "connectionPool";
+	public static final String PROP_CONNECTION_POOL_MAX_CONNECTIONS	= "connectionPool.maxConnections";
+	public static final String PROP_CONNECTION_POOL_VALIDATE_SECONDS	= "connectionPool.validateSeconds";
+	public static final String PROP_CONNECTION_POOL_MAX_WAIT_SECONDS	= "connectionPool.maxWaitSeconds";
+	public static final String PROP_METRICS_PATH			= "metrics.path";
+	public static final String PROP_METRICS_FORMAT			= "metrics.format";
+	public static final String PROP_METRICS_INTERVAL		= "metrics.interval";
 	
 	//******************************************************************
 	// Item name of Export management file (gs_export.json)
@@ -195,6 +243,7 @@ public class GSConstants {
 	public static final String DATE_FORMAT_NOT_TIMEZONE		= "yyyy-MM-dd'T'HH:mm:ss.SSS";
 	public static final String DATE_FORMAT_DAY			= "yyyy-MM-dd'T'00:00:00.000Z";
 	public static final String DATE_FORMAT_HOUR			= "yyyy-MM-dd'T'HH:00:00.000Z";
+	public static final String DATE_FORMAT_WATERMARK_LABEL	= "yyyy-MM-dd'T'HHmmssSSS";
 	public static final String DATE_INTERVAL_FORMAT	= "yyyyMMdd";
 
 
@@ -26,6 +26,7 @@ public class GSEIContInfo {
 	private String m_containerName;
 	private String m_metaFileName;
 	private String m_filterCondition;
+	private long m_rowFileSize = -1;
 
 	public GSEIContInfo(String dbName, String containerName, String metaFileName){
 		m_dbName = dbName;
@@ -50,6 +51,16 @@ public class GSEIContInfo {
 		m_filterCondition = cond;
 	}
 
+	/**
+	 * Returns the total size of the row files of the container. (-1 if unknown)
+	 */
+	public long getRowFileSize(){
+		return m_rowFileSize;
+	}
+	public void setRowFileSize(long size){
+		m_rowFileSize = size;
+	}
+
 	/**
 	 * Check if the full names of the containers match.
 	 */
@@ -94,6 +94,9 @@ public abstract class GSEIFileIO {
 	abstract boolean hasNextRow() throws GSEIException;
 	/** Get Row data */
 	abstract Row readRow(Container<?, Row> container) throws GSEIException;
+	/** Release the files kept open for reading */
+	void close(){
+	}
 
 	long m_timeFileIO;
 
@@ -135,6 +138,10 @@ public abstract class GSEIFileIO {
 		} else {
 			// Single container format
 			fileBase = encodingDbAndContainer(toolContInfo);
+			// The row file of a row key range of the container
+			if ( toolContInfo.getFileNameSuffix() != null ){
+				fileBase += toolContInfo.getFileNameSuffix();
+			}
 		}
 		toolContInfo.setFileBaseName(fileBase);
 
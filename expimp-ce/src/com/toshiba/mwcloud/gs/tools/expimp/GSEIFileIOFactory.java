@@ -31,6 +31,12 @@ public class GSEIFileIOFactory {
 			// ARCHIVE_CSV returns the same rowCsvFileIO as CSV
 			rowFile = new rowCsvFileIO(comLineInfo);
 			break;
+		case AVRO:
+			rowFile = new rowAvroFileIO(comLineInfo);
+			break;
+		case COLUMNAR:
+			rowFile = new rowColumnarFileIO(comLineInfo);
+			break;
 		}
 
 		return rowFile;
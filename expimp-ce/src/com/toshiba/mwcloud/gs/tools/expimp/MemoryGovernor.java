@@ -0,0 +1,162 @@
+/*
+    Copyright (c) 2021 TOSHIBA Digital Solutions Corporation.
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+        http://www.apache.org/licenses/LICENSE-2.0
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package com.toshiba.mwcloud.gs.tools.expimp;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Upper limit of the bytes of the rows kept in memory by all the import threads (import.memoryBudget).
+ *
+ * A thread reserves the estimated bytes of a row (CommitBatchSizer) before it keeps the row
+ * in the batch, and releases them after the batch is registered. While the budget is used up,
+ * the reservation waits.
+ *
+ * [Memo] A row larger than the budget is reserved when nothing else is reserved, so that it is
+ *   registered alone.
+ * [Memo] To avoid that all the threads wait with the rows of their batches, a thread that cannot
+ *   reserve registers its batch first (CommitBatchSizer.reserve()). A thread waits only with an
+ *   empty batch, and the bytes of the batches being registered are always released.
+ * [Memo] The chunks of a CSV row data file read ahead by CsvChunkReader are reserved by the splitter
+ *   thread (reserveAhead()). The splitter waits only while the reading thread has chunks to process,
+ *   and the rows of a chunk are already in memory, so they are reserved without waiting (forceReserve()).
+ */
+class MemoryGovernor {
+
+	/**
+	 * Budget (bytes)
+	 */
+	private final long m_budget;
+
+	/**
+	 * Reserved bytes
+	 */
+	private long m_reserved;
+
+	/**
+	 * Maximum of the reserved bytes (for the log)
+	 */
+	private long m_maxReserved;
+
+	/**
+	 * Number of the waits
+	 */
+	private long m_waitCount;
+
+	/**
+	 * Constructor
+	 *
+	 * @param budget Budget (bytes)
+	 */
+	MemoryGovernor(long budget){
+		m_budget = budget;
+	}
+
+	/**
+	 * Reserves the bytes if the budget remains.
+	 *
+	 * @param bytes Bytes
+	 * @return true: Reserved, false: The budget is used up
+	 */
+	synchronized boolean tryReserve(long bytes){
+		if ( (m_reserved > 0) && (m_reserved + bytes > m_budget) ){
+			return false;
+		}
+		m_reserved += bytes;
+		if ( m_reserved > m_maxReserved ){
+			m_maxReserved = m_reserved;
+		}
+		return true;
+	}
+
+	/**
+	 * Reserves the bytes of the data already in memory. Does not wait even if the budget is used up.
+	 *
+	 * @param bytes Bytes
+	 */
+	synchronized void forceReserve(long bytes){
+		m_reserved += bytes;
+		if ( m_reserved > m_maxReserved ){
+			m_maxReserved = m_reserved;
+		}
+	}
+
+	/**
+	 * Reserves the bytes of the data read ahead for a reading thread.
+	 * Waits until the budget remains while the reading thread has data read ahead before
+	 * (pending > 0), so that the reading thread does not wait for this thread.
+	 *
+	 * @param bytes Bytes
+	 * @param pending Bytes read ahead and not processed by the reading thread yet
+	 *                (decrease it before release() of the bytes)
+	 * @throws InterruptedException
+	 */
+	synchronized void reserveAhead(long bytes, AtomicLong pending) throws InterruptedException {
+		boolean waited = false;
+		while ( !tryReserve(bytes) ){
+			if ( pending.get() <= 0 ){
+				forceReserve(bytes);
+				return;
+			}
+			if ( !waited ){
+				m_waitCount++;
+				waited = true;
+			}
+			wait();
+		}
+	}
+
+	/**
+	 * Reserves the bytes. Waits until the budget remains.
+	 *
+	 * @param bytes Bytes
+	 * @throws InterruptedException
+	 */
+	synchronized void reserve(long bytes) throws InterruptedException {
+		if ( !tryReserve(bytes) ){
+			m_waitCount++;
+			do {
+				wait();
+			} while ( !tryReserve(bytes) );
+		}
+	}
+
+	/**
+	 * Releases the reserved bytes.
+	 *
+	 * @param bytes Bytes
+	 */
+	synchronized void release(long bytes){
+		if ( bytes <= 0 ){
+			return;
+		}
+		m_reserved = Math.max(m_reserved - bytes, 0);
+		notifyAll();
+	}
+
+	long getBudget(){
+		return m_budget;
+	}
+
+	synchronized long getReserved(){
+		return m_reserved;
+	}
+
+	synchronized long getMaxReserved(){
+		return m_maxReserved;
+	}
+
+	synchronized long getWaitCount(){
+		return m_waitCount;
+	}
+}
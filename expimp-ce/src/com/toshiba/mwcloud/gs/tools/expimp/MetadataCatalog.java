@@ -0,0 +1,377 @@
+/*
+    Copyright (c) 2021 TOSHIBA Digital Solutions Corporation.
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+        http://www.apache.org/licenses/LICENSE-2.0
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package com.toshiba.mwcloud.gs.tools.expimp;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.toshiba.mwcloud.gs.tools.common.GridDBJdbcUtils;
+import com.toshiba.mwcloud.gs.tools.common.data.ExpirationInfo;
+import com.toshiba.mwcloud.gs.tools.common.data.TablePartitionProperty;
+import com.toshiba.mwcloud.gs.tools.common.data.ToolConstants;
+
+/**
+ * Catalog of the partitioned tables and the TimeSeries containers of each database (export).
+ *
+ * The metatables (#tables, #table_partitions, #tables_stats) of a database are read with a few
+ * queries by the first thread that needs them, and the result is shared by the selection of the
+ * target containers and all the export threads. The per-container queries of the partitioning,
+ * expiration, boundary and row count information are replaced with lookups of the catalog.
+ *
+ *   #tables WHERE PARTITION_TYPE IS NOT NULL : Partitioned tables (partitioning, expiration, interval worker group)
+ *   #tables WHERE TABLE_OPTIONAL_TYPE = 'TIMESERIES' : TimeSeries containers
+ *   #table_partitions GROUP BY TABLE_NAME   : Boundary values of the interval partitioned tables (only if any)
+ *   #tables_stats                            : Row counts of the containers (only if there are TimeSeries containers)
+ *
+ * [Memo] A Database object is not changed after it is loaded, so it is read by the threads without a lock.
+ *   The catalog holds the state at the start of the export. The containers are not changed by the export.
+ * [Memo] The catalog is cleared at the end of the export (clear()).
+ */
+class MetadataCatalog {
+
+	private static final Logger log = LoggerFactory.getLogger(MetadataCatalog.class);
+
+	/**
+	 * Catalog of a database without JDBC (No partitioned tables, no TimeSeries containers in the catalog)
+	 */
+	static final Database EMPTY = new Database();
+
+	/**
+	 * Database name (lower case) => Loader
+	 */
+	private static final ConcurrentMap<String, Loader> m_loaders = new ConcurrentHashMap<String, Loader>();
+
+	/**
+	 * Returns the catalog of a database. The first call for the database loads it.
+	 *
+	 * @param cli Command parameter information
+	 * @param dbName Database name
+	 * @param conn JDBC connection of the database used to load the catalog (null: A connection is opened)
+	 * @return Catalog
+	 * @throws Exception Failed to read the metatables
+	 */
+	static Database get(commandLineInfo cli, String dbName, Connection conn) throws Exception {
+		String key = (dbName == null) ? ToolConstants.PUBLIC_DB : dbName.toLowerCase(Locale.ROOT);
+		Loader loader = m_loaders.get(key);
+		if ( loader == null ){
+			Loader newLoader = new Loader();
+			loader = m_loaders.putIfAbsent(key, newLoader);
+			if ( loader == null ){
+				loader = newLoader;
+			}
+		}
+		return loader.get(cli, dbName, conn);
+	}
+
+	/**
+	 * Discards the catalogs.
+	 */
+	static void clear(){
+		int count = 0;
+		long loadMillis = 0;
+		for ( Loader loader : m_loaders.values() ){
+			if ( loader.m_database != null ){
+				count++;
+				loadMillis += loader.m_loadMillis;
+			}
+		}
+		if ( count > 0 ){
+			log.info("Metadata catalog : databases=[" + count + "] loadTime=[" + loadMillis + "]");
+		}
+		m_loaders.clear();
+	}
+
+	/**
+	 * Loads the catalog of a database once. The threads of the other databases are not blocked.
+	 */
+	private static class Loader {
+
+		private volatile Database m_database;
+		private long m_loadMillis;
+
+		synchronized Database get(commandLineInfo cli, String dbName, Connection conn) throws Exception {
+			if ( m_database == null ){
+				long startTime = System.currentTimeMillis();
+				Connection loadConn = conn;
+				try {
+					if ( loadConn == null ){
+						loadConn = gridStoreServerIO.getJdbcConnection(cli, dbName);
+					}
+					m_database = new Database(loadConn);
+				} finally {
+					if ( (conn == null) && (loadConn != null) ){
+						try {
+							loadConn.close();
+						} catch ( Exception e ){}
+					}
+				}
+				m_loadMillis = System.currentTimeMillis() - startTime;
+				log.debug("Metadata catalog loaded: db=[" + dbName + "] partitionTables=[" + m_database.m_partitionTables.size()
+						+ "] timeSeries=[" + m_database.m_timeSeriesContainers.size() + "] time=[" + m_loadMillis + "]");
+			}
+			return m_database;
+		}
+	}
+
+	/**
+	 * Catalog of a database (immutable)
+	 */
+	static class Database {
+
+		/**
+		 * Partitioned tables
+		 */
+		private final Set<String> m_partitionTables;
+
+		/**
+		 * Interval partitioned tables whose partitioning key is TIMESTAMP
+		 */
+		private final Set<String> m_intervalPartitionTables;
+
+		/**
+		 * TimeSeries containers
+		 */
+		private final Set<String> m_timeSeriesContainers;
+
+		/**
+		 * Containers exported by the date (the interval partitioned tables whose partitioning key is TIMESTAMP, and
+		 * the TimeSeries containers that are not interval or hash partitioned tables whose partitioning key is not TIMESTAMP)
+		 */
+		private final Set<String> m_timeIntervalContainers;
+
+		/**
+		 * Table name => Partitioned table information
+		 */
+		private final Map<String, Table> m_tables;
+
+		/**
+		 * Container name => Number of rows (#tables_stats)
+		 */
+		private final Map<String, Long> m_numRows;
+
+		private Database(){
+			m_partitionTables = Collections.emptySet();
+			m_intervalPartitionTables = Collections.emptySet();
+			m_timeSeriesContainers = Collections.emptySet();
+			m_timeIntervalContainers = Collections.emptySet();
+			m_tables = Collections.emptyMap();
+			m_numRows = Collections.emptyMap();
+		}
+
+		private Database(Connection conn) throws Exception {
+			Set<String> partitionTables = new HashSet<String>();
+			Set<String> intervalPartitionTables = new HashSet<String>();
+			Set<String> notTimestampPartitionTables = new HashSet<String>();
+			Set<String> timeSeriesContainers = new HashSet<String>();
+			Map<String, Table> tables = new HashMap<String, Table>();
+			Map<String, Long> numRows = new HashMap<String, Long>();
+
+			Statement stmt = null;
+			ResultSet rs = null;
+			try {
+				stmt = conn.createStatement();
+
+				// Partitioned tables : SELECT * FROM "#tables" WHERE PARTITION_TYPE IS NOT NULL
+				rs = stmt.executeQuery(ToolConstants.STMT_SELECT_META_TABLES_PATITIONNAMES);
+				while ( rs.next() ){
+					String tableName = rs.getString(ToolConstants.META_TABLES_TABLE_NAME);
+					String partType = rs.getString(ToolConstants.META_TABLES_PARTITION_TYPE);
+					String intervalUnit = rs.getString(ToolConstants.META_TABLES_PARTITION_INTERVAL_UNIT);
+					partitionTables.add(tableName);
+					if ( ToolConstants.TABLE_PARTITION_TYPE_INTERVAL.equals(partType) && (intervalUnit != null) ){
+						intervalPartitionTables.add(tableName);
+					} else if ( (ToolConstants.TABLE_PARTITION_TYPE_INTERVAL.equals(partType)
+							|| ToolConstants.TABLE_PARTITION_TYPE_HASH.equals(partType)) && (intervalUnit == null) ){
+						notTimestampPartitionTables.add(tableName);
+					}
+
+					Table table = new Table();
+					List<TablePartitionProperty> partitionProperties = GridDBJdbcUtils.getTablePartitionProperties(rs);
+					table.m_partitionProperties = (partitionProperties == null) ? null : Collections.unmodifiableList(partitionProperties);
+					table.m_expirationInfo = GridDBJdbcUtils.getExpirationInfo(rs);
+					table.m_intervalValue = rs.getInt(ToolConstants.META_TABLES_PARTITION_INTERVAL_VALUE);
+					table.m_intervalUnit = intervalUnit;
+					if ( ToolConstants.TABLE_PARTITION_TYPE_INTERVAL.equals(partType) ){
+						// V5.4 Handling data deviation
+						Integer intervalWorkerGroup = (Integer) rs.getObject(ToolConstants.META_TABLES_INTERVAL_WORKER_GROUP);
+						Integer intervalWorkerGroupPos = (Integer) rs.getObject(ToolConstants.META_TABLES_INTERVAL_WORKER_GROUP_POS);
+						if ( (intervalWorkerGroup != null) || (intervalWorkerGroupPos != null) ){
+							table.m_intervalWorkerGroup = new Integer[]{intervalWorkerGroup, intervalWorkerGroupPos};
+						}
+					}
+					tables.put(tableName, table);
+				}
+				rs.close();
+
+				// TimeSeries containers : SELECT TABLE_NAME FROM "#tables" WHERE TABLE_OPTIONAL_TYPE = 'TIMESERIES'
+				rs = stmt.executeQuery(ToolConstants.STMT_SELECT_META_TIMESERIES_NAMES);
+				while ( rs.next() ){
+					timeSeriesContainers.add(rs.getString(ToolConstants.META_TABLES_TABLE_NAME));
+				}
+				rs.close();
+
+				// Boundary values of the interval partitioned tables
+				if ( !intervalPartitionTables.isEmpty() ){
+					rs = stmt.executeQuery(ToolConstants.STMT_SELECT_META_TABLE_PARTITIONS_BOUNDARY);
+					while ( rs.next() ){
+						Table table = tables.get(rs.getString(ToolConstants.META_TABLE_PARTITIONS_TABLE_NAME));
+						if ( table != null ){
+							table.m_boundaryMax = rs.getTimestamp("BOUNDARY_MAX");
+							table.m_boundaryMin = rs.getTimestamp("BOUNDARY_MIN");
+						}
+					}
+					rs.close();
+				}
+
+				// Row counts of the containers (also used by fetchAll for the other containers)
+				if ( !timeSeriesContainers.isEmpty() ){
+					rs = stmt.executeQuery(ToolConstants.STMT_SELECT_META_TABLES_STATS_NUM_ROWS);
+					while ( rs.next() ){
+						numRows.put(rs.getString(ToolConstants.META_TABLES_TABLE_NAME), rs.getLong("NUM_ROWS"));
+					}
+					rs.close();
+				}
+				rs = null;
+			} finally {
+				try {
+					if ( rs != null ) rs.close();
+					if ( stmt != null ) stmt.close();
+				} catch ( Exception e ){}
+			}
+
+			Set<String> timeIntervalContainers = new HashSet<String>(timeSeriesContainers);
+			timeIntervalContainers.removeAll(notTimestampPartitionTables);
+			timeIntervalContainers.addAll(intervalPartitionTables);
+
+			m_partitionTables = Collections.unmodifiableSet(partitionTables);
+			m_intervalPartitionTables = Collections.unmodifiableSet(intervalPartitionTables);
+			m_timeSeriesContainers = Collections.unmodifiableSet(timeSeriesContainers);
+			m_timeIntervalContainers = Collections.unmodifiableSet(timeIntervalContainers);
+			m_tables = Collections.unmodifiableMap(tables);
+			m_numRows = Collections.unmodifiableMap(numRows);
+		}
+
+		Set<String> getPartitionTables(){
+			return m_partitionTables;
+		}
+
+		Set<String> getIntervalPartitionTables(){
+			return m_intervalPartitionTables;
+		}
+
+		Set<String> getTimeSeriesContainers(){
+			return m_timeSeriesContainers;
+		}
+
+		Set<String> getTimeIntervalContainers(){
+			return m_timeIntervalContainers;
+		}
+
+		/**
+		 * Returns the information of a partitioned table.
+		 *
+		 * @param tableName Table name
+		 * @return Partitioned table information (null: Not a partitioned table)
+		 */
+		Table getTable(String tableName){
+			return m_tables.get(tableName);
+		}
+
+		/**
+		 * Returns the number of rows of a TimeSeries container.
+		 *
+		 * @param containerName Container name
+		 * @return Number of rows (0: Not in #tables_stats)
+		 */
+		long getNumRows(String containerName){
+			Long count = m_numRows.get(containerName);
+			return (count != null) ? count : 0;
+		}
+
+		/**
+		 * Returns whether the number of rows of a container is in #tables_stats.
+		 *
+		 * @param containerName Container name
+		 * @return true: getNumRows() returns the number of rows
+		 */
+		boolean hasNumRows(String containerName){
+			return m_numRows.containsKey(containerName);
+		}
+	}
+
+	/**
+	 * Information of a partitioned table (immutable after the catalog is loaded)
+	 */
+	static class Table {
+
+		private List<TablePartitionProperty> m_partitionProperties;
+		private ExpirationInfo m_expirationInfo;
+		private Integer[] m_intervalWorkerGroup;
+		private int m_intervalValue;
+		private String m_intervalUnit;
+		private Timestamp m_boundaryMax;
+		private Timestamp m_boundaryMin;
+
+		List<TablePartitionProperty> getPartitionProperties(){
+			return m_partitionProperties;
+		}
+
+		ExpirationInfo getExpirationInfo(){
+			return m_expirationInfo;
+		}
+
+		/**
+		 * @return {PARTITION_INTERVAL_WORKER_GROUP, PARTITION_INTERVAL_WORKER_GROUP_POSITION} (null: Not specified)
+		 */
+		Integer[] getIntervalWorkerGroup(){
+			return m_intervalWorkerGroup;
+		}
+
+		int getIntervalValue(){
+			return m_intervalValue;
+		}
+
+		String getIntervalUnit(){
+			return m_intervalUnit;
+		}
+
+		/**
+		 * @return Maximum boundary value of the interval partitions (null: No partition)
+		 */
+		Timestamp getBoundaryMax(){
+			return m_boundaryMax;
+		}
+
+		/**
+		 * @return Minimum boundary value of the interval partitions (null: No partition)
+		 */
+		Timestamp getBoundaryMin(){
+			return m_boundaryMin;
+		}
+	}
+}
@@ -0,0 +1,114 @@
+/*
+    Copyright (c) 2021 TOSHIBA Digital Solutions Corporation.
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+        http://www.apache.org/licenses/LICENSE-2.0
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package com.toshiba.mwcloud.gs.tools.expimp;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.toshiba.mwcloud.gs.Row;
+import com.toshiba.mwcloud.gs.tools.common.data.ToolContainerInfo;
+
+/**
+ * Rows of small containers waiting to be registered together by GridStore.multiPut.
+ *
+ * All the containers in a batch belong to the same database.
+ */
+class MultiPutBatch {
+
+	/**
+	 * Container in the batch
+	 */
+	static class Entry {
+		/** Container information */
+		ToolContainerInfo m_contInfo;
+		/** Number of rows */
+		long m_rowCount;
+		/** Start time of the import of the container */
+		long m_startTime;
+
+		Entry(ToolContainerInfo contInfo, long rowCount, long startTime){
+			m_contInfo = contInfo;
+			m_rowCount = rowCount;
+			m_startTime = startTime;
+		}
+	}
+
+	/**
+	 * Rows for each container name (the argument of multiPut)
+	 */
+	private Map<String, List<Row>> m_rowMap = new LinkedHashMap<String, List<Row>>();
+
+	/**
+	 * Containers in the batch
+	 */
+	private List<Entry> m_entryList = new ArrayList<Entry>();
+
+	/**
+	 * Number of rows in the batch
+	 */
+	private long m_rowCount;
+
+	/**
+	 * Adds the rows of a container.
+	 *
+	 *   The rows of a container already in the batch (e.g. the same container in
+	 *   several row data files) are appended to its pending rows.
+	 *
+	 * @param contInfo Container information
+	 * @param rowList Rows of the container
+	 * @param startTime Start time of the import of the container
+	 */
+	void add(ToolContainerInfo contInfo, List<Row> rowList, long startTime){
+		if ( rowList.size() > 0 ){
+			List<Row> pending = m_rowMap.get(contInfo.getName());
+			if ( pending == null ){
+				m_rowMap.put(contInfo.getName(), rowList);
+			} else {
+				List<Row> merged = new ArrayList<Row>(pending.size() + rowList.size());
+				merged.addAll(pending);
+				merged.addAll(rowList);
+				m_rowMap.put(contInfo.getName(), merged);
+			}
+		}
+		m_entryList.add(new Entry(contInfo, rowList.size(), startTime));
+		m_rowCount += rowList.size();
+	}
+
+	boolean isEmpty(){
+		return m_entryList.isEmpty();
+	}
+
+	long getRowCount(){
+		return m_rowCount;
+	}
+
+	Map<String, List<Row>> getRowMap(){
+		return m_rowMap;
+	}
+
+	List<Entry> getEntryList(){
+		return m_entryList;
+	}
+
+	/**
+	 * Empties the batch.
+	 */
+	void clear(){
+		m_rowMap = new LinkedHashMap<String, List<Row>>();
+		m_entryList = new ArrayList<Entry>();
+		m_rowCount = 0;
+	}
+}
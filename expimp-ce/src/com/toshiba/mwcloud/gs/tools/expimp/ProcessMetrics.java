@@ -0,0 +1,783 @@
+/*
+    Copyright (c) 2021 TOSHIBA Digital Solutions Corporation.
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+        http://www.apache.org/licenses/LICENSE-2.0
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package com.toshiba.mwcloud.gs.tools.expimp;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import javax.json.Json;
+import javax.json.stream.JsonGenerator;
+import javax.json.stream.JsonGeneratorFactory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Metrics of the export and import processing.
+ *
+ * The time of each phase is measured in nanoseconds and recorded in the latency histogram
+ * of the thread. Only the thread writes its histograms, so the recording takes no lock.
+ * The histograms of the threads are merged into the histogram of each phase when the
+ * metrics are written. The histograms of a thread started for each container are added to
+ * the metrics of its role when the thread ends (endThread()). The rows, the bytes of the row data files and the time of each
+ * phase are also summed for each container.
+ *
+ * The rows and the estimated bytes of each batch of Container.put() (CommitBatchSizer) are
+ * recorded in the same kind of histogram.
+ *
+ * The metrics are written to the file of the property "metrics.path" in JSON or Prometheus
+ * text format at the end of the command, and every "metrics.interval" seconds while the
+ * command runs. When "metrics.path" is not specified, nothing is measured.
+ */
+class ProcessMetrics {
+
+	/**
+	 * Measured phases
+	 */
+	enum Phase {
+		READ_META("readMeta"),
+		SEARCH("search"),
+		CREATE("createDrop"),
+		READ_ROW("readRow"),
+		PUT("put"),
+		INDEX("index"),
+		QUERY("query"),
+		WRITE("write");
+
+		private final String m_name;
+
+		private Phase(String name){
+			m_name = name;
+		}
+
+		String getName(){
+			return m_name;
+		}
+	}
+
+	static final String FORMAT_JSON			= "json";
+	static final String FORMAT_PROMETHEUS	= "prometheus";
+
+	private static final Logger log = LoggerFactory.getLogger(ProcessMetrics.class);
+
+	private static final Phase[] PHASES = Phase.values();
+
+	private static volatile boolean m_enabled = false;
+	private static String m_cmdName;
+	private static File m_file;
+	private static String m_format;
+	private static long m_startNanos;
+	private static Thread m_reporter;
+
+	/**
+	 * Metrics of all the threads
+	 */
+	private static final Queue<ThreadMetrics> m_threadList = new ConcurrentLinkedQueue<ThreadMetrics>();
+
+	/**
+	 * Metrics of the finished threads of each role (also included in m_threadList)
+	 */
+	private static final ConcurrentMap<String, ThreadMetrics> m_roleMap = new ConcurrentHashMap<String, ThreadMetrics>();
+
+	/**
+	 * Metrics of the current thread
+	 */
+	private static final ThreadLocal<ThreadMetrics> m_thread = new ThreadLocal<ThreadMetrics>();
+
+	/**
+	 * Container processed by the current thread
+	 */
+	private static final ThreadLocal<ContainerMetrics> m_container = new ThreadLocal<ContainerMetrics>();
+
+	/**
+	 * Finished containers
+	 */
+	private static final Queue<ContainerMetrics> m_containerList = new ConcurrentLinkedQueue<ContainerMetrics>();
+
+	/**
+	 * Lock of the metrics output (not the class lock, so finish() can wait for the reporter)
+	 */
+	private static final Object m_writeLock = new Object();
+
+	private static final AtomicLong m_rowCount = new AtomicLong();
+	private static final AtomicLong m_byteCount = new AtomicLong();
+
+	private ProcessMetrics(){}
+
+	/**
+	 * Start the measurement if the output file is specified.
+	 *
+	 * @param cli Command parameter information
+	 */
+	static synchronized void start(commandLineInfo cli){
+		if ( (cli.getMetricsPath() == null) || cli.getMetricsPath().isEmpty() ){
+			return;
+		}
+		m_cmdName = (cli.getCmdName() != null) ? cli.getCmdName() : "";
+		m_file = new File(cli.getMetricsPath());
+		m_format = cli.getMetricsFormat();
+		m_startNanos = System.nanoTime();
+		m_enabled = true;
+
+		final long intervalMillis = cli.getMetricsInterval() * 1000L;
+		if ( intervalMillis > 0 ){
+			m_reporter = new Thread("metrics-reporter"){
+				@Override
+				public void run(){
+					try {
+						while ( true ){
+							Thread.sleep(intervalMillis);
+							write();
+						}
+					} catch ( InterruptedException e ){
+						// finish()
+					}
+				}
+			};
+			m_reporter.setDaemon(true);
+			m_reporter.start();
+		}
+	}
+
+	/**
+	 * Stop the measurement and write the metrics.
+	 */
+	static synchronized void finish(){
+		if ( !m_enabled ){
+			return;
+		}
+		if ( m_reporter != null ){
+			m_reporter.interrupt();
+			try {
+				m_reporter.join();
+			} catch ( InterruptedException e ){
+				Thread.currentThread().interrupt();
+			}
+			m_reporter = null;
+		}
+		write();
+		m_enabled = false;
+	}
+
+	static boolean isEnabled(){
+		return m_enabled;
+	}
+
+	/**
+	 * Returns the start time of a phase.
+	 *
+	 * @return System.nanoTime() (0 if the measurement is not running)
+	 */
+	static long startTime(){
+		return m_enabled ? System.nanoTime() : 0;
+	}
+
+	/**
+	 * Record the time of a phase of the current thread and its container.
+	 *
+	 * @param phase Phase
+	 * @param startTime Return value of startTime()
+	 */
+	static void record(Phase phase, long startTime){
+		if ( !m_enabled ){
+			return;
+		}
+		long nanos = System.nanoTime() - startTime;
+		getThread().m_histograms[phase.ordinal()].record(nanos);
+		ContainerMetrics container = m_container.get();
+		if ( container != null ){
+			container.m_nanos.addAndGet(phase.ordinal(), nanos);
+			container.m_counts.incrementAndGet(phase.ordinal());
+		}
+	}
+
+	/**
+	 * Record the size of a batch registered by Container.put().
+	 *
+	 * @param rows Number of the rows
+	 * @param bytes Estimated size of the rows
+	 */
+	static void recordBatch(int rows, long bytes){
+		if ( !m_enabled ){
+			return;
+		}
+		ThreadMetrics thread = getThread();
+		thread.m_batchRows.record(rows);
+		thread.m_batchBytes.record(bytes);
+		ContainerMetrics container = m_container.get();
+		if ( container != null ){
+			container.m_batchCount.incrementAndGet();
+			container.m_batchBytes.addAndGet(bytes);
+		}
+	}
+
+	private static ThreadMetrics getThread(){
+		ThreadMetrics metrics = m_thread.get();
+		if ( metrics == null ){
+			metrics = new ThreadMetrics(Thread.currentThread().getName());
+			m_threadList.add(metrics);
+			m_thread.set(metrics);
+		}
+		return metrics;
+	}
+
+	/**
+	 * End the measurement of the current thread.
+	 *
+	 * The histograms of the thread are added to the metrics of the role, so the threads
+	 * started for each container (RowPutPipeline etc.) do not remain in the list of the threads.
+	 *
+	 * @param role Role of the thread
+	 */
+	static void endThread(String role){
+		ThreadMetrics metrics = m_thread.get();
+		if ( metrics == null ){
+			return;
+		}
+		m_thread.remove();
+		ThreadMetrics roleMetrics = m_roleMap.get(role);
+		if ( roleMetrics == null ){
+			ThreadMetrics newMetrics = new ThreadMetrics(role);
+			roleMetrics = m_roleMap.putIfAbsent(role, newMetrics);
+			if ( roleMetrics == null ){
+				roleMetrics = newMetrics;
+				m_threadList.add(roleMetrics);
+			}
+		}
+		synchronized ( m_writeLock ){
+			// The thread is moved to the role under the lock of the output, so it is not counted twice
+			m_threadList.remove(metrics);
+			roleMetrics.add(metrics);
+		}
+	}
+
+	/**
+	 * Start the measurement of a container in the current thread.
+	 *
+	 * @param dbName Database name
+	 * @param contName Container name
+	 */
+	static void startContainer(String dbName, String contName){
+		if ( !m_enabled ){
+			return;
+		}
+		m_container.set(new ContainerMetrics(dbName, contName));
+	}
+
+	/**
+	 * End the measurement of the container of the current thread.
+	 * (A container that ends with an error is not recorded)
+	 *
+	 * @param rowCount Number of the rows
+	 * @param byteCount Size of the row data files
+	 */
+	static void endContainer(long rowCount, long byteCount){
+		ContainerMetrics container = m_container.get();
+		m_container.remove();
+		if ( !m_enabled || (container == null) ){
+			return;
+		}
+		container.m_elapsedNanos = System.nanoTime() - container.m_startNanos;
+		container.m_rowCount = rowCount;
+		container.m_byteCount = byteCount;
+		m_containerList.add(container);
+		m_rowCount.addAndGet(rowCount);
+		m_byteCount.addAndGet(byteCount);
+	}
+
+	/**
+	 * Returns the container of the current thread.
+	 * (Handed to the threads that process the same container)
+	 *
+	 * @return Container metrics (null: none)
+	 */
+	static ContainerMetrics getContainer(){
+		return m_enabled ? m_container.get() : null;
+	}
+
+	/**
+	 * Set the container of the current thread.
+	 *
+	 * @param container Return value of getContainer() of the thread that created this thread
+	 */
+	static void setContainer(ContainerMetrics container){
+		if ( container != null ){
+			m_container.set(container);
+		}
+	}
+
+	/**
+	 * Returns the total size of the files.
+	 *
+	 * @param dirPath Directory
+	 * @param fileList File names (null: none)
+	 * @return Size (byte)
+	 */
+	static long getFileSize(String dirPath, List<String> fileList){
+		if ( !m_enabled || (fileList == null) ){
+			return 0;
+		}
+		long size = 0;
+		for ( String fileName : fileList ){
+			size += new File(dirPath, fileName).length();
+		}
+		return size;
+	}
+
+	/**
+	 * Write the metrics to the file.
+	 * The metrics are written to a temporary file and renamed, so the file is always complete.
+	 */
+	private static void write(){
+		synchronized ( m_writeLock ){
+			writeFile();
+		}
+	}
+
+	private static void writeFile(){
+		File tmpFile = new File(m_file.getPath() + ".tmp");
+		Writer writer = null;
+		try {
+			writer = new OutputStreamWriter(new FileOutputStream(tmpFile), "UTF-8");
+			if ( FORMAT_PROMETHEUS.equals(m_format) ){
+				writePrometheus(writer);
+			} else {
+				writeJson(writer);
+			}
+			writer.close();
+			writer = null;
+			Files.move(tmpFile.toPath(), m_file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} catch ( Exception e ){
+			// The processing is continued
+			log.warn("Failed to write the metrics: path=["+m_file.getAbsolutePath()+"] msg=["+e.getMessage()+"]", e);
+		} finally {
+			try {
+				if ( writer != null ) writer.close();
+			} catch ( Exception e ){}
+		}
+	}
+
+	/**
+	 * Returns the histogram of each phase merged from all the threads.
+	 */
+	private static LatencyHistogram[] mergeHistograms(){
+		LatencyHistogram[] merged = new LatencyHistogram[PHASES.length];
+		for ( int i = 0; i < PHASES.length; i++ ){
+			merged[i] = new LatencyHistogram();
+		}
+		for ( ThreadMetrics thread : m_threadList ){
+			for ( int i = 0; i < PHASES.length; i++ ){
+				merged[i].add(thread.m_histograms[i]);
+			}
+		}
+		return merged;
+	}
+
+	/**
+	 * Returns the histograms of the batch rows and bytes merged from all the threads.
+	 */
+	private static LatencyHistogram[] mergeBatchHistograms(){
+		LatencyHistogram[] merged = { new LatencyHistogram(), new LatencyHistogram() };
+		for ( ThreadMetrics thread : m_threadList ){
+			merged[0].add(thread.m_batchRows);
+			merged[1].add(thread.m_batchBytes);
+		}
+		return merged;
+	}
+
+	private static double perSecond(long count, long nanos){
+		return (nanos > 0) ? (count * 1000000000.0 / nanos) : 0;
+	}
+
+	static void writeJson(Writer writer){
+		long elapsedNanos = System.nanoTime() - m_startNanos;
+		Map<String, Object> properties = new HashMap<String, Object>();
+		properties.put(JsonGenerator.PRETTY_PRINTING, true);
+		JsonGeneratorFactory factory = Json.createGeneratorFactory(properties);
+		JsonGenerator gen = factory.createGenerator(writer);
+
+		gen.writeStartObject();
+		gen.write("command", m_cmdName);
+		gen.write("elapsedMillis", elapsedNanos / 1000000);
+		gen.write("rows", m_rowCount.get());
+		gen.write("bytes", m_byteCount.get());
+		gen.write("rowsPerSec", perSecond(m_rowCount.get(), elapsedNanos));
+		gen.write("bytesPerSec", perSecond(m_byteCount.get(), elapsedNanos));
+
+		// Phases
+		gen.writeStartObject("phases");
+		LatencyHistogram[] merged = mergeHistograms();
+		for ( int i = 0; i < PHASES.length; i++ ){
+			if ( merged[i].getCount() == 0 ) continue;
+			writeHistogramJson(gen, PHASES[i].getName(), merged[i]);
+		}
+		gen.writeEnd();
+
+		// Batches of Container.put()
+		LatencyHistogram[] batches = mergeBatchHistograms();
+		if ( batches[0].getCount() > 0 ){
+			gen.writeStartObject("commitBatch");
+			gen.write("count", batches[0].getCount());
+			writeSizeJson(gen, "rows", batches[0]);
+			writeSizeJson(gen, "bytes", batches[1]);
+			gen.writeEnd();
+		}
+
+		// Threads
+		gen.writeStartArray("threads");
+		for ( ThreadMetrics thread : m_threadList ){
+			gen.writeStartObject();
+			gen.write("name", thread.m_name);
+			gen.writeStartObject("phases");
+			for ( int i = 0; i < PHASES.length; i++ ){
+				LatencyHistogram histogram = new LatencyHistogram();
+				histogram.add(thread.m_histograms[i]);
+				if ( histogram.getCount() == 0 ) continue;
+				writeHistogramJson(gen, PHASES[i].getName(), histogram);
+			}
+			gen.writeEnd();
+			gen.writeEnd();
+		}
+		gen.writeEnd();
+
+		// Containers
+		gen.writeStartArray("containers");
+		for ( ContainerMetrics container : m_containerList ){
+			gen.writeStartObject();
+			gen.write("database", container.m_dbName);
+			gen.write("container", container.m_contName);
+			gen.write("rows", container.m_rowCount);
+			gen.write("bytes", container.m_byteCount);
+			gen.write("elapsedMillis", container.m_elapsedNanos / 1000000);
+			gen.write("rowsPerSec", perSecond(container.m_rowCount, container.m_elapsedNanos));
+			gen.write("bytesPerSec", perSecond(container.m_byteCount, container.m_elapsedNanos));
+			if ( container.m_batchCount.get() > 0 ){
+				gen.write("commitBatches", container.m_batchCount.get());
+				gen.write("commitBatchBytes", container.m_batchBytes.get());
+			}
+			gen.writeStartObject("phaseMillis");
+			for ( int i = 0; i < PHASES.length; i++ ){
+				if ( container.m_counts.get(i) == 0 ) continue;
+				gen.write(PHASES[i].getName(), container.m_nanos.get(i) / 1000000);
+			}
+			gen.writeEnd();
+			gen.writeEnd();
+		}
+		gen.writeEnd();
+
+		gen.writeEnd();
+		gen.close();
+	}
+
+	private static void writeHistogramJson(JsonGenerator gen, String name, LatencyHistogram histogram){
+		gen.writeStartObject(name);
+		gen.write("count", histogram.getCount());
+		gen.write("totalMillis", histogram.getSum() / 1000000);
+		gen.write("meanMicros", histogram.getSum() / 1000.0 / histogram.getCount());
+		gen.write("p50Micros", histogram.getPercentile(0.5) / 1000.0);
+		gen.write("p90Micros", histogram.getPercentile(0.9) / 1000.0);
+		gen.write("p99Micros", histogram.getPercentile(0.99) / 1000.0);
+		gen.write("p999Micros", histogram.getPercentile(0.999) / 1000.0);
+		gen.write("maxMicros", histogram.getMax() / 1000.0);
+		gen.writeEnd();
+	}
+
+	private static void writeSizeJson(JsonGenerator gen, String name, LatencyHistogram histogram){
+		gen.writeStartObject(name);
+		gen.write("total", histogram.getSum());
+		gen.write("mean", (double)histogram.getSum() / histogram.getCount());
+		gen.write("p50", histogram.getPercentile(0.5));
+		gen.write("p90", histogram.getPercentile(0.9));
+		gen.write("p99", histogram.getPercentile(0.99));
+		gen.write("max", histogram.getMax());
+		gen.writeEnd();
+	}
+
+	static void writePrometheus(Writer writer){
+		long elapsedNanos = System.nanoTime() - m_startNanos;
+		PrintWriter pw = new PrintWriter(writer);
+		String cmd = "command=\"" + escapeLabel(m_cmdName) + "\"";
+
+		pw.println("# HELP gs_expimp_elapsed_seconds Elapsed time of the command.");
+		pw.println("# TYPE gs_expimp_elapsed_seconds gauge");
+		pw.println("gs_expimp_elapsed_seconds{" + cmd + "} " + seconds(elapsedNanos));
+		pw.println("# HELP gs_expimp_rows_total Rows of the finished containers.");
+		pw.println("# TYPE gs_expimp_rows_total counter");
+		pw.println("gs_expimp_rows_total{" + cmd + "} " + m_rowCount.get());
+		pw.println("# HELP gs_expimp_bytes_total Row data file bytes of the finished containers.");
+		pw.println("# TYPE gs_expimp_bytes_total counter");
+		pw.println("gs_expimp_bytes_total{" + cmd + "} " + m_byteCount.get());
+		pw.println("# TYPE gs_expimp_rows_per_second gauge");
+		pw.println("gs_expimp_rows_per_second{" + cmd + "} " + perSecond(m_rowCount.get(), elapsedNanos));
+		pw.println("# TYPE gs_expimp_bytes_per_second gauge");
+		pw.println("gs_expimp_bytes_per_second{" + cmd + "} " + perSecond(m_byteCount.get(), elapsedNanos));
+
+		pw.println("# HELP gs_expimp_phase_seconds Time of each phase.");
+		pw.println("# TYPE gs_expimp_phase_seconds summary");
+		LatencyHistogram[] merged = mergeHistograms();
+		double[] quantiles = { 0.5, 0.9, 0.99, 0.999 };
+		for ( int i = 0; i < PHASES.length; i++ ){
+			LatencyHistogram histogram = merged[i];
+			if ( histogram.getCount() == 0 ) continue;
+			String labels = cmd + ",phase=\"" + PHASES[i].getName() + "\"";
+			for ( double q : quantiles ){
+				pw.println("gs_expimp_phase_seconds{" + labels + ",quantile=\"" + q + "\"} " + seconds(histogram.getPercentile(q)));
+			}
+			pw.println("gs_expimp_phase_seconds_sum{" + labels + "} " + seconds(histogram.getSum()));
+			pw.println("gs_expimp_phase_seconds_count{" + labels + "} " + histogram.getCount());
+		}
+
+		LatencyHistogram[] batches = mergeBatchHistograms();
+		if ( batches[0].getCount() > 0 ){
+			String[] names = { "gs_expimp_commit_batch_rows", "gs_expimp_commit_batch_bytes" };
+			String[] helps = { "Rows of each batch of Container.put().", "Estimated bytes of each batch of Container.put()." };
+			for ( int i = 0; i < names.length; i++ ){
+				pw.println("# HELP " + names[i] + " " + helps[i]);
+				pw.println("# TYPE " + names[i] + " summary");
+				for ( double q : quantiles ){
+					pw.println(names[i] + "{" + cmd + ",quantile=\"" + q + "\"} " + batches[i].getPercentile(q));
+				}
+				pw.println(names[i] + "_sum{" + cmd + "} " + batches[i].getSum());
+				pw.println(names[i] + "_count{" + cmd + "} " + batches[i].getCount());
+			}
+		}
+
+		pw.println("# HELP gs_expimp_thread_phase_seconds_total Time of each phase of each thread.");
+		pw.println("# TYPE gs_expimp_thread_phase_seconds_total counter");
+		for ( ThreadMetrics thread : m_threadList ){
+			for ( int i = 0; i < PHASES.length; i++ ){
+				LatencyHistogram histogram = new LatencyHistogram();
+				histogram.add(thread.m_histograms[i]);
+				if ( histogram.getCount() == 0 ) continue;
+				pw.println("gs_expimp_thread_phase_seconds_total{" + cmd + ",thread=\"" + escapeLabel(thread.m_name)
+						+ "\",phase=\"" + PHASES[i].getName() + "\"} " + seconds(histogram.getSum()));
+			}
+		}
+
+		pw.println("# HELP gs_expimp_container_rows Rows of each container.");
+		pw.println("# TYPE gs_expimp_container_rows gauge");
+		for ( ContainerMetrics container : m_containerList ){
+			pw.println("gs_expimp_container_rows{" + container.getLabels(cmd) + "} " + container.m_rowCount);
+		}
+		pw.println("# HELP gs_expimp_container_bytes Row data file bytes of each container.");
+		pw.println("# TYPE gs_expimp_container_bytes gauge");
+		for ( ContainerMetrics container : m_containerList ){
+			pw.println("gs_expimp_container_bytes{" + container.getLabels(cmd) + "} " + container.m_byteCount);
+		}
+		pw.println("# HELP gs_expimp_container_seconds Elapsed time of each container.");
+		pw.println("# TYPE gs_expimp_container_seconds gauge");
+		for ( ContainerMetrics container : m_containerList ){
+			pw.println("gs_expimp_container_seconds{" + container.getLabels(cmd) + "} " + seconds(container.m_elapsedNanos));
+		}
+		pw.println("# HELP gs_expimp_container_phase_seconds Time of each phase of each container.");
+		pw.println("# TYPE gs_expimp_container_phase_seconds gauge");
+		for ( ContainerMetrics container : m_containerList ){
+			for ( int i = 0; i < PHASES.length; i++ ){
+				if ( container.m_counts.get(i) == 0 ) continue;
+				pw.println("gs_expimp_container_phase_seconds{" + container.getLabels(cmd) + ",phase=\"" + PHASES[i].getName()
+						+ "\"} " + seconds(container.m_nanos.get(i)));
+			}
+		}
+		pw.flush();
+	}
+
+	private static String seconds(long nanos){
+		return String.format(Locale.ROOT, "%.9f", nanos / 1000000000.0);
+	}
+
+	private static String escapeLabel(String value){
+		if ( value == null ){
+			return "";
+		}
+		return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+	}
+
+	/**
+	 * Metrics of a thread
+	 */
+	private static class ThreadMetrics {
+		final String m_name;
+		final LatencyHistogram[] m_histograms = new LatencyHistogram[PHASES.length];
+		final LatencyHistogram m_batchRows = new LatencyHistogram();
+		final LatencyHistogram m_batchBytes = new LatencyHistogram();
+
+		ThreadMetrics(String name){
+			m_name = name;
+			for ( int i = 0; i < PHASES.length; i++ ){
+				m_histograms[i] = new LatencyHistogram();
+			}
+		}
+
+		/**
+		 * Add the counts of another thread.
+		 */
+		void add(ThreadMetrics other){
+			for ( int i = 0; i < PHASES.length; i++ ){
+				m_histograms[i].add(other.m_histograms[i]);
+			}
+			m_batchRows.add(other.m_batchRows);
+			m_batchBytes.add(other.m_batchBytes);
+		}
+	}
+
+	/**
+	 * Metrics of a container
+	 */
+	static class ContainerMetrics {
+		final String m_dbName;
+		final String m_contName;
+		final long m_startNanos = System.nanoTime();
+		final AtomicLongArray m_nanos = new AtomicLongArray(PHASES.length);
+		final AtomicLongArray m_counts = new AtomicLongArray(PHASES.length);
+		final AtomicLong m_batchCount = new AtomicLong();
+		final AtomicLong m_batchBytes = new AtomicLong();
+		long m_elapsedNanos;
+		long m_rowCount;
+		long m_byteCount;
+
+		ContainerMetrics(String dbName, String contName){
+			m_dbName = (dbName != null) ? dbName : "public";
+			m_contName = contName;
+		}
+
+		String getLabels(String cmd){
+			return cmd + ",database=\"" + escapeLabel(m_dbName) + "\",container=\"" + escapeLabel(m_contName) + "\"";
+		}
+	}
+
+	/**
+	 * Latency histogram (also used for the sizes of the batches).
+	 *
+	 * A value is counted in a bucket of a log-linear scale: each power of 2 is divided into
+	 * 8 sub-buckets, so the error of a percentile is less than 12.5%. Values less than 8 are exact.
+	 * record() is called only by the owner thread, and the other threads only read the counts
+	 * or add() them.
+	 */
+	static class LatencyHistogram {
+		private static final int SUB_BUCKET_BITS = 3;
+		private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+		private static final int BUCKET_COUNT = (63 - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;	// values up to Long.MAX_VALUE
+
+		private final AtomicLongArray m_buckets = new AtomicLongArray(BUCKET_COUNT);
+		private final AtomicLong m_count = new AtomicLong();
+		private final AtomicLong m_sum = new AtomicLong();
+		private final AtomicLong m_max = new AtomicLong();
+
+		static int getBucketIndex(long value){
+			if ( value < SUB_BUCKET_COUNT ){
+				return (int)Math.max(value, 0);
+			}
+			int exp = 63 - Long.numberOfLeadingZeros(value);
+			int sub = (int)((value >>> (exp - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1));
+			return (exp - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + sub;
+		}
+
+		/**
+		 * Returns the largest value counted in the bucket.
+		 */
+		static long getBucketUpperValue(int index){
+			if ( index < SUB_BUCKET_COUNT ){
+				return index;
+			}
+			int exp = index / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+			long sub = index % SUB_BUCKET_COUNT;
+			long low = (SUB_BUCKET_COUNT + sub) << (exp - SUB_BUCKET_BITS);
+			return low + (1L << (exp - SUB_BUCKET_BITS)) - 1;
+		}
+
+		/**
+		 * Record a value. (Owner thread only)
+		 */
+		void record(long value){
+			int index = getBucketIndex(value);
+			m_buckets.lazySet(index, m_buckets.get(index) + 1);
+			m_count.lazySet(m_count.get() + 1);
+			m_sum.lazySet(m_sum.get() + value);
+			if ( value > m_max.get() ){
+				m_max.lazySet(value);
+			}
+		}
+
+		/**
+		 * Add the counts of another histogram.
+		 */
+		void add(LatencyHistogram other){
+			for ( int i = 0; i < BUCKET_COUNT; i++ ){
+				long count = other.m_buckets.get(i);
+				if ( count != 0 ){
+					m_buckets.addAndGet(i, count);
+				}
+			}
+			m_count.addAndGet(other.m_count.get());
+			m_sum.addAndGet(other.m_sum.get());
+			long max = other.m_max.get();
+			long current;
+			while ( max > (current = m_max.get()) ){
+				if ( m_max.compareAndSet(current, max) ) break;
+			}
+		}
+
+		long getCount(){
+			return m_count.get();
+		}
+
+		long getSum(){
+			return m_sum.get();
+		}
+
+		long getMax(){
+			return m_max.get();
+		}
+
+		/**
+		 * Returns the value at the percentile.
+		 *
+		 * @param ratio Percentile (0.0 - 1.0)
+		 * @return Value (the upper value of the bucket, not more than the maximum value)
+		 */
+		long getPercentile(double ratio){
+			long total = 0;
+			for ( int i = 0; i < BUCKET_COUNT; i++ ){
+				total += m_buckets.get(i);
+			}
+			if ( total == 0 ){
+				return 0;
+			}
+			long target = Math.max(1, (long)Math.ceil(total * ratio));
+			long count = 0;
+			for ( int i = 0; i < BUCKET_COUNT; i++ ){
+				count += m_buckets.get(i);
+				if ( count >= target ){
+					return Math.min(getBucketUpperValue(i), getMax());
+				}
+			}
+			return getMax();
+		}
+	}
+}
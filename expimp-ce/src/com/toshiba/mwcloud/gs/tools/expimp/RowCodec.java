@@ -0,0 +1,538 @@
+/*
+    Copyright (c) 2021 TOSHIBA Digital Solutions Corporation.
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+        http://www.apache.org/licenses/LICENSE-2.0
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package com.toshiba.mwcloud.gs.tools.expimp;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.sql.Blob;
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.List;
+import java.util.ResourceBundle;
+
+import javax.sql.rowset.serial.SerialBlob;
+
+import com.toshiba.mwcloud.gs.ColumnInfo;
+import com.toshiba.mwcloud.gs.Geometry;
+import com.toshiba.mwcloud.gs.Row;
+import com.toshiba.mwcloud.gs.tools.common.data.MetaContainerFileIO;
+import com.toshiba.mwcloud.gs.tools.common.data.ToolContainerInfo;
+import com.toshiba.mwcloud.gs.tools.expimp.util.Utility;
+
+/**
+ * Schema-driven codec of the binary format row data.
+ *
+ * The column encoders/decoders are built once per container from the column list,
+ * and each row is written directly into a reusable buffer.
+ * (No ObjectOutputStream/ObjectInputStream is used for each row.)
+ *
+ * Row layout:
+ *   [NULL bitmap (ceil(columnCount/8) bytes)] [value of each non-NULL column]
+ *
+ *   BOOL/BYTE                  : 1 byte
+ *   SHORT                      : 2 bytes
+ *   INTEGER/FLOAT              : 4 bytes
+ *   LONG/DOUBLE                : 8 bytes
+ *   TIMESTAMP                  : 8 bytes (milliseconds)
+ *   TIMESTAMP(MICRO/NANO)      : 8 bytes (milliseconds) + 4 bytes (nanoseconds)
+ *   STRING/GEOMETRY            : 4 bytes (length) + UTF-8 bytes
+ *   BLOB                       : 4 bytes (length) + bytes
+ *   Array                      : 4 bytes (element count) + elements
+ *
+ * [Design memo] Files exported in the old format (Java serialization by RowSerialize) do not
+ *   have the entry header, so they are read by RowSerialize.readExternal2 as before.
+ */
+public class RowCodec {
+
+	/**
+	 * Internationalized message resource
+	 */
+	private static ResourceBundle messageResource = Utility.getResource();
+
+	/** Character code of STRING/GEOMETRY values */
+	private static final Charset CHARSET_UTF8 = Charset.forName("UTF-8");
+
+	/** Initial size of the encoding buffer */
+	private static final int INIT_BUFFER_SIZE = 1024;
+
+	/** Column codec list (generated per container) */
+	private final ColumnCodec[] m_columns;
+
+	/** NULL bitmap size (byte) */
+	private final int m_nullBitmapSize;
+
+	/** Encoding buffer (reused for every row) */
+	private ByteBuffer m_buffer;
+
+	/** Work area for decoding strings from a buffer without a backing array */
+	private byte[] m_work = new byte[INIT_BUFFER_SIZE];
+
+	/**
+	 * Constructor
+	 *
+	 * @param contInfo Container information
+	 * @throws GSEIException When a column type that cannot be processed is included
+	 */
+	public RowCodec(ToolContainerInfo contInfo) throws GSEIException {
+		List<ColumnInfo> columnInfoList = contInfo.getColumnInfoList();
+		m_columns = new ColumnCodec[columnInfoList.size()];
+		for ( int i = 0; i < m_columns.length; i++ ){
+			m_columns[i] = createColumnCodec(columnInfoList.get(i));
+			if ( m_columns[i] == null ){
+				throw new GSEIException(messageResource.getString("MESS_COMM_ERR_ROWBNY_12")
+						+": containerName=["+contInfo.getFullName()
+						+"] columnType=["+columnInfoList.get(i).getType()+"]");
+			}
+		}
+		m_nullBitmapSize = (m_columns.length + 7) / 8;
+		m_buffer = ByteBuffer.allocate(INIT_BUFFER_SIZE);
+	}
+
+	/**
+	 * Returns the entry header that indicates the row data format.
+	 *
+	 * @return Entry header (magic number and format version)
+	 */
+	public static long getEntryHeader(){
+		return GSConstants.BINARY_ROW_MAGIC | GSConstants.BINARY_ROW_FORMAT_VERSION;
+	}
+
+	/**
+	 * Checks whether the value read at the beginning of the entry is the entry header.
+	 *
+	 * [memo] In the old format, the head of the entry is a row data size, which never reaches the magic number.
+	 *
+	 * @param value The first 8 bytes of the entry
+	 * @return true:Entry header of this format / false:Old format
+	 */
+	public static boolean isEntryHeader(long value){
+		return (value & 0xFFFFFFFF00000000L) == GSConstants.BINARY_ROW_MAGIC;
+	}
+
+	/**
+	 * Encode a row into the buffer.
+	 *
+	 * @param row Row data
+	 * @return Buffer that contains the encoded row (position=0, limit=size)
+	 * @throws Exception
+	 */
+	public ByteBuffer encode(Row row) throws Exception {
+		m_buffer.clear();
+		ensure(m_nullBitmapSize);
+
+		int bitmapPos = m_buffer.position();
+		for ( int i = 0; i < m_nullBitmapSize; i++ ){
+			m_buffer.put((byte)0);
+		}
+
+		for ( int index = 0; index < m_columns.length; index++ ){
+			if ( row.isNull(index) ){
+				int p = bitmapPos + (index >>> 3);
+				m_buffer.put(p, (byte)(m_buffer.get(p) | (1 << (index & 7))));
+				continue;
+			}
+			m_columns[index].encode(this, row, index);
+		}
+		m_buffer.flip();
+		return m_buffer;
+	}
+
+	/**
+	 * Decode a row from the buffer.
+	 *
+	 * @param buf Buffer positioned at the beginning of the row data
+	 * @param row Row object to store the values
+	 * @return Row object
+	 * @throws Exception
+	 */
+	public Row decode(ByteBuffer buf, Row row) throws Exception {
+		int bitmapPos = buf.position();
+		buf.position(bitmapPos + m_nullBitmapSize);
+
+		for ( int index = 0; index < m_columns.length; index++ ){
+			if ( (buf.get(bitmapPos + (index >>> 3)) & (1 << (index & 7))) != 0 ){
+				row.setValue(index, null);
+				continue;
+			}
+			m_columns[index].decode(this, buf, row, index);
+		}
+		return row;
+	}
+
+	//----------------------------------------------------------------
+	// Buffer operation
+	//----------------------------------------------------------------
+	/**
+	 * Extends the encoding buffer if the remaining size is not enough.
+	 *
+	 * @param size Required size
+	 */
+	private void ensure(int size){
+		if ( m_buffer.remaining() < size ){
+			int newSize = Math.max(m_buffer.capacity() * 2, m_buffer.position() + size);
+			ByteBuffer newBuffer = ByteBuffer.allocate(newSize);
+			m_buffer.flip();
+			newBuffer.put(m_buffer);
+			m_buffer = newBuffer;
+		}
+	}
+
+	private void putBytes(byte[] b){
+		ensure(4 + b.length);
+		m_buffer.putInt(b.length);
+		m_buffer.put(b);
+	}
+
+	private void putString(String s){
+		putBytes(s.getBytes(CHARSET_UTF8));
+	}
+
+	private byte[] getBytes(ByteBuffer buf){
+		byte[] b = new byte[buf.getInt()];
+		buf.get(b);
+		return b;
+	}
+
+	private String getString(ByteBuffer buf){
+		int len = buf.getInt();
+		String s;
+		if ( buf.hasArray() ){
+			s = new String(buf.array(), buf.arrayOffset() + buf.position(), len, CHARSET_UTF8);
+			buf.position(buf.position() + len);
+		} else {
+			if ( m_work.length < len ){
+				m_work = new byte[Math.max(len, m_work.length * 2)];
+			}
+			buf.get(m_work, 0, len);
+			s = new String(m_work, 0, len, CHARSET_UTF8);
+		}
+		return s;
+	}
+
+	//----------------------------------------------------------------
+	// Column codec
+	//----------------------------------------------------------------
+	/**
+	 * Encoder/decoder of one column
+	 */
+	private static abstract class ColumnCodec {
+		abstract void encode(RowCodec c, Row row, int index) throws Exception;
+		abstract void decode(RowCodec c, ByteBuffer buf, Row row, int index) throws Exception;
+	}
+
+	/**
+	 * Returns the column codec corresponding to the column type.
+	 *
+	 * @param info Column information
+	 * @return Column codec (null if the type is not supported)
+	 */
+	private static ColumnCodec createColumnCodec(ColumnInfo info){
+		switch(info.getType()){
+		case BOOL:
+			return BOOL_CODEC;
+		case BYTE:
+			return BYTE_CODEC;
+		case SHORT:
+			return SHORT_CODEC;
+		case INTEGER:
+			return INTEGER_CODEC;
+		case LONG:
+			return LONG_CODEC;
+		case FLOAT:
+			return FLOAT_CODEC;
+		case DOUBLE:
+			return DOUBLE_CODEC;
+		case STRING:
+			return STRING_CODEC;
+		case TIMESTAMP:
+			return MetaContainerFileIO.isPreciseColumn(info) ? PRECISE_TIMESTAMP_CODEC : TIMESTAMP_CODEC;
+		case GEOMETRY:
+			return GEOMETRY_CODEC;
+		case BLOB:
+			return BLOB_CODEC;
+		case BOOL_ARRAY:
+			return BOOL_ARRAY_CODEC;
+		case STRING_ARRAY:
+			return STRING_ARRAY_CODEC;
+		case BYTE_ARRAY:
+			return BYTE_ARRAY_CODEC;
+		case SHORT_ARRAY:
+			return SHORT_ARRAY_CODEC;
+		case INTEGER_ARRAY:
+			return INTEGER_ARRAY_CODEC;
+		case LONG_ARRAY:
+			return LONG_ARRAY_CODEC;
+		case FLOAT_ARRAY:
+			return FLOAT_ARRAY_CODEC;
+		case DOUBLE_ARRAY:
+			return DOUBLE_ARRAY_CODEC;
+		case TIMESTAMP_ARRAY:
+			return TIMESTAMP_ARRAY_CODEC;
+		default:
+			return null;
+		}
+	}
+
+	private static final ColumnCodec BOOL_CODEC = new ColumnCodec(){
+		void encode(RowCodec c, Row row, int index) throws Exception {
+			c.ensure(1);
+			c.m_buffer.put(row.getBool(index) ? (byte)1 : (byte)0);
+		}
+		void decode(RowCodec c, ByteBuffer buf, Row row, int index) throws Exception {
+			row.setBool(index, buf.get() != 0);
+		}
+	};
+
+	private static final ColumnCodec BYTE_CODEC = new ColumnCodec(){
+		void encode(RowCodec c, Row row, int index) throws Exception {
+			c.ensure(1);
+			c.m_buffer.put(row.getByte(index));
+		}
+		void decode(RowCodec c, ByteBuffer buf, Row row, int index) throws Exception {
+			row.setByte(index, buf.get());
+		}
+	};
+
+	private static final ColumnCodec SHORT_CODEC = new ColumnCodec(){
+		void encode(RowCodec c, Row row, int index) throws Exception {
+			c.ensure(2);
+			c.m_buffer.putShort(row.getShort(index));
+		}
+		void decode(RowCodec c, ByteBuffer buf, Row row, int index) throws Exception {
+			row.setShort(index, buf.getShort());
+		}
+	};
+
+	private static final ColumnCodec INTEGER_CODEC = new ColumnCodec(){
+		void encode(RowCodec c, Row row, int index) throws Exception {
+			c.ensure(4);
+			c.m_buffer.putInt(row.getInteger(index));
+		}
+		void decode(RowCodec c, ByteBuffer buf, Row row, int index) throws Exception {
+			row.setInteger(index, buf.getInt());
+		}
+	};
+
+	private static final ColumnCodec LONG_CODEC = new ColumnCodec(){
+		void encode(RowCodec c, Row row, int index) throws Exception {
+			c.ensure(8);
+			c.m_buffer.putLong(row.getLong(index));
+		}
+		void decode(RowCodec c, ByteBuffer buf, Row row, int index) throws Exception {
+			row.setLong(index, buf.getLong());
+		}
+	};
+
+	private static final ColumnCodec FLOAT_CODEC = new ColumnCodec(){
+		void encode(RowCodec c, Row row, int index) throws Exception {
+			c.ensure(4);
+			c.m_buffer.putFloat(row.getFloat(index));
+		}
+		void decode(RowCodec c, ByteBuffer buf, Row row, int index) throws Exception {
+			row.setFloat(index, buf.getFloat());
+		}
+	};
+
+	private static final ColumnCodec DOUBLE_CODEC = new ColumnCodec(){
+		void encode(RowCodec c, Row row, int index) throws Exception {
+			c.ensure(8);
+			c.m_buffer.putDouble(row.getDouble(index));
+		}
+		void decode(RowCodec c, ByteBuffer buf, Row row, int index) throws Exception {
+			row.setDouble(index, buf.getDouble());
+		}
+	};
+
+	private static final ColumnCodec STRING_CODEC = new ColumnCodec(){
+		void encode(RowCodec c, Row row, int index) throws Exception {
+			c.putString(row.getString(index));
+		}
+		void decode(RowCodec c, ByteBuffer buf, Row row, int index) throws Exception {
+			row.setString(index, c.getString(buf));
+		}
+	};
+
+	private static final ColumnCodec TIMESTAMP_CODEC = new ColumnCodec(){
+		void encode(RowCodec c, Row row, int index) throws Exception {
+			c.ensure(8);
+			c.m_buffer.putLong(row.getTimestamp(index).getTime());
+		}
+		void decode(RowCodec c, ByteBuffer buf, Row row, int index) throws Exception {
+			row.setTimestamp(index, new Date(buf.getLong()));
+		}
+	};
+
+	private static final ColumnCodec PRECISE_TIMESTAMP_CODEC = new ColumnCodec(){
+		void encode(RowCodec c, Row row, int index) throws Exception {
+			Timestamp ts = row.getPreciseTimestamp(index);
+			c.ensure(12);
+			c.m_buffer.putLong(ts.getTime());
+			c.m_buffer.putInt(ts.getNanos());
+		}
+		void decode(RowCodec c, ByteBuffer buf, Row row, int index) throws Exception {
+			Timestamp ts = new Timestamp(buf.getLong());
+			ts.setNanos(buf.getInt());
+			row.setPreciseTimestamp(index, ts);
+		}
+	};
+
+	private static final ColumnCodec GEOMETRY_CODEC = new ColumnCodec(){
+		void encode(RowCodec c, Row row, int index) throws Exception {
+			c.putString(row.getGeometry(index).toString());	// GEOMETRY outputs as String
+		}
+		void decode(RowCodec c, ByteBuffer buf, Row row, int index) throws Exception {
+			row.setGeometry(index, Geometry.valueOf(c.getString(buf)));
+		}
+	};
+
+	private static final ColumnCodec BLOB_CODEC = new ColumnCodec(){
+		void encode(RowCodec c, Row row, int index) throws Exception {
+			Blob blob = row.getBlob(index);
+			long len = blob.length();
+			if ( len == 0 ){
+				c.ensure(4);
+				c.m_buffer.putInt(0);
+			} else {
+				c.putBytes(blob.getBytes(1, (int)len));
+			}
+		}
+		void decode(RowCodec c, ByteBuffer buf, Row row, int index) throws Exception {
+			byte[] b = c.getBytes(buf);
+			if ( b.length != 0 ){
+				row.setBlob(index, new SerialBlob(b));
+			}
+		}
+	};
+
+	private static final ColumnCodec BOOL_ARRAY_CODEC = new ColumnCodec(){
+		void encode(RowCodec c, Row row, int index) throws Exception {
+			boolean[] v = row.getBoolArray(index);
+			c.ensure(4 + v.length);
+			c.m_buffer.putInt(v.length);
+			for ( boolean e : v ) c.m_buffer.put(e ? (byte)1 : (byte)0);
+		}
+		void decode(RowCodec c, ByteBuffer buf, Row row, int index) throws Exception {
+			boolean[] v = new boolean[buf.getInt()];
+			for ( int i = 0; i < v.length; i++ ) v[i] = (buf.get() != 0);
+			row.setBoolArray(index, v);
+		}
+	};
+
+	private static final ColumnCodec STRING_ARRAY_CODEC = new ColumnCodec(){
+		void encode(RowCodec c, Row row, int index) throws Exception {
+			String[] v = row.getStringArray(index);
+			c.ensure(4);
+			c.m_buffer.putInt(v.length);
+			for ( String e : v ) c.putString(e);
+		}
+		void decode(RowCodec c, ByteBuffer buf, Row row, int index) throws Exception {
+			String[] v = new String[buf.getInt()];
+			for ( int i = 0; i < v.length; i++ ) v[i] = c.getString(buf);
+			row.setStringArray(index, v);
+		}
+	};
+
+	private static final ColumnCodec BYTE_ARRAY_CODEC = new ColumnCodec(){
+		void encode(RowCodec c, Row row, int index) throws Exception {
+			c.putBytes(row.getByteArray(index));
+		}
+		void decode(RowCodec c, ByteBuffer buf, Row row, int index) throws Exception {
+			row.setByteArray(index, c.getBytes(buf));
+		}
+	};
+
+	private static final ColumnCodec SHORT_ARRAY_CODEC = new ColumnCodec(){
+		void encode(RowCodec c, Row row, int index) throws Exception {
+			short[] v = row.getShortArray(index);
+			c.ensure(4 + v.length * 2);
+			c.m_buffer.putInt(v.length);
+			for ( short e : v ) c.m_buffer.putShort(e);
+		}
+		void decode(RowCodec c, ByteBuffer buf, Row row, int index) throws Exception {
+			short[] v = new short[buf.getInt()];
+			for ( int i = 0; i < v.length; i++ ) v[i] = buf.getShort();
+			row.setShortArray(index, v);
+		}
+	};
+
+	private static final ColumnCodec INTEGER_ARRAY_CODEC = new ColumnCodec(){
+		void encode(RowCodec c, Row row, int index) throws Exception {
+			int[] v = row.getIntegerArray(index);
+			c.ensure(4 + v.length * 4);
+			c.m_buffer.putInt(v.length);
+			for ( int e : v ) c.m_buffer.putInt(e);
+		}
+		void decode(RowCodec c, ByteBuffer buf, Row row, int index) throws Exception {
+			int[] v = new int[buf.getInt()];
+			for ( int i = 0; i < v.length; i++ ) v[i] = buf.getInt();
+			row.setIntegerArray(index, v);
+		}
+	};
+
+	private static final ColumnCodec LONG_ARRAY_CODEC = new ColumnCodec(){
+		void encode(RowCodec c, Row row, int index) throws Exception {
+			long[] v = row.getLongArray(index);
+			c.ensure(4 + v.length * 8);
+			c.m_buffer.putInt(v.length);
+			for ( long e : v ) c.m_buffer.putLong(e);
+		}
+		void decode(RowCodec c, ByteBuffer buf, Row row, int index) throws Exception {
+			long[] v = new long[buf.getInt()];
+			for ( int i = 0; i < v.length; i++ ) v[i] = buf.getLong();
+			row.setLongArray(index, v);
+		}
+	};
+
+	private static final ColumnCodec FLOAT_ARRAY_CODEC = new ColumnCodec(){
+		void encode(RowCodec c, Row row, int index) throws Exception {
+			float[] v = row.getFloatArray(index);
+			c.ensure(4 + v.length * 4);
+			c.m_buffer.putInt(v.length);
+			for ( float e : v ) c.m_buffer.putFloat(e);
+		}
+		void decode(RowCodec c, ByteBuffer buf, Row row, int index) throws Exception {
+			float[] v = new float[buf.getInt()];
+			for ( int i = 0; i < v.length; i++ ) v[i] = buf.getFloat();
+			row.setFloatArray(index, v);
+		}
+	};
+
+	private static final ColumnCodec DOUBLE_ARRAY_CODEC = new ColumnCodec(){
+		void encode(RowCodec c, Row row, int index) throws Exception {
+			double[] v = row.getDoubleArray(index);
+			c.ensure(4 + v.length * 8);
+			c.m_buffer.putInt(v.length);
+			for ( double e : v ) c.m_buffer.putDouble(e);
+		}
+		void decode(RowCodec c, ByteBuffer buf, Row row, int index) throws Exception {
+			double[] v = new double[buf.getInt()];
+			for ( int i = 0; i < v.length; i++ ) v[i] = buf.getDouble();
+			row.setDoubleArray(index, v);
+		}
+	};
+
+	private static final ColumnCodec TIMESTAMP_ARRAY_CODEC = new ColumnCodec(){
+		void encode(RowCodec c, Row row, int index) throws Exception {
+			Date[] v = row.getTimestampArray(index);
+			c.ensure(4 + v.length * 8);
+			c.m_buffer.putInt(v.length);
+			for ( Date e : v ) c.m_buffer.putLong(e.getTime());
+		}
+		void decode(RowCodec c, ByteBuffer buf, Row row, int index) throws Exception {
+			Date[] v = new Date[buf.getInt()];
+			for ( int i = 0; i < v.length; i++ ) v[i] = new Date(buf.getLong());
+			row.setTimestampArray(index, v);
+		}
+	};
+}
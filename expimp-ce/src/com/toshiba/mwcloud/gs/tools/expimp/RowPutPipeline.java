@@ -0,0 +1,274 @@
+/*
+    Copyright (c) 2021 TOSHIBA Digital Solutions Corporation.
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+        http://www.apache.org/licenses/LICENSE-2.0
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package com.toshiba.mwcloud.gs.tools.expimp;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ResourceBundle;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import com.toshiba.mwcloud.gs.Container;
+import com.toshiba.mwcloud.gs.Row;
+import com.toshiba.mwcloud.gs.tools.expimp.util.Utility;
+
+/**
+ * Asynchronous registration of the rows of a container.
+ *
+ * The reading thread hands the batches of rows with put(), and the registration thread
+ * registers them with Container.put() in the order of put(). While the number of the
+ * batches waiting in the queue is at the upper limit, put() waits.
+ *
+ * [Memo] The container object is used only by the registration thread. The reading thread creates
+ *   the rows with another container object of the same container (importProcess.getRowFactory()).
+ * [Memo] The checkpoint of a batch (--resume) is recorded by the registration thread
+ *   after the batch is registered.
+ * [Memo] The registration time of each batch is given to CommitBatchSizer by the registration thread.
+ */
+class RowPutPipeline {
+
+	/**
+	 * Internationalized message resource
+	 */
+	private static ResourceBundle messageResource = Utility.getResource();
+
+	/**
+	 * Batch of rows and its checkpoint
+	 */
+	private static class Batch {
+		List<Row> m_rows;
+		CheckpointJournal.Mark m_mark;
+		long m_bytes;
+
+		Batch(List<Row> rows, CheckpointJournal.Mark mark, long bytes){
+			m_rows = rows;
+			m_mark = mark;
+			m_bytes = bytes;
+		}
+	}
+
+	/**
+	 * Batch that shows the end of the rows
+	 */
+	private static final Batch END_OF_ROWS = new Batch(new ArrayList<Row>(0), null, 0);
+
+	/**
+	 * Container to register
+	 */
+	private Container<?, Row> m_container;
+
+	/**
+	 * Container name (for the error message)
+	 */
+	private String m_containerName;
+
+	/**
+	 * Batches waiting to be registered
+	 */
+	private BlockingQueue<Batch> m_queue;
+
+	/**
+	 * Size of the batches (null: none)
+	 */
+	private CommitBatchSizer m_batchSizer;
+
+	/**
+	 * Registration thread
+	 */
+	private Thread m_putter;
+
+	/**
+	 * Row registration time
+	 */
+	private volatile long m_timePut;
+
+	/**
+	 * Error that occurred in the registration thread
+	 */
+	private volatile GSEIException m_error;
+
+	/**
+	 * Constructor
+	 *
+	 * @param container Container to register
+	 * @param containerName Container name
+	 * @param queueSize Number of batches that can wait in the queue
+	 */
+	RowPutPipeline(Container<?, Row> container, String containerName, int queueSize){
+		this(container, containerName, queueSize, null);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param container Container to register
+	 * @param containerName Container name
+	 * @param queueSize Number of batches that can wait in the queue
+	 * @param batchSizer Size of the batches, to which the registration time is given (null: none)
+	 */
+	RowPutPipeline(Container<?, Row> container, String containerName, int queueSize, CommitBatchSizer batchSizer){
+		m_container = container;
+		m_containerName = containerName;
+		m_queue = new ArrayBlockingQueue<Batch>(queueSize);
+		m_batchSizer = batchSizer;
+	}
+
+	/**
+	 * Starts the registration thread.
+	 */
+	void start(){
+		// The time of the thread is included in the metrics of the container of this thread
+		final ProcessMetrics.ContainerMetrics metrics = ProcessMetrics.getContainer();
+		m_putter = new Thread(new Runnable(){
+			public void run(){
+				ProcessMetrics.setContainer(metrics);
+				try {
+					putAll();
+				} finally {
+					ProcessMetrics.endThread("RowPutPipeline");
+				}
+			}
+		}, "RowPutPipeline-" + Thread.currentThread().getName());
+		m_putter.setDaemon(true);
+		m_putter.start();
+	}
+
+	/**
+	 * Registration thread : registers the batches until the end of the rows.
+	 */
+	private void putAll(){
+		try {
+			while ( true ){
+				Batch batch = m_queue.take();
+				if ( batch == END_OF_ROWS ){
+					break;
+				}
+				long start = System.currentTimeMillis();
+				long startNanos = System.nanoTime();
+				long metricsStart = ProcessMetrics.startTime();
+				m_container.put(batch.m_rows);
+				ProcessMetrics.record(ProcessMetrics.Phase.PUT, metricsStart);
+				if ( m_batchSizer != null ){
+					m_batchSizer.putDone(batch.m_bytes, System.nanoTime() - startNanos);
+				}
+				m_timePut += ( System.currentTimeMillis()-start );
+				if ( batch.m_mark != null ){
+					batch.m_mark.commit();
+				}
+			}
+		} catch ( InterruptedException e ){
+			m_error = createError(e);
+		} catch ( GSEIException e ){
+			m_error = e;
+			m_queue.clear();
+		} catch ( Exception e ){
+			m_error = createError(e);
+			m_queue.clear();
+		}
+	}
+
+	private GSEIException createError(Exception e){
+		// An error occurred during the raw data import process
+		return new GSEIException(messageResource.getString("MESS_IMPORT_ERR_IMPORTPROC_33")+": containerName=["+
+				m_containerName +"] msg=["+e.getMessage()+"]", e);
+	}
+
+	/**
+	 * Hands a batch of rows to the registration thread. Waits while the queue is full.
+	 *
+	 * @param rowList Rows (must not be changed after the call)
+	 * @throws GSEIException An error occurred in the registration thread
+	 */
+	void put(List<Row> rowList) throws GSEIException {
+		put(rowList, null);
+	}
+
+	/**
+	 * Hands a batch of rows and its checkpoint to the registration thread.
+	 *
+	 * @param rowList Rows (must not be changed after the call)
+	 * @param mark Checkpoint recorded after the registration (null: none)
+	 * @throws GSEIException An error occurred in the registration thread
+	 */
+	void put(List<Row> rowList, CheckpointJournal.Mark mark) throws GSEIException {
+		put(rowList, mark, 0);
+	}
+
+	/**
+	 * Hands a batch of rows, its checkpoint and its estimated size to the registration thread.
+	 *
+	 * @param rowList Rows (must not be changed after the call)
+	 * @param mark Checkpoint recorded after the registration (null: none)
+	 * @param bytes Estimated size of the rows (CommitBatchSizer.closeBatch())
+	 * @throws GSEIException An error occurred in the registration thread
+	 */
+	void put(List<Row> rowList, CheckpointJournal.Mark mark, long bytes) throws GSEIException {
+		offer(new Batch(rowList, mark, bytes));
+	}
+
+	private void offer(Batch batch) throws GSEIException {
+		try {
+			while ( !m_queue.offer(batch, 100, TimeUnit.MILLISECONDS) ){
+				// The registration thread stopped with an error
+				if ( m_error != null ) throw m_error;
+			}
+			if ( m_error != null ) throw m_error;
+
+		} catch ( InterruptedException e ){
+			m_putter.interrupt();
+			throw createError(e);
+		}
+	}
+
+	/**
+	 * Waits until all the batches are registered.
+	 *
+	 * @throws GSEIException An error occurred in the registration thread
+	 */
+	void finish() throws GSEIException {
+		offer(END_OF_ROWS);
+		try {
+			m_putter.join();
+		} catch ( InterruptedException e ){
+			m_putter.interrupt();
+			throw createError(e);
+		}
+		if ( m_error != null ) throw m_error;
+	}
+
+	/**
+	 * Stops the registration thread without registering the remaining batches.
+	 */
+	void abort(){
+		if ( (m_putter != null) && m_putter.isAlive() ){
+			m_queue.clear();
+			m_putter.interrupt();
+			try {
+				m_putter.join();
+			} catch ( InterruptedException e ){
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	/**
+	 * Returns the row registration time.
+	 *
+	 * @return Registration time (ms)
+	 */
+	long getTimePut(){
+		return m_timePut;
+	}
+}
@@ -0,0 +1,230 @@
+/*
+    Copyright (c) 2021 TOSHIBA Digital Solutions Corporation.
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+        http://www.apache.org/licenses/LICENSE-2.0
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package com.toshiba.mwcloud.gs.tools.expimp;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ResourceBundle;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import com.toshiba.mwcloud.gs.Row;
+import com.toshiba.mwcloud.gs.tools.expimp.util.Utility;
+
+/**
+ * Pipeline that separates the row fetch and the row file write of a container.
+ *
+ * The fetching thread adds rows with put(), and the rows are handed to the writer thread
+ * in batches through a bounded queue. When the queue is full, put() waits until the writer
+ * takes a batch. (A slow disk pushes back on the fetch)
+ *
+ * startWriteContainer()/endWriteContainer() of the row file are called by the fetching thread
+ * before start() and after finish().
+ */
+class RowWritePipeline {
+
+	/**
+	 * Internationalized message resource
+	 */
+	private static ResourceBundle messageResource = Utility.getResource();
+
+	/**
+	 * Number of rows in one batch
+	 */
+	static final int BATCH_SIZE = 1000;
+
+	/**
+	 * Batch that shows the end of the rows
+	 */
+	private static final List<Row> END_OF_ROWS = new ArrayList<Row>(0);
+
+	/**
+	 * Row file object
+	 */
+	private GSEIFileIO m_rowFile;
+
+	/**
+	 * Batches waiting to be written
+	 */
+	private BlockingQueue<List<Row>> m_queue;
+
+	/**
+	 * Batch being filled by the fetching thread
+	 */
+	private List<Row> m_batch;
+
+	/**
+	 * Writer thread
+	 */
+	private Thread m_writer;
+
+	/**
+	 * Number of rows written
+	 */
+	private volatile int m_rowNum;
+
+	/**
+	 * Row file write time
+	 */
+	private volatile long m_timeWrite;
+
+	/**
+	 * Error that occurred in the writer thread
+	 */
+	private volatile GSEIException m_error;
+
+	/**
+	 * Constructor
+	 *
+	 * @param rowFile Row file object (startWriteContainer() must have been called)
+	 * @param queueSize Number of batches that can wait in the queue
+	 */
+	RowWritePipeline(GSEIFileIO rowFile, int queueSize){
+		m_rowFile = rowFile;
+		m_queue = new ArrayBlockingQueue<List<Row>>(queueSize);
+		m_batch = new ArrayList<Row>(BATCH_SIZE);
+	}
+
+	/**
+	 * Starts the writer thread.
+	 */
+	void start(){
+		// The time of the thread is included in the metrics of the container of this thread
+		final ProcessMetrics.ContainerMetrics metrics = ProcessMetrics.getContainer();
+		m_writer = new Thread(new Runnable(){
+			public void run(){
+				ProcessMetrics.setContainer(metrics);
+				try {
+					write();
+				} finally {
+					ProcessMetrics.endThread("RowWritePipeline");
+				}
+			}
+		}, "RowWritePipeline-" + Thread.currentThread().getName());
+		m_writer.setDaemon(true);
+		m_writer.start();
+	}
+
+	/**
+	 * Writer thread : writes the batches to the row file until the end of the rows.
+	 */
+	private void write(){
+		try {
+			while ( true ){
+				List<Row> batch = m_queue.take();
+				if ( batch == END_OF_ROWS ){
+					break;
+				}
+				long start = System.currentTimeMillis();
+				long metricsStart = ProcessMetrics.startTime();
+				int rowNum = m_rowNum;
+				for ( Row row : batch ){
+					m_rowFile.writeRow(row, rowNum++);
+				}
+				m_rowNum = rowNum;
+				ProcessMetrics.record(ProcessMetrics.Phase.WRITE, metricsStart);
+				m_timeWrite += ( System.currentTimeMillis()-start );
+			}
+		} catch ( GSEIException e ){
+			m_error = e;
+			m_queue.clear();
+		} catch ( InterruptedException e ){
+			m_error = new GSEIException(messageResource.getString("MESS_EXPORT_ERR_EXPORTPROC_5")
+					+ ": msg=["+ e.getMessage()+"]", e);
+		} catch ( RuntimeException e ){
+			m_error = new GSEIException(messageResource.getString("MESS_EXPORT_ERR_EXPORTPROC_5")
+					+ ": msg=["+ e.getMessage()+"]", e);
+			m_queue.clear();
+		}
+	}
+
+	/**
+	 * Adds a fetched row.
+	 *
+	 * @param row Row data
+	 * @throws GSEIException An error occurred in the writer thread
+	 */
+	void put(Row row) throws GSEIException {
+		m_batch.add(row);
+		if ( m_batch.size() >= BATCH_SIZE ){
+			enqueue(m_batch);
+			m_batch = new ArrayList<Row>(BATCH_SIZE);
+		}
+	}
+
+	/**
+	 * Hands the batch to the writer thread.  Waits while the queue is full.
+	 */
+	private void enqueue(List<Row> batch) throws GSEIException {
+		try {
+			while ( !m_queue.offer(batch, 100, TimeUnit.MILLISECONDS) ){
+				// The writer thread stopped with an error
+				if ( m_error != null ) throw m_error;
+			}
+			if ( m_error != null ) throw m_error;
+
+		} catch ( InterruptedException e ){
+			m_writer.interrupt();
+			throw new GSEIException(messageResource.getString("MESS_EXPORT_ERR_EXPORTPROC_5")
+					+ ": msg=["+ e.getMessage()+"]", e);
+		}
+	}
+
+	/**
+	 * Writes the remaining rows and waits for the end of the writer thread.
+	 *
+	 * @return Number of rows written
+	 * @throws GSEIException An error occurred in the writer thread
+	 */
+	int finish() throws GSEIException {
+		if ( m_batch.size() > 0 ){
+			enqueue(m_batch);
+			m_batch = null;
+		}
+		enqueue(END_OF_ROWS);
+		try {
+			m_writer.join();
+		} catch ( InterruptedException e ){
+			m_writer.interrupt();
+			throw new GSEIException(messageResource.getString("MESS_EXPORT_ERR_EXPORTPROC_5")
+					+ ": msg=["+ e.getMessage()+"]", e);
+		}
+		if ( m_error != null ) throw m_error;
+		return m_rowNum;
+	}
+
+	/**
+	 * Stops the writer thread without writing the remaining rows.
+	 */
+	void abort(){
+		if ( (m_writer != null) && m_writer.isAlive() ){
+			m_writer.interrupt();
+			try {
+				m_writer.join();
+			} catch ( InterruptedException e ){
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	/**
+	 * Returns the row file write time.
+	 *
+	 * @return Write time (ms)
+	 */
+	long getTimeWrite(){
+		return m_timeWrite;
+	}
+}
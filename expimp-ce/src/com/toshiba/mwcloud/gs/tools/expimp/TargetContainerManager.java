@@ -16,8 +16,9 @@ package com.toshiba.mwcloud.gs.tools.expimp;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.InputStreamReader;
-import java.sql.Connection;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -25,8 +26,10 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Queue;
 import java.util.ResourceBundle;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -109,6 +112,11 @@ public class TargetContainerManager {
 	 */
 	private Set<String> m_databaseList;
 
+	/**
+	 * Import processing queue shared by the threads (in descending order of row file size)
+	 */
+	private Queue<GSEIContInfo> m_importQueue;
+
 	/**
 	 * Returns the instance. (Singleton)
 	 * @return instance
@@ -538,6 +546,52 @@ public class TargetContainerManager {
 
 	}
 
+	/**
+	 * Create the queue of the containers to be imported in parallel.
+	 *
+	 *   Each thread takes the next container from the queue when it finishes one,
+	 *   so that a large container does not keep the containers assigned to the same thread waiting.
+	 *   The containers are arranged in descending order of the total size of the row files
+	 *   written in the meta information file. (Largest first)
+	 *
+	 * @param comLineInfo
+	 * @return Import processing queue
+	 */
+	public Queue<GSEIContInfo> createImportQueue(commandLineInfo comLineInfo){
+		List<GSEIContInfo> list = new ArrayList<GSEIContInfo>();
+		for ( List<GSEIContInfo> infoList : m_nameFileMap.values() ){
+			list.addAll(infoList);
+		}
+
+		MetaContainerFileIO mio = new MetaContainerFileIO();
+		for ( GSEIContInfo info : list ){
+			long size = 0;
+			try {
+				File file = new File(comLineInfo.getDirectoryFullPath(), info.getMetaFileName());
+				ToolContainerInfo tInfo = mio.readMetaInfo(file, info.getContainerName(), info.getDbName());
+				if ( tInfo.getContainerFileList() != null ){
+					for ( String rowFile : tInfo.getContainerFileList() ){
+						size += new File(comLineInfo.getDirectoryFullPath(), rowFile).length();
+					}
+				}
+			} catch ( Exception e ){
+				// Ignore the error in this case. (The error is reported in the import processing of the container)
+				size = -1;
+			}
+			info.setRowFileSize(size);
+		}
+
+		// Largest first (the order of the meta information file is kept for the same size)
+		Collections.sort(list, new Comparator<GSEIContInfo>(){
+			public int compare(GSEIContInfo o1, GSEIContInfo o2) {
+				return Long.compare(o2.getRowFileSize(), o1.getRowFileSize());
+			}
+		});
+
+		m_importQueue = new ConcurrentLinkedQueue<GSEIContInfo>(list);
+		return m_importQueue;
+	}
+
 	/**
 	 * Select the container to be exported.
 	 *
@@ -576,11 +630,6 @@ public class TargetContainerManager {
 			m_timeintervalcontainerMap = new HashMap<String, List<DbPartition>>();
 			Set<String> containerMap = new HashSet<String>();// A set of container names for duplicate checking
 
-			Connection conn = null;
-			Set<String> intervalPartitionTables = new HashSet<String>();
-			Set<String> intervalPartitionNotTimestampTables = new HashSet<String>();
-			Set<String> hashPartitionNotTimestampTables = new HashSet<String>();
-			Set<String> timeseriesContainers = new HashSet<String>();
 			Set<String> timeIntervalContainers = new HashSet<String>();
 
 
@@ -593,22 +642,10 @@ public class TargetContainerManager {
 					// filterfileオプションが設定されている場合は日付ごとの分割は行わない
 					// schemaOnlyオプションが設定されている場合は日付ごとの分割は行わない
 					if (!operationInfo.getFilterfileFlag() && !operationInfo.getSchemaOnlyFlag()) {
-						conn = gridStoreServerIO.getJdbcConnection(operationInfo, dbName);
-
-						intervalPartitionTables = gridStoreServerIO.getIntervalPartitionTableNames(conn);// インターバルパーティションテーブル取得　パーティショニングキーがTimestamp型
-						// 一旦TimeSeriesコンテナを一式取得して、対象外のコンテナについては以降で除外する
-						timeseriesContainers = gridStoreServerIO.getTimeSeriesContainerNames(conn);// TimeSeries取得
-					
-						// 対象TimeSeriesコンテナからインターバルパーティショニング　パーティショニングキーがTimestamp型以外を除外する
-						intervalPartitionNotTimestampTables = gridStoreServerIO.getIntervalPartitionTableNotTimestampNames(conn);// インターバルパーティショニング取得　パーティショニングキーがTimestamp型以外
-						timeseriesContainers.removeAll(intervalPartitionNotTimestampTables);
-					
-						// 対象TimeSeriesコンテナからハッシュパーティショニングテーブルを除外する
-						hashPartitionNotTimestampTables = gridStoreServerIO.getHashParitionTableNotTimestampNames(conn);// ハッシュパーティショニング取得
-						timeseriesContainers.removeAll(hashPartitionNotTimestampTables);
-					
-						timeIntervalContainers = new HashSet<String>(intervalPartitionTables);
-						timeIntervalContainers.addAll(timeseriesContainers);//タイムインターバルコンテナリスト
+						// タイムインターバルコンテナリスト (インターバルパーティショニングテーブル(パーティショニングキーがTimestamp型)と、
+						// パーティショニングキーがTimestamp型以外のインターバル・ハッシュパーティショニングテーブルを除くTimeSeriesコンテナ)
+						// メタテーブルの情報はDBごとに1回取得して、エクスポートスレッドと共有する
+						timeIntervalContainers = MetadataCatalog.get(operationInfo, dbName, null).getTimeIntervalContainers();
 					}
 					
 					PartitionController controller = gstore.getPartitionController();
@@ -646,22 +683,10 @@ public class TargetContainerManager {
 					// filterfileオプションが設定されている場合は日付ごとの分割は行わない
 					// schemaOnlyオプションが設定されている場合は日付ごとの分割は行わない
 					if (!operationInfo.getFilterfileFlag() && !operationInfo.getSchemaOnlyFlag()) {
-						conn = gridStoreServerIO.getJdbcConnection(operationInfo, dbName);
-
-						intervalPartitionTables = gridStoreServerIO.getIntervalPartitionTableNames(conn);// インターバルパーティションテーブル取得　パーティショニングキーがTimestamp型
-						// 一旦TimeSeriesコンテナを一式取得して、対象外のコンテナについては以降で除外する
-						timeseriesContainers = gridStoreServerIO.getTimeSeriesContainerNames(conn);// TimeSeries取得
-					
-						// 対象TimeSeriesコンテナからインターバルパーティショニング　パーティショニングキーがTimestamp型以外を除外する
-						intervalPartitionNotTimestampTables = gridStoreServerIO.getIntervalPartitionTableNotTimestampNames(conn);// インターバルパーティショニング取得　パーティショニングキーがTimestamp型以外
-						timeseriesContainers.removeAll(intervalPartitionNotTimestampTables);
-
-						// 対象TimeSeriesコンテナからハッシュパーティショニングテーブルを除外する
-						hashPartitionNotTimestampTables = gridStoreServerIO.getHashParitionTableNotTimestampNames(conn);// ハッシュパーティショニング取得
-						timeseriesContainers.removeAll(hashPartitionNotTimestampTables);
-
-						timeIntervalContainers = new HashSet<String>(intervalPartitionTables);
-						timeIntervalContainers.addAll(timeseriesContainers);//タイムインターバルコンテナリスト
+						// タイムインターバルコンテナリスト (インターバルパーティショニングテーブル(パーティショニングキーがTimestamp型)と、
+						// パーティショニングキーがTimestamp型以外のインターバル・ハッシュパーティショニングテーブルを除くTimeSeriesコンテナ)
+						// メタテーブルの情報はDBごとに1回取得して、エクスポートスレッドと共有する
+						timeIntervalContainers = MetadataCatalog.get(operationInfo, dbName, null).getTimeIntervalContainers();
 					}
 					
 					PartitionController controller = gstore.getPartitionController();
@@ -680,9 +705,16 @@ public class TargetContainerManager {
 								containerNames = checkRegexContainer(operationInfo, containerNames, containerMap);
 							}
 							if ( containerNames.size() > 0 ){
-								List<String> timeIntervalContainerNameList = new ArrayList<String>(timeIntervalContainers);
-								timeIntervalContainerNameList.retainAll(containerNames);//積集合(export対象のコンテナかつタイムインターバルコンテナ)
-								containerNames.removeAll(timeIntervalContainerNameList);//補集合(export対象でインターバルコンテナ以外)
+								List<String> timeIntervalContainerNameList = new ArrayList<String>();//積集合(export対象のコンテナかつタイムインターバルコンテナ)
+								List<String> normalContainerNameList = new ArrayList<String>();//補集合(export対象でインターバルコンテナ以外)
+								for ( String contName : containerNames ){
+									if ( timeIntervalContainers.contains(contName) ){
+										timeIntervalContainerNameList.add(contName);
+									} else {
+										normalContainerNameList.add(contName);
+									}
+								}
+								containerNames = normalContainerNameList;
 								if (containerNames.size() > 0) {
 									setContainerList(containerNames, operationInfo.getParallelCount()>1?controller.getOwnerHost(i).toString():"AllNode", dbName, i);
 								}
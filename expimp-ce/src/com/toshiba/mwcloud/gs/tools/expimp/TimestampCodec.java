@@ -0,0 +1,488 @@
+/*
+    Copyright (c) 2021 TOSHIBA Digital Solutions Corporation.
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+        http://www.apache.org/licenses/LICENSE-2.0
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package com.toshiba.mwcloud.gs.tools.expimp;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Date;
+import java.util.TimeZone;
+
+import com.toshiba.mwcloud.gs.TimeUnit;
+
+/**
+ * Conversion between the timestamp strings of the CSV file and the timestamp values.
+ *
+ * The strings are read and written character by character, without SimpleDateFormat,
+ * Calendar, ZonedDateTime or substrings.  The offset of the local time zone is cached
+ * for the period between two transitions.
+ *
+ * Supported strings (the others return null, and the caller converts them in the former way)
+ *   TIMESTAMP           yyyy-MM-ddTHH:mm:ss.SSS[Z|+HH:MM|+HHMM]   (T may be another character)
+ *   precise TIMESTAMP   yyyy-MM-ddTHH:mm:ss[.SSS|.SSSSSS|.SSSSSSSSS](Z|+HH:MM|+HHMM)
+ *                       yyyy-MM-dd HH:mm:ss.SSS  (UTC)
+ *   Years from 1901 to 9999.  (Before 1583, Calendar/SimpleDateFormat use the Julian calendar, and
+ *   java.util.TimeZone does not have the time zone transitions before 1900)
+ *
+ * [Memo] The object is not thread-safe. Each rowCsvFileIO has its own.
+ */
+class TimestampCodec {
+
+	private static final long MILLIS_PER_DAY = 86400000L;
+
+	/** First year supported (java.util.TimeZone has the transitions from 1900) */
+	private static final int MIN_YEAR = 1901;
+	/** Last year supported (four digits) */
+	private static final int MAX_YEAR = 9999;
+
+	private static final long MIN_MILLIS = daysFromCivil(MIN_YEAR, 1, 1) * MILLIS_PER_DAY + MILLIS_PER_DAY;
+	private static final long MAX_MILLIS = daysFromCivil(MAX_YEAR, 12, 31) * MILLIS_PER_DAY - MILLIS_PER_DAY;
+
+	/** Time zone rules of the local time zone (ZonedDateTime) */
+	private ZoneRules m_rules;
+
+	/** Local time zone (SimpleDateFormat, Calendar) */
+	private TimeZone m_timeZone;
+
+	/** Whether the offset is written as +HHMM (DATE_FORMAT_BEFORE), instead of +HH:MM/Z */
+	private boolean m_basicOffset;
+
+	/** Cached offset (ms) of the local time zone, and the period where it is valid [from, to) */
+	private int m_offset;
+	/** false: m_rules and m_timeZone have different offsets in the period (ex. local mean time) */
+	private boolean m_offsetUsable;
+	private long m_offsetFrom = Long.MAX_VALUE;
+	private long m_offsetTo = Long.MIN_VALUE;
+
+	/** Buffer for the string to write */
+	private final char[] m_buf = new char[36];
+
+	/**
+	 * Constructor
+	 *
+	 * @param basicOffset true: the offset is written as +HHMM (DATE_FORMAT_BEFORE)
+	 */
+	TimestampCodec(boolean basicOffset){
+		m_timeZone = TimeZone.getDefault();
+		m_rules = m_timeZone.toZoneId().getRules();
+		m_basicOffset = basicOffset;
+	}
+
+	boolean isBasicOffset(){
+		return m_basicOffset;
+	}
+
+	//**********************************************************************
+	// Read
+	//**********************************************************************
+	/**
+	 * Converts a TIMESTAMP string to a Date object.
+	 *
+	 * @param s String
+	 * @return Date object (null: not supported)
+	 */
+	Date parseDate(CharSequence s){
+		int len = s.length();
+		if ( (len < 23) || !isDateTime(s) || (s.charAt(19) != '.') ){
+			return null;
+		}
+		int year = digits(s, 0, 4);
+		if ( (year < MIN_YEAR) || (year > MAX_YEAR) ){
+			return null;
+		}
+		int millis = digits(s, 20, 3);
+		if ( millis < 0 ){
+			return null;
+		}
+		if ( !isInRange(s, year) ){
+			// Out of range values (ex. 2023-02-31) are converted in the former way
+			return null;
+		}
+		long local = localMillis(s, year) + millis;
+
+		if ( len == 23 ){
+			// Local time zone
+			long time = local - offset(local);
+			int offset = offset(time);
+			if ( !m_offsetUsable || !isStable(time) || ((local - offset) != time) ){
+				// Near a transition (Calendar decides the gap and the overlap)
+				return null;
+			}
+			return new Date(time);
+		}
+
+		int offset = parseOffset(s, 23);
+		if ( offset == Integer.MIN_VALUE ){
+			return null;
+		}
+		return new Date(local - offset);
+	}
+
+	/**
+	 * Converts a precise TIMESTAMP string to a Timestamp object.
+	 *
+	 * @param s String
+	 * @return Timestamp object (null: not supported)
+	 */
+	Timestamp parseTimestamp(CharSequence s){
+		int len = s.length();
+		if ( (len < 20) || !isDateTime(s) ){
+			return null;
+		}
+		int year = digits(s, 0, 4);
+		if ( (year < MIN_YEAR) || (year > MAX_YEAR) ){
+			return null;
+		}
+
+		if ( !isInRange(s, year) ){
+			// Out of range values are checked by TimestampUtils
+			return null;
+		}
+
+		int pos = 19;
+		int nanos = 0;
+		if ( s.charAt(pos) == '.' ){
+			int end = pos + 1;
+			while ( (end < len) && (s.charAt(end) >= '0') && (s.charAt(end) <= '9') ){
+				end++;
+			}
+			int num = end - pos - 1;
+			if ( (num != 3) && (num != 6) && (num != 9) ){
+				return null;
+			}
+			nanos = digits(s, pos + 1, num);
+			for ( int i = num; i < 9; i++ ){
+				nanos *= 10;
+			}
+			pos = end;
+		}
+
+		int offset;
+		if ( s.charAt(10) == ' ' ){
+			// yyyy-MM-dd HH:mm:ss.SSS compatibility (UTC)
+			if ( (len != 23) || (pos != 23) ){
+				return null;
+			}
+			offset = 0;
+		} else if ( s.charAt(10) == 'T' ){
+			offset = parseOffset(s, pos);
+			if ( offset == Integer.MIN_VALUE ){
+				return null;
+			}
+		} else {
+			return null;
+		}
+
+		long seconds = (localMillis(s, year) - offset) / 1000;
+		Timestamp ts = new Timestamp(seconds * 1000);
+		ts.setNanos(nanos);
+		return ts;
+	}
+
+	/**
+	 * Checks the separators of yyyy-MM-ddTHH:mm:ss and the digits.
+	 */
+	private static boolean isDateTime(CharSequence s){
+		return (s.charAt(4) == '-') && (s.charAt(7) == '-') && (s.charAt(13) == ':') && (s.charAt(16) == ':')
+				&& (digits(s, 5, 2) >= 0) && (digits(s, 8, 2) >= 0) && (digits(s, 11, 2) >= 0)
+				&& (digits(s, 14, 2) >= 0) && (digits(s, 17, 2) >= 0);
+	}
+
+	/**
+	 * Whether the month, day, hour, minute and second are in range.
+	 * The day is checked against the length of the month. (ex. 2023-02-29 and 2023-04-31 are out of range)
+	 */
+	private static boolean isInRange(CharSequence s, int year){
+		int month = digits(s, 5, 2);
+		int day = digits(s, 8, 2);
+		return (month >= 1) && (month <= 12) && (day >= 1) && (day <= lengthOfMonth(year, month))
+				&& (digits(s, 11, 2) < 24) && (digits(s, 14, 2) < 60) && (digits(s, 17, 2) < 60);
+	}
+
+	/**
+	 * Returns the number of days of a month. (proleptic Gregorian calendar)
+	 */
+	private static int lengthOfMonth(int year, int month){
+		switch ( month ){
+		case 2:
+			return ( ((year % 4) == 0) && (((year % 100) != 0) || ((year % 400) == 0)) ) ? 29 : 28;
+		case 4:
+		case 6:
+		case 9:
+		case 11:
+			return 30;
+		default:
+			return 31;
+		}
+	}
+
+	/**
+	 * Returns yyyy-MM-ddTHH:mm:ss as milliseconds from 1970-01-01T00:00:00 without a time zone.
+	 * The values are checked by isInRange() before.
+	 */
+	private static long localMillis(CharSequence s, int year){
+		int month = digits(s, 5, 2);
+		int day = digits(s, 8, 2);
+		int hour = digits(s, 11, 2);
+		int min = digits(s, 14, 2);
+		int sec = digits(s, 17, 2);
+		long days = daysFromCivil(year, month, 1) + (day - 1);
+		return days * MILLIS_PER_DAY + ((hour * 60L + min) * 60L + sec) * 1000L;
+	}
+
+	/**
+	 * Reads an offset. Z, +HH:MM, +HHMM
+	 *
+	 * @return Offset (ms) (Integer.MIN_VALUE: illegal)
+	 */
+	private static int parseOffset(CharSequence s, int pos){
+		int len = s.length() - pos;
+		if ( len == 1 && s.charAt(pos) == 'Z' ){
+			return 0;
+		}
+		int sign;
+		if ( (len == 6) || (len == 5) ){
+			char c = s.charAt(pos);
+			if ( c == '+' ){
+				sign = 1;
+			} else if ( c == '-' ){
+				sign = -1;
+			} else {
+				return Integer.MIN_VALUE;
+			}
+		} else {
+			return Integer.MIN_VALUE;
+		}
+		int hour = digits(s, pos + 1, 2);
+		int minPos = pos + 3;
+		if ( len == 6 ){
+			if ( s.charAt(minPos) != ':' ){
+				return Integer.MIN_VALUE;
+			}
+			minPos++;
+		}
+		int min = digits(s, minPos, 2);
+		if ( (hour < 0) || (hour > 23) || (min < 0) || (min > 59) ){
+			return Integer.MIN_VALUE;
+		}
+		return sign * (hour * 60 + min) * 60000;
+	}
+
+	/**
+	 * Reads decimal digits.
+	 *
+	 * @return Value (-1: not digits)
+	 */
+	private static int digits(CharSequence s, int pos, int num){
+		int value = 0;
+		for ( int i = pos; i < pos + num; i++ ){
+			char c = s.charAt(i);
+			if ( (c < '0') || (c > '9') ){
+				return -1;
+			}
+			value = value * 10 + (c - '0');
+		}
+		return value;
+	}
+
+	//**********************************************************************
+	// Write
+	//**********************************************************************
+	/**
+	 * Writes a TIMESTAMP value in the local time zone.  yyyy-MM-ddTHH:mm:ss.SSS+HH:MM
+	 *
+	 * @param sb Output
+	 * @param time Milliseconds from 1970-01-01T00:00:00Z
+	 * @return false: not supported (nothing is written)
+	 */
+	boolean appendDate(StringBuilder sb, long time){
+		int len = format(time, 0, TimeUnit.MILLISECOND, m_basicOffset);
+		if ( len < 0 ){
+			return false;
+		}
+		sb.append(m_buf, 0, len);
+		return true;
+	}
+
+	/**
+	 * Returns the string of a TIMESTAMP value in the local time zone.
+	 *
+	 * @param time Milliseconds from 1970-01-01T00:00:00Z
+	 * @return String (null: not supported)
+	 */
+	String formatDate(long time){
+		int len = format(time, 0, TimeUnit.MILLISECOND, m_basicOffset);
+		if ( len < 0 ){
+			return null;
+		}
+		return new String(m_buf, 0, len);
+	}
+
+	/**
+	 * Returns the string of a precise TIMESTAMP value in the local time zone.
+	 * The number of digits of the fraction is that of the precision. (MetaContainerFileIO.getDateTimeFormatter)
+	 *
+	 * @param ts Timestamp
+	 * @param precision MILLISECOND, MICROSECOND, NANOSECOND
+	 * @return String (null: not supported)
+	 */
+	String formatTimestamp(Timestamp ts, TimeUnit precision){
+		int nanos = ts.getNanos();
+		long time = Math.floorDiv(ts.getTime(), 1000) * 1000 + nanos / 1000000;
+		int len = format(time, nanos, precision, false);
+		if ( len < 0 ){
+			return null;
+		}
+		return new String(m_buf, 0, len);
+	}
+
+	/**
+	 * Writes the string to m_buf.
+	 *
+	 * @return Length (-1: not supported)
+	 */
+	private int format(long time, int nanos, TimeUnit precision, boolean basicOffset){
+		if ( (time < MIN_MILLIS) || (time > MAX_MILLIS) ){
+			return -1;
+		}
+		int offset = offset(time);
+		if ( !m_offsetUsable || ((offset % 60000) != 0) ){
+			// Offset with seconds (local mean time)
+			return -1;
+		}
+		long local = time + offset;
+		long days = Math.floorDiv(local, MILLIS_PER_DAY);
+		int msOfDay = (int)(local - days * MILLIS_PER_DAY);
+
+		// Civil date from the days (H. Hinnant's algorithm)
+		long z = days + 719468;
+		long era = Math.floorDiv(z, 146097);
+		int doe = (int)(z - era * 146097);
+		int yoe = (doe - doe/1460 + doe/36524 - doe/146096) / 365;
+		int doy = doe - (365*yoe + yoe/4 - yoe/100);
+		int mp = (5*doy + 2) / 153;
+		int day = doy - (153*mp + 2)/5 + 1;
+		int month = mp < 10 ? mp + 3 : mp - 9;
+		int year = (int)(yoe + era * 400) + (month <= 2 ? 1 : 0);
+
+		char[] b = m_buf;
+		put(b, 0, year, 4);
+		b[4] = '-';
+		put(b, 5, month, 2);
+		b[7] = '-';
+		put(b, 8, day, 2);
+		b[10] = 'T';
+		put(b, 11, msOfDay / 3600000, 2);
+		b[13] = ':';
+		put(b, 14, (msOfDay / 60000) % 60, 2);
+		b[16] = ':';
+		put(b, 17, (msOfDay / 1000) % 60, 2);
+		b[19] = '.';
+		int pos;
+		switch ( precision ){
+		case MICROSECOND:
+			put(b, 20, nanos / 1000, 6);
+			pos = 26;
+			break;
+		case NANOSECOND:
+			put(b, 20, nanos, 9);
+			pos = 29;
+			break;
+		default:
+			put(b, 20, msOfDay % 1000, 3);
+			pos = 23;
+			break;
+		}
+
+		int offsetMin = offset / 60000;
+		if ( (offsetMin == 0) && !basicOffset ){
+			b[pos++] = 'Z';
+			return pos;
+		}
+		if ( offsetMin < 0 ){
+			b[pos++] = '-';
+			offsetMin = -offsetMin;
+		} else {
+			b[pos++] = '+';
+		}
+		put(b, pos, offsetMin / 60, 2);
+		pos += 2;
+		if ( !basicOffset ){
+			b[pos++] = ':';
+		}
+		put(b, pos, offsetMin % 60, 2);
+		return pos + 2;
+	}
+
+	private static void put(char[] b, int pos, int value, int num){
+		for ( int i = pos + num - 1; i >= pos; i-- ){
+			b[i] = (char)('0' + (value % 10));
+			value /= 10;
+		}
+	}
+
+	//**********************************************************************
+	// Time zone
+	//**********************************************************************
+	/**
+	 * Returns the offset (ms) of the local time zone at the time.
+	 */
+	private int offset(long time){
+		if ( (time >= m_offsetFrom) && (time < m_offsetTo) ){
+			return m_offset;
+		}
+		if ( m_rules.isFixedOffset() ){
+			m_offset = m_rules.getOffset(Instant.EPOCH).getTotalSeconds() * 1000;
+			m_offsetUsable = (m_offset == m_timeZone.getOffset(time));
+			m_offsetFrom = Long.MIN_VALUE;
+			m_offsetTo = Long.MAX_VALUE;
+			return m_offset;
+		}
+		Instant instant = Instant.ofEpochMilli(time);
+		m_offset = m_rules.getOffset(instant).getTotalSeconds() * 1000;
+		m_offsetUsable = (m_offset == m_timeZone.getOffset(time));
+		ZoneOffsetTransition prev = m_rules.previousTransition(instant);
+		ZoneOffsetTransition next = m_rules.nextTransition(instant);
+		m_offsetFrom = (prev == null) ? Long.MIN_VALUE : Math.min(prev.getInstant().toEpochMilli(), time);
+		m_offsetTo = (next == null) ? Long.MAX_VALUE : next.getInstant().toEpochMilli();
+		return m_offset;
+	}
+
+	/**
+	 * Whether the offset does not change within a day of the time.
+	 */
+	private boolean isStable(long time){
+		offset(time);
+		return (m_offsetFrom == Long.MIN_VALUE || (time - MILLIS_PER_DAY >= m_offsetFrom))
+				&& (m_offsetTo == Long.MAX_VALUE || (time + MILLIS_PER_DAY < m_offsetTo));
+	}
+
+	/**
+	 * Returns the number of days from 1970-01-01. (proleptic Gregorian calendar)
+	 * The month out of range is carried over to the year.
+	 */
+	private static long daysFromCivil(int year, int month, int day){
+		long y = year + Math.floorDiv(month - 1, 12);
+		int m = Math.floorMod(month - 1, 12) + 1;
+		if ( m <= 2 ){
+			y--;
+		}
+		long era = Math.floorDiv(y, 400);
+		int yoe = (int)(y - era * 400);
+		int doy = (153 * (m > 2 ? m - 3 : m + 9) + 2) / 5 + day - 1;
+		int doe = yoe * 365 + yoe/4 - yoe/100 + doy;
+		return era * 146097 + doe - 719468;
+	}
+}
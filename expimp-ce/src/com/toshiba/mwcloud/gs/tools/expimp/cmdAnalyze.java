@@ -491,6 +491,19 @@ public class cmdAnalyze {
 				optionMsg += " --force";
 			}
 
+			// BOTH EXPORT IMPORT
+			// 中断したエクスポート・インポートをチェックポイントジャーナルから再開する
+			if (commandLine.hasOption("resume")) {
+				if (commandLine.hasOption("out")) {
+					// "[--resume]と[--out]は同時に設定できません"
+					sysoutString(messageResource.getString("MESS_COMM_ERR_CMD_62"));
+					log.warn(messageResource.getString("MESS_COMM_ERR_CMD_62"));
+					return null;
+				}
+				cli.setResumeFlag(true);
+				optionMsg += " --resume";
+			}
+
 			// BOTH EXPORT IMPORT
 			// エクスポートでファイル出力する期間intervalsを設定する
 			// インポートでファイル入力する期間intervalsを設定する
@@ -624,6 +637,30 @@ public class cmdAnalyze {
 					}
 				}
 
+				// EXPORT ONLY  (Avro mode)
+				if (commandLine.hasOption("avro")){
+					// Only the single container format is supported
+					if ( commandLine.hasOption("binary") || cli.getOutFlag() ){
+						sysoutString(messageResource.getString("MESS_COMM_ERR_CMD_60"));
+						log.warn(messageResource.getString("MESS_COMM_ERR_CMD_60"));
+						return null;
+					}
+					cli.setRowFileType(RowFileType.AVRO);
+					optionMsg +=" --avro";
+				}
+
+				// EXPORT ONLY  (Columnar block mode)
+				if (commandLine.hasOption("columnar")){
+					// Only the single container format is supported
+					if ( commandLine.hasOption("binary") || commandLine.hasOption("avro") || cli.getOutFlag() ){
+						sysoutString(messageResource.getString("MESS_COMM_ERR_CMD_61"));
+						log.warn(messageResource.getString("MESS_COMM_ERR_CMD_61"));
+						return null;
+					}
+					cli.setRowFileType(RowFileType.COLUMNAR);
+					optionMsg +=" --columnar";
+				}
+
 				// EXPORT ONLY Parallel number
 				if (commandLine.hasOption("parallel")){
 					boolean sts = true;
@@ -660,6 +697,12 @@ public class cmdAnalyze {
 					optionMsg +=" --schemaOnly";
 				}
 
+				// EXPORT ONLY Export only rows newer than the previous export result
+				if (commandLine.hasOption("incremental")) {
+					cli.setIncrementalFlag(true);
+					optionMsg +=" --incremental";
+				}
+
 			// Import-only option check
 			} else if (cmdString == CMD_NAME.GS_IMPORT) {
 
@@ -831,6 +874,18 @@ public class cmdAnalyze {
 			OptionBuilder.withLongOpt("out");
 			opt.addOption(OptionBuilder.create());
 
+			// --avro
+			OptionBuilder.isRequired(false);
+			OptionBuilder.withDescription("Avro File Mode");
+			OptionBuilder.withLongOpt("avro");
+			opt.addOption(OptionBuilder.create());
+
+			// --columnar
+			OptionBuilder.isRequired(false);
+			OptionBuilder.withDescription("Columnar Block File Mode");
+			OptionBuilder.withLongOpt("columnar");
+			opt.addOption(OptionBuilder.create());
+
 			// --filterfilename filename
 			OptionBuilder.hasArgs(1);
 			OptionBuilder.withArgName("filterfilename");
@@ -873,6 +928,11 @@ public class cmdAnalyze {
 			OptionBuilder.withLongOpt("force");
 			opt.addOption(OptionBuilder.create());
 
+			OptionBuilder.isRequired(false);
+			OptionBuilder.withDescription("Resume Mode");
+			OptionBuilder.withLongOpt("resume");
+			opt.addOption(OptionBuilder.create());
+
 			OptionBuilder.isRequired(false);
 			OptionBuilder.withDescription("Display Tool Version");
 			OptionBuilder.withLongOpt("version");
@@ -894,6 +954,11 @@ public class cmdAnalyze {
 			OptionBuilder.withDescription("Export no data");
 			OptionBuilder.withLongOpt("schemaOnly");
 			opt.addOption(OptionBuilder.create());
+
+			OptionBuilder.isRequired(false);
+			OptionBuilder.withDescription("Incremental Export");
+			OptionBuilder.withLongOpt("incremental");
+			opt.addOption(OptionBuilder.create());
 			
 			OptionBuilder.hasArgs(1);
 			OptionBuilder.withArgName("intervals...");
@@ -1021,6 +1086,11 @@ public class cmdAnalyze {
 			OptionBuilder.withLongOpt("force");
 			opt.addOption(OptionBuilder.create());
 
+			OptionBuilder.isRequired(false);
+			OptionBuilder.withDescription("Resume Mode");
+			OptionBuilder.withLongOpt("resume");
+			opt.addOption(OptionBuilder.create());
+
 			OptionBuilder.isRequired(false);
 			OptionBuilder.withDescription("Display Tool Version");
 			OptionBuilder.withLongOpt("version");
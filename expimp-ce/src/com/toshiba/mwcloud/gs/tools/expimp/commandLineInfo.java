@@ -313,6 +313,16 @@ public class commandLineInfo /*implements commandLineInfo_Reader */{
 	 * インターバル指定
 	 */
 	private Date[] intervals;
+
+	/**
+	 * インクリメンタルエクスポートフラグ[Export]
+	 */
+	private boolean incremental_flag;
+
+	/**
+	 * 中断した処理の再開フラグ[Export/Import]
+	 */
+	private boolean resume_flag;
 	
 	private int m_parallelInputCount = -1;
 	private int m_parallelOutputCount = -1;
@@ -324,6 +334,110 @@ public class commandLineInfo /*implements commandLineInfo_Reader */{
 	
 	private int m_progress = 0;
 
+	/**
+	 * Write buffer size of CSV row data file (Byte)   [propertyFile]
+	 *   0: Flush every row
+	 */
+	private int m_csvWriteBufferSize = GSConstants.CSV_WRITE_BUFFER_SIZE;
+
+	/**
+	 * Number of threads to import one container   [propertyFile]
+	 *   (The row files of the container are divided among the threads. 1: Not divided)
+	 */
+	private int m_importContainerThreadNum = 1;
+
+	/**
+	 * Number of threads to export one container   [propertyFile]
+	 *   (The container is divided into the row key ranges. 1: Not divided)
+	 */
+	private int m_exportContainerThreadNum = 1;
+
+	/**
+	 * Number of row batches waiting between the fetch and the row file write   [propertyFile]
+	 *   (0: The fetch and the write are performed by the same thread)
+	 */
+	private int m_exportPipelineQueueSize = 0;
+
+	/**
+	 * Number of row batches (commitCount rows) waiting to be registered   [propertyFile]
+	 *   (0: The row file read and the registration are performed by the same thread)
+	 */
+	private int m_importPutQueueSize = 0;
+
+	/**
+	 * Upper limit of the row file size (bytes) of the containers registered together by multiPut   [propertyFile]
+	 *   (0: Each container is registered separately)
+	 */
+	private long m_importMultiPutFileSize = 0;
+
+	/**
+	 * Number of containers searched together by fetchAll on export   [propertyFile]
+	 *   (0: Each container is searched separately)
+	 */
+	private int m_exportFetchAllContainerNum = 0;
+
+	/**
+	 * Upper limit of the rows of a container searched by fetchAll on export   [propertyFile]
+	 *   (A container with more rows is searched again separately with partial execution)
+	 */
+	private int m_exportFetchAllMaxRows = 10000;
+
+	/**
+	 * Number of threads to parse one CSV row data file on import   [propertyFile]
+	 *   (The file is divided into chunks of rows. 1: Not divided)
+	 */
+	private int m_importCsvParseThreadNum = 1;
+
+	/**
+	 * Size the batches of the registration by the estimated bytes and the registration time   [propertyFile]
+	 *   (false: A batch is commitCount rows)
+	 */
+	private boolean m_importAdaptiveCommit = false;
+
+	/**
+	 * Lower limit of the estimated bytes of a batch (import.adaptiveCommit)   [propertyFile]
+	 */
+	private long m_importAdaptiveCommitMinBytes = 64L * 1024;
+
+	/**
+	 * Upper limit of the estimated bytes of a batch (import.adaptiveCommit)   [propertyFile]
+	 */
+	private long m_importAdaptiveCommitMaxBytes = 16L * 1024 * 1024;
+
+	/**
+	 * Registration time of a batch (ms) up to which the batch is enlarged (import.adaptiveCommit)   [propertyFile]
+	 */
+	private long m_importAdaptiveCommitTargetMillis = 500;
+
+	/**
+	 * Upper limit of the estimated bytes of the rows kept in memory by all the import threads   [propertyFile]
+	 *   (0: No limit)
+	 */
+	private long m_importMemoryBudget = 0;
+
+	/**
+	 * Output file of the processing metrics   [propertyFile]
+	 *   (null: The metrics are not measured)
+	 */
+	private String m_metricsPath = null;
+
+	/**
+	 * Format of the processing metrics (json / prometheus)   [propertyFile]
+	 */
+	private String m_metricsFormat = ProcessMetrics.FORMAT_JSON;
+
+	/**
+	 * Interval of writing the processing metrics while the command runs (seconds)   [propertyFile]
+	 *   (0: Written only at the end)
+	 */
+	private int m_metricsInterval = 0;
+
+	/**
+	 * Pool of the connections shared by the threads   [propertyFile]
+	 *   (null: Each thread connects and closes)
+	 */
+	private ConnectionPool m_connectionPool = null;
+
 
 
 	/**
@@ -1172,6 +1286,42 @@ public class commandLineInfo /*implements commandLineInfo_Reader */{
 		return schema_only_flag;
 	}
 
+	/**
+	 * [--incremental] flag setting method
+	 *
+	 * @param arg boolean Flag value
+	 */
+	public void setIncrementalFlag(boolean arg) {
+		this.incremental_flag = arg;
+	}
+
+	/**
+	 * [--incremental] Flag setting acquisition method
+	 *
+	 * @return true-with settings, false-without settings
+	 */
+	public boolean getIncrementalFlag() {
+		return incremental_flag;
+	}
+
+	/**
+	 * [--resume] flag setting method
+	 *
+	 * @param arg boolean Flag value
+	 */
+	public void setResumeFlag(boolean arg) {
+		this.resume_flag = arg;
+	}
+
+	/**
+	 * [--resume] Flag setting acquisition method
+	 *
+	 * @return true-with settings, false-without settings
+	 */
+	public boolean getResumeFlag() {
+		return resume_flag;
+	}
+
 	/**
 	 * インターバルを設定する。
 	 *
@@ -1299,6 +1449,330 @@ public class commandLineInfo /*implements commandLineInfo_Reader */{
 		m_progress = progress;
 	}
 
+	/**
+	 * Get the write buffer size of CSV row data file
+	 *
+	 * @return The write buffer size (Byte)
+	 */
+	public int getCsvWriteBufferSize() {
+		return m_csvWriteBufferSize;
+	}
+
+	/**
+	 * Set the write buffer size of CSV row data file
+	 *
+	 * @param csvWriteBufferSize The write buffer size (Byte)
+	 */
+	public void setCsvWriteBufferSize(int csvWriteBufferSize) {
+		m_csvWriteBufferSize = csvWriteBufferSize;
+	}
+
+	/**
+	 * Get the number of threads to import one container
+	 *
+	 * @return The number of threads
+	 */
+	public int getImportContainerThreadNum() {
+		return m_importContainerThreadNum;
+	}
+
+	/**
+	 * Set the number of threads to import one container
+	 *
+	 * @param importContainerThreadNum The number of threads
+	 */
+	public void setImportContainerThreadNum(int importContainerThreadNum) {
+		m_importContainerThreadNum = importContainerThreadNum;
+	}
+
+	/**
+	 * Get the number of threads to export one container
+	 *
+	 * @return The number of threads
+	 */
+	public int getExportContainerThreadNum() {
+		return m_exportContainerThreadNum;
+	}
+
+	/**
+	 * Set the number of threads to export one container
+	 *
+	 * @param exportContainerThreadNum The number of threads
+	 */
+	public void setExportContainerThreadNum(int exportContainerThreadNum) {
+		m_exportContainerThreadNum = exportContainerThreadNum;
+	}
+
+	/**
+	 * Get the queue size of the export pipeline
+	 *
+	 * @return The number of row batches (0: Not used)
+	 */
+	public int getExportPipelineQueueSize() {
+		return m_exportPipelineQueueSize;
+	}
+
+	/**
+	 * Set the queue size of the export pipeline
+	 *
+	 * @param exportPipelineQueueSize The number of row batches (0: Not used)
+	 */
+	public void setExportPipelineQueueSize(int exportPipelineQueueSize) {
+		m_exportPipelineQueueSize = exportPipelineQueueSize;
+	}
+
+	/**
+	 * Get the queue size of the asynchronous registration on import
+	 *
+	 * @return The number of row batches (0: Not used)
+	 */
+	public int getImportPutQueueSize() {
+		return m_importPutQueueSize;
+	}
+
+	/**
+	 * Set the queue size of the asynchronous registration on import
+	 *
+	 * @param importPutQueueSize The number of row batches (0: Not used)
+	 */
+	public void setImportPutQueueSize(int importPutQueueSize) {
+		m_importPutQueueSize = importPutQueueSize;
+	}
+
+	/**
+	 * Get the upper limit of the row file size of the containers registered by multiPut
+	 *
+	 * @return The row file size (bytes) (0: Not used)
+	 */
+	public long getImportMultiPutFileSize() {
+		return m_importMultiPutFileSize;
+	}
+
+	/**
+	 * Set the upper limit of the row file size of the containers registered by multiPut
+	 *
+	 * @param importMultiPutFileSize The row file size (bytes) (0: Not used)
+	 */
+	public void setImportMultiPutFileSize(long importMultiPutFileSize) {
+		m_importMultiPutFileSize = importMultiPutFileSize;
+	}
+
+	/**
+	 * Get the number of containers searched together by fetchAll
+	 *
+	 * @return The number of containers (0: Not used)
+	 */
+	public int getExportFetchAllContainerNum() {
+		return m_exportFetchAllContainerNum;
+	}
+
+	/**
+	 * Set the number of containers searched together by fetchAll
+	 *
+	 * @param exportFetchAllContainerNum The number of containers (0: Not used)
+	 */
+	public void setExportFetchAllContainerNum(int exportFetchAllContainerNum) {
+		m_exportFetchAllContainerNum = exportFetchAllContainerNum;
+	}
+
+	/**
+	 * Get the upper limit of the rows of a container searched by fetchAll
+	 *
+	 * @return The number of rows
+	 */
+	public int getExportFetchAllMaxRows() {
+		return m_exportFetchAllMaxRows;
+	}
+
+	/**
+	 * Set the upper limit of the rows of a container searched by fetchAll
+	 *
+	 * @param exportFetchAllMaxRows The number of rows
+	 */
+	public void setExportFetchAllMaxRows(int exportFetchAllMaxRows) {
+		m_exportFetchAllMaxRows = exportFetchAllMaxRows;
+	}
+
+	/**
+	 * Get the number of threads to parse one CSV row data file
+	 *
+	 * @return The number of threads (1: Not parallel)
+	 */
+	public int getImportCsvParseThreadNum() {
+		return m_importCsvParseThreadNum;
+	}
+
+	/**
+	 * Set the number of threads to parse one CSV row data file
+	 *
+	 * @param importCsvParseThreadNum The number of threads (1: Not parallel)
+	 */
+	public void setImportCsvParseThreadNum(int importCsvParseThreadNum) {
+		m_importCsvParseThreadNum = importCsvParseThreadNum;
+	}
+
+	/**
+	 * Get whether the batches of the registration are sized adaptively
+	 *
+	 * @return true: By the estimated bytes and the registration time, false: commitCount rows
+	 */
+	public boolean getImportAdaptiveCommit() {
+		return m_importAdaptiveCommit;
+	}
+
+	/**
+	 * Set whether the batches of the registration are sized adaptively
+	 *
+	 * @param importAdaptiveCommit true: By the estimated bytes and the registration time, false: commitCount rows
+	 */
+	public void setImportAdaptiveCommit(boolean importAdaptiveCommit) {
+		m_importAdaptiveCommit = importAdaptiveCommit;
+	}
+
+	/**
+	 * Get the lower limit of the estimated bytes of a batch
+	 *
+	 * @return Bytes
+	 */
+	public long getImportAdaptiveCommitMinBytes() {
+		return m_importAdaptiveCommitMinBytes;
+	}
+
+	/**
+	 * Set the lower limit of the estimated bytes of a batch
+	 *
+	 * @param importAdaptiveCommitMinBytes Bytes
+	 */
+	public void setImportAdaptiveCommitMinBytes(long importAdaptiveCommitMinBytes) {
+		m_importAdaptiveCommitMinBytes = importAdaptiveCommitMinBytes;
+	}
+
+	/**
+	 * Get the upper limit of the estimated bytes of a batch
+	 *
+	 * @return Bytes
+	 */
+	public long getImportAdaptiveCommitMaxBytes() {
+		return m_importAdaptiveCommitMaxBytes;
+	}
+
+	/**
+	 * Set the upper limit of the estimated bytes of a batch
+	 *
+	 * @param importAdaptiveCommitMaxBytes Bytes
+	 */
+	public void setImportAdaptiveCommitMaxBytes(long importAdaptiveCommitMaxBytes) {
+		m_importAdaptiveCommitMaxBytes = importAdaptiveCommitMaxBytes;
+	}
+
+	/**
+	 * Get the target registration time of a batch
+	 *
+	 * @return Time (ms)
+	 */
+	public long getImportAdaptiveCommitTargetMillis() {
+		return m_importAdaptiveCommitTargetMillis;
+	}
+
+	/**
+	 * Set the target registration time of a batch
+	 *
+	 * @param importAdaptiveCommitTargetMillis Time (ms)
+	 */
+	public void setImportAdaptiveCommitTargetMillis(long importAdaptiveCommitTargetMillis) {
+		m_importAdaptiveCommitTargetMillis = importAdaptiveCommitTargetMillis;
+	}
+
+	/**
+	 * Get the upper limit of the bytes of the rows kept in memory on import
+	 *
+	 * @return Bytes (0: No limit)
+	 */
+	public long getImportMemoryBudget() {
+		return m_importMemoryBudget;
+	}
+
+	/**
+	 * Set the upper limit of the bytes of the rows kept in memory on import
+	 *
+	 * @param importMemoryBudget Bytes (0: No limit)
+	 */
+	public void setImportMemoryBudget(long importMemoryBudget) {
+		m_importMemoryBudget = importMemoryBudget;
+	}
+
+	/**
+	 * Get the output file of the processing metrics
+	 *
+	 * @return The file path (null: Not measured)
+	 */
+	public String getMetricsPath() {
+		return m_metricsPath;
+	}
+
+	/**
+	 * Set the output file of the processing metrics
+	 *
+	 * @param metricsPath The file path (null: Not measured)
+	 */
+	public void setMetricsPath(String metricsPath) {
+		m_metricsPath = metricsPath;
+	}
+
+	/**
+	 * Get the format of the processing metrics
+	 *
+	 * @return json / prometheus
+	 */
+	public String getMetricsFormat() {
+		return m_metricsFormat;
+	}
+
+	/**
+	 * Set the format of the processing metrics
+	 *
+	 * @param metricsFormat json / prometheus
+	 */
+	public void setMetricsFormat(String metricsFormat) {
+		m_metricsFormat = metricsFormat;
+	}
+
+	/**
+	 * Get the interval of writing the processing metrics
+	 *
+	 * @return The interval (seconds, 0: Only at the end)
+	 */
+	public int getMetricsInterval() {
+		return m_metricsInterval;
+	}
+
+	/**
+	 * Set the interval of writing the processing metrics
+	 *
+	 * @param metricsInterval The interval (seconds, 0: Only at the end)
+	 */
+	public void setMetricsInterval(int metricsInterval) {
+		m_metricsInterval = metricsInterval;
+	}
+
+	/**
+	 * Get the pool of the connections
+	 *
+	 * @return Connection pool (null: Not used)
+	 */
+	ConnectionPool getConnectionPool() {
+		return m_connectionPool;
+	}
+
+	/**
+	 * Set the pool of the connections
+	 *
+	 * @param connectionPool Connection pool (null: Not used)
+	 */
+	void setConnectionPool(ConnectionPool connectionPool) {
+		m_connectionPool = connectionPool;
+	}
+
 	/**
 	 * Get the authentication method
 	 *
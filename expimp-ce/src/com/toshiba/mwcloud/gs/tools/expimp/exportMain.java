@@ -71,6 +71,9 @@ public class exportMain {
 			}
 			commandProgressStatus.setCommandLineInfo(cli);
 
+			// Start measuring the processing metrics (metrics.path)
+			ProcessMetrics.start(cli);
+
 			// Start exporting
 			cli.sysoutString(messageResource.getString("MESS_EXPORT_PROC_EXPORTMAIN_1"));
 			if ( cli.getTestFlag() ){
@@ -120,6 +123,9 @@ public class exportMain {
 			status = false;
 		}
 
+		// Write the processing metrics
+		ProcessMetrics.finish();
+
 		if ( status ){
 			System.exit(0);
 		} else {
@@ -21,16 +21,22 @@ import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.math.BigInteger;
 import java.sql.Connection;
 import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Timestamp;
+import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -48,20 +54,22 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.toshiba.mwcloud.gs.AggregationResult;
+import com.toshiba.mwcloud.gs.ColumnInfo;
 import com.toshiba.mwcloud.gs.Container;
 import com.toshiba.mwcloud.gs.ContainerInfo;
 import com.toshiba.mwcloud.gs.FetchOption;
 import com.toshiba.mwcloud.gs.GSException;
+import com.toshiba.mwcloud.gs.GSType;
 import com.toshiba.mwcloud.gs.GridStore;
 import com.toshiba.mwcloud.gs.Query;
 import com.toshiba.mwcloud.gs.Row;
 import com.toshiba.mwcloud.gs.RowSet;
+import com.toshiba.mwcloud.gs.TimeUnit;
 import com.toshiba.mwcloud.gs.experimental.DatabaseInfo;
 import com.toshiba.mwcloud.gs.experimental.ExperimentalTool;
 import com.toshiba.mwcloud.gs.experimental.PrivilegeInfo;
 import com.toshiba.mwcloud.gs.experimental.PrivilegeInfo.RoleType;
 import com.toshiba.mwcloud.gs.experimental.UserInfo;
-import com.toshiba.mwcloud.gs.tools.common.GridDBJdbcUtils;
 import com.toshiba.mwcloud.gs.tools.common.data.MetaContainerFileIO;
 import com.toshiba.mwcloud.gs.tools.common.data.TablePartitionProperty;
 import com.toshiba.mwcloud.gs.tools.common.data.TimeIntervalInfo;
@@ -94,6 +102,16 @@ public class exportProcess {
 	 */
 	private static Map<String, String> m_filterQueryMap;
 
+	/**
+	 * Meta information file names of the previous export result (for incremental export)
+	 */
+	private static Map<String, String> m_prevMetaFileMap;
+
+	/**
+	 * Checkpoint journal (--resume)  (null: not recorded)
+	 */
+	private static CheckpointJournal m_journal;
+
 	/**
 	 * Thread stop flag
 	 */
@@ -115,12 +133,21 @@ public class exportProcess {
 	 */
 	public boolean start() {
 		m_stopFlag = false;
+		m_journal = null;
 		try {
 			// ------------------------------
 			// Check the output directory and gs_export.json file
 			// ------------------------------
 			checkExistsDirFile();
 
+			// ------------------------------
+			// Checkpoint journal (With --resume, the records of the previous run are read)
+			// ------------------------------
+			if ( !comLineInfo.getTestFlag() ){
+				m_journal = new CheckpointJournal(new File(comLineInfo.getDirectoryPath(), GSConstants.FILE_GS_EXPORT_JOURNAL),
+						comLineInfo.getResumeFlag());
+			}
+
 			// --------------------------------
 			// Get the list of container names to be exported
 			// --------------------------------
@@ -158,6 +185,9 @@ public class exportProcess {
 			// Read query filter file
 			readFilterfile();
 
+			// Read the previous export result (incremental export)
+			readPrevExportManagerFile();
+
 
 			// ----------------------------------
 			// Export database user ACL
@@ -290,6 +320,12 @@ public class exportProcess {
 			metaInformationFileIO fileIO = new metaInformationFileIO(comLineInfo);
 			fileIO.writeExportManagerFile(contInfoList);
 
+			// The journal is not needed after the export management file is written
+			if ( m_journal != null ){
+				m_journal.delete();
+				m_journal = null;
+			}
+
 			// Export finished
 			String msg = messageResource.getString("MESS_EXPORT_PROC_EXPORTPROC_7") + ": time=["+(endTime-startTime)+"]";
 			comLineInfo.sysoutVerboseString(msg);
@@ -309,7 +345,54 @@ public class exportProcess {
 			comLineInfo.sysoutString(errMsg);
 			log.error(errMsg, e);
 			return false;
+
+		} finally {
+			if ( m_journal != null ){
+				m_journal.close();
+				m_journal = null;
+			}
+			MetadataCatalog.clear();
+			if ( comLineInfo.getConnectionPool() != null ){
+				comLineInfo.getConnectionPool().close();
+			}
+		}
+	}
+
+	/**
+	 * Returns the size of the row data files of the container for the metrics.
+	 *
+	 * @param toolContInfo Container information
+	 * @return Size (byte, 0 if the rows are written to a file shared with the other containers (--out))
+	 */
+	private long getRowFileSize(ToolContainerInfo toolContInfo) {
+		if ( comLineInfo.getOutFlag() ){
+			return 0;
 		}
+		return ProcessMetrics.getFileSize(comLineInfo.getDirectoryPath(), toolContInfo.getContainerFileList());
+	}
+
+	/**
+	 * With --resume, skip the container finished in the previous run.
+	 * The meta information file written in the previous run is added to the export management information.
+	 *
+	 * @param dbName Database name
+	 * @param contName Container name
+	 * @param contInfoList Information for the export management file
+	 * @return true: skipped
+	 */
+	private boolean skipFinishedContainer(String dbName, String contName, List<GSEIContInfo> contInfoList) {
+		if ( m_journal == null ){
+			return false;
+		}
+		String[] values = m_journal.getLastRecord(CheckpointJournal.TYPE_CONTAINER, dbName, contName);
+		if ( values == null ){
+			return false;
+		}
+		contInfoList.add(new GSEIContInfo(dbName, contName, values[0]));
+		String msg = messageResource.getString("MESS_EXPORT_PROC_EXPORTPROC_26") + contName;
+		comLineInfo.sysoutVerboseString(msg);
+		log.info(msg);
+		return true;
 	}
 
 	/**
@@ -442,6 +525,8 @@ public class exportProcess {
 			for (String dbName : dbList) {
 				conn = gridStoreServerIO.getJdbcConnection(comLineInfo, dbName);
 				views.addAll(getViews(conn));
+				conn.close();
+				conn = null;
 			}
 		} catch ( GSEIException e ){
 			throw e;
@@ -537,8 +622,8 @@ public class exportProcess {
 		GridStore store = null;
 		Connection conn = null;
 		List<GSEIContInfo> contInfoList = new ArrayList<GSEIContInfo>();
-		Set<String> setPartitionTable = new HashSet<String>();
-		HashMap<String, Integer[]> mapTablesHasIntervalWorkerGroup = new HashMap<>();
+		MetadataCatalog.Database catalog = MetadataCatalog.EMPTY;
+		Set<String> setPartitionTable = catalog.getPartitionTables();
 		//@SuppressWarnings("deprecation")
 		//final FetchOption fetchOpt = FetchOption.SIZE;
 		final FetchOption fetchOptPARTIAL = FetchOption.PARTIAL_EXECUTION;
@@ -567,6 +652,8 @@ public class exportProcess {
 				break;
 			}
 			String dbName = dbPartition.getDbName();
+			// Containers searched together by fetchAll (Container name in the request => search)
+			Map<String, FetchAllEntry> fetchAllMap = new HashMap<String, FetchAllEntry>();
 
 			try {
 				// GridStore connection (reconnect if DB is different)
@@ -586,15 +673,16 @@ public class exportProcess {
 						}
 						conn = gridStoreServerIO.getJdbcConnection(comLineInfo, dbName);	// When connecting, it is necessary to specify the DB name in a case-sensitive manner.
 
-						// Get a list of partition table names when connecting to JDBC
-						setPartitionTable = gridStoreServerIO.getPartitionTableNames(conn);
-						// V5.4 Handling data deviation
-						mapTablesHasIntervalWorkerGroup = gridStoreServerIO.getTablesHasIntervalWorkerGroup(conn);
+						// Partitioned tables of the database (loaded once and shared by the threads)
+						catalog = MetadataCatalog.get(comLineInfo, dbName, conn);
+						setPartitionTable = catalog.getPartitionTables();
 					}
 				}
 
 				// Container loop
-				for ( String contName: dbPartition.getContainerList() ){
+				List<String> contNameList = dbPartition.getContainerList();
+				int contIndex = 0;
+				for ( String contName: contNameList ){
 					timeWrite = 0;
 					long startTimeCont = System.currentTimeMillis();
 
@@ -603,6 +691,23 @@ public class exportProcess {
 					RowSet<Row> rs = null;
 					ToolContainerInfo toolContInfo = null;
 					long rsCount = 0;
+
+					// --resume : the container finished in the previous run
+					if ( skipFinishedContainer(dbName, contName, contInfoList) ){
+						contIndex++;
+						continue;
+					}
+
+					// Search the following containers together
+					if ( (comLineInfo.getExportFetchAllContainerNum() > 0) && !comLineInfo.getSchemaOnlyFlag()
+							&& !comLineInfo.getTestFlag() && !fetchAllMap.containsKey(contName) ){
+						int endIndex = Math.min(contIndex + comLineInfo.getExportFetchAllContainerNum(), contNameList.size());
+						fetchAll(store, contNameList.subList(contIndex, endIndex), setPartitionTable, catalog, fetchAllMap);
+					}
+					contIndex++;
+					FetchAllEntry fetchAllEntry = fetchAllMap.remove(contName);
+
+					ProcessMetrics.startContainer(dbName, contName);
 					try{
 						// Object for meta information output
 						toolContInfo = new ToolContainerInfo();
@@ -611,42 +716,74 @@ public class exportProcess {
 						toolContInfo.setContainerFileType(comLineInfo.getRowFileType());
 
 						// Get container information
-						ContainerInfo contInfo = store.getContainerInfo(contName);
+						long metricsStart = ProcessMetrics.startTime();
+						ContainerInfo contInfo = null;
+						if ( fetchAllEntry != null ){
+							contInfo = fetchAllEntry.m_containerInfo;
+						} else {
+							contInfo = store.getContainerInfo(contName);
+							ProcessMetrics.record(ProcessMetrics.Phase.SEARCH, metricsStart);
+						}
 						if ( contInfo == null ) {
 							throw new GSEIException(messageResource.getString("MESS_EXPORT_ERR_EXPORTPROC_18"));
 						}
 						toolContInfo.setContainerInfo(contInfo);
 						contName = contInfo.getName();
 
-						if ( setPartitionTable.contains(contInfo.getName()) ){
-							// For a partitioned table, get it via JDBC.
-							toolContInfo.setTablePartitionProperties(GridDBJdbcUtils.getTablePartitionProperties(conn, contInfo.getName()));
-							toolContInfo.setExpirationInfo(GridDBJdbcUtils.getExpirationInfo(conn, contInfo.getName()));
-						}
+						MetadataCatalog.Table partitionTable = catalog.getTable(contInfo.getName());
+						if ( partitionTable != null ){
+							// For a partitioned table, get it from the metatables (catalog).
+							toolContInfo.setTablePartitionProperties(partitionTable.getPartitionProperties());
+							toolContInfo.setExpirationInfo(partitionTable.getExpirationInfo());
 
-						// V5.4 Handling data deviation
-						if (mapTablesHasIntervalWorkerGroup.containsKey(contInfo.getName())) {
-							Integer[] intervalWorkerGroupInfo = mapTablesHasIntervalWorkerGroup.get(contInfo.getName());
-							Integer   intervalWorkerGroup     = intervalWorkerGroupInfo[0];
-							Integer   intervalWorkerGroupPos  = intervalWorkerGroupInfo[1];
-							toolContInfo.setIntervalWorkerGroup(intervalWorkerGroup);
-							toolContInfo.setIntervalWorkerGroupPos(intervalWorkerGroupPos);
+							// V5.4 Handling data deviation
+							Integer[] intervalWorkerGroupInfo = partitionTable.getIntervalWorkerGroup();
+							if ( intervalWorkerGroupInfo != null ){
+								toolContInfo.setIntervalWorkerGroup(intervalWorkerGroupInfo[0]);
+								toolContInfo.setIntervalWorkerGroupPos(intervalWorkerGroupInfo[1]);
+							}
 						}
 
 						// Search
-						container = store.getContainer(contName);
+						if ( fetchAllEntry != null ){
+							container = fetchAllEntry.m_container;
+							query = fetchAllEntry.m_query;
+						} else {
+							container = store.getContainer(contName);
+						}
 						String queryString = getQueryStr(toolContInfo);
+						List<String> keyRangeConditions = null;
+						if ( !comLineInfo.getSchemaOnlyFlag() && !comLineInfo.getTestFlag() && !setPartitionTable.contains(contName) ){
+							// Divide the container into the row key ranges
+							keyRangeConditions = getKeyRangeConditions(container, toolContInfo, queryString);
+						}
+						metricsStart = ProcessMetrics.startTime();
 						try {
 							if (comLineInfo.getSchemaOnlyFlag()) {
 								// If export is specified only for V4.5 container definition, raw data will not be acquired.
 							} else if (comLineInfo.getTestFlag()){
 								// Test mode
 								rsCount = getRowCount(store, conn, setPartitionTable, contName, container);
+							} else if ( keyRangeConditions != null ){
+								// Rows are searched by the thread of each row key range
 							} else {
-								query = container.query(queryString);
-								query.setFetchOption(fetchOptPARTIAL, true);
-								rs = query.fetch();
+								if ( (query != null) && queryString.equals(fetchAllEntry.m_queryString) ){
+									// Already searched by fetchAll (up to export.fetchAllMaxRows + 1 rows)
+									rs = query.getRowSet();
+									if ( (rs != null) && (rs.size() > comLineInfo.getExportFetchAllMaxRows()) ){
+										// Too many rows, search again with partial execution
+										rs.close();
+										rs = null;
+									}
+								}
+								if ( rs == null ){
+									if ( query != null ) query.close();
+									query = container.query(queryString);
+									query.setFetchOption(fetchOptPARTIAL, true);
+									rs = query.fetch();
+								}
 							}
+							ProcessMetrics.record(ProcessMetrics.Phase.QUERY, metricsStart);
 
 						} catch ( GSException ex ){
 							// There was an error in the search.
@@ -669,28 +806,51 @@ public class exportProcess {
 
 						// Raw data acquisition & output
 						int rowNum = 0;
-						long startTimeWrite = System.currentTimeMillis();
-						rowFile.startWriteContainer(toolContInfo);
-						timeWrite += ( System.currentTimeMillis()-startTimeWrite );
-						if ( comLineInfo.getSchemaOnlyFlag() ) {
-							// If export is specified only for V4.5 container definition, raw data will not be acquired.
-							// However, to determine the filename of the metadata file
-							// startWriteContainer()Needs to be called
-							// startWriteContainer()Implemented a branch that skips raw data acquisition after calling.
+						if ( keyRangeConditions != null ){
+							// Each row key range is written to its own row file by a separate thread
+							GSEIFileIO.createRowFileName(toolContInfo, comLineInfo);
+							rsCount = exportKeyRanges(dbName, toolContInfo, queryString, keyRangeConditions);
+
 						} else {
-							while (rs.hasNext()) {
-								Row row = rs.next();
-								startTimeWrite = System.currentTimeMillis();
-								rowFile.writeRow(row, rowNum++);
-								timeWrite += ( System.currentTimeMillis()-startTimeWrite );
-								rsCount++;
+							long startTimeWrite = System.currentTimeMillis();
+							rowFile.startWriteContainer(toolContInfo);
+							timeWrite += ( System.currentTimeMillis()-startTimeWrite );
+							if ( comLineInfo.getSchemaOnlyFlag() ) {
+								// If export is specified only for V4.5 container definition, raw data will not be acquired.
+								// However, to determine the filename of the metadata file
+								// startWriteContainer()Needs to be called
+								// startWriteContainer()Implemented a branch that skips raw data acquisition after calling.
+							} else if ( comLineInfo.getExportPipelineQueueSize() > 0 ){
+								// The rows are written by the writer thread of the pipeline
+								RowWritePipeline pipeline = new RowWritePipeline(rowFile, comLineInfo.getExportPipelineQueueSize());
+								pipeline.start();
+								try {
+									while (rs.hasNext()) {
+										pipeline.put(rs.next());
+										rsCount++;
+									}
+									rowNum = pipeline.finish();
+								} finally {
+									pipeline.abort();
+								}
+								timeWrite += pipeline.getTimeWrite();
+							} else {
+								while (rs.hasNext()) {
+									Row row = rs.next();
+									startTimeWrite = System.currentTimeMillis();
+									metricsStart = ProcessMetrics.startTime();
+									rowFile.writeRow(row, rowNum++);
+									ProcessMetrics.record(ProcessMetrics.Phase.WRITE, metricsStart);
+									timeWrite += ( System.currentTimeMillis()-startTimeWrite );
+									rsCount++;
+								}
 							}
+							startTimeWrite = System.currentTimeMillis();
+							rowFile.endWriteContainer();
+							timeWrite += ( System.currentTimeMillis()-startTimeWrite );
 						}
-						startTimeWrite = System.currentTimeMillis();
-						rowFile.endWriteContainer();
-						timeWrite += ( System.currentTimeMillis()-startTimeWrite );
 
-						if ( rowNum == 0 ){
+						if ( rsCount == 0 ){
 							toolContInfo.setContainerFile(null);
 						}
 
@@ -701,6 +861,9 @@ public class exportProcess {
 						GSEIContInfo eiContInfo = new GSEIContInfo(toolContInfo.getDbName(), toolContInfo.getName(),
 								toolContInfo.getFileBaseName() + ToolConstants.FILE_EXT_METAINFO);
 						contInfoList.add(eiContInfo);
+						if ( m_journal != null ){
+							m_journal.append(CheckpointJournal.TYPE_CONTAINER, eiContInfo.getDbName(), contName, eiContInfo.getMetaFileName());
+						}
 
 						long endTimeCont = System.currentTimeMillis();
 
@@ -713,6 +876,7 @@ public class exportProcess {
 						log.info("export: db,"+toolContInfo.getDbName()+",name,"+toolContInfo.getName()+",count,"+rsCount+",Time all,"
 								+(endTimeCont-startTimeCont)+",export,"+(endTimeCont-startTimeCont-timeWrite)
 								+",write,"+timeWrite);
+						ProcessMetrics.endContainer(rsCount, getRowFileSize(toolContInfo));
 
 
 					} catch ( Exception e ){
@@ -736,6 +900,7 @@ public class exportProcess {
 						if ( rs != null ) rs.close();
 						if ( query != null ) query.close();
 						if ( container != null ) container.close();
+						if ( fetchAllEntry != null ) fetchAllEntry.close();
 					}
 
 					// Thread stop check
@@ -756,6 +921,12 @@ public class exportProcess {
 				log.error(errMsg, e);
 				exportProcess.m_stopFlag = true;
 				break;	// The error here exits without continuing
+
+			} finally {
+				// Searches not used because of the stop
+				for ( FetchAllEntry entry : fetchAllMap.values() ){
+					entry.close();
+				}
 			}
 
 			// Thread stop check
@@ -775,6 +946,11 @@ public class exportProcess {
 				store.close();
 			} catch (GSException e) {}
 		}
+		if ( conn != null ) {
+			try {
+				conn.close();
+			} catch (SQLException e) {}
+		}
 
 		return contInfoList;
 	}
@@ -795,14 +971,17 @@ public class exportProcess {
 		List<GSEIContInfo> contInfoList = new ArrayList<GSEIContInfo>();
 		Integer threadLocalFileNameToolLongNumber = 0;
 		
-		Set<String> setIntervalPartitionTable = new HashSet<String>();
-		Set<String> setTimeSeries = new HashSet<String>();
-		HashMap<String, Integer[]> mapTablesHasIntervalWorkerGroup = new HashMap<>();
+		MetadataCatalog.Database catalog = MetadataCatalog.EMPTY;
+		Set<String> setIntervalPartitionTable = catalog.getIntervalPartitionTables();
+		Set<String> setTimeSeries = catalog.getTimeSeriesContainers();
 		final FetchOption fetchOptPARTIAL = FetchOption.PARTIAL_EXECUTION;
 		
 		Calendar cal = Calendar.getInstance();
 		SimpleDateFormat sdf = new SimpleDateFormat(GSConstants.DATE_FORMAT_HOUR);
 		SimpleDateFormat sdfDay = new SimpleDateFormat(GSConstants.DATE_FORMAT_DAY);
+		SimpleDateFormat sdfWatermark = new SimpleDateFormat(GSConstants.DATE_FORMAT_BEFORE);
+		SimpleDateFormat sdfWatermarkLabel = new SimpleDateFormat(GSConstants.DATE_FORMAT_WATERMARK_LABEL);
+		MetaContainerFileIO prevMetaFileIO = new MetaContainerFileIO();
 		final int INTERVAL_UNIT = Calendar.DATE;
 		final int INTERVAL_VALUE = 1;
 
@@ -852,12 +1031,10 @@ public class exportProcess {
 						}
 						conn = gridStoreServerIO.getJdbcConnection(comLineInfo, dbName);	// 接続時は、DB名の大文字小文字は区別して指定が必要。
 
-						// JDBC接続したときには、パーティションテーブル名の一覧を取得する
-						setIntervalPartitionTable = gridStoreServerIO.getIntervalPartitionTableNames(conn);
-						// TimeSeriesコンテナ名の一覧を取得する
-						setTimeSeries = gridStoreServerIO.getTimeSeriesContainerNames(conn);
-						// V5.4 Handling data deviation
-						mapTablesHasIntervalWorkerGroup = gridStoreServerIO.getTablesHasIntervalWorkerGroup(conn);
+						// JDBC接続したときには、パーティションテーブルとTimeSeriesコンテナの情報を取得する (DBごとに1回取得してスレッド間で共有)
+						catalog = MetadataCatalog.get(comLineInfo, dbName, conn);
+						setIntervalPartitionTable = catalog.getIntervalPartitionTables();
+						setTimeSeries = catalog.getTimeSeriesContainers();
 					}
 				}
 				
@@ -882,7 +1059,32 @@ public class exportProcess {
 					Boolean intervalFit = true;
 					
 					List<TimeIntervalInfo> timeIntervalInfos = new ArrayList<TimeIntervalInfo>();
+
+					ToolContainerInfo prevContInfo = null;// 前回のエクスポート結果(インクリメンタルエクスポート)
+					Timestamp highWatermark = null;// 前回のエクスポート済みロウキーの最大値
+					int intervalColumnIndex = -1;
+					TimeUnit intervalPrecision = null;// 分割カラムの精度(マイクロ秒、ナノ秒の場合)
+					Timestamp maxRowKey = null;// 今回のエクスポート済みロウキーの最大値
+
+					// --resume : 前回の実行で終了したコンテナはスキップする
+					if ( skipFinishedContainer(dbName, contName, contInfoList) ){
+						continue;
+					}
+					// --resume : 前回の実行で出力済みの日付範囲 (開始境界値 TAB 終了境界値 => ロウデータファイル)
+					Map<String, List<String[]>> journalIntervals = new HashMap<String, List<String[]>>();
+					if ( m_journal != null ){
+						for ( String[] values : m_journal.getRecords(CheckpointJournal.TYPE_INTERVAL, dbName, contName) ){
+							String key = values[0] + "\t" + values[1];
+							List<String[]> list = journalIntervals.get(key);
+							if ( list == null ){
+								list = new ArrayList<String[]>();
+								journalIntervals.put(key, list);
+							}
+							list.add(values);
+						}
+					}
 					
+					ProcessMetrics.startContainer(dbName, contName);
 					try{
 						// メタデータファイル用オブジェクト
 						toolContInfo = new ToolContainerInfo();
@@ -891,47 +1093,49 @@ public class exportProcess {
 						toolContInfo.setContainerFileType(comLineInfo.getRowFileType());
 
 						// コンテナ情報取得
+						long metricsStart = ProcessMetrics.startTime();
 						ContainerInfo contInfo = store.getContainerInfo(contName);
+						ProcessMetrics.record(ProcessMetrics.Phase.SEARCH, metricsStart);
 						if ( contInfo == null ) {
 							throw new GSEIException(messageResource.getString("MESS_EXPORT_ERR_EXPORTPROC_18"));
 						}
 						toolContInfo.setContainerInfo(contInfo);
 						contName = contInfo.getName();
+
+						// インクリメンタルエクスポートの場合は前回のエクスポート済みロウキーの最大値以降を対象にする
+						if ( comLineInfo.getIncrementalFlag() && !comLineInfo.getSchemaOnlyFlag() && !comLineInfo.getTestFlag() ){
+							prevContInfo = readPrevContainerInfo(prevMetaFileIO, dbName, contName);
+							if ( (prevContInfo != null) && (prevContInfo.getContainerFileType() != comLineInfo.getRowFileType()) ){
+								// 出力形式が異なる場合は全件エクスポート
+								log.warn("Incremental export is not applied because the row file type is different. db=["+dbName+"] container=["+contName
+										+"] prev=["+prevContInfo.getContainerFileType()+"]");
+								prevContInfo = null;
+							}
+							if ( (prevContInfo != null) && (prevContInfo.getHighWatermark() != null) ){
+								highWatermark = parseHighWatermark(prevContInfo.getHighWatermark(), sdfWatermark);
+							}
+						}
 						
 						// インターバルパーティショニングテーブル　かつ　コンテナ定義のみの出力でない
 						if ( setIntervalPartitionTable.contains(contInfo.getName()) && comLineInfo.getSchemaOnlyFlag() == false ){
-							// パーティションテーブルの場合は、JDBC経由で取得する。
-							List<TablePartitionProperty> tablePartitionProperties = GridDBJdbcUtils.getTablePartitionProperties(conn, contInfo.getName());
+							// パーティションテーブルの場合は、メタテーブルの情報(カタログ)から取得する。
+							MetadataCatalog.Table partitionTable = catalog.getTable(contInfo.getName());
+							List<TablePartitionProperty> tablePartitionProperties = partitionTable.getPartitionProperties();
 							toolContInfo.setTablePartitionProperties(tablePartitionProperties);
-							toolContInfo.setExpirationInfo(GridDBJdbcUtils.getExpirationInfo(conn, contInfo.getName()));
-							Statement stmt = null;
-							ResultSet resultSet = null;
-							stmt = conn.createStatement();
+							toolContInfo.setExpirationInfo(partitionTable.getExpirationInfo());
 							// インターバルパーティショニングテーブルの境界値(日付)の最大値と最小値を取得
-							String q = "SELECT MAX(PARTITION_BOUNDARY_VALUE) as BOUNDARY_MAX, MIN(PARTITION_BOUNDARY_VALUE) as BOUNDARY_MIN FROM " 
-									+ "\"" + "#table_partitions" + "\""+ " WHERE TABLE_NAME=" + "'" + contName + "'";
-							resultSet = stmt.executeQuery(q);
-							if (resultSet.next()) {
-								maxBoundaryValue = resultSet.getTimestamp("BOUNDARY_MAX");
-								minBoundaryValue = resultSet.getTimestamp("BOUNDARY_MIN");
-							}
+							maxBoundaryValue = partitionTable.getBoundaryMax();
+							minBoundaryValue = partitionTable.getBoundaryMin();
 							
 							// 境界値(日付)の最大値または最大値がNULLの場合、空のテーブル
 							if (maxBoundaryValue == null || minBoundaryValue == null) {
 								schemaOnly = true;
 							} else {
 								
-								int partitionIntervalValue = 1;
-								String partitionIntervalUnitStr = "";
+								int partitionIntervalValue = partitionTable.getIntervalValue();
+								String partitionIntervalUnitStr = partitionTable.getIntervalUnit();
 								int partitionIntervalUnit = Calendar.DATE;
 								
-								String q2 = "SELECT PARTITION_INTERVAL_VALUE,PARTITION_INTERVAL_UNIT FROM " 
-										+ "\"" + "#tables" + "\""+ " WHERE TABLE_NAME=" + "'" + contName + "'";
-								resultSet = stmt.executeQuery(q2);
-								if (resultSet.next()) {
-									partitionIntervalValue = resultSet.getInt("PARTITION_INTERVAL_VALUE");
-									partitionIntervalUnitStr = resultSet.getString("PARTITION_INTERVAL_UNIT");
-								}
 								if (partitionIntervalUnitStr != null && partitionIntervalUnitStr.length() > 0) {
 									switch(partitionIntervalUnitStr) {
 										case "DAY":
@@ -971,6 +1175,9 @@ public class exportProcess {
 									}
 								}
 							
+								// 前回のエクスポート済みロウキーの最大値以降を対象にする
+								minBoundaryValue = applyHighWatermark(minBoundaryValue, maxBoundaryValue, highWatermark);
+
 								// エクスポートファイルの境界値（日付）一覧を作成
 								if (intervalFit) {
 									min = sdf.format(minBoundaryValue);// フォーマット変換 yyyy-MM-dd'T'HH:00:00.000Z
@@ -1003,12 +1210,10 @@ public class exportProcess {
 								}
 							}
 							// V5.4 Handling data deviation
-							if (mapTablesHasIntervalWorkerGroup.containsKey(contInfo.getName())) {
-								Integer[] intervalWorkerGroupInfo = mapTablesHasIntervalWorkerGroup.get(contInfo.getName());
-								Integer   intervalWorkerGroup     = intervalWorkerGroupInfo[0];
-								Integer   intervalWorkerGroupPos  = intervalWorkerGroupInfo[1];
-								toolContInfo.setIntervalWorkerGroup(intervalWorkerGroup);
-								toolContInfo.setIntervalWorkerGroupPos(intervalWorkerGroupPos);
+							Integer[] intervalWorkerGroupInfo = partitionTable.getIntervalWorkerGroup();
+							if ( intervalWorkerGroupInfo != null ){
+								toolContInfo.setIntervalWorkerGroup(intervalWorkerGroupInfo[0]);
+								toolContInfo.setIntervalWorkerGroupPos(intervalWorkerGroupInfo[1]);
 							}
 						}
 
@@ -1018,16 +1223,8 @@ public class exportProcess {
 						// TimeSeries　かつ　インターバルパーティショニングテーブルでない　コンテナ定義のみの出力でない
 						if ( boundaryValues.size() == 0 && setTimeSeries.contains(contInfo.getName()) && comLineInfo.getSchemaOnlyFlag() == false) {
 							
-							Statement stmt = null;
-							ResultSet resultSet = null;
-							int numRows = 0;
-							stmt = conn.createStatement();
-							// コンテナのロウ数を取得する
-							String q = "SELECT NUM_ROWS FROM " + "\"" + "#tables_stats" + "\""+ " WHERE TABLE_NAME=" + "'" + contName + "'";
-							resultSet = stmt.executeQuery(q);
-							if (resultSet.next()) {
-								numRows = resultSet.getInt("NUM_ROWS");
-							}
+							// コンテナのロウ数を取得する (#tables_stats)
+							long numRows = catalog.getNumRows(contInfo.getName());
 							
 							String rowKey = contInfo.getColumnInfo(0).getName();
 							// コンテナのロウ数が0の場合は境界値の最大値、最小値はNULL
@@ -1090,6 +1287,9 @@ public class exportProcess {
 									}
 								}
 							
+								// 前回のエクスポート済みロウキーの最大値以降を対象にする
+								minBoundaryValue = applyHighWatermark(minBoundaryValue, maxBoundaryValue, highWatermark);
+
 								// エクスポートファイルの境界値（日付）一覧を作成
 								if (intervalFit) {
 									min = sdf.format(minBoundaryValue);// フォーマット変換 yyyy-MM-dd'T'HH:00:00.000Z
@@ -1127,6 +1327,18 @@ public class exportProcess {
 						String queryString = getQueryStr(toolContInfo);
 												
 						String startBoundaryValue = null;
+
+						if ( intervalColumn != null ){
+							for ( int i = 0; i < contInfo.getColumnCount(); i++ ){
+								if ( contInfo.getColumnInfo(i).getName().equalsIgnoreCase(intervalColumn) ){
+									intervalColumnIndex = i;
+									if ( MetaContainerFileIO.isPreciseColumn(contInfo.getColumnInfo(i)) ){
+										intervalPrecision = contInfo.getColumnInfo(i).getTimePrecision();
+									}
+									break;
+								}
+							}
+						}
 						
 						if (comLineInfo.getSchemaOnlyFlag() || schemaOnly || intervalFit == false) {
 							// V4.5 コンテナの定義のみエクスポートが指定されている場合はロウデータ取得は行わない
@@ -1138,23 +1350,44 @@ public class exportProcess {
 							// 日付範囲のクエリを発行
 							for (String boundaryValue : boundaryValues) {
 								if(!boundaryValue.equals(min)) {
+									// --resume : 前回の実行で出力済みの日付範囲はロウデータファイルの情報だけを引き継ぐ
+									List<String[]> journalFiles = journalIntervals.get(startBoundaryValue + "\t" + boundaryValue);
+									if ( journalFiles != null ){
+										for ( String[] values : journalFiles ){
+											timeIntervalInfos.add(new TimeIntervalInfo(values[2], startBoundaryValue));
+											toolContInfo.addContainerFile(values[2]);
+											if ( !values[3].isEmpty() ){
+												maxRowKey = maxTimestamp(maxRowKey, parseHighWatermark(values[3], sdfWatermark));
+											}
+										}
+										startBoundaryValue = boundaryValue;
+										continue;
+									}
+									int journalInfoIndex = timeIntervalInfos.size();
 									try {
 										String tql = null;
 										String whereOrAnd = " WHERE ";
+										String startCondition = "TIMESTAMP('" + startBoundaryValue + "') <= " + "\"" + intervalColumn + "\"";
+										if ( (highWatermark != null) && startBoundaryValue.equals(min) ){
+											// 最初のファイルは前回のエクスポート済みロウキーの最大値より後のロウ
+											startCondition = "TIMESTAMP('" + formatHighWatermark(highWatermark, intervalPrecision, sdfWatermark) + "') < " + "\"" + intervalColumn + "\"";
+										}
 										if (!boundaryValue.equals(max)){
 											// 検索クエリにファイルの境界値(日付)の条件を追加する
 											tql = queryString
-													+ whereOrAnd + "TIMESTAMP('" + startBoundaryValue + "') <= " + "\"" + intervalColumn + "\""
+													+ whereOrAnd + startCondition
 													+ " AND " + "\"" + intervalColumn + "\"" + " < " + "TIMESTAMP('" + boundaryValue + "')";
 										} else {
 											// 検索クエリにファイルの境界値(日付)の条件を追加する
 											tql = queryString
-													+ whereOrAnd + "TIMESTAMP('" + startBoundaryValue + "') <= " + "\"" + intervalColumn + "\""
+													+ whereOrAnd + startCondition
 													+ " AND " + "\"" + intervalColumn + "\"" + " <= " + "TIMESTAMP('" + boundaryValue + "')";									
 										}
+										metricsStart = ProcessMetrics.startTime();
 										query = container.query(tql);
 										query.setFetchOption(fetchOptPARTIAL, true);
 										rs = query.fetch();
+										ProcessMetrics.record(ProcessMetrics.Phase.QUERY, metricsStart);
 									} catch ( GSException ex ){
 										// 検索でエラーが発生しました。
 										String errMsg = messageResource.getString("MESS_EXPORT_ERR_EXPORTPROC_23") + queryString;
@@ -1171,10 +1404,15 @@ public class exportProcess {
 									int rowNum = 0;
 									long startTimeWrite = System.currentTimeMillis();
 
+									// インクリメンタルエクスポートの最初のファイルは前回のファイル名と重ならないように時刻まで付ける
+									String startLabel = startBoundaryValue.substring(0, 10);
+									if ( (highWatermark != null) && startBoundaryValue.equals(min) ){
+										startLabel = sdfWatermarkLabel.format(highWatermark);
+									}
 									// ロウデータファイル名を設定する
-									toolContInfo.setName(contName + "_" + startBoundaryValue.substring(0, 10) + "_" + boundaryValue.substring(0,10));
+									toolContInfo.setName(contName + "_" + startLabel + "_" + boundaryValue.substring(0,10));
 									// ロウデータファイルの境界値(日付)を設定する
-									toolContInfo.setIntervals(startBoundaryValue.substring(0, 10) + "_" + boundaryValue.substring(0,10));
+									toolContInfo.setIntervals(startLabel + "_" + boundaryValue.substring(0,10));
 									
 									rowFile.startWriteContainer(toolContInfo);
 									timeWrite += ( System.currentTimeMillis() - startTimeWrite );
@@ -1183,9 +1421,20 @@ public class exportProcess {
 									while (rs.hasNext()) {
 										Row row = rs.next();
 										startTimeWrite = System.currentTimeMillis();
+										metricsStart = ProcessMetrics.startTime();
 										rowFile.writeRow(row, rowNum++);
+										ProcessMetrics.record(ProcessMetrics.Phase.WRITE, metricsStart);
 										timeWrite += ( System.currentTimeMillis() - startTimeWrite );
 										rsCount++;
+										if ( intervalPrecision != null ){
+											// マイクロ秒、ナノ秒の精度のまま比較する
+											maxRowKey = maxTimestamp(maxRowKey, row.getPreciseTimestamp(intervalColumnIndex));
+										} else if ( intervalColumnIndex >= 0 ){
+											Date rowKey = row.getTimestamp(intervalColumnIndex);
+											if ( (rowKey != null) && ((maxRowKey == null) || (rowKey.getTime() > maxRowKey.getTime())) ){
+												maxRowKey = new Timestamp(rowKey.getTime());
+											}
+										}
 									}
 									
 									startTimeWrite = System.currentTimeMillis();
@@ -1212,13 +1461,24 @@ public class exportProcess {
 												timeIntervalInfos.add(timeIntervalInfo);
 											}
 										} 
-										// 出力形式がcsvの場合
-										else if (comLineInfo.getRowFileType().equals(RowFileType.CSV)) {
+										// 出力形式がcsv、avro、columnarの場合
+										else if (comLineInfo.getRowFileType().equals(RowFileType.CSV)
+												|| comLineInfo.getRowFileType().equals(RowFileType.AVRO)
+												|| comLineInfo.getRowFileType().equals(RowFileType.COLUMNAR)) {
 											// タイムインターバル情報を作成
 											TimeIntervalInfo timeIntervalInfo = new TimeIntervalInfo(rowFile.m_file.getName(), startBoundaryValue);
 											timeIntervalInfos.add(timeIntervalInfo);
 										}
 									}
+
+									// 出力済みの日付範囲をジャーナルに記録する
+									if ( m_journal != null ){
+										for ( int j = journalInfoIndex; j < timeIntervalInfos.size(); j++ ){
+											m_journal.append(CheckpointJournal.TYPE_INTERVAL, dbName, contName, startBoundaryValue, boundaryValue,
+													timeIntervalInfos.get(j).getContainerFile(),
+													(maxRowKey != null) ? formatHighWatermark(maxRowKey, intervalPrecision, sdfWatermark) : "");
+										}
+									}
 								}
 								startBoundaryValue = boundaryValue;
 							}
@@ -1237,6 +1497,29 @@ public class exportProcess {
 							continue;
 						}
 						
+						// インクリメンタルエクスポートの場合は前回のロウデータファイルに追加する
+						if ( prevContInfo != null ){
+							if ( prevContInfo.getTimeIntervalInfos() != null ){
+								List<TimeIntervalInfo> infos = new ArrayList<TimeIntervalInfo>(prevContInfo.getTimeIntervalInfos());
+								infos.addAll(timeIntervalInfos);
+								timeIntervalInfos = infos;
+							}
+							if ( prevContInfo.getContainerFileList() != null ){
+								List<String> fileList = new ArrayList<String>(prevContInfo.getContainerFileList());
+								if ( toolContInfo.getContainerFileList() != null ){
+									fileList.addAll(toolContInfo.getContainerFileList());
+								}
+								toolContInfo.setContainerFile(fileList);
+							}
+						}
+
+						// エクスポート済みロウキーの最大値を設定
+						if ( maxRowKey != null ){
+							toolContInfo.setHighWatermark(formatHighWatermark(maxRowKey, intervalPrecision, sdfWatermark));
+						} else if ( prevContInfo != null ){
+							toolContInfo.setHighWatermark(prevContInfo.getHighWatermark());
+						}
+
 						// タイムインターバル情報を設定
 						toolContInfo.setTimeIntervalInfos(timeIntervalInfos);
 						
@@ -1263,6 +1546,9 @@ public class exportProcess {
 						GSEIContInfo eiContInfo = new GSEIContInfo(toolContInfo.getDbName(), toolContInfo.getName(),
 								toolContInfo.getFileBaseName() + ToolConstants.FILE_EXT_METAINFO);
 						contInfoList.add(eiContInfo);
+						if ( m_journal != null ){
+							m_journal.append(CheckpointJournal.TYPE_CONTAINER, eiContInfo.getDbName(), contName, eiContInfo.getMetaFileName());
+						}
 
 						long endTimeCont = System.currentTimeMillis();
 
@@ -1275,6 +1561,7 @@ public class exportProcess {
 						log.info("export: db,"+toolContInfo.getDbName()+",name,"+toolContInfo.getName()+",count,"+rsCount+",Time all,"
 								+(endTimeCont-startTimeCont)+",export,"+(endTimeCont-startTimeCont-timeWrite)
 								+",write,"+timeWrite);
+						ProcessMetrics.endContainer(rsCount, getRowFileSize(toolContInfo));
 
 
 					} catch ( Exception e ){
@@ -1336,10 +1623,116 @@ public class exportProcess {
 				store.close();
 			} catch (GSException e) {}
 		}
+		if ( conn != null ) {
+			try {
+				conn.close();
+			} catch (SQLException e) {}
+		}
 
 		return contInfoList;
 	}
 	
+	/**
+	 * Container information, container object and search of a container obtained by fetchAll
+	 */
+	private static class FetchAllEntry {
+		/** Container information */
+		ContainerInfo m_containerInfo;
+		/** Container object */
+		Container<?, Row> m_container;
+		/** Search query string */
+		String m_queryString;
+		/** Query object (the row set is obtained by getRowSet. null: not searched together) */
+		Query<Row> m_query;
+
+		void close(){
+			try {
+				if ( m_query != null ) m_query.close();
+				if ( m_container != null ) m_container.close();
+			} catch ( GSException e ){}
+		}
+	}
+
+	/**
+	 * Searches the containers together by GridStore.fetchAll.
+	 *
+	 *   The containers of a request (DbPartition) are in the same partition, so the searches
+	 *   are executed in one request. Only the containers whose number of rows in #tables_stats
+	 *   is export.fetchAllMaxRows or less are searched (not the partitioned tables and the containers
+	 *   divided into the row key ranges). The container information and the container object of each
+	 *   container (except the partitioned tables) are obtained here once and used by the container loop.
+	 *   The rows of a search are limited to export.fetchAllMaxRows + 1 in case #tables_stats is
+	 *   out of date, and a container with more rows is searched again separately.
+	 *   If an error occurs, nothing is set and each container is processed separately.
+	 *
+	 * @param store GridStore object
+	 * @param contNameList Container names
+	 * @param setPartitionTable Partitioned table names
+	 * @param catalog Metadata of the database
+	 * @param fetchAllMap Container name => search (output)
+	 */
+	private void fetchAll(GridStore store, List<String> contNameList, Set<String> setPartitionTable,
+			MetadataCatalog.Database catalog, Map<String, FetchAllEntry> fetchAllMap) {
+		int maxRows = comLineInfo.getExportFetchAllMaxRows();
+		List<FetchAllEntry> entryList = new ArrayList<FetchAllEntry>();
+		List<Query<Row>> queryList = new ArrayList<Query<Row>>();
+		try {
+			for ( String contName : contNameList ){
+				if ( setPartitionTable.contains(contName) ){
+					entryList.add(null);
+					continue;
+				}
+				FetchAllEntry entry = new FetchAllEntry();
+				entryList.add(entry);
+				long metricsStart = ProcessMetrics.startTime();
+				entry.m_containerInfo = store.getContainerInfo(contName);
+				ProcessMetrics.record(ProcessMetrics.Phase.SEARCH, metricsStart);
+				if ( entry.m_containerInfo == null ){
+					// The error is reported in the processing of the container
+					continue;
+				}
+				entry.m_container = store.getContainer(contName);
+				if ( entry.m_container == null ){
+					continue;
+				}
+				ToolContainerInfo info = new ToolContainerInfo();
+				info.setName(contName);
+				String queryString = getQueryStr(info);
+				if ( !catalog.hasNumRows(contName) || (catalog.getNumRows(contName) > maxRows)
+						|| isKeyRangeTarget(entry.m_containerInfo, queryString) ){
+					// The number of rows is unknown or large, or the rows are searched by the thread of each row key range
+					continue;
+				}
+				entry.m_queryString = queryString;
+				entry.m_query = entry.m_container.query(entry.m_queryString);
+				entry.m_query.setFetchOption(FetchOption.LIMIT, (long)maxRows + 1);
+				queryList.add(entry.m_query);
+			}
+			if ( queryList.size() > 0 ){
+				store.fetchAll(queryList);
+			}
+
+		} catch ( GSException e ){
+			log.warn("fetchAll failed, the containers are searched separately. msg=["+e.getMessage()+"]");
+			for ( FetchAllEntry entry : entryList ){
+				if ( entry != null ) entry.close();
+			}
+			return;
+		}
+
+		for ( int i = 0; i < entryList.size(); i++ ){
+			FetchAllEntry entry = entryList.get(i);
+			if ( entry == null ){
+				continue;
+			}
+			if ( entry.m_container != null ){
+				fetchAllMap.put(contNameList.get(i), entry);
+			} else {
+				entry.close();
+			}
+		}
+	}
+
 	/**
 	 * Gets the number of rows in the container for the --test option.
 	 *
@@ -1375,6 +1768,321 @@ public class exportProcess {
 	}
 
 
+	/**
+	 * Returns whether the container can be divided into the row key ranges.
+	 *
+	 *   The container is divided by getKeyRangeConditions() unless the file name is too long
+	 *   or the range of the row key values is too small.
+	 *
+	 * @param contInfo Container information (null: not divided)
+	 * @param queryString Search query of the container
+	 * @return true: the row key is an integer or TIMESTAMP column
+	 */
+	private boolean isKeyRangeTarget(ContainerInfo contInfo, String queryString) {
+		// A search query by --filterfile and the multi-container format are not divided
+		if ( (comLineInfo.getExportContainerThreadNum() <= 1) || comLineInfo.getOutFlag()
+				|| !"select *".equals(queryString) || (contInfo == null) ){
+			return false;
+		}
+		List<Integer> rowKeyList = contInfo.getRowKeyColumnList();
+		if ( (rowKeyList == null) || rowKeyList.isEmpty() ){
+			return false;
+		}
+		GSType keyType = contInfo.getColumnInfo(rowKeyList.get(0)).getType();
+		return (keyType == GSType.BYTE) || (keyType == GSType.SHORT) || (keyType == GSType.INTEGER)
+				|| (keyType == GSType.LONG) || (keyType == GSType.TIMESTAMP);
+	}
+
+	/**
+	 * Divides the container into the row key ranges for the parallel export.
+	 *
+	 *   The minimum and maximum values of the row key (the first column of the composite row key)
+	 *   are searched, and the range between them is divided into export.containerThreadNum.
+	 *   Returns null if the container is not divided.
+	 *
+	 * @param container Container object
+	 * @param contInfo Container information object
+	 * @param queryString Search query of the container
+	 * @return Search conditions of each range (null: not divided)
+	 * @throws GSException
+	 */
+	private List<String> getKeyRangeConditions(Container<?, Row> container, ToolContainerInfo contInfo, String queryString) throws GSException {
+		int threadNum = comLineInfo.getExportContainerThreadNum();
+		if ( !isKeyRangeTarget(contInfo.getContainerInfo(), queryString) ){
+			return null;
+		}
+		List<Integer> rowKeyList = contInfo.getRowKeyColumnList();
+		// The suffix of the row file name must not be cut by the file name length limit
+		ToolContainerInfo rangeInfo = new ToolContainerInfo();
+		rangeInfo.copyObject(contInfo);
+		rangeInfo.setName(getKeyRangeName(contInfo.getName(), threadNum-1));
+		if ( GSEIFileIO.encodingDbAndContainer(rangeInfo, false).length() > 140 ){
+			return null;
+		}
+
+		ColumnInfo keyColumn = contInfo.getColumnInfoList().get(rowKeyList.get(0));
+		GSType keyType = keyColumn.getType();
+		String keyName = "\"" + keyColumn.getName() + "\"";
+
+		// Minimum and maximum values of the row key
+		Long min = getKeyAggregation(container, "SELECT MIN(" + keyName + ")", keyType);
+		Long max = getKeyAggregation(container, "SELECT MAX(" + keyName + ")", keyType);
+		if ( (min == null) || (max == null) ){
+			return null;
+		}
+		BigInteger span = BigInteger.valueOf(max).subtract(BigInteger.valueOf(min));
+		if ( span.compareTo(BigInteger.valueOf(threadNum)) < 0 ){
+			return null;
+		}
+
+		// Boundary values  (the first and the last range have no lower / upper limit)
+		List<String> conditions = new ArrayList<String>(threadNum);
+		String prevBoundary = null;
+		for ( int i = 1; i <= threadNum; i++ ){
+			String boundary = null;
+			if ( i < threadNum ){
+				long value = BigInteger.valueOf(min).add(span.multiply(BigInteger.valueOf(i)).divide(BigInteger.valueOf(threadNum))).longValue();
+				boundary = (keyType == GSType.TIMESTAMP) ? "TO_TIMESTAMP_MS(" + value + ")" : Long.toString(value);
+			}
+			String condition = null;
+			if ( prevBoundary == null ){
+				condition = keyName + " < " + boundary;
+			} else if ( boundary == null ){
+				condition = prevBoundary + " <= " + keyName;
+			} else {
+				condition = prevBoundary + " <= " + keyName + " AND " + keyName + " < " + boundary;
+			}
+			conditions.add(condition);
+			prevBoundary = boundary;
+		}
+		return conditions;
+	}
+
+	/**
+	 * Gets the result of the aggregation of the row key.
+	 *
+	 * @param container Container object
+	 * @param queryString Aggregation query
+	 * @param keyType Type of the row key
+	 * @return Result (null if the container has no row)
+	 * @throws GSException
+	 */
+	private Long getKeyAggregation(Container<?, Row> container, String queryString, GSType keyType) throws GSException {
+		Query<AggregationResult> query = container.query(queryString, AggregationResult.class);
+		RowSet<AggregationResult> rs = null;
+		try {
+			rs = query.fetch();
+			if ( !rs.hasNext() ){
+				return null;
+			}
+			AggregationResult agg = rs.next();
+			if ( keyType == GSType.TIMESTAMP ){
+				Date value = agg.getTimestamp();
+				return (value != null) ? value.getTime() : null;
+			} else {
+				return agg.getLong();
+			}
+		} finally {
+			if ( rs != null ) rs.close();
+			query.close();
+		}
+	}
+
+	/**
+	 * Returns the name to create the row file of a row key range.
+	 *
+	 * @param contName Container name
+	 * @param rangeNo Range number
+	 * @return Name of the row file base
+	 */
+	static String getKeyRangeName(String contName, int rangeNo){
+		return contName + getKeyRangeSuffix(rangeNo);
+	}
+
+	/**
+	 * Returns the suffix of the row file name of a row key range.
+	 *
+	 *   The container name line of the row file has the name of the container.
+	 *
+	 * @param rangeNo Range number
+	 * @return Suffix of the row file name
+	 */
+	static String getKeyRangeSuffix(int rangeNo){
+		return GSConstants.FILENAME_SEPARATOR + "range" + rangeNo;
+	}
+
+	/**
+	 * Exports the row key ranges of the container in parallel.
+	 *
+	 *   Each range is written to its own row file by ContainerExportWorker,
+	 *   and the row files are set to the container information in the order of the ranges.
+	 *
+	 * @param dbName Database name
+	 * @param toolContInfo Container information object
+	 * @param queryString Search query of the container
+	 * @param conditions Search conditions of the ranges
+	 * @return Number of rows
+	 * @throws GSEIException
+	 */
+	private long exportKeyRanges(String dbName, ToolContainerInfo toolContInfo, String queryString,
+			List<String> conditions) throws GSEIException {
+
+		ContainerExportWorker[] workers = new ContainerExportWorker[conditions.size()];
+		for ( int i = 0; i < workers.length; i++ ){
+			ToolContainerInfo rangeInfo = new ToolContainerInfo();
+			rangeInfo.copyObject(toolContInfo);
+			rangeInfo.setContainerFile((List<String>)null);
+			rangeInfo.setFileNameSuffix(getKeyRangeSuffix(i));
+			workers[i] = new ContainerExportWorker(comLineInfo, dbName, toolContInfo.getName(),
+					rangeInfo, queryString + " WHERE " + conditions.get(i));
+			workers[i].start();
+		}
+
+		long count = 0;
+		GSEIException error = null;
+		List<String> fileList = new ArrayList<String>();
+		for ( ContainerExportWorker worker : workers ){
+			try {
+				worker.join();
+			} catch ( InterruptedException e ){
+				Thread.currentThread().interrupt();
+				if ( error == null ){
+					error = new GSEIException(messageResource.getString("MESS_EXPORT_ERR_EXPORTPROC_5")
+							+ ": containerName=["+toolContInfo.getName()+"] msg=["+ e.getMessage()+"]", e);
+				}
+				continue;
+			}
+			if ( worker.getError() != null ){
+				if ( error == null ){
+					error = worker.getError();
+				}
+			} else if ( worker.getRowCount() > 0 ){
+				count += worker.getRowCount();
+				fileList.addAll(worker.getContainerInfo().getContainerFileList());
+			}
+		}
+		if ( error != null ){
+			throw error;
+		}
+
+		toolContInfo.setContainerFile(fileList);
+		return count;
+	}
+
+	/**
+	 * Exports the rows of a row key range to the row file.
+	 * (Called from ContainerExportWorker)
+	 *
+	 * @param dbName Database name
+	 * @param contName Container name
+	 * @param rangeInfo Container information object of the range
+	 * @param queryString Search query of the range
+	 * @return Number of rows
+	 * @throws GSEIException
+	 */
+	long exportKeyRange(String dbName, String contName, ToolContainerInfo rangeInfo, String queryString) throws GSEIException {
+		GridStore store = null;
+		Container<?, Row> container = null;
+		Query<Row> query = null;
+		RowSet<Row> rs = null;
+		GSEIFileIO rowFile = null;
+		long rowCount = 0;
+		final FetchOption fetchOptPARTIAL = FetchOption.PARTIAL_EXECUTION;
+		try {
+			store = gridStoreServerIO.getConnection(comLineInfo, dbName);
+			container = store.getContainer(contName);
+			if ( container == null ) {
+				throw new GSEIException(messageResource.getString("MESS_EXPORT_ERR_EXPORTPROC_18"));
+			}
+			try {
+				long metricsStart = ProcessMetrics.startTime();
+				query = container.query(queryString);
+				query.setFetchOption(fetchOptPARTIAL, true);
+				rs = query.fetch();
+				ProcessMetrics.record(ProcessMetrics.Phase.QUERY, metricsStart);
+			} catch ( GSException ex ){
+				// There was an error in the search.
+				String errMsg = messageResource.getString("MESS_EXPORT_ERR_EXPORTPROC_23") + queryString;
+				throw new GSEIException(errMsg, ex);
+			}
+
+			rowFile = GSEIFileIOFactory.createFileIO(comLineInfo.getRowFileType(), comLineInfo);
+			rowFile.startWrite();
+			rowFile.startWriteContainer(rangeInfo);
+			if ( comLineInfo.getExportPipelineQueueSize() > 0 ){
+				// The rows are written by the writer thread of the pipeline
+				RowWritePipeline pipeline = new RowWritePipeline(rowFile, comLineInfo.getExportPipelineQueueSize());
+				pipeline.start();
+				try {
+					while ( rs.hasNext() ){
+						pipeline.put(rs.next());
+						rowCount++;
+
+						// Thread stop check
+						if ( exportProcess.m_stopFlag ){
+							throw createStopError(contName, rangeInfo);
+						}
+					}
+					pipeline.finish();
+				} finally {
+					pipeline.abort();
+				}
+			} else {
+				int rowNum = 0;
+				while ( rs.hasNext() ){
+					Row row = rs.next();
+					long metricsStart = ProcessMetrics.startTime();
+					rowFile.writeRow(row, rowNum++);
+					ProcessMetrics.record(ProcessMetrics.Phase.WRITE, metricsStart);
+					rowCount++;
+
+					// Thread stop check
+					if ( exportProcess.m_stopFlag ){
+						throw createStopError(contName, rangeInfo);
+					}
+				}
+			}
+			rowFile.endWriteContainer();
+			rowFile.endWrite();
+			rowFile = null;
+
+			if ( rowCount == 0 ){
+				// The row file of the empty range is not listed in the metadata
+				for ( String fileName : rangeInfo.getContainerFileList() ){
+					new File(comLineInfo.getDirectoryPath(), fileName).delete();
+				}
+			}
+			return rowCount;
+
+		} catch ( GSEIException e ){
+			throw e;
+		} catch ( Exception e ){
+			throw new GSEIException(messageResource.getString("MESS_EXPORT_ERR_EXPORTPROC_5")
+					+ ": containerName=["+contName+"] msg=["+ e.getMessage()+"]", e);
+		} finally {
+			try {
+				if ( rowFile != null ) rowFile.endWrite();
+				if ( rs != null ) rs.close();
+				if ( query != null ) query.close();
+				if ( container != null ) container.close();
+				if ( store != null ) store.close();
+			} catch ( Exception e ){}
+		}
+	}
+
+
+	/**
+	 * Creates the error of the row key range stopped by an error of another thread.
+	 *
+	 * @param contName Container name
+	 * @param rangeInfo Container information object of the range
+	 * @return Error
+	 */
+	private static GSEIException createStopError(String contName, ToolContainerInfo rangeInfo) {
+		return new GSEIException(messageResource.getString("MESS_EXPORT_ERR_EXPORTPROC_2E")
+				+ ": containerName=["+contName+"] file=["+rangeInfo.getFileBaseName()+"]");
+	}
+
 	/**
 	 * Check the existence of the output destination directory.
 	 *
@@ -1394,7 +2102,8 @@ public class exportProcess {
 				}
 			}
 			File exportJson = new File(dir, GSConstants.FILE_GS_EXPORT_JSON);
-			if ( exportJson.exists() ){
+			// With --incremental, the previous export result is the base of the export
+			if ( exportJson.exists() && !comLineInfo.getIncrementalFlag() ){
 				// The Export result already exists in the specified directory.
 				throw new GSEIException(messageResource.getString("MESS_EXPORT_ERR_EXPORTPROC_19")
 						+": path=["+dir.getAbsolutePath()+"]");
@@ -1438,6 +2147,136 @@ public class exportProcess {
 		return queryString;
 	}
 
+	/**
+	 * Read the Export management file of the previous export result for incremental export.
+	 *
+	 * @throws GSEIException
+	 */
+	private void readPrevExportManagerFile() throws GSEIException {
+
+		m_prevMetaFileMap = null;
+		if ( !comLineInfo.getIncrementalFlag() ){
+			return;
+		}
+		File exportJson = new File(comLineInfo.getDirectoryPath(), GSConstants.FILE_GS_EXPORT_JSON);
+		if ( !exportJson.exists() ){
+			// The first export is a full export
+			return;
+		}
+
+		// readExportManagerFile() sets the parallel count of the previous export
+		int parallelCount = comLineInfo.getParallelCount();
+		try {
+			metaInformationFileIO fileIO = new metaInformationFileIO(comLineInfo);
+			Map<String, String> map = new HashMap<String, String>();
+			for ( GSEIContInfo contInfo : fileIO.readExportManagerFile() ){
+				map.put(getPrevMetaFileKey(contInfo.getDbName(), contInfo.getContainerName()), contInfo.getMetaFileName());
+			}
+			m_prevMetaFileMap = map;
+
+		} catch ( GSEIException e ){
+			// D0052D: An unexpected error occurred while reading the previous export result for the incremental export.
+			throw new GSEIException(messageResource.getString("MESS_EXPORT_ERR_EXPORTPROC_2D")+": "+e.getMessage(), e);
+		} finally {
+			comLineInfo.setParallelCount(parallelCount);
+		}
+	}
+
+	private static String getPrevMetaFileKey(String dbName, String contName){
+		if ( (dbName == null) || dbName.equalsIgnoreCase(ToolConstants.PUBLIC_DB) ){
+			dbName = ToolConstants.PUBLIC_DB;
+		}
+		return dbName + ToolConstants.DB_DELIMITER + contName;
+	}
+
+	/**
+	 * Read the meta information of the container in the previous export result.
+	 *
+	 * @param metaFileIO Meta information file reader
+	 * @param dbName Database name
+	 * @param contName Container name
+	 * @return Container information (null if the container was not exported)
+	 * @throws GSEIException
+	 */
+	private ToolContainerInfo readPrevContainerInfo(MetaContainerFileIO metaFileIO, String dbName, String contName) throws GSEIException {
+		if ( m_prevMetaFileMap == null ){
+			return null;
+		}
+		String metaFileName = m_prevMetaFileMap.get(getPrevMetaFileKey(dbName, contName));
+		if ( metaFileName == null ){
+			return null;
+		}
+		File metaFile = new File(comLineInfo.getDirectoryPath(), metaFileName);
+		try {
+			return metaFileIO.readMetaInfo(metaFile, contName, dbName);
+		} catch ( Exception e ){
+			// D0052D: An unexpected error occurred while reading the previous export result for the incremental export.
+			throw new GSEIException(messageResource.getString("MESS_EXPORT_ERR_EXPORTPROC_2D")
+					+": path=["+metaFile.getAbsolutePath()+"] msg=["+e.getMessage()+"]", e);
+		}
+	}
+
+	/**
+	 * Returns the high watermark string.
+	 *
+	 *   A TIMESTAMP(6)/(9) column keeps the microseconds/nanoseconds, so that the rows of the
+	 *   last millisecond are not exported again by the next incremental export.
+	 *
+	 * @param highWatermark Maximum row key
+	 * @param precision Precision of the column (null: milliseconds)
+	 * @param sdfWatermark Format of the milliseconds
+	 * @return High watermark string
+	 */
+	private static String formatHighWatermark(Timestamp highWatermark, TimeUnit precision, SimpleDateFormat sdfWatermark) {
+		if ( precision == null ){
+			return sdfWatermark.format(highWatermark);
+		}
+		return ZonedDateTime.ofInstant(highWatermark.toInstant(), ZoneOffset.UTC).format(MetaContainerFileIO.getDateTimeFormatter(precision));
+	}
+
+	/**
+	 * Parses the high watermark string of formatHighWatermark().
+	 *
+	 * @param value High watermark string
+	 * @param sdfWatermark Format of the milliseconds
+	 * @return Maximum row key
+	 * @throws ParseException
+	 */
+	private static Timestamp parseHighWatermark(String value, SimpleDateFormat sdfWatermark) throws ParseException {
+		try {
+			return Timestamp.from(OffsetDateTime.parse(value).toInstant());
+		} catch ( DateTimeParseException e ){
+			// Milliseconds (yyyy-MM-dd'T'HH:mm:ss.SSSZ)
+			return new Timestamp(sdfWatermark.parse(value).getTime());
+		}
+	}
+
+	private static Timestamp maxTimestamp(Timestamp a, Timestamp b) {
+		if ( a == null ){
+			return b;
+		}
+		return ( (b != null) && b.after(a) ) ? b : a;
+	}
+
+	/**
+	 * Returns the minimum boundary value raised to the high watermark of the previous export.
+	 *
+	 * @param minBoundaryValue Minimum boundary value
+	 * @param maxBoundaryValue Maximum boundary value
+	 * @param highWatermark Maximum row key of the previous export (null if none)
+	 * @return Minimum boundary value
+	 */
+	private static Timestamp applyHighWatermark(Timestamp minBoundaryValue, Timestamp maxBoundaryValue, Timestamp highWatermark) {
+		if ( (highWatermark == null) || (highWatermark.getTime() <= minBoundaryValue.getTime()) ){
+			return minBoundaryValue;
+		}
+		if ( highWatermark.getTime() > maxBoundaryValue.getTime() ){
+			// No newer rows. The query of the range returns no row.
+			return maxBoundaryValue;
+		}
+		return highWatermark;
+	}
+
 	/**
 	 * Read the query file for extraction search.
 	 *
@@ -1608,3 +2447,93 @@ class ExportThread extends Thread {
 	}
 }
 
+/**
+ * Thread class to export a row key range of one container.
+ */
+class ContainerExportWorker extends Thread {
+
+	/**
+	 * Setting information object
+	 */
+	private commandLineInfo m_operationInfo;
+
+	/**
+	 * Database name
+	 */
+	private String m_dbName;
+
+	/**
+	 * Container name
+	 */
+	private String m_contName;
+
+	/**
+	 * Container information object of the range (row file name)
+	 */
+	private ToolContainerInfo m_rangeInfo;
+
+	/**
+	 * Search query of the range
+	 */
+	private String m_queryString;
+
+	/**
+	 * Number of rows
+	 */
+	private long m_rowCount;
+
+	/**
+	 * Error that occurred in the thread
+	 */
+	private GSEIException m_error;
+
+	/**
+	 * Metrics of the container (null: not measured)
+	 */
+	private ProcessMetrics.ContainerMetrics m_metrics;
+
+	/**
+	 * constructor
+	 *
+	 * @param operationInfo Setting information object
+	 * @param dbName Database name
+	 * @param contName Container name
+	 * @param rangeInfo Container information object of the range
+	 * @param queryString Search query of the range
+	 */
+	ContainerExportWorker(commandLineInfo operationInfo, String dbName, String contName,
+			ToolContainerInfo rangeInfo, String queryString){
+		m_operationInfo = operationInfo;
+		m_dbName = dbName;
+		m_contName = contName;
+		m_rangeInfo = rangeInfo;
+		m_queryString = queryString;
+		m_metrics = ProcessMetrics.getContainer();
+	}
+
+	public ToolContainerInfo getContainerInfo(){
+		return m_rangeInfo;
+	}
+
+	public long getRowCount(){
+		return m_rowCount;
+	}
+
+	public GSEIException getError(){
+		return m_error;
+	}
+
+	/**
+	 * Export processing of the range is performed in the thread.
+	 */
+	public void run(){
+		exportProcess proc = new exportProcess(m_operationInfo);
+		ProcessMetrics.setContainer(m_metrics);
+		try {
+			m_rowCount = proc.exportKeyRange(m_dbName, m_contName, m_rangeInfo, m_queryString);
+		} catch ( GSEIException e ){
+			m_error = e;
+		}
+	}
+}
+
@@ -29,7 +29,6 @@ import com.toshiba.mwcloud.gs.GridStoreFactory;
 import com.toshiba.mwcloud.gs.Row;
 import com.toshiba.mwcloud.gs.tools.common.data.ToolConstants;
 import com.toshiba.mwcloud.gs.tools.expimp.util.Utility;
-import java.util.HashMap;
 
 /**
  * GGridStore access class
@@ -49,6 +48,29 @@ public class gridStoreServerIO {
 	 */
 	private static final Logger log = LoggerFactory.getLogger(gridStoreServerIO.class);
 
+	/**
+	 * Connections used instead of the cluster.
+	 *   (Set only by the benchmarks, which run the tools against an in-memory stand-in of the cluster)
+	 */
+	interface ConnectionFactory {
+		GridStore connect(String database, String user) throws GSEIException;
+		Connection connectJdbc(String database) throws GSEIException;
+	}
+
+	/**
+	 * Connections used instead of the cluster (null: Connect to the cluster)
+	 */
+	private static volatile ConnectionFactory m_connectionFactory = null;
+
+	/**
+	 * Set the connections used instead of the cluster.
+	 *
+	 * @param factory Connections (null: Connect to the cluster)
+	 */
+	static void setConnectionFactory(ConnectionFactory factory) {
+		m_connectionFactory = factory;
+	}
+
 	/** GridStore object */
 	//private GridStore m_gridStore;
 
@@ -105,6 +127,27 @@ public class gridStoreServerIO {
 		return getConnection(cli, ToolConstants.PUBLIC_DB);
 	}
 	public static GridStore getConnection(commandLineInfo cli, String database) throws GSEIException {
+		if ( cli.getConnectionPool() != null ){
+			// Shared connection (close() returns it to the pool)
+			return cli.getConnectionPool().getStore(cli, database);
+		}
+		return openConnection(cli, database);
+	}
+
+	/**
+	 * Connects to the GridStore server (without the connection pool).
+	 *
+	 * @param cli Command parameter information
+	 * @param database Database name
+	 * @return GridStore instance
+	 * @throws GSEIException
+	 */
+	static GridStore openConnection(commandLineInfo cli, String database) throws GSEIException {
+		ConnectionFactory factory = m_connectionFactory;
+		if ( factory != null ){
+			return factory.connect(database, cli.getUserName());
+		}
+
 		// Server connection
 		GridStore store = null;
 		String errmsg = "";
@@ -213,6 +256,27 @@ public class gridStoreServerIO {
 	 * @throws GSEIException
 	 */
 	public static Connection getJdbcConnection(commandLineInfo cli, String database) throws GSEIException {
+		if ( cli.getConnectionPool() != null ){
+			// Shared connection (close() returns it to the pool)
+			return cli.getConnectionPool().getJdbcConnection(cli, database);
+		}
+		return openJdbcConnection(cli, database);
+	}
+
+	/**
+	 * Connects with JDBC (without the connection pool).
+	 *
+	 * @param cli Command parameter information
+	 * @param database Database name
+	 * @return Connection
+	 * @throws GSEIException
+	 */
+	static Connection openJdbcConnection(commandLineInfo cli, String database) throws GSEIException {
+		ConnectionFactory factory = m_connectionFactory;
+		if ( factory != null ){
+			return factory.connectJdbc(database);
+		}
+
 		Connection conn = null;
 		String url = null;
 		try {
@@ -302,127 +366,6 @@ public class gridStoreServerIO {
 	}
 
 
-	/**
-	 * インターバルパーティショニングテーブル(パーティショニングキーがTimestamp型)　テーブル名一覧取得メソッド
-	 * @param conn
-	 * @return
-	 * @throws Exception
-	 */
-	public static Set<String> getIntervalPartitionTableNames(Connection conn) throws Exception{
-		Statement stmt = null;
-		ResultSet rs = null;
-		Set<String> setPartitionNames = new HashSet<String>();
-		try {
-			stmt = conn.createStatement();
-			rs = stmt.executeQuery(ToolConstants.STMT_SELECT_META_TABLES_INTERVAL_PARTITIONNAMES);
-			while (rs.next()) {
-				String partName = rs.getString(ToolConstants.META_TABLES_TABLE_NAME);
-				setPartitionNames.add(partName);
-			}
-		} catch (Exception e ){
-			throw e;
-		}
-
-		return setPartitionNames;
-	}
-	
-	/**
-	 * インターバルパーティショニングテーブル(パーティショニングキーがTimestamp型以外)　テーブル名一覧取得メソッド
-	 * @param conn
-	 * @return
-	 * @throws Exception
-	 */
-	public static Set<String> getIntervalPartitionTableNotTimestampNames(Connection conn) throws Exception{
-		Statement stmt = null;
-		ResultSet rs = null;
-		Set<String> setPartitionNames = new HashSet<String>();
-		try {
-			stmt = conn.createStatement();
-			rs = stmt.executeQuery(ToolConstants.STMT_SELECT_META_TABLES_INTERVAL_NOT_TIMESTAMP_PARTITIONNAMES);
-			while (rs.next()) {
-				String partName = rs.getString(ToolConstants.META_TABLES_TABLE_NAME);
-				setPartitionNames.add(partName);
-			}
-		} catch (Exception e ){
-			throw e;
-		}
-
-		return setPartitionNames;
-	}
-
-	/**
-	 * ハッシュパーティショニングテーブル(パーティショニングキーがTimestamp型以外)　テーブル名一覧取得メソッド
-	 * @param conn
-	 * @return
-	 * @throws Exception
-	 */
-	public static Set<String> getHashParitionTableNotTimestampNames(Connection conn) throws Exception{
-		Statement stmt = null;
-		ResultSet rs = null;
-		Set<String> setPartitionNames = new HashSet<String>();
-		try {
-			stmt = conn.createStatement();
-			rs = stmt.executeQuery(ToolConstants.STMT_SELECT_META_TABLES_HASH_NOT_TIMESTAMP_PARTITIONNAMES);
-			while (rs.next()) {
-				String partName = rs.getString(ToolConstants.META_TABLES_TABLE_NAME);
-				setPartitionNames.add(partName);
-			}
-		} catch (Exception e ){
-			throw e;
-		}
-
-		return setPartitionNames;
-	}
-	
-	/**
-	 * TimeSeriesコンテナ　コンテナ名一覧取得メソッド
-	 * @param conn
-	 * @return
-	 * @throws Exception
-	 */
-	public static Set<String> getTimeSeriesContainerNames(Connection conn) throws Exception{
-		Statement stmt = null;
-		ResultSet rs = null;
-		Set<String> setContainerNames = new HashSet<String>();
-		try {
-			stmt = conn.createStatement();
-			rs = stmt.executeQuery(ToolConstants.STMT_SELECT_META_TIMESERIES_NAMES);
-			while (rs.next()) {
-				String partName = rs.getString(ToolConstants.META_TABLES_TABLE_NAME);
-				setContainerNames.add(partName);
-			}
-		} catch (Exception e ){
-			throw e;
-		}
-
-		return setContainerNames;
-	}
-	
-    /**
-     * Get a list of tables that has interval worker group properties
-     * @param conn the JBDC connection
-     * @return list of tables in a map (tableName -> {intervalWorkerGroup, intervalWorkerGroupPos})
-     * @throws Exception
-     */
-	public static HashMap<String, Integer[]> getTablesHasIntervalWorkerGroup(Connection conn) throws Exception {
-		HashMap<String, Integer[]> tablesMap = new HashMap<>();
-		try {
-			Statement stmt  = conn.createStatement();
-			ResultSet rs    = stmt.executeQuery(ToolConstants.STMT_SELECT_META_TABLES_INTERVAL_WORKER_GROUP);
-			while (rs.next()) {
-				String  tableName               = rs.getString(ToolConstants.META_TABLES_TABLE_NAME);
-				Integer intervalWorkerGroup     = (Integer) rs.getObject(ToolConstants.META_TABLES_INTERVAL_WORKER_GROUP);
-				Integer intervalWorkerGroupPos  = (Integer) rs.getObject(ToolConstants.META_TABLES_INTERVAL_WORKER_GROUP_POS);
-				Integer[] columnsMap = {intervalWorkerGroup, intervalWorkerGroupPos};
-				tablesMap.put(tableName, columnsMap);
-			}
-		} catch (Exception e ) {
-			throw e;
-		}
-
-		return tablesMap;
-	}
-
 	/**
 	 * Method to create container on GridStore
 	 *
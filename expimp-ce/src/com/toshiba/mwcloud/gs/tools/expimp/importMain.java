@@ -66,6 +66,11 @@ public class importMain {
 			}
 			commandProgressStatus.setCommandLineInfo(cli);
 
+			// Start measuring the processing metrics (metrics.path)
+			if ( !cli.getListFlag() ){
+				ProcessMetrics.start(cli);
+			}
+
 			if (cli.getAppendFlag()) {
 				// Append Mode	Start importing (addition mode)
 				cli.sysoutString(messageResource.getString("MESS_IMPORT_PROC_IMPORTMAIN_2"));
@@ -135,6 +140,9 @@ public class importMain {
 			status = false;
 		}
 
+		// Write the processing metrics
+		ProcessMetrics.finish();
+
 		if ( status ){
 			System.exit(0);
 		} else {
@@ -21,6 +21,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.Statement;
 import java.text.SimpleDateFormat;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
@@ -28,8 +29,10 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.ResourceBundle;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 
 import javax.json.Json;
 import javax.json.stream.JsonParser;
@@ -101,6 +104,42 @@ public class importProcess {
 
 	private Set<String> m_partitionTableSet;
 
+	/**
+	 * Rows collected for multiPut instead of being registered (null: register)
+	 */
+	private List<Row> m_multiPutRows;
+
+	/**
+	 * Size of the batches of importData()
+	 */
+	private CommitBatchSizer m_batchSizer;
+
+	/**
+	 * Checkpoint journal (--resume)  (null: not recorded)
+	 */
+	private static CheckpointJournal m_journal;
+
+	/**
+	 * Upper limit of the bytes of the rows kept by all the threads (import.memoryBudget)  (null: none)
+	 */
+	private static MemoryGovernor m_memoryGovernor;
+
+	/**
+	 * Container whose registered rows are recorded in the checkpoint journal (null: not recorded)
+	 */
+	private ToolContainerInfo m_checkpointContInfo;
+
+	/**
+	 * Index of the first row file of importData() in the row file list of the container
+	 */
+	private int m_checkpointFileIndex;
+
+	/**
+	 * First error of the threads registering the rows of one container (null: registered by one thread)
+	 *   (When an error is set, the other threads stop before their next batch)
+	 */
+	private AtomicReference<GSEIException> m_containerError;
+
 	/**
 	 * Constructor
 	 *
@@ -180,6 +219,20 @@ public class importProcess {
 			// ----------------------------------------------------
 			checkExistsDirFile();
 
+			// ----------------------------------------------------
+			// Checkpoint journal (With --resume, the records of the previous run are read)
+			// ----------------------------------------------------
+			m_memoryGovernor = null;
+			if ( comLineInfo.getImportMemoryBudget() > 0 ){
+				m_memoryGovernor = new MemoryGovernor(comLineInfo.getImportMemoryBudget());
+			}
+
+			m_journal = null;
+			if ( !comLineInfo.getListFlag() && !comLineInfo.getTestFlag() ){
+				m_journal = new CheckpointJournal(new File(comLineInfo.getDirectoryPath(), GSConstants.FILE_GS_IMPORT_JOURNAL),
+						comLineInfo.getResumeFlag());
+			}
+
 			// ----------------------------------------------------
 			// Import or list Get the list of containers to be displayed from a local file
 			// ----------------------------------------------------
@@ -259,26 +312,14 @@ public class importProcess {
 
 
 				ImportThread[] threadList = new ImportThread[nThreads];
-				int n = 0;
-				
-				// 並列数分のリスト作成
-				List<List<GSEIContInfo>> listGCIs = new ArrayList<List<GSEIContInfo>>();
-				for ( int i = 0; i < nThreads; i++ ){
-					listGCIs.add(new ArrayList<GSEIContInfo>());
-				}
-				// 並列数分にimport対象コンテナを振り分け
-				for ( List<GSEIContInfo> list : map.values() ){
-					List<GSEIContInfo> tmp = new ArrayList<GSEIContInfo>(listGCIs.get(n%nThreads));
-					tmp.addAll(list);
-					listGCIs.set(n%nThreads, tmp);
-					n++;
-				}
-				int nt = 0;
+
+				// 各スレッドが取り出すimport対象コンテナのキュー(ロウファイルサイズの大きい順)
+				Queue<GSEIContInfo> queue = mng.createImportQueue(comLineInfo);
+
 				// 並列数分のスレッド生成
-				for ( List<GSEIContInfo> list : listGCIs ){
+				for ( int nt = 0; nt < nThreads; nt++ ){
 					threadList[nt] = new ImportThread(nt, comLineInfo);
-					threadList[nt].setContainerList(list, skipDbList);
-					nt++;
+					threadList[nt].setContainerQueue(queue, skipDbList);
 				}
 				
 				for ( int i = 0; i < nThreads; i++ ){
@@ -331,6 +372,24 @@ public class importProcess {
 			log.error(messageResource.getString("MESS_IMPORT_ERR_IMPORTMAIN_1"), ee );
 			commandProgressStatus.setContainerStatus(null, false, messageResource.getString("MESS_IMPORT_ERR_IMPORTMAIN_1") + ee.getMessage());
 			status = false;
+
+		} finally {
+			if ( m_memoryGovernor != null ){
+				log.info("Memory budget : budget=[" + m_memoryGovernor.getBudget() + "] maxReserved=["
+						+ m_memoryGovernor.getMaxReserved() + "] waits=[" + m_memoryGovernor.getWaitCount() + "]");
+			}
+			if ( m_journal != null ){
+				// The journal is not needed after the normal end
+				if ( status ){
+					m_journal.delete();
+				} else {
+					m_journal.close();
+				}
+				m_journal = null;
+			}
+			if ( comLineInfo.getConnectionPool() != null ){
+				comLineInfo.getConnectionPool().close();
+			}
 		}
 
 		return status;
@@ -889,12 +948,26 @@ public class importProcess {
 	 * @throws Exception
 	 */
 	public int import1(List<GSEIContInfo> dataList, Set<String> skipDbList) {
+		return import1(new ArrayDeque<GSEIContInfo>(dataList), skipDbList);
+	}
+
+	/**
+	 * Perform the import process.
+	 * Containers are taken from the queue until it becomes empty.
+	 * (In parallel processing, the queue is shared by the threads)
+	 *
+	 * @param dataQueue Container queue
+	 * @return Number of containers successfully processed
+	 * @throws Exception
+	 */
+	public int import1(Queue<GSEIContInfo> dataQueue, Set<String> skipDbList) {
 
 		String prevDbName = null;
 		GridStore store = null;
 		Connection conn = null;
 		int successCount = 0;
 		MetaContainerFileIO metaFileIO = new MetaContainerFileIO();
+		MultiPutBatch multiPutBatch = new MultiPutBatch();
 
 		if ( comLineInfo.getTestFlag() ){
 			return -1;
@@ -903,159 +976,289 @@ public class importProcess {
 		//RowSerialize.registerTheradId(Thread.currentThread().getId());
 		TargetContainerManager control = TargetContainerManager.getInstance();
 
-		// Container loop
-		for ( GSEIContInfo data : dataList ){
-			long startTime = System.currentTimeMillis();
-			String containerName = data.getContainerName();
-
-			try {
-				if ( (skipDbList != null) && (data.getDbName()!=null) && skipDbList.contains(data.getDbName().toLowerCase()) ){
-					continue;
-				}
+		try {
+			// Container loop
+			GSEIContInfo data;
+			while ( (data = dataQueue.poll()) != null ){
+				long startTime = System.currentTimeMillis();
+				String containerName = data.getContainerName();
 
+				try {
+					if ( (skipDbList != null) && (data.getDbName()!=null) && skipDbList.contains(data.getDbName().toLowerCase()) ){
+						continue;
+					}
 
-				// ---------------------------
-				// Reading meta information file
-				// ---------------------------
-				long startMeta = System.currentTimeMillis();
-				ToolContainerInfo contInfo = metaFileIO.readMetaInfo(new File(comLineInfo.getDirectoryPath(), data.getMetaFileName()), containerName, data.getDbName());
-				checkContainerInfo(contInfo);
-				long endMeta = System.currentTimeMillis();
-				if ( m_fileIO == null ){
-					// Raw file read object (Since the file output type csv / binray is required,
-					// it is executed at this timing when the metafile is read)
-					m_fileIO = GSEIFileIOFactory.createFileIO(contInfo.getContainerFileType(), comLineInfo);
-					// (V5.2)SimpleDateFormatのフォーマットを変更したため、下位互換を持たせる
-					if ((contInfo.getContainerFileType().equals(RowFileType.CSV) || contInfo.getContainerFileType().equals(RowFileType.ARCHIVE_CSV)) 
-							&& contInfo.getVersion().compareTo(GSConstants.EXPORT_MNG_FILE_VERSION_3) < 0) {
-						m_fileIO.changeDateFormat();
+					// --resume : the container finished in the previous run
+					if ( (m_journal != null) && m_journal.isFinished(data.getDbName(), data.getContainerName()) ){
+						String msg = messageResource.getString("MESS_IMPORT_PROC_IMPORTPROC_6") + containerName;
+						comLineInfo.sysoutVerboseString(msg);
+						log.info(msg);
+						successCount++;
+						continue;
 					}
-				}
 
-				containerName = contInfo.getFullName();
 
-				// --------------------------------------
-				// GridStore connection (reconnect if DB is different)
-				// --------------------------------------
-				if ( (((prevDbName == null)&&(prevDbName != contInfo.getDbName()))
-						|| ((prevDbName != null)&&!prevDbName.equalsIgnoreCase(contInfo.getDbName())))
-						|| (store==null) ){
-					if ( store != null ) {
-						store.close();
-						store = null;
+					ProcessMetrics.startContainer(data.getDbName(), data.getContainerName());
+
+					// ---------------------------
+					// Reading meta information file
+					// ---------------------------
+					long startMeta = System.currentTimeMillis();
+					long metricsStart = ProcessMetrics.startTime();
+					ToolContainerInfo contInfo = metaFileIO.readMetaInfo(new File(comLineInfo.getDirectoryPath(), data.getMetaFileName()), containerName, data.getDbName());
+					checkContainerInfo(contInfo);
+					ProcessMetrics.record(ProcessMetrics.Phase.READ_META, metricsStart);
+					long endMeta = System.currentTimeMillis();
+					if ( m_fileIO == null ){
+						// Raw file read object (Since the file output type csv / binray is required,
+						// it is executed at this timing when the metafile is read)
+						m_fileIO = createFileIO(contInfo);
 					}
-					store = gridStoreServerIO.getConnection(comLineInfo, contInfo.getDbName());
 
-					if ( comLineInfo.isJdbcEnabled() ) {
-						if (conn != null) {
-							conn.close();
-							conn = null;
+					containerName = contInfo.getFullName();
+
+					// --------------------------------------
+					// GridStore connection (reconnect if DB is different)
+					// --------------------------------------
+					if ( (((prevDbName == null)&&(prevDbName != contInfo.getDbName()))
+							|| ((prevDbName != null)&&!prevDbName.equalsIgnoreCase(contInfo.getDbName())))
+							|| (store==null) ){
+						if ( store != null ) {
+							// Register the rows of the previous database
+							successCount += flushMultiPut(store, multiPutBatch);
+							if ( importProcess.m_stopFlag ){
+								break;
+							}
+							store.close();
+							store = null;
 						}
-						conn = gridStoreServerIO.getJdbcConnection(comLineInfo, contInfo.getDbName());
-						// Get a list of partition table names when connecting to JDBC
-						m_partitionTableSet = gridStoreServerIO.getPartitionTableNames(conn);
+						store = gridStoreServerIO.getConnection(comLineInfo, contInfo.getDbName());
 
-					}
-					prevDbName = contInfo.getDbName();
-				}
+						if ( comLineInfo.isJdbcEnabled() ) {
+							if (conn != null) {
+								conn.close();
+								conn = null;
+							}
+							conn = gridStoreServerIO.getJdbcConnection(comLineInfo, contInfo.getDbName());
+							// Get a list of partition table names when connecting to JDBC
+							m_partitionTableSet = gridStoreServerIO.getPartitionTableNames(conn);
 
-				// ---------------------------
-				// Search container information
-				// ---------------------------
-				long startSearch = System.currentTimeMillis();
-				ContainerInfo cInfo = store.getContainerInfo(contInfo.getName());
-				long endSearch = System.currentTimeMillis();
+						}
+						prevDbName = contInfo.getDbName();
+					}
 
-				// ---------------------------
-				// Create or get a container
-				// ---------------------------
-				long startCreate = System.currentTimeMillis();
-				Container<?, Row> targetContainer = null;
-				if (contInfo.isPartitioned()) {
-					// Partition table created via JDBC
-					targetContainer = createPartitionTable(conn, store, cInfo, contInfo);
-				} else {
-					// メタデータファイルにIntervalWorkerGroup・IntervalWorkerGroupPosが指定されるとエラーになる
-					if (contInfo.getIntervalWorkerGroup() != null || contInfo.getIntervalWorkerGroupPos() != null) {
-						throw new GSEIException(messageResource.getString("MESS_COMM_ERR_METAINFO_47")
-								+": db=["+contInfo.getDbName()+"] containerName=["+contInfo.getName()+"]");
+					// ---------------------------
+					// Search container information
+					// ---------------------------
+					long startSearch = System.currentTimeMillis();
+					metricsStart = ProcessMetrics.startTime();
+					ContainerInfo cInfo = store.getContainerInfo(contInfo.getName());
+					ProcessMetrics.record(ProcessMetrics.Phase.SEARCH, metricsStart);
+					long endSearch = System.currentTimeMillis();
+
+					// ---------------------------
+					// Create or get a container
+					// ---------------------------
+					long startCreate = System.currentTimeMillis();
+					metricsStart = ProcessMetrics.startTime();
+					Container<?, Row> targetContainer = null;
+					// --resume : the rows registered in the previous run (row file index, row number in the file)
+					String[] resumeMark = null;
+					String[] createdMark = null;
+					if ( (m_journal != null) && (cInfo != null) ){
+						resumeMark = m_journal.getLastRecord(CheckpointJournal.TYPE_BATCH, contInfo.getDbName(), contInfo.getName());
+						createdMark = m_journal.getLastRecord(CheckpointJournal.TYPE_CREATED, contInfo.getDbName(), contInfo.getName());
 					}
-					// Regular container created with Java API
-					targetContainer = createContainer(store, cInfo, contInfo);
-				}
-				long endCreate = System.currentTimeMillis();
+					if ( resumeMark != null ){
+						// Continue the registration to the container created in the previous run
+						String msg = messageResource.getString("MESS_IMPORT_PROC_IMPORTPROC_7") + containerName;
+						comLineInfo.sysoutVerboseString(msg);
+						log.info(msg);
+						targetContainer = store.getContainer(contInfo.getName());
+					} else {
+						if ( createdMark != null ){
+							if ( CheckpointJournal.CREATED_NEW.equals(createdMark[0]) ){
+								// --resume : The container created in the previous run has no committed batch recorded
+								// (multiPut, registration by several threads, or stopped before the first commit).
+								// Its rows are not known, so it is dropped and created again.
+								String msg = messageResource.getString("MESS_IMPORT_PROC_IMPORTPROC_8") + containerName;
+								comLineInfo.sysoutVerboseString(msg);
+								log.info(msg);
+								if ( contInfo.isPartitioned() ){
+									dropTable(conn, contInfo.getName());
+								} else {
+									store.dropContainer(contInfo.getName());
+								}
+								cInfo = null;
+							} else {
+								// The rows added to an existing container in the previous run cannot be distinguished from the other rows
+								log.warn("The rows registered to the existing container in the previous run may be registered again: db=["
+										+ contInfo.getDbName() + "] containerName=[" + contInfo.getName() + "]");
+							}
+						}
+						// NEW : the rows of the container are only the rows registered by this import
+						String created = ( (cInfo == null) || comLineInfo.getReplaceFlag() ) ? CheckpointJournal.CREATED_NEW : CheckpointJournal.CREATED_EXISTING;
 
-				// ---------------------------
-				// Raw data registration
-				// ---------------------------
-				long count = importData(targetContainer, contInfo, 0, -1);
+						if (contInfo.isPartitioned()) {
+							// Partition table created via JDBC
+							targetContainer = createPartitionTable(conn, store, cInfo, contInfo);
+						} else {
+							// メタデータファイルにIntervalWorkerGroup・IntervalWorkerGroupPosが指定されるとエラーになる
+							if (contInfo.getIntervalWorkerGroup() != null || contInfo.getIntervalWorkerGroupPos() != null) {
+								throw new GSEIException(messageResource.getString("MESS_COMM_ERR_METAINFO_47")
+										+": db=["+contInfo.getDbName()+"] containerName=["+contInfo.getName()+"]");
+							}
+							// Regular container created with Java API
+							targetContainer = createContainer(store, cInfo, contInfo);
+						}
+						if ( m_journal != null ){
+							m_journal.append(CheckpointJournal.TYPE_CREATED, contInfo.getDbName(), contInfo.getName(), created);
+						}
+					}
+					ProcessMetrics.record(ProcessMetrics.Phase.CREATE, metricsStart);
+					long endCreate = System.currentTimeMillis();
+
+					// ---------------------------
+					// Raw data registration
+					// ---------------------------
+					List<String> containerFileList = getImportFileList(contInfo);
+					if ( isMultiPutTarget(contInfo, containerFileList) ){
+						// The rows of the small container are registered together with other containers
+						List<Row> rowList = null;
+						m_multiPutRows = new ArrayList<Row>();
+						try {
+							importData(store, targetContainer, contInfo, containerFileList, 0, -1);
+							rowList = m_multiPutRows;
+						} finally {
+							m_multiPutRows = null;
+						}
+						metricsStart = ProcessMetrics.startTime();
+						createIndex(conn, store, cInfo, contInfo, targetContainer);
+						ProcessMetrics.record(ProcessMetrics.Phase.INDEX, metricsStart);
+
+						multiPutBatch.add(contInfo, rowList, startTime);
+						// [memo] The time of multiPut is not included in the metrics of the container.
+						ProcessMetrics.endContainer(rowList.size(), ProcessMetrics.getFileSize(comLineInfo.getDirectoryPath(), containerFileList));
+						if ( multiPutBatch.getRowCount() >= comLineInfo.getCommitCount() ){
+							successCount += flushMultiPut(store, multiPutBatch);
+						}
 
-				// ---------------------------
-				// Indexing
-				// ---------------------------
-				createIndex(conn, store, cInfo, contInfo, targetContainer);
-
-				// success
-				long endTime = System.currentTimeMillis();
-				comLineInfo.sysoutString( containerName +" : " + count);
-				successCount++;
-
-				log.info("import: db,"+contInfo.getDbName()+",name,"+contInfo.getName()
-					+",rowCount,"+count
-					+",Time all,"+(endTime-startTime)			// Total processing time
-					+",put,"+m_timePut							// Row registration time
-					+",readRow,"+m_fileIO.m_timeFileIO			// Raw file read time
-					+",readMeta,"+(endMeta-startMeta)			// Metafile loading time
-					+",createDrop,"+(endCreate-startCreate)		// Updater creation or deletion time
-					+",search,"+(endSearch-startSearch)			// Container search time
-					+",other,"+((endTime-startTime)-m_timePut-m_fileIO.m_timeFileIO-(endMeta-startMeta)-(endCreate-startCreate)-(endSearch-startSearch)));
+						// Thread stop check
+						if ( importProcess.m_stopFlag ){
+							break;
+						}
+						continue;
+					}
+					int workerNum = getContainerWorkerNum(contInfo, containerFileList);
+					long count;
+					if ( (workerNum > 1) && (resumeMark == null) ){
+						// Divide the row files of the container among the threads
+						// [memo] The rows registered by the threads are not recorded in the checkpoint journal.
+						//   On --resume, the container is dropped and created again (CREATED record).
+						count = importDataParallel(store, targetContainer, contInfo, containerFileList, workerNum);
+					} else {
+						List<String> fileList = containerFileList;
+						long firstIndex = 0;
+						m_checkpointFileIndex = 0;
+						if ( (resumeMark != null) && (containerFileList != null) ){
+							// Start from the row file and the row of the last checkpoint
+							int fileIndex = Integer.parseInt(resumeMark[0]);
+							firstIndex = Long.parseLong(resumeMark[1]);
+							if ( isImportedByFile(contInfo) ){
+								fileList = containerFileList.subList(fileIndex, containerFileList.size());
+								m_checkpointFileIndex = fileIndex;
+							}
+						}
+						m_checkpointContInfo = contInfo;
+						try {
+							count = importData(store, targetContainer, contInfo, fileList, firstIndex, -1);
+						} finally {
+							m_checkpointContInfo = null;
+						}
+					}
 
-				// Thread stop check
-				if ( importProcess.m_stopFlag ){
-					break;
-				}
+					// ---------------------------
+					// Indexing
+					// ---------------------------
+					metricsStart = ProcessMetrics.startTime();
+					createIndex(conn, store, cInfo, contInfo, targetContainer);
+					ProcessMetrics.record(ProcessMetrics.Phase.INDEX, metricsStart);
+
+					// success
+					long endTime = System.currentTimeMillis();
+					ProcessMetrics.endContainer(count, ProcessMetrics.getFileSize(comLineInfo.getDirectoryPath(), containerFileList));
+					comLineInfo.sysoutString( containerName +" : " + count);
+					successCount++;
+					if ( m_journal != null ){
+						m_journal.append(CheckpointJournal.TYPE_CONTAINER, contInfo.getDbName(), contInfo.getName());
+					}
 
-			} catch ( GSEIException e ){
-				comLineInfo.sysoutString(e.getMessage());
-				log.error(e.getMessage(), e);
-				commandProgressStatus.setContainerStatus(containerName, false, e.getMessage());
-				//status = false;
-				if ( !comLineInfo.getForceFlag() ) {
-					importProcess.m_stopFlag = true;
-					break;
-				}
+					log.info("import: db,"+contInfo.getDbName()+",name,"+contInfo.getName()
+						+",rowCount,"+count
+						+",Time all,"+(endTime-startTime)			// Total processing time
+						+",put,"+m_timePut							// Row registration time
+						+",readRow,"+m_fileIO.m_timeFileIO			// Raw file read time
+						+",readMeta,"+(endMeta-startMeta)			// Metafile loading time
+						+",createDrop,"+(endCreate-startCreate)		// Updater creation or deletion time
+						+",search,"+(endSearch-startSearch)			// Container search time
+						+",other,"+((endTime-startTime)-m_timePut-m_fileIO.m_timeFileIO-(endMeta-startMeta)-(endCreate-startCreate)-(endSearch-startSearch)));
+
+					// Thread stop check
+					if ( importProcess.m_stopFlag ){
+						break;
+					}
 
-			} catch (GSTimeoutException e){
-				// "D00101: An unexpected error occurred while importing data."
-				String errMsg = messageResource.getString("MESS_IMPORT_ERR_IMPORTMAIN_1") + ":"+ e.getMessage();
-				comLineInfo.sysoutString(errMsg);
-				log.error(errMsg, e);
-				commandProgressStatus.setContainerStatus(containerName, false, e.getMessage());
-				// When the connection times out, terminate without looping
-				importProcess.m_stopFlag = true;
-				break;
+				} catch ( GSEIException e ){
+					comLineInfo.sysoutString(e.getMessage());
+					log.error(e.getMessage(), e);
+					commandProgressStatus.setContainerStatus(containerName, false, e.getMessage());
+					//status = false;
+					if ( !comLineInfo.getForceFlag() ) {
+						importProcess.m_stopFlag = true;
+						break;
+					}
 
-			} catch (Exception e) {
-				// "D00101: An unexpected error occurred while importing data."
-				String errMsg = messageResource.getString("MESS_IMPORT_ERR_IMPORTMAIN_1") + ":"+ e.getMessage();
-				comLineInfo.sysoutString(errMsg);
-				log.error(errMsg, e);
-				commandProgressStatus.setContainerStatus(containerName, false, e.getMessage());
-				//status = false;
-				if ( !comLineInfo.getForceFlag() ) {
+				} catch (GSTimeoutException e){
+					// "D00101: An unexpected error occurred while importing data."
+					String errMsg = messageResource.getString("MESS_IMPORT_ERR_IMPORTMAIN_1") + ":"+ e.getMessage();
+					comLineInfo.sysoutString(errMsg);
+					log.error(errMsg, e);
+					commandProgressStatus.setContainerStatus(containerName, false, e.getMessage());
+					// When the connection times out, terminate without looping
 					importProcess.m_stopFlag = true;
 					break;
+
+				} catch (Exception e) {
+					// "D00101: An unexpected error occurred while importing data."
+					String errMsg = messageResource.getString("MESS_IMPORT_ERR_IMPORTMAIN_1") + ":"+ e.getMessage();
+					comLineInfo.sysoutString(errMsg);
+					log.error(errMsg, e);
+					commandProgressStatus.setContainerStatus(containerName, false, e.getMessage());
+					//status = false;
+					if ( !comLineInfo.getForceFlag() ) {
+						importProcess.m_stopFlag = true;
+						break;
+					}
 				}
-			}
 
-		} // Loop per container  for(container)
+			} // Loop per container  for(container)
 
+			// Register the remaining rows of the small containers
+			// (Not registered when the loop was stopped by an error without --force)
+			if ( (store != null) && (!importProcess.m_stopFlag || comLineInfo.getForceFlag()) ){
+				successCount += flushMultiPut(store, multiPutBatch);
+			}
+		} finally {
+			if ( m_fileIO != null ){
+				m_fileIO.close();
+			}
 
-		// Disconnect
-		try {
-			if ( store != null ) store.close();
-			if ( conn != null ) conn.close();
-		} catch (Exception e) {}
+			// Disconnect
+			try {
+				if ( store != null ) store.close();
+				if ( conn != null ) conn.close();
+			} catch (Exception e) {}
+		}
 
 
 		return successCount;
@@ -1063,21 +1266,31 @@ public class importProcess {
 
 
 	/**
-	 * Read the row file and register the row.
+	 * Create the row file read object.
 	 *
-	 * @param store GridStore object
-	 * @param container Container object
 	 * @param contInfo Local container information object
-	 * @return Number of registered rows
+	 * @return Row file read object
 	 * @throws GSEIException
 	 */
-	public long importData(Container<?, Row> container, ToolContainerInfo contInfo, int firstIndex, int lastIndex) throws GSEIException{
+	private GSEIFileIO createFileIO(ToolContainerInfo contInfo) throws GSEIException {
+		GSEIFileIO fileIO = GSEIFileIOFactory.createFileIO(contInfo.getContainerFileType(), comLineInfo);
+		// (V5.2)SimpleDateFormatのフォーマットを変更したため、下位互換を持たせる
+		if ((contInfo.getContainerFileType().equals(RowFileType.CSV) || contInfo.getContainerFileType().equals(RowFileType.ARCHIVE_CSV)) 
+				&& contInfo.getVersion().compareTo(GSConstants.EXPORT_MNG_FILE_VERSION_3) < 0) {
+			fileIO.changeDateFormat();
+		}
+		return fileIO;
+	}
 
-		long startMultiPut = 0;
-		long endMultiPut = 0;
-		m_timePut = 0;
-		long rowIndex = 0;
-		long addRowCount = 0;
+
+	/**
+	 * Get the list of the row files to be imported.
+	 *
+	 * @param contInfo Local container information object
+	 * @return List of the row files (null if the container has no row file)
+	 * @throws GSEIException
+	 */
+	private List<String> getImportFileList(ToolContainerInfo contInfo) throws GSEIException {
 
 		Calendar cal = Calendar.getInstance();
 		SimpleDateFormat sdf = new SimpleDateFormat(GSConstants.DATE_FORMAT_NOT_TIMEZONE);
@@ -1124,27 +1337,206 @@ public class importProcess {
 			} else {
 				// 既存の処理
 				if ( contInfo.getContainerFileList() == null ){
-					return 0;
+					return null;
 				}
 				// 読み込み対象のファイル一覧設定
 				containerFileList = contInfo.getContainerFileList();
 			}
+			return containerFileList;
+
+		} catch ( Exception e ){
+			// An error occurred during the raw data import process
+			throw new GSEIException(messageResource.getString("MESS_IMPORT_ERR_IMPORTPROC_33")+": containerName=["+
+					contInfo.getContainerInfo().getName() +"] msg=["+e.getMessage()+"]", e);
+		}
+	}
+
+
+	/**
+	 * Returns whether the rows of the container are registered together with other containers by multiPut.
+	 *
+	 * @param contInfo Local container information object
+	 * @param containerFileList List of the row files
+	 * @return true: registered by multiPut
+	 */
+	private boolean isMultiPutTarget(ToolContainerInfo contInfo, List<String> containerFileList) {
+		long limitSize = comLineInfo.getImportMultiPutFileSize();
+		if ( (limitSize <= 0) || contInfo.isPartitioned() ){
+			return false;
+		}
+		if ( containerFileList == null ){
+			return true;
+		}
+		long size = 0;
+		for ( String fileName : containerFileList ){
+			// Multi-container format file contains the rows of other containers
+			if ( fileName.endsWith(GSConstants.FILE_EXT_BINARY_MULTI) ){
+				return false;
+			}
+			size += new File(comLineInfo.getDirectoryPath(), fileName).length();
+			if ( size > limitSize ){
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Registers the rows of the containers in the batch by multiPut.
+	 *
+	 *   If an error occurs, all the containers in the batch are set to the error.
+	 *
+	 * @param store GridStore object
+	 * @param batch Rows of the containers
+	 * @return Number of the containers successfully processed
+	 */
+	private int flushMultiPut(GridStore store, MultiPutBatch batch) {
+		if ( batch.isEmpty() ){
+			return 0;
+		}
+		List<MultiPutBatch.Entry> entryList = batch.getEntryList();
+		try {
+			long startMultiPut = System.currentTimeMillis();
+			if ( !batch.getRowMap().isEmpty() ){
+				long metricsStart = ProcessMetrics.startTime();
+				store.multiPut(batch.getRowMap());
+				ProcessMetrics.record(ProcessMetrics.Phase.PUT, metricsStart);
+			}
+			long endMultiPut = System.currentTimeMillis();
+
+			// success
+			for ( MultiPutBatch.Entry entry : entryList ){
+				if ( m_journal != null ){
+					m_journal.append(CheckpointJournal.TYPE_CONTAINER, entry.m_contInfo.getDbName(), entry.m_contInfo.getName());
+				}
+				comLineInfo.sysoutString( entry.m_contInfo.getFullName() +" : " + entry.m_rowCount);
+				log.info("import: db,"+entry.m_contInfo.getDbName()+",name,"+entry.m_contInfo.getName()
+					+",rowCount,"+entry.m_rowCount
+					+",Time all,"+(endMultiPut-entry.m_startTime)	// Processing time including the wait for multiPut
+					+",multiPut,"+(endMultiPut-startMultiPut)		// Row registration time of the batch
+					+",containers,"+entryList.size());
+			}
+			return entryList.size();
+
+		} catch ( Exception e ){
+			// An error occurred during the raw data import process
+			StringBuilder names = new StringBuilder();
+			for ( MultiPutBatch.Entry entry : entryList ){
+				if ( names.length() > 0 ) names.append(",");
+				names.append(entry.m_contInfo.getFullName());
+			}
+			String errMsg = messageResource.getString("MESS_IMPORT_ERR_IMPORTPROC_33")+": containerName=["+
+					names +"] msg=["+e.getMessage()+"]";
+			comLineInfo.sysoutString(errMsg);
+			log.error(errMsg, e);
+			for ( MultiPutBatch.Entry entry : entryList ){
+				commandProgressStatus.setContainerStatus(entry.m_contInfo.getFullName(), false, errMsg);
+			}
+			if ( !comLineInfo.getForceFlag() || (e instanceof GSTimeoutException) ) {
+				importProcess.m_stopFlag = true;
+			}
+			return 0;
+
+		} finally {
+			batch.clear();
+		}
+	}
+
+	/**
+	 * Get the number of threads to import the container.
+	 * The multi-container binary file is read by one thread, because the entries
+	 * of the container continue over the files.
+	 *
+	 * @param contInfo Local container information object
+	 * @param containerFileList List of the row files
+	 * @return Number of threads
+	 */
+	private int getContainerWorkerNum(ToolContainerInfo contInfo, List<String> containerFileList) {
+		int threadNum = comLineInfo.getImportContainerThreadNum();
+		if ( (threadNum <= 1) || (containerFileList == null) || (containerFileList.size() <= 1) ){
+			return 1;
+		}
+		for ( String fileName : containerFileList ){
+			if ( fileName.endsWith(GSConstants.FILE_EXT_BINARY_MULTI) ){
+				return 1;
+			}
+		}
+		return Math.min(threadNum, containerFileList.size());
+	}
+
+
+	/**
+	 * Read the row file and register the row.
+	 *
+	 * @param store GridStore object
+	 * @param container Container object
+	 * @param contInfo Local container information object
+	 * @return Number of registered rows
+	 * @throws GSEIException
+	 */
+	public long importData(Container<?, Row> container, ToolContainerInfo contInfo, int firstIndex, int lastIndex) throws GSEIException{
+		return importData(null, container, contInfo, getImportFileList(contInfo), firstIndex, lastIndex);
+	}
+
+	/**
+	 * Read the specified row files and register the row.
+	 *
+	 * @param store GridStore object (null: the rows are read and registered in this thread)
+	 * @param container Container object
+	 * @param contInfo Local container information object
+	 * @param containerFileList List of the row files to be read
+	 * @return Number of registered rows
+	 * @throws GSEIException
+	 */
+	long importData(GridStore store, Container<?, Row> container, ToolContainerInfo contInfo, List<String> containerFileList, long firstIndex, long lastIndex) throws GSEIException{
+
+		m_timePut = 0;
+		long rowIndex = 0;
+		long addRowCount = 0;
+
+		if ( containerFileList == null ){
+			return 0;
+		}
+
+		m_batchSizer = new CommitBatchSizer(comLineInfo, contInfo.getContainerInfo(), m_memoryGovernor);
+
+		// Asynchronous registration (the next batch is read while the previous batch is registered)
+		RowPutPipeline putPipeline = null;
+		// Container object that creates the rows read (not used by the registration thread)
+		Container<?, Row> rowFactory = container;
+
+		try {
+			if ( (comLineInfo.getImportPutQueueSize() > 0) && (m_multiPutRows == null) && (store != null) ){
+				rowFactory = getRowFactory(store, contInfo);
+				putPipeline = new RowPutPipeline(container, contInfo.getFullName(), comLineInfo.getImportPutQueueSize(), m_batchSizer);
+				putPipeline.start();
+			}
 
 			String containerName = contInfo.getName();
-			if (contInfo.getContainerFileType().equals(RowFileType.CSV) || 
-					contInfo.getContainerFileType().equals(RowFileType.ARCHIVE_CSV)) {
+			if ( isImportedByFile(contInfo) ) {
 				// csv形式は元々1ロウデータファイルのみだったため、複数ロウデータファイルに対応
 				int progress = comLineInfo.getProgress();
-				for (String containerFile:containerFileList) {
+				for (int fileIndex = 0; fileIndex < containerFileList.size(); fileIndex++) {
+					String containerFile = containerFileList.get(fileIndex);
 					List<String> containerFiles = new ArrayList<String>();
 					containerFiles.add(containerFile);
+					long fileStartRowIndex = rowIndex;// ファイルの先頭のロウ番号(チェックポイント用)
+
+					if ( (firstIndex == 0) && (lastIndex == -1) ){
+						// Parallel parsing of a large CSV file
+						long parallelRowCount = importCsvParallel(store, container, contInfo, containerFile, fileIndex, putPipeline, addRowCount);
+						if ( parallelRowCount >= 0 ){
+							rowIndex += parallelRowCount;
+							addRowCount += parallelRowCount;
+							continue;
+						}
+					}
 				
 					// ロウファイル読み込み開始
 					m_fileIO.readContainer(contInfo, containerFiles);
 					
 					// ROWの読み込みと登録
-					int commitCount = comLineInfo.getCommitCount();
-					List<Row> rowList = new ArrayList<Row>(commitCount);
+					List<Row> rowList = new ArrayList<Row>();
 					while(m_fileIO.hasNextRow()){
 						rowIndex++;
 						if ( firstIndex > (rowIndex-1) ) continue;
@@ -1153,16 +1545,21 @@ public class importProcess {
 							break;
 						}
 
-						Row row = m_fileIO.readRow(container);
+						long metricsStart = ProcessMetrics.startTime();
+						Row row = m_fileIO.readRow(rowFactory);
+						ProcessMetrics.record(ProcessMetrics.Phase.READ_ROW, metricsStart);
+						if ( !m_batchSizer.reserve(row) ){
+							// The memory budget is used up : The rows kept so far are registered first
+							putRows(container, rowList, putPipeline, createCheckpoint(fileIndex, rowIndex - 1 - fileStartRowIndex));
+							rowList = new ArrayList<Row>(rowList.size());
+							m_batchSizer.awaitReserve();
+						}
 						rowList.add(row);
 						addRowCount++;
 
-						if ( ((rowIndex) % commitCount) == 0 ){
-							startMultiPut = System.currentTimeMillis();
-							container.put(rowList);
-							endMultiPut = System.currentTimeMillis();
-							m_timePut += (endMultiPut - startMultiPut);
-							rowList = new ArrayList<Row>(commitCount);
+						if ( m_batchSizer.add() ){
+							putRows(container, rowList, putPipeline, createCheckpoint(fileIndex, rowIndex - fileStartRowIndex));
+							rowList = new ArrayList<Row>(rowList.size());
 						}
 						
 						// Write logs after every progress count
@@ -1171,10 +1568,7 @@ public class importProcess {
 						}
 					}
 					if ( rowList.size() > 0 ){
-						startMultiPut = System.currentTimeMillis();
-						container.put(rowList);
-						endMultiPut = System.currentTimeMillis();
-						m_timePut += (endMultiPut - startMultiPut);
+						putRows(container, rowList, putPipeline, createCheckpoint(fileIndex, rowIndex - fileStartRowIndex));
 					}
 			
 				}
@@ -1185,8 +1579,7 @@ public class importProcess {
 				// Get the progress row number
 				int progress = comLineInfo.getProgress();
 				// ROWの読み込みと登録
-				int commitCount = comLineInfo.getCommitCount();
-				List<Row> rowList = new ArrayList<Row>(commitCount);
+				List<Row> rowList = new ArrayList<Row>();
 				while(m_fileIO.hasNextRow()){
 					rowIndex++;
 					if ( firstIndex > (rowIndex-1) ) continue;
@@ -1195,16 +1588,21 @@ public class importProcess {
 						break;
 					}
 
-					Row row = m_fileIO.readRow(container);
+					long metricsStart = ProcessMetrics.startTime();
+					Row row = m_fileIO.readRow(rowFactory);
+					ProcessMetrics.record(ProcessMetrics.Phase.READ_ROW, metricsStart);
+					if ( !m_batchSizer.reserve(row) ){
+						// The memory budget is used up : The rows kept so far are registered first
+						putRows(container, rowList, putPipeline, createCheckpoint(0, rowIndex - 1));
+						rowList = new ArrayList<Row>(rowList.size());
+						m_batchSizer.awaitReserve();
+					}
 					rowList.add(row);
 					addRowCount++;
 
-					if ( ((rowIndex) % commitCount) == 0 ){
-						startMultiPut = System.currentTimeMillis();
-						container.put(rowList);
-						endMultiPut = System.currentTimeMillis();
-						m_timePut += (endMultiPut - startMultiPut);
-						rowList = new ArrayList<Row>(commitCount);
+					if ( m_batchSizer.add() ){
+						putRows(container, rowList, putPipeline, createCheckpoint(0, rowIndex));
+						rowList = new ArrayList<Row>(rowList.size());
 					}
 					// Write logs after every progress count
 					if (progress > 0 && ((addRowCount % progress) == 0)){
@@ -1212,13 +1610,15 @@ public class importProcess {
 					}
 				}
 				if ( rowList.size() > 0 ){
-					startMultiPut = System.currentTimeMillis();
-					container.put(rowList);
-					endMultiPut = System.currentTimeMillis();
-					m_timePut += (endMultiPut - startMultiPut);
+					putRows(container, rowList, putPipeline, createCheckpoint(0, rowIndex));
 				}
 			}
 
+			if ( putPipeline != null ){
+				putPipeline.finish();
+				m_timePut = putPipeline.getTimePut();
+			}
+
 			return addRowCount;
 
 		} catch ( GSEIException e ){
@@ -1231,7 +1631,296 @@ public class importProcess {
 			// An error occurred during the raw data import process
 			throw new GSEIException(messageResource.getString("MESS_IMPORT_ERR_IMPORTPROC_33")+": containerName=["+
 					contInfo.getContainerInfo().getName() +"] msg=["+e.getMessage()+"]", e);
+		} finally {
+			if ( putPipeline != null ){
+				putPipeline.abort();
+			}
+			if ( rowFactory != container ){
+				try {
+					rowFactory.close();
+				} catch ( Exception e ){}
+			}
+			// The rows not registered because of an error
+			m_batchSizer.releaseAll();
+		}
+	}
+
+	/**
+	 * Get another container object of the container to create the rows.
+	 *
+	 *   The container object is not thread-safe, so the rows are not created with the container object
+	 *   used by the registration thread.
+	 *
+	 * @param store GridStore object
+	 * @param contInfo Local container information object
+	 * @return Container object
+	 * @throws GSException
+	 * @throws GSEIException
+	 */
+	private Container<?, Row> getRowFactory(GridStore store, ToolContainerInfo contInfo) throws GSException, GSEIException {
+		Container<?, Row> container = store.getContainer(contInfo.getName());
+		if ( container == null ){
+			throw new GSEIException(messageResource.getString("MESS_IMPORT_ERR_IMPORTPROC_33")+": containerName=["+
+					contInfo.getFullName() +"] msg=[container not found]");
+		}
+		return container;
+	}
+
+	/**
+	 * Read a CSV row data file with the parse threads and register the rows.
+	 *
+	 *   Used only when import.csvParseThreadNum is 2 or more and the file is larger than two chunks.
+	 *   The rows are registered in the order of the file.
+	 *
+	 * @param store GridStore object (null: not read in parallel)
+	 * @param container Container object
+	 * @param contInfo Local container information object
+	 * @param containerFile CSV file name
+	 * @param fileIndex Index of the file in the row file list (for the checkpoint)
+	 * @param putPipeline Asynchronous registration object (null: register in this thread)
+	 * @param addRowCount Number of rows registered before this file (for the progress log)
+	 * @return Number of registered rows (-1: not read. Read the file sequentially)
+	 * @throws Exception
+	 */
+	private long importCsvParallel(GridStore store, Container<?, Row> container, ToolContainerInfo contInfo, String containerFile,
+			int fileIndex, RowPutPipeline putPipeline, long addRowCount) throws Exception {
+		int threadNum = comLineInfo.getImportCsvParseThreadNum();
+		if ( (threadNum <= 1) || (store == null) || !(m_fileIO instanceof rowCsvFileIO) || (contInfo.getContainerFileOffset() >= 0) ){
+			return -1;
+		}
+		rowCsvFileIO csvFileIO = (rowCsvFileIO)m_fileIO;
+		File file = new File(csvFileIO.m_targetPath, containerFile);
+		if ( file.length() <= 2L * GSConstants.CSV_PARSE_CHUNK_SIZE ){
+			return -1;
+		}
+
+		CsvChunkReader reader = new CsvChunkReader(store, contInfo, csvFileIO, containerFile, threadNum, m_memoryGovernor);
+		try {
+			if ( !reader.start() ){
+				// The container name line is not at the head of the file
+				return -1;
+			}
+			String containerName = contInfo.getName();
+			int progress = comLineInfo.getProgress();
+			long rowCount = 0;
+			List<Row> rowList = new ArrayList<Row>();
+			List<Row> chunkRows;
+			while ( (chunkRows = reader.nextRows()) != null ){
+				for ( Row row : chunkRows ){
+					// The rows are already in memory : reserved without waiting (the chunks wait in CsvChunkReader)
+					if ( !m_batchSizer.reserveParsed(row) ){
+						// The memory budget is used up : The rows kept so far are registered first
+						putRows(container, rowList, putPipeline, createCheckpoint(fileIndex, rowCount));
+						rowList = new ArrayList<Row>(rowList.size());
+					}
+					rowList.add(row);
+					rowCount++;
+					if ( m_batchSizer.add() ){
+						putRows(container, rowList, putPipeline, createCheckpoint(fileIndex, rowCount));
+						rowList = new ArrayList<Row>(rowList.size());
+					}
+					// Write logs after every progress count
+					if (progress > 0 && (((addRowCount + rowCount) % progress) == 0)){
+						log.info(containerName + ": " + (addRowCount + rowCount) +  " rows imported.");
+					}
+				}
+			}
+			if ( rowList.size() > 0 ){
+				putRows(container, rowList, putPipeline, createCheckpoint(fileIndex, rowCount));
+			}
+			return rowCount;
+
+		} finally {
+			reader.close();
+		}
+	}
+
+	/**
+	 * Register the rows.
+	 * If the asynchronous registration is used, the rows are handed to the registration thread.
+	 *
+	 * @param container Container object
+	 * @param rowList Rows (must not be reused by the caller)
+	 * @param putPipeline Asynchronous registration object (null: register in this thread)
+	 * @param mark Checkpoint recorded after the registration (null: none)
+	 * @throws GSException
+	 * @throws GSEIException Also when another thread registering the container failed
+	 */
+	private void putRows(Container<?, Row> container, List<Row> rowList, RowPutPipeline putPipeline,
+			CheckpointJournal.Mark mark) throws GSException, GSEIException {
+		if ( (m_containerError != null) && (m_containerError.get() != null) ){
+			// Another thread registering the container failed
+			throw new GSEIException(messageResource.getString("MESS_IMPORT_ERR_IMPORTPROC_33")+
+					": msg=[stopped by the error of another thread]");
+		}
+		long bytes = m_batchSizer.closeBatch();
+		if ( m_multiPutRows != null ){
+			// Registered later by multiPut (The rows are limited by import.multiPutFileSize instead of the memory budget)
+			m_multiPutRows.addAll(rowList);
+			m_batchSizer.release(bytes);
+			return;
+		}
+		ProcessMetrics.recordBatch(rowList.size(), bytes);
+		if ( putPipeline != null ){
+			putPipeline.put(rowList, mark, bytes);
+			return;
+		}
+		long startMultiPut = System.currentTimeMillis();
+		long startNanos = System.nanoTime();
+		long metricsStart = ProcessMetrics.startTime();
+		container.put(rowList);
+		ProcessMetrics.record(ProcessMetrics.Phase.PUT, metricsStart);
+		m_batchSizer.putDone(bytes, System.nanoTime() - startNanos);
+		long endMultiPut = System.currentTimeMillis();
+		m_timePut += (endMultiPut - startMultiPut);
+		if ( mark != null ){
+			mark.commit();
+		}
+	}
+
+	/**
+	 * Create the checkpoint of the rows registered so far.
+	 *
+	 * @param fileIndex Index of the row file in the file list of importData()
+	 * @param rowNo Number of the rows read from the head of the row file
+	 * @return Checkpoint (null: not recorded)
+	 */
+	private CheckpointJournal.Mark createCheckpoint(int fileIndex, long rowNo) {
+		if ( (m_journal == null) || (m_checkpointContInfo == null) ){
+			return null;
+		}
+		return new CheckpointJournal.Mark(m_journal, m_checkpointContInfo.getDbName(), m_checkpointContInfo.getName(),
+				m_checkpointFileIndex + fileIndex, rowNo);
+	}
+
+	/**
+	 * Returns whether the row files of the container are read one by one.
+	 * (CSV. The other formats read the row files as one sequence of rows)
+	 *
+	 * @param contInfo Local container information object
+	 * @return true: read one by one
+	 */
+	private static boolean isImportedByFile(ToolContainerInfo contInfo) {
+		return contInfo.getContainerFileType().equals(RowFileType.CSV)
+				|| contInfo.getContainerFileType().equals(RowFileType.ARCHIVE_CSV);
+	}
+
+
+	/**
+	 * Divide the row files of the container among the threads and register the rows.
+	 * The first share is registered by the current thread, and the others are registered
+	 * by ContainerImportWorker threads with their own connection.
+	 * When one of the threads fails, the others stop before their next batch.
+	 *
+	 * @param store GridStore object
+	 * @param container Container object
+	 * @param contInfo Local container information object
+	 * @param containerFileList List of the row files
+	 * @param workerNum Number of threads
+	 * @return Number of registered rows
+	 * @throws GSEIException
+	 */
+	private long importDataParallel(GridStore store, Container<?, Row> container, ToolContainerInfo contInfo,
+			List<String> containerFileList, int workerNum) throws GSEIException {
+
+		// Assign the files in round robin
+		List<List<String>> shares = new ArrayList<List<String>>(workerNum);
+		for ( int i = 0; i < workerNum; i++ ){
+			shares.add(new ArrayList<String>());
+		}
+		for ( int i = 0; i < containerFileList.size(); i++ ){
+			shares.get(i % workerNum).add(containerFileList.get(i));
+		}
+
+		// First error of the threads
+		AtomicReference<GSEIException> containerError = new AtomicReference<GSEIException>();
+
+		ContainerImportWorker[] workers = new ContainerImportWorker[workerNum-1];
+		for ( int i = 0; i < workers.length; i++ ){
+			workers[i] = new ContainerImportWorker(comLineInfo, contInfo, shares.get(i+1), containerError);
+			workers[i].start();
+		}
+
+		long count = 0;
+		long timePut = 0;
+		m_containerError = containerError;
+		try {
+			count = importData(store, container, contInfo, shares.get(0), 0, -1);
+			timePut = m_timePut;
+		} catch ( GSEIException e ){
+			containerError.compareAndSet(null, e);
+		} finally {
+			m_containerError = null;
+		}
+
+		for ( ContainerImportWorker worker : workers ){
+			try {
+				worker.join();
+			} catch ( InterruptedException e ){
+				Thread.currentThread().interrupt();
+				containerError.compareAndSet(null, new GSEIException(messageResource.getString("MESS_IMPORT_ERR_IMPORTPROC_33")+": containerName=["+
+						contInfo.getFullName() +"] msg=["+e.getMessage()+"]", e));
+				continue;
+			}
+			if ( worker.getError() == null ){
+				count += worker.getRowCount();
+				timePut = Math.max(timePut, worker.getTimePut());
+			}
 		}
+		m_timePut = timePut;
+
+		if ( containerError.get() != null ){
+			throw containerError.get();
+		}
+		return count;
+	}
+
+	/**
+	 * Register the rows of the assigned row files with a dedicated connection.
+	 * (Called from ContainerImportWorker)
+	 *
+	 * @param contInfo Local container information object
+	 * @param containerFileList List of the row files
+	 * @param containerError First error of the threads registering the container
+	 * @return Number of registered rows
+	 * @throws GSEIException
+	 */
+	long importContainerFiles(ToolContainerInfo contInfo, List<String> containerFileList,
+			AtomicReference<GSEIException> containerError) throws GSEIException {
+		GridStore store = null;
+		m_containerError = containerError;
+		try {
+			store = gridStoreServerIO.getConnection(comLineInfo, contInfo.getDbName());
+			Container<?, Row> container = store.getContainer(contInfo.getName());
+			if ( container == null ){
+				throw new GSEIException(messageResource.getString("MESS_IMPORT_ERR_IMPORTPROC_33")+": containerName=["+
+						contInfo.getFullName() +"] msg=[container not found]");
+			}
+			m_fileIO = createFileIO(contInfo);
+			return importData(store, container, contInfo, containerFileList, 0, -1);
+
+		} catch ( GSEIException e ){
+			throw e;
+		} catch ( Exception e ){
+			throw new GSEIException(messageResource.getString("MESS_IMPORT_ERR_IMPORTPROC_33")+": containerName=["+
+					contInfo.getFullName() +"] msg=["+e.getMessage()+"]", e);
+		} finally {
+			if ( m_fileIO != null ){
+				m_fileIO.close();
+			}
+			try {
+				if ( store != null ) store.close();
+			} catch ( Exception e ){}
+		}
+	}
+
+	/**
+	 * Get the row registration time of the last importData call.
+	 *
+	 * @return Row registration time (ms)
+	 */
+	long getTimePut() {
+		return m_timePut;
 	}
 
 
@@ -1807,6 +2496,11 @@ public class importProcess {
 				break;
 			}
 		} // View loop
+		if ( conn != null ){
+			try {
+				conn.close();
+			} catch (Exception e) {}
+		}
 		long endTime = System.currentTimeMillis();
 
 		// Output processing time to log
@@ -1940,9 +2634,9 @@ class ImportThread extends Thread {
 	commandLineInfo m_operationInfo;
 
 	/**
-	 * Container information to be imported
+	 * Container information to be imported (shared by the threads)
 	 */
-	private List<GSEIContInfo> m_containerList;
+	private Queue<GSEIContInfo> m_containerQueue;
 
 	/**
 	 * Number of containers successfully processed
@@ -1986,10 +2680,10 @@ class ImportThread extends Thread {
 	/**
 	 * Set the container information to be imported.
 	 *
-	 * @param containerList Container information list
+	 * @param containerQueue Container information queue
 	 */
-	public void setContainerList(List<GSEIContInfo> containerList, Set<String> skipDbList){
-		m_containerList = containerList;
+	public void setContainerQueue(Queue<GSEIContInfo> containerQueue, Set<String> skipDbList){
+		m_containerQueue = containerQueue;
 		m_skipDbList = skipDbList;
 	}
 
@@ -1999,7 +2693,100 @@ class ImportThread extends Thread {
 	public void run(){
 
 		importProcess proc = new importProcess(m_operationInfo);
-		m_successCount = proc.import1(m_containerList, m_skipDbList);
+		m_successCount = proc.import1(m_containerQueue, m_skipDbList);
+
+	}
+}
+
+
+/**
+ * Thread to register a part of the row files of one container
+ */
+class ContainerImportWorker extends Thread {
+
+	/**
+	 * Setting information object
+	 */
+	private commandLineInfo m_operationInfo;
+
+	/**
+	 * Container information to be imported
+	 */
+	private ToolContainerInfo m_contInfo;
+
+	/**
+	 * Row files assigned to this thread
+	 */
+	private List<String> m_containerFileList;
+
+	/**
+	 * Number of registered rows
+	 */
+	private long m_rowCount;
 
+	/**
+	 * Row registration time
+	 */
+	private long m_timePut;
+
+	/**
+	 * Error that occurred in the thread
+	 */
+	private GSEIException m_error;
+
+	/**
+	 * First error of the threads registering the container (shared by the threads)
+	 */
+	private AtomicReference<GSEIException> m_containerError;
+
+	/**
+	 * Metrics of the container (null: not measured)
+	 */
+	private ProcessMetrics.ContainerMetrics m_metrics;
+
+	/**
+	 * Constructor
+	 *
+	 * @param operationInfo Setting information object
+	 * @param contInfo Container information
+	 * @param containerFileList Row files assigned to this thread
+	 * @param containerError First error of the threads registering the container
+	 */
+	ContainerImportWorker(commandLineInfo operationInfo, ToolContainerInfo contInfo, List<String> containerFileList,
+			AtomicReference<GSEIException> containerError){
+		m_operationInfo = operationInfo;
+		m_containerError = containerError;
+		m_contInfo = new ToolContainerInfo();
+		m_contInfo.copyObject(contInfo);
+		m_containerFileList = containerFileList;
+		m_metrics = ProcessMetrics.getContainer();
+	}
+
+	public long getRowCount(){
+		return m_rowCount;
+	}
+
+	public long getTimePut(){
+		return m_timePut;
+	}
+
+	public GSEIException getError(){
+		return m_error;
+	}
+
+	/**
+	 * Register the rows of the assigned row files.
+	 */
+	public void run(){
+		importProcess proc = new importProcess(m_operationInfo);
+		ProcessMetrics.setContainer(m_metrics);
+		try {
+			m_rowCount = proc.importContainerFiles(m_contInfo, m_containerFileList, m_containerError);
+		} catch ( GSEIException e ){
+			m_error = e;
+			// The other threads of the container stop
+			m_containerError.compareAndSet(null, e);
+		}
+		m_timePut = proc.getTimePut();
 	}
 }
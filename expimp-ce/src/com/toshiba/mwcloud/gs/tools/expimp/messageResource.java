@@ -53,6 +53,9 @@ public class messageResource extends ListResourceBundle {
 			{ "MESS_IMPORT_PROC_IMPORTPROC_3", "] has been imported successfully." },//
 			{ "MESS_IMPORT_PROC_IMPORTPROC_4", "] has been imported unsuccessfully." },//
 			{ "MESS_IMPORT_PROC_IMPORTPROC_5", "The row data did not exist specified intervals : " },
+			{ "MESS_IMPORT_PROC_IMPORTPROC_6", "The container finished in the previous run is skipped : " },
+			{ "MESS_IMPORT_PROC_IMPORTPROC_7", "The container is resumed from the rows registered in the previous run : " },
+			{ "MESS_IMPORT_PROC_IMPORTPROC_8", "The container created in the previous run is dropped and created again : " },
 
 			{ "MESS_IMPORT_ERR_IMPORTPROC_1", "D00201: An unexpected error occurred while getting container names." },//
 			{ "MESS_IMPORT_ERR_IMPORTPROC_2", "D00202: No file exists in that directory path." },//
@@ -163,6 +166,7 @@ public class messageResource extends ListResourceBundle {
 			{ "MESS_EXPORT_PROC_EXPORTPROC_23", "Number of target containers : %d  Number of skip containers : %d" },
 			{ "MESS_EXPORT_PROC_EXPORTPROC_24", "Number of target views : %d" },
 			{ "MESS_EXPORT_PROC_EXPORTPROC_25", "The row data did not exist specified intervals : " },
+			{ "MESS_EXPORT_PROC_EXPORTPROC_26", "The container finished in the previous run is skipped : " },
 
 			{ "MESS_EXPORT_ERR_EXPORTPROC_1", "D00501: Failed to connect to the GridDB cluster." },//
 			{ "MESS_EXPORT_ERR_EXPORTPROC_2", "D00502: The container name list could not be acquired." },//
@@ -199,6 +203,8 @@ public class messageResource extends ListResourceBundle {
 			{ "MESS_EXPORT_ERR_EXPORTPROC_2A", "D0052A: An unexpected error occurred while exporting views."},
 			{ "MESS_EXPORT_ERR_EXPORTPROC_2B", "D0052B: An unexpected error occurred while creating view definition file." },
 			{ "MESS_EXPORT_ERR_EXPORTPROC_2C", "D0052C: An unexpected error occurred while getting views."},
+			{ "MESS_EXPORT_ERR_EXPORTPROC_2D", "D0052D: An unexpected error occurred while reading the previous export result for the incremental export."},
+			{ "MESS_EXPORT_ERR_EXPORTPROC_2E", "D0052E: The export of the row key range was stopped because an error occurred in another thread."},
 
 			{ "MESS_COMM_ERR_PROPINFO_1", "D00601: An unexpected error occurred while reading the properties file." },
 			{ "MESS_COMM_ERR_PROPINFO_2", "D00602: The properties file does not found. The properties file is created." },
@@ -342,6 +348,8 @@ public class messageResource extends ListResourceBundle {
 			{ "MESS_COMM_ERR_METAINFO_45", "D00945: An unexpected error occurred while reading the file specified by \"--filterfile\". " },
 			{ "MESS_COMM_ERR_METAINFO_46", "D00946: The partitioned table exported in format before V4 will be skipped." },
 			{ "MESS_COMM_ERR_METAINFO_47", "D00947: Interval partition table must be set when (interval_worker_group or interval_worker_group_position) are specified" },
+			{ "MESS_COMM_ERR_METAINFO_48", "D00948: An unexpected error occurred while reading the checkpoint journal file." },
+			{ "MESS_COMM_ERR_METAINFO_49", "D00949: An unexpected error occurred while writing the checkpoint journal file." },
 
 			{ "MESS_COMM_PROC_CMD_1", "A command duplicate check start." },
 			{ "MESS_COMM_PROC_CMD_2", "A command line parameter persing start." },
@@ -409,6 +417,9 @@ public class messageResource extends ListResourceBundle {
 			{ "MESS_COMM_ERR_CMD_57", "D00A57: Property [intervalTimeZone] is invalid. Specify TimeZone or GMT+HH:mm format." },//
 			{ "MESS_COMM_ERR_CMD_58", "D00A58: [--intervals] option and [--filterfile] option cannot be set at same time." },//
 			{ "MESS_COMM_ERR_CMD_59", "D00A59: [--progress] option is invalid. Please set positive integer number." },//
+			{ "MESS_COMM_ERR_CMD_60", "D00A60: [--avro] option cannot be set at the same time as [--binary] or [--out]." },//
+			{ "MESS_COMM_ERR_CMD_61", "D00A61: [--columnar] option cannot be set at the same time as [--binary], [--avro] or [--out]." },//
+			{ "MESS_COMM_ERR_CMD_62", "D00A62: [--resume] option cannot be set at the same time as [--out]." },//
 
 			{ "MESS_COMM_PROC_PROCINFO_1", "The container name which did not be processed has been detected." },//
 			{ "MESS_COMM_PROC_PROCINFO_2", "(%d/%d)Container %s is imported %s.(%s)" },//
@@ -437,13 +448,13 @@ public class messageResource extends ListResourceBundle {
 							+ System.getProperty("line.separator")
 							+ "[--directory directorypath]"
 							+ System.getProperty("line.separator")
-							+ "[--out [filename]][--binary [fileSizeLimit]]"
+							+ "[--out [filename]][--binary [fileSizeLimit]][--avro][--columnar]"
 							+ System.getProperty("line.separator")
 							+ /*"[--count maxFetchCount]*/"[--filterfile filename]"
 							+ System.getProperty("line.separator")
-							+ "[--intervals YYYYMMdd:YYYYMMdd]"
+							+ "[--intervals YYYYMMdd:YYYYMMdd][--incremental]"
 							+ System.getProperty("line.separator")
-							+ "[--test][--force]"
+							+ "[--test][--force][--resume]"
 							+ System.getProperty("line.separator")
 							+ "[--silent][--verbose]"
 							+ System.getProperty("line.separator")
@@ -465,7 +476,7 @@ public class messageResource extends ListResourceBundle {
 							+ System.getProperty("line.separator")
 							+ "[--intervals YYYYMMdd:YYYYMMdd]"
 							+ System.getProperty("line.separator")
-							+ "[--force]"
+							+ "[--force][--resume]"
 							+ System.getProperty("line.separator")
 							+ "[--silent][--verbose]"
 							+ System.getProperty("line.separator")
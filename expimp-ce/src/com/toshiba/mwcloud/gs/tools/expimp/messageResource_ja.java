@@ -52,6 +52,9 @@ public class messageResource_ja extends ListResourceBundle {
 			{ "MESS_IMPORT_PROC_IMPORTPROC_3", "]のインポートに成功しました" },//
 			{ "MESS_IMPORT_PROC_IMPORTPROC_4", "]のインポートに失敗しました" },//
 			{ "MESS_IMPORT_PROC_IMPORTPROC_5", "intervalsで指定した条件のロウデータは存在しませんでした  : " },
+			{ "MESS_IMPORT_PROC_IMPORTPROC_6", "前回の実行で完了したコンテナはスキップします  : " },
+			{ "MESS_IMPORT_PROC_IMPORTPROC_7", "前回の実行で登録したロウの続きからインポートします  : " },
+			{ "MESS_IMPORT_PROC_IMPORTPROC_8", "前回の実行で作成したコンテナを削除して作成し直します  : " },
 
 			{ "MESS_IMPORT_ERR_IMPORTPROC_1", "D00201: コンテナ名の取得処理でエラーが発生しました" },//
 			{ "MESS_IMPORT_ERR_IMPORTPROC_2", "D00202: 指定されたディレクトリにファイルがありません" },//
@@ -162,6 +165,7 @@ public class messageResource_ja extends ListResourceBundle {
 			{ "MESS_EXPORT_PROC_EXPORTPROC_23", "対象コンテナ数  : %d  スキップ数  : %d" },
 			{ "MESS_EXPORT_PROC_EXPORTPROC_24", "対象ビュー数  : %d" },
 			{ "MESS_EXPORT_PROC_EXPORTPROC_25", "intervalsで指定した条件のロウデータは存在しませんでした  : "},
+			{ "MESS_EXPORT_PROC_EXPORTPROC_26", "前回の実行で完了したコンテナはスキップします  : " },
 
 			{ "MESS_EXPORT_ERR_EXPORTPROC_1", "D00501: サーバーへの接続が失敗しました" },//
 			{ "MESS_EXPORT_ERR_EXPORTPROC_2", "D00502: コンテナ名一覧がGridDBから取得できません" },//
@@ -198,6 +202,8 @@ public class messageResource_ja extends ListResourceBundle {
 			{ "MESS_EXPORT_ERR_EXPORTPROC_2A", "D0052A: ビューのエクスポート処理でエラーが発生しました。"},
 			{ "MESS_EXPORT_ERR_EXPORTPROC_2B", "D0052B: ビュー定義ファイルの作成処理でエラーが発生しました" },
 			{ "MESS_EXPORT_ERR_EXPORTPROC_2C", "D0052C: ビューの取得処理でエラーが発生しました。"},
+			{ "MESS_EXPORT_ERR_EXPORTPROC_2D", "D0052D: インクリメンタルエクスポートの前回のExport結果の読み込みでエラーが発生しました。"},
+			{ "MESS_EXPORT_ERR_EXPORTPROC_2E", "D0052E: 他のスレッドでエラーが発生したため、ロウキー範囲のエクスポートを中断しました。"},
 
 			{ "MESS_COMM_ERR_PROPINFO_1", "D00601: プロパティ読込処理でエラーが発生しました" },
 			{ "MESS_COMM_ERR_PROPINFO_2", "D00602: プロパティファイルが見つかりませんでした。プロパティファイルを作成します。" },
@@ -341,6 +347,8 @@ public class messageResource_ja extends ListResourceBundle {
 			{ "MESS_COMM_ERR_METAINFO_45", "D00945: --filterfileで指定されたファイルの読み込みでエラーが発生しました。" },
 			{ "MESS_COMM_ERR_METAINFO_46", "D00946: V4より前のエクスポート形式で出力されたパーティショニングコンテナはスキップします。" },
 			{ "MESS_COMM_ERR_METAINFO_47", "D00947: (interval_worker_groupまたはinterval_worker_group_position)を指定する場合はインターバルパーティショニングテーブルが必須です。" },
+			{ "MESS_COMM_ERR_METAINFO_48", "D00948: チェックポイントジャーナルファイルの読み込みでエラーが発生しました" },
+			{ "MESS_COMM_ERR_METAINFO_49", "D00949: チェックポイントジャーナルファイルの書き込みでエラーが発生しました" },
 
 			{ "MESS_COMM_PROC_CMD_1", "コマンド重複チェック処理を開始します" },
 			{ "MESS_COMM_PROC_CMD_2", "コマンドラインパラメタ解析処理を開始します" },
@@ -408,6 +416,9 @@ public class messageResource_ja extends ListResourceBundle {
 			{ "MESS_COMM_ERR_CMD_57", "D00A57: プロパティ[intervalTimeZone]の値が不正です (タイムゾーン名またはGMT+HH:mm形式で指定してください)" },//
 			{ "MESS_COMM_ERR_CMD_58", "D00A58: [--intervals]と[--filterfile]は同時に設定できません" },//
       { "MESS_COMM_ERR_CMD_59", "D00A59: [--progress]の値が不正です。正の整数を指定してください" },//
+			{ "MESS_COMM_ERR_CMD_60", "D00A60: [--avro]と[--binary]または[--out]は同時に設定できません" },//
+			{ "MESS_COMM_ERR_CMD_61", "D00A61: [--columnar]と[--binary]、[--avro]または[--out]は同時に設定できません" },//
+			{ "MESS_COMM_ERR_CMD_62", "D00A62: [--resume]と[--out]は同時に設定できません" },//
 
 			{ "MESS_COMM_PROC_PROCINFO_1", "処理されないコンテナ名が検出されました" },//
 			{ "MESS_COMM_PROC_PROCINFO_2", "(%d/%d)コンテナ　%s　のインポートに%sしました。（%s）" },//
@@ -437,13 +448,13 @@ public class messageResource_ja extends ListResourceBundle {
 							+ System.getProperty("line.separator")
 							+ "[--directory directorypath]"
 							+ System.getProperty("line.separator")
-							+ "[--out [filename]][--binary [fileSizeLimit]]"
+							+ "[--out [filename]][--binary [fileSizeLimit]][--avro][--columnar]"
 							+ System.getProperty("line.separator")
 							+ /*"[--count maxFetchCount]*/"[--filterfile filename]"
 							+ System.getProperty("line.separator")
-							+ "[--intervals YYYYMMdd:YYYYMMdd]"
+							+ "[--intervals YYYYMMdd:YYYYMMdd][--incremental]"
 							+ System.getProperty("line.separator")
-							+ "[--test][--force]"
+							+ "[--test][--force][--resume]"
 							+ System.getProperty("line.separator")
 							+ "[--silent][--verbose]"
 							+ System.getProperty("line.separator")
@@ -465,7 +476,7 @@ public class messageResource_ja extends ListResourceBundle {
 							+ System.getProperty("line.separator")
 							+ "[--intervals YYYYMMdd:YYYYMMdd]"
 							+ System.getProperty("line.separator")
-							+ "[--force]"
+							+ "[--force][--resume]"
 							+ System.getProperty("line.separator")
 							+ "[--silent][--verbose]"
 							+ System.getProperty("line.separator")
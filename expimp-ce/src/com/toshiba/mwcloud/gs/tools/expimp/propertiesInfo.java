@@ -257,6 +257,264 @@ public class propertiesInfo {
 					}
 				}
 
+				// Write buffer size of CSV row data file
+				String csvWriteBufferSizeStr = configuration.getProperty(GSConstants.PROP_CSV_WRITE_BUFFER_SIZE);
+				if ( (csvWriteBufferSizeStr != null) && !csvWriteBufferSizeStr.isEmpty() ){
+					try {
+						int csvWriteBufferSize = Integer.parseInt(csvWriteBufferSizeStr);
+						if ( csvWriteBufferSize < 0 ){
+							throw new NumberFormatException();
+						}
+						ci.setCsvWriteBufferSize(csvWriteBufferSize);
+					} catch ( NumberFormatException e ){
+						throw new GSEIException(messageResource.getString("MESS_COMM_ERR_PROPINFO_1")+"('"+GSConstants.PROP_CSV_WRITE_BUFFER_SIZE+"' must be an integer of 0 or more.)", e);
+					}
+				}
+
+				// Number of threads to import one container
+				String containerThreadNumStr = configuration.getProperty(GSConstants.PROP_IMPORT_CONTAINER_THREAD_NUM);
+				if ( (containerThreadNumStr != null) && !containerThreadNumStr.isEmpty() ){
+					try {
+						int containerThreadNum = Integer.parseInt(containerThreadNumStr);
+						if ( containerThreadNum < 1 ){
+							throw new NumberFormatException();
+						}
+						ci.setImportContainerThreadNum(containerThreadNum);
+					} catch ( NumberFormatException e ){
+						throw new GSEIException(messageResource.getString("MESS_COMM_ERR_PROPINFO_1")+"('"+GSConstants.PROP_IMPORT_CONTAINER_THREAD_NUM+"' must be an integer of 1 or more.)", e);
+					}
+				}
+
+				// Number of threads to export one container
+				String exportContainerThreadNumStr = configuration.getProperty(GSConstants.PROP_EXPORT_CONTAINER_THREAD_NUM);
+				if ( (exportContainerThreadNumStr != null) && !exportContainerThreadNumStr.isEmpty() ){
+					try {
+						int exportContainerThreadNum = Integer.parseInt(exportContainerThreadNumStr);
+						if ( exportContainerThreadNum < 1 ){
+							throw new NumberFormatException();
+						}
+						ci.setExportContainerThreadNum(exportContainerThreadNum);
+					} catch ( NumberFormatException e ){
+						throw new GSEIException(messageResource.getString("MESS_COMM_ERR_PROPINFO_1")+"('"+GSConstants.PROP_EXPORT_CONTAINER_THREAD_NUM+"' must be an integer of 1 or more.)", e);
+					}
+				}
+
+				// Queue size of the pipeline between the fetch and the row file write
+				String pipelineQueueSizeStr = configuration.getProperty(GSConstants.PROP_EXPORT_PIPELINE_QUEUE_SIZE);
+				if ( (pipelineQueueSizeStr != null) && !pipelineQueueSizeStr.isEmpty() ){
+					try {
+						int pipelineQueueSize = Integer.parseInt(pipelineQueueSizeStr);
+						if ( pipelineQueueSize < 0 ){
+							throw new NumberFormatException();
+						}
+						ci.setExportPipelineQueueSize(pipelineQueueSize);
+					} catch ( NumberFormatException e ){
+						throw new GSEIException(messageResource.getString("MESS_COMM_ERR_PROPINFO_1")+"('"+GSConstants.PROP_EXPORT_PIPELINE_QUEUE_SIZE+"' must be an integer of 0 or more.)", e);
+					}
+				}
+
+				// Queue size of the asynchronous registration on import
+				String putQueueSizeStr = configuration.getProperty(GSConstants.PROP_IMPORT_PUT_QUEUE_SIZE);
+				if ( (putQueueSizeStr != null) && !putQueueSizeStr.isEmpty() ){
+					try {
+						int putQueueSize = Integer.parseInt(putQueueSizeStr);
+						if ( putQueueSize < 0 ){
+							throw new NumberFormatException();
+						}
+						ci.setImportPutQueueSize(putQueueSize);
+					} catch ( NumberFormatException e ){
+						throw new GSEIException(messageResource.getString("MESS_COMM_ERR_PROPINFO_1")+"('"+GSConstants.PROP_IMPORT_PUT_QUEUE_SIZE+"' must be an integer of 0 or more.)", e);
+					}
+				}
+
+				// Upper limit of the row file size of the containers registered by multiPut
+				String multiPutFileSizeStr = configuration.getProperty(GSConstants.PROP_IMPORT_MULTI_PUT_FILE_SIZE);
+				if ( (multiPutFileSizeStr != null) && !multiPutFileSizeStr.isEmpty() ){
+					try {
+						long multiPutFileSize = Long.parseLong(multiPutFileSizeStr);
+						if ( multiPutFileSize < 0 ){
+							throw new NumberFormatException();
+						}
+						ci.setImportMultiPutFileSize(multiPutFileSize);
+					} catch ( NumberFormatException e ){
+						throw new GSEIException(messageResource.getString("MESS_COMM_ERR_PROPINFO_1")+"('"+GSConstants.PROP_IMPORT_MULTI_PUT_FILE_SIZE+"' must be an integer of 0 or more.)", e);
+					}
+				}
+
+				// Number of containers searched together by fetchAll
+				String fetchAllNumStr = configuration.getProperty(GSConstants.PROP_EXPORT_FETCH_ALL_NUM);
+				if ( (fetchAllNumStr != null) && !fetchAllNumStr.isEmpty() ){
+					try {
+						int fetchAllNum = Integer.parseInt(fetchAllNumStr);
+						if ( fetchAllNum < 0 ){
+							throw new NumberFormatException();
+						}
+						ci.setExportFetchAllContainerNum(fetchAllNum);
+					} catch ( NumberFormatException e ){
+						throw new GSEIException(messageResource.getString("MESS_COMM_ERR_PROPINFO_1")+"('"+GSConstants.PROP_EXPORT_FETCH_ALL_NUM+"' must be an integer of 0 or more.)", e);
+					}
+				}
+
+				// Upper limit of the rows of a container searched by fetchAll
+				String fetchAllMaxRowsStr = configuration.getProperty(GSConstants.PROP_EXPORT_FETCH_ALL_MAX_ROWS);
+				if ( (fetchAllMaxRowsStr != null) && !fetchAllMaxRowsStr.isEmpty() ){
+					try {
+						int fetchAllMaxRows = Integer.parseInt(fetchAllMaxRowsStr);
+						if ( fetchAllMaxRows < 1 ){
+							throw new NumberFormatException();
+						}
+						ci.setExportFetchAllMaxRows(fetchAllMaxRows);
+					} catch ( NumberFormatException e ){
+						throw new GSEIException(messageResource.getString("MESS_COMM_ERR_PROPINFO_1")+"('"+GSConstants.PROP_EXPORT_FETCH_ALL_MAX_ROWS+"' must be an integer of 1 or more.)", e);
+					}
+				}
+
+				// Number of threads to parse one CSV row data file
+				String csvParseThreadNumStr = configuration.getProperty(GSConstants.PROP_IMPORT_CSV_PARSE_THREAD_NUM);
+				if ( (csvParseThreadNumStr != null) && !csvParseThreadNumStr.isEmpty() ){
+					try {
+						int csvParseThreadNum = Integer.parseInt(csvParseThreadNumStr);
+						if ( csvParseThreadNum < 1 ){
+							throw new NumberFormatException();
+						}
+						ci.setImportCsvParseThreadNum(csvParseThreadNum);
+					} catch ( NumberFormatException e ){
+						throw new GSEIException(messageResource.getString("MESS_COMM_ERR_PROPINFO_1")+"('"+GSConstants.PROP_IMPORT_CSV_PARSE_THREAD_NUM+"' must be an integer of 1 or more.)", e);
+					}
+				}
+
+				// Adaptive size of the batches of the registration
+				String adaptiveCommitStr = configuration.getProperty(GSConstants.PROP_IMPORT_ADAPTIVE_COMMIT);
+				if ( (adaptiveCommitStr != null) && !adaptiveCommitStr.isEmpty() ){
+					adaptiveCommitStr = adaptiveCommitStr.trim();
+					if ( !adaptiveCommitStr.equalsIgnoreCase("true") && !adaptiveCommitStr.equalsIgnoreCase("false") ){
+						throw new GSEIException(messageResource.getString("MESS_COMM_ERR_PROPINFO_1")+"('"+GSConstants.PROP_IMPORT_ADAPTIVE_COMMIT+"' must be true or false.)");
+					}
+					ci.setImportAdaptiveCommit(Boolean.parseBoolean(adaptiveCommitStr));
+				}
+				String adaptiveMinBytesStr = configuration.getProperty(GSConstants.PROP_IMPORT_ADAPTIVE_COMMIT_MIN_BYTES);
+				if ( (adaptiveMinBytesStr != null) && !adaptiveMinBytesStr.isEmpty() ){
+					try {
+						long adaptiveMinBytes = Long.parseLong(adaptiveMinBytesStr.trim());
+						if ( adaptiveMinBytes < 1 ){
+							throw new NumberFormatException();
+						}
+						ci.setImportAdaptiveCommitMinBytes(adaptiveMinBytes);
+					} catch ( NumberFormatException e ){
+						throw new GSEIException(messageResource.getString("MESS_COMM_ERR_PROPINFO_1")+"('"+GSConstants.PROP_IMPORT_ADAPTIVE_COMMIT_MIN_BYTES+"' must be an integer of 1 or more.)", e);
+					}
+				}
+				String adaptiveMaxBytesStr = configuration.getProperty(GSConstants.PROP_IMPORT_ADAPTIVE_COMMIT_MAX_BYTES);
+				if ( (adaptiveMaxBytesStr != null) && !adaptiveMaxBytesStr.isEmpty() ){
+					try {
+						long adaptiveMaxBytes = Long.parseLong(adaptiveMaxBytesStr.trim());
+						if ( adaptiveMaxBytes < 1 ){
+							throw new NumberFormatException();
+						}
+						ci.setImportAdaptiveCommitMaxBytes(adaptiveMaxBytes);
+					} catch ( NumberFormatException e ){
+						throw new GSEIException(messageResource.getString("MESS_COMM_ERR_PROPINFO_1")+"('"+GSConstants.PROP_IMPORT_ADAPTIVE_COMMIT_MAX_BYTES+"' must be an integer of 1 or more.)", e);
+					}
+				}
+				if ( ci.getImportAdaptiveCommitMaxBytes() < ci.getImportAdaptiveCommitMinBytes() ){
+					throw new GSEIException(messageResource.getString("MESS_COMM_ERR_PROPINFO_1")+"('"+GSConstants.PROP_IMPORT_ADAPTIVE_COMMIT_MAX_BYTES
+							+"' must be '"+GSConstants.PROP_IMPORT_ADAPTIVE_COMMIT_MIN_BYTES+"' or more.)");
+				}
+				String adaptiveTargetStr = configuration.getProperty(GSConstants.PROP_IMPORT_ADAPTIVE_COMMIT_TARGET_MILLIS);
+				if ( (adaptiveTargetStr != null) && !adaptiveTargetStr.isEmpty() ){
+					try {
+						long adaptiveTarget = Long.parseLong(adaptiveTargetStr.trim());
+						if ( adaptiveTarget < 1 ){
+							throw new NumberFormatException();
+						}
+						ci.setImportAdaptiveCommitTargetMillis(adaptiveTarget);
+					} catch ( NumberFormatException e ){
+						throw new GSEIException(messageResource.getString("MESS_COMM_ERR_PROPINFO_1")+"('"+GSConstants.PROP_IMPORT_ADAPTIVE_COMMIT_TARGET_MILLIS+"' must be an integer of 1 or more.)", e);
+					}
+				}
+
+				// Upper limit of the bytes of the rows kept in memory by all the import threads
+				String memoryBudgetStr = configuration.getProperty(GSConstants.PROP_IMPORT_MEMORY_BUDGET);
+				if ( (memoryBudgetStr != null) && !memoryBudgetStr.isEmpty() ){
+					try {
+						long memoryBudget = Long.parseLong(memoryBudgetStr.trim());
+						if ( memoryBudget < 0 ){
+							throw new NumberFormatException();
+						}
+						ci.setImportMemoryBudget(memoryBudget);
+					} catch ( NumberFormatException e ){
+						throw new GSEIException(messageResource.getString("MESS_COMM_ERR_PROPINFO_1")+"('"+GSConstants.PROP_IMPORT_MEMORY_BUDGET+"' must be an integer of 0 or more.)", e);
+					}
+				}
+
+				// Processing metrics
+				String metricsPath = configuration.getProperty(GSConstants.PROP_METRICS_PATH);
+				if ( (metricsPath != null) && !metricsPath.trim().isEmpty() ){
+					ci.setMetricsPath(metricsPath.trim());
+				}
+				String metricsFormat = configuration.getProperty(GSConstants.PROP_METRICS_FORMAT);
+				if ( (metricsFormat != null) && !metricsFormat.isEmpty() ){
+					metricsFormat = metricsFormat.trim().toLowerCase();
+					if ( !metricsFormat.equals(ProcessMetrics.FORMAT_JSON) && !metricsFormat.equals(ProcessMetrics.FORMAT_PROMETHEUS) ){
+						throw new GSEIException(messageResource.getString("MESS_COMM_ERR_PROPINFO_1")+"('"+GSConstants.PROP_METRICS_FORMAT+"' must be json or prometheus.)");
+					}
+					ci.setMetricsFormat(metricsFormat);
+				}
+				String metricsIntervalStr = configuration.getProperty(GSConstants.PROP_METRICS_INTERVAL);
+				if ( (metricsIntervalStr != null) && !metricsIntervalStr.isEmpty() ){
+					try {
+						int metricsInterval = Integer.parseInt(metricsIntervalStr);
+						if ( metricsInterval < 0 ){
+							throw new NumberFormatException();
+						}
+						ci.setMetricsInterval(metricsInterval);
+					} catch ( NumberFormatException e ){
+						throw new GSEIException(messageResource.getString("MESS_COMM_ERR_PROPINFO_1")+"('"+GSConstants.PROP_METRICS_INTERVAL+"' must be an integer of 0 or more.)", e);
+					}
+				}
+
+				// Pool of the connections shared by the threads
+				String connectionPoolStr = configuration.getProperty(GSConstants.PROP_CONNECTION_POOL);
+				if ( (connectionPoolStr != null) && Boolean.parseBoolean(connectionPoolStr.trim()) ){
+					int maxConnections = 0;
+					String maxConnectionsStr = configuration.getProperty(GSConstants.PROP_CONNECTION_POOL_MAX_CONNECTIONS);
+					if ( (maxConnectionsStr != null) && !maxConnectionsStr.isEmpty() ){
+						try {
+							maxConnections = Integer.parseInt(maxConnectionsStr.trim());
+							if ( maxConnections < 0 ){
+								throw new NumberFormatException();
+							}
+						} catch ( NumberFormatException e ){
+							throw new GSEIException(messageResource.getString("MESS_COMM_ERR_PROPINFO_1")+"('"+GSConstants.PROP_CONNECTION_POOL_MAX_CONNECTIONS+"' must be an integer of 0 or more.)", e);
+						}
+					}
+					int validateSeconds = 60;
+					String validateSecondsStr = configuration.getProperty(GSConstants.PROP_CONNECTION_POOL_VALIDATE_SECONDS);
+					if ( (validateSecondsStr != null) && !validateSecondsStr.isEmpty() ){
+						try {
+							validateSeconds = Integer.parseInt(validateSecondsStr.trim());
+							if ( validateSeconds < 0 ){
+								throw new NumberFormatException();
+							}
+						} catch ( NumberFormatException e ){
+							throw new GSEIException(messageResource.getString("MESS_COMM_ERR_PROPINFO_1")+"('"+GSConstants.PROP_CONNECTION_POOL_VALIDATE_SECONDS+"' must be an integer of 0 or more.)", e);
+						}
+					}
+					int maxWaitSeconds = 30;
+					String maxWaitSecondsStr = configuration.getProperty(GSConstants.PROP_CONNECTION_POOL_MAX_WAIT_SECONDS);
+					if ( (maxWaitSecondsStr != null) && !maxWaitSecondsStr.isEmpty() ){
+						try {
+							maxWaitSeconds = Integer.parseInt(maxWaitSecondsStr.trim());
+							if ( maxWaitSeconds < 0 ){
+								throw new NumberFormatException();
+							}
+						} catch ( NumberFormatException e ){
+							throw new GSEIException(messageResource.getString("MESS_COMM_ERR_PROPINFO_1")+"('"+GSConstants.PROP_CONNECTION_POOL_MAX_WAIT_SECONDS+"' must be an integer of 0 or more.)", e);
+						}
+					}
+					ci.setConnectionPool(new ConnectionPool(maxConnections, validateSeconds, maxWaitSeconds));
+				}
+
 				// export.storeMemoryAgingSwapRate
 				String exportStoreMemoryAgingSwapRate = configuration.getProperty(GSConstants.PROP_EXPORT_AGING_SWAP_RATE);
 				if ( (exportStoreMemoryAgingSwapRate != null) && !exportStoreMemoryAgingSwapRate.isEmpty()){
@@ -369,6 +627,30 @@ public class propertiesInfo {
 
 			if (ci.getCmdName().equals(GSConstants.CMD_NAME.GS_EXPORT.toString())) {
 				msg += " export.storeMemoryAgingSwapRate=[" + ci.getExportStoreMemoryAgingSwapRate() + "]";
+				msg += " csvWriteBufferSize=[" + ci.getCsvWriteBufferSize() + "]";
+				msg += " export.containerThreadNum=[" + ci.getExportContainerThreadNum() + "]";
+				msg += " export.pipelineQueueSize=[" + ci.getExportPipelineQueueSize() + "]";
+				msg += " export.fetchAllContainerNum=[" + ci.getExportFetchAllContainerNum() + "]";
+				msg += " export.fetchAllMaxRows=[" + ci.getExportFetchAllMaxRows() + "]";
+			} else {
+				msg += " import.containerThreadNum=[" + ci.getImportContainerThreadNum() + "]";
+				msg += " import.putQueueSize=[" + ci.getImportPutQueueSize() + "]";
+				msg += " import.multiPutFileSize=[" + ci.getImportMultiPutFileSize() + "]";
+				msg += " import.csvParseThreadNum=[" + ci.getImportCsvParseThreadNum() + "]";
+				msg += " import.adaptiveCommit=[" + ci.getImportAdaptiveCommit() + "]";
+				if ( ci.getImportAdaptiveCommit() ){
+					msg += " import.adaptiveCommit.minBytes=[" + ci.getImportAdaptiveCommitMinBytes()
+							+ "] import.adaptiveCommit.maxBytes=[" + ci.getImportAdaptiveCommitMaxBytes()
+							+ "] import.adaptiveCommit.targetMillis=[" + ci.getImportAdaptiveCommitTargetMillis() + "]";
+				}
+				msg += " import.memoryBudget=[" + ci.getImportMemoryBudget() + "]";
+			}
+			if ( ci.getMetricsPath() != null ){
+				msg += " metrics.path=[" + ci.getMetricsPath() + "] metrics.format=[" + ci.getMetricsFormat()
+						+ "] metrics.interval=[" + ci.getMetricsInterval() + "]";
+			}
+			if ( ci.getConnectionPool() != null ){
+				msg += " connectionPool=[" + ci.getConnectionPool() + "]";
 			}
 
 			log.info(msg);
@@ -407,6 +689,21 @@ public class propertiesInfo {
 			configuration.setProperty("failoverTimeout",Integer.toString(ci.getFailoverTimeout()));
 			configuration.setProperty("jdbcLoginTimeout",Integer.toString(ci.getJdbcLoginTimeout()));
 			configuration.setProperty("intervalTimeZone", ci.getIntervalTimeZoneId());
+			configuration.setProperty(GSConstants.PROP_CSV_WRITE_BUFFER_SIZE, Integer.toString(ci.getCsvWriteBufferSize()));
+			configuration.setProperty(GSConstants.PROP_IMPORT_CONTAINER_THREAD_NUM, Integer.toString(ci.getImportContainerThreadNum()));
+			configuration.setProperty(GSConstants.PROP_EXPORT_CONTAINER_THREAD_NUM, Integer.toString(ci.getExportContainerThreadNum()));
+			configuration.setProperty(GSConstants.PROP_EXPORT_PIPELINE_QUEUE_SIZE, Integer.toString(ci.getExportPipelineQueueSize()));
+			configuration.setProperty(GSConstants.PROP_IMPORT_PUT_QUEUE_SIZE, Integer.toString(ci.getImportPutQueueSize()));
+			configuration.setProperty(GSConstants.PROP_IMPORT_MULTI_PUT_FILE_SIZE, Long.toString(ci.getImportMultiPutFileSize()));
+			configuration.setProperty(GSConstants.PROP_EXPORT_FETCH_ALL_NUM, Integer.toString(ci.getExportFetchAllContainerNum()));
+			configuration.setProperty(GSConstants.PROP_EXPORT_FETCH_ALL_MAX_ROWS, Integer.toString(ci.getExportFetchAllMaxRows()));
+			configuration.setProperty(GSConstants.PROP_IMPORT_CSV_PARSE_THREAD_NUM, Integer.toString(ci.getImportCsvParseThreadNum()));
+			configuration.setProperty(GSConstants.PROP_IMPORT_ADAPTIVE_COMMIT, Boolean.toString(ci.getImportAdaptiveCommit()));
+			configuration.setProperty(GSConstants.PROP_IMPORT_ADAPTIVE_COMMIT_MIN_BYTES, Long.toString(ci.getImportAdaptiveCommitMinBytes()));
+			configuration.setProperty(GSConstants.PROP_IMPORT_ADAPTIVE_COMMIT_MAX_BYTES, Long.toString(ci.getImportAdaptiveCommitMaxBytes()));
+			configuration.setProperty(GSConstants.PROP_IMPORT_ADAPTIVE_COMMIT_TARGET_MILLIS, Long.toString(ci.getImportAdaptiveCommitTargetMillis()));
+			configuration.setProperty(GSConstants.PROP_IMPORT_MEMORY_BUDGET, Long.toString(ci.getImportMemoryBudget()));
+			configuration.setProperty(GSConstants.PROP_CONNECTION_POOL, Boolean.toString(ci.getConnectionPool() != null));
 
 			configuration.store(outputStream, "propertiesInfo constructer");
 			outputStream.flush();
@@ -0,0 +1,682 @@
+/*
+    Copyright (c) 2021 TOSHIBA Digital Solutions Corporation.
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+        http://www.apache.org/licenses/LICENSE-2.0
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package com.toshiba.mwcloud.gs.tools.expimp;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.sql.Blob;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.ResourceBundle;
+
+import javax.sql.rowset.serial.SerialBlob;
+
+import org.apache.avro.LogicalTypes;
+import org.apache.avro.Schema;
+import org.apache.avro.file.CodecFactory;
+import org.apache.avro.file.DataFileReader;
+import org.apache.avro.file.DataFileWriter;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+
+import com.toshiba.mwcloud.gs.ColumnInfo;
+import com.toshiba.mwcloud.gs.Container;
+import com.toshiba.mwcloud.gs.GSType;
+import com.toshiba.mwcloud.gs.Geometry;
+import com.toshiba.mwcloud.gs.Row;
+import com.toshiba.mwcloud.gs.tools.common.data.MetaContainerFileIO;
+import com.toshiba.mwcloud.gs.tools.common.data.ToolContainerInfo;
+import com.toshiba.mwcloud.gs.tools.expimp.util.Utility;
+
+/**
+ * Avro format row data I/O processing class
+ *
+ *   One Avro container file is created for each container. The rows are stored in
+ *   deflate-compressed data blocks separated by sync markers.
+ *
+ *   The record schema is created from the column information of the container.
+ *   The field of the column i is "c"+i (a union of null and the column type), and
+ *   the original column name and type are kept in the field properties.
+ *
+ *   [Memo] Only the single container format is supported. (--out cannot be specified)
+ */
+public class rowAvroFileIO extends GSEIFileIO {
+
+	/** Name of the record schema */
+	private static final String RECORD_NAME = "GridDBRow";
+
+	/** Namespace of the record schema */
+	private static final String RECORD_NAMESPACE = "com.toshiba.mwcloud.gs.tools.expimp";
+
+	/** Name of the record schema of the TIMESTAMP with a precision of micro/nanoseconds */
+	private static final String PRECISE_TIMESTAMP_NAME = "PreciseTimestamp";
+
+	/** Field property : column name */
+	static final String PROP_COLUMN_NAME = "gsColumnName";
+
+	/** Field property : column type */
+	static final String PROP_COLUMN_TYPE = "gsColumnType";
+
+	/**
+	 * Internationalized message resource
+	 */
+	private static ResourceBundle messageResource;
+
+	/** Column type of each field */
+	private GSType[] m_columnTypes;
+
+	/** Whether each field is a TIMESTAMP with a precision of micro/nanoseconds */
+	private boolean[] m_preciseColumns;
+
+	/** Record schema of the container */
+	private Schema m_schema;
+
+	/** Avro output file object */
+	private DataFileWriter<GenericRecord> m_writer;
+
+	/** Avro read file object */
+	private DataFileReader<GenericRecord> m_reader;
+
+	/** Record object (reused for every row) */
+	private GenericRecord m_record;
+
+	/** Record object of the precise TIMESTAMP (reused for every column) */
+	private GenericRecord[] m_preciseRecords;
+
+	/** File name list to read */
+	private List<String> m_fileNameList;
+
+	/** Number of files read */
+	private int m_currentFileNum;
+
+	/**
+	 * Constructor
+	 *
+	 * @param cli Command parameter information class
+	 */
+	public rowAvroFileIO(commandLineInfo cli) {
+		super(cli);
+		messageResource = Utility.getResource();
+	}
+
+	public void changeDateFormat() {
+		// The timestamp is stored as a number
+	}
+
+	//**********************************************************************
+	// Schema
+	//**********************************************************************
+	/**
+	 * Creates the record schema from the column information of the container.
+	 *
+	 * @param contInfo Container information
+	 * @throws GSEIException When a column type that cannot be processed is included
+	 */
+	private void createSchema(ToolContainerInfo contInfo) throws GSEIException {
+		List<ColumnInfo> columnInfoList = contInfo.getColumnInfoList();
+		m_columnTypes = new GSType[columnInfoList.size()];
+		m_preciseColumns = new boolean[columnInfoList.size()];
+		m_preciseRecords = new GenericRecord[columnInfoList.size()];
+
+		// The named schema is defined only once in the record
+		Schema preciseSchema = null;
+
+		List<Schema.Field> fields = new ArrayList<Schema.Field>();
+		for ( int i = 0; i < columnInfoList.size(); i++ ){
+			ColumnInfo info = columnInfoList.get(i);
+			m_columnTypes[i] = info.getType();
+			m_preciseColumns[i] = ( info.getType() == GSType.TIMESTAMP ) && MetaContainerFileIO.isPreciseColumn(info);
+
+			Schema valueSchema;
+			if ( m_preciseColumns[i] ){
+				if ( preciseSchema == null ){
+					List<Schema.Field> tsFields = new ArrayList<Schema.Field>();
+					tsFields.add(new Schema.Field("millis", Schema.create(Schema.Type.LONG), null, (Object)null));
+					tsFields.add(new Schema.Field("nanos", Schema.create(Schema.Type.INT), null, (Object)null));
+					preciseSchema = Schema.createRecord(PRECISE_TIMESTAMP_NAME, null, RECORD_NAMESPACE, false, tsFields);
+				}
+				valueSchema = preciseSchema;
+				m_preciseRecords[i] = new GenericData.Record(preciseSchema);
+			} else {
+				valueSchema = createValueSchema(info.getType());
+			}
+			if ( valueSchema == null ){
+				throw new GSEIException(messageResource.getString("MESS_COMM_ERR_ROWBNY_12")
+						+": containerName=["+contInfo.getFullName()
+						+"] columnType=["+info.getType()+"]");
+			}
+
+			Schema.Field field = new Schema.Field("c"+i,
+					Schema.createUnion(Arrays.asList(Schema.create(Schema.Type.NULL), valueSchema)), null, (Object)null);
+			field.addProp(PROP_COLUMN_NAME, info.getName());
+			field.addProp(PROP_COLUMN_TYPE, info.getType().toString());
+			fields.add(field);
+		}
+
+		m_schema = Schema.createRecord(RECORD_NAME, null, RECORD_NAMESPACE, false, fields);
+	}
+
+	/**
+	 * Returns the Avro schema of the column value.
+	 *
+	 * @param type Column type
+	 * @return Schema (null if the type is not supported)
+	 */
+	private static Schema createValueSchema(GSType type){
+		switch(type){
+		case BOOL:
+			return Schema.create(Schema.Type.BOOLEAN);
+		case BYTE:
+		case SHORT:
+		case INTEGER:
+			return Schema.create(Schema.Type.INT);
+		case LONG:
+			return Schema.create(Schema.Type.LONG);
+		case FLOAT:
+			return Schema.create(Schema.Type.FLOAT);
+		case DOUBLE:
+			return Schema.create(Schema.Type.DOUBLE);
+		case TIMESTAMP:
+			return LogicalTypes.timestampMillis().addToSchema(Schema.create(Schema.Type.LONG));
+		case STRING:
+		case GEOMETRY:
+			return Schema.create(Schema.Type.STRING);
+		case BLOB:
+			return Schema.create(Schema.Type.BYTES);
+		case BOOL_ARRAY:
+			return Schema.createArray(Schema.create(Schema.Type.BOOLEAN));
+		case STRING_ARRAY:
+			return Schema.createArray(Schema.create(Schema.Type.STRING));
+		case BYTE_ARRAY:
+		case SHORT_ARRAY:
+		case INTEGER_ARRAY:
+			return Schema.createArray(Schema.create(Schema.Type.INT));
+		case LONG_ARRAY:
+			return Schema.createArray(Schema.create(Schema.Type.LONG));
+		case FLOAT_ARRAY:
+			return Schema.createArray(Schema.create(Schema.Type.FLOAT));
+		case DOUBLE_ARRAY:
+			return Schema.createArray(Schema.create(Schema.Type.DOUBLE));
+		case TIMESTAMP_ARRAY:
+			return Schema.createArray(LogicalTypes.timestampMillis().addToSchema(Schema.create(Schema.Type.LONG)));
+		default:
+			return null;
+		}
+	}
+
+	//**********************************************************************
+	// Start/end of file output
+	//**********************************************************************
+	/**
+	 * Prepare for file output.
+	 */
+	public void startWrite(){
+		// No processing in particular
+	}
+
+	/**
+	 * Ends file output.
+	 */
+	public void endWrite(){
+		closeWriter();
+	}
+
+	private void closeWriter(){
+		if ( m_writer != null ){
+			try {
+				m_writer.close();
+			} catch ( Exception e ){}
+			m_writer = null;
+		}
+	}
+
+	//**********************************************************************
+	// Start/end of container unit
+	//**********************************************************************
+	/**
+	 * Prepare to output container data.
+	 *
+	 *    Create an Avro file to output the container data.
+	 *
+	 * @param containerInfo Container information
+	 */
+	public void startWriteContainer(ToolContainerInfo containerInfo) throws GSEIException{
+		m_containerInfo = containerInfo;
+
+		// No file output in test mode
+		if (cmdLineInfo.getTestFlag()) return;
+
+		String fileName = GSEIFileIO.createRowFileName(m_containerInfo, cmdLineInfo);
+		containerInfo.setFileBaseName(fileName);
+
+		if ( cmdLineInfo.getSchemaOnlyFlag() ) return;
+
+		m_file = new File(m_targetPath, fileName + GSConstants.FILE_EXT_AVRO);
+		try {
+			createSchema(containerInfo);
+			m_schema.addProp("gsContainerName", containerInfo.getFullName());
+			m_record = new GenericData.Record(m_schema);
+
+			m_writer = new DataFileWriter<GenericRecord>(new GenericDatumWriter<GenericRecord>(m_schema));
+			m_writer.setCodec(CodecFactory.deflateCodec(GSConstants.AVRO_DEFLATE_LEVEL));
+			m_writer.create(m_schema, m_file);
+
+		} catch ( GSEIException e ){
+			throw e;
+		} catch ( Exception e ){
+			// An error occurred while creating the file
+			throw new GSEIException(messageResource.getString("MESS_COMM_ERR_ROWBNY_5")
+					+": containerName=["+m_containerInfo.getFullName()
+					+"] file=["+m_file.getAbsolutePath()+"] msg=["+e.getMessage()+"]", e);
+		}
+	}
+
+	/**
+	 * Container data output is finished.
+	 */
+	public void endWriteContainer() throws GSEIException {
+		// No file output in test mode
+		if ( cmdLineInfo.getTestFlag() ) return;
+		if ( cmdLineInfo.getSchemaOnlyFlag() ) return;
+
+		try {
+			// Save the name of the output file
+			m_containerInfo.addContainerFile(m_file.getName());
+			m_writer.close();
+		} catch ( Exception e ){
+			// An error occurred while writing the file
+			throw new GSEIException(messageResource.getString("MESS_COMM_ERR_ROWCSV_24")
+					+": containerName=["+m_containerInfo.getFullName()
+					+"] file=["+m_file.getAbsolutePath()+"] msg=["+e.getMessage()+"]", e);
+		} finally {
+			m_writer = null;
+		}
+	}
+
+	/**
+	 * Returns the name of the row file being output.
+	 */
+	public String createRowFileName() throws GSEIException{
+		return m_containerInfo.getFileBaseName() + GSConstants.FILE_EXT_AVRO;
+	}
+
+	//**********************************************************************
+	// Row data output
+	//**********************************************************************
+	/**
+	 * Writes row data to the file.
+	 *
+	 * @param row Row data
+	 * @param rowIndex Row number
+	 */
+	public void writeRow(Row row, int rowIndex) throws GSEIException {
+		try {
+			for ( int i = 0; i < m_columnTypes.length; i++ ){
+				m_record.put(i, row.isNull(i) ? null : getValue(row, i));
+			}
+			m_writer.append(m_record);
+
+		} catch ( Exception e ){
+			// An error occurred while writing the row data
+			throw new GSEIException(messageResource.getString("MESS_COMM_ERR_ROWCSV_29")
+					+": containerName=["+m_containerInfo.getFullName()
+					+"] rowNum=["+rowIndex+"] msg=["+e.getMessage()+"]", e);
+		}
+	}
+
+	/**
+	 * Returns the column value as an Avro datum.
+	 */
+	private Object getValue(Row row, int index) throws Exception {
+		switch(m_columnTypes[index]){
+		case BOOL:
+			return row.getBool(index);
+		case BYTE:
+			return (int)row.getByte(index);
+		case SHORT:
+			return (int)row.getShort(index);
+		case INTEGER:
+			return row.getInteger(index);
+		case LONG:
+			return row.getLong(index);
+		case FLOAT:
+			return row.getFloat(index);
+		case DOUBLE:
+			return row.getDouble(index);
+		case TIMESTAMP:
+			if ( m_preciseColumns[index] ){
+				Timestamp ts = row.getPreciseTimestamp(index);
+				GenericRecord value = m_preciseRecords[index];
+				value.put(0, ts.getTime());
+				value.put(1, ts.getNanos());
+				return value;
+			}
+			return row.getTimestamp(index).getTime();
+		case STRING:
+			return row.getString(index);
+		case GEOMETRY:
+			return row.getGeometry(index).toString();
+		case BLOB:
+			Blob blob = row.getBlob(index);
+			long len = blob.length();
+			return ByteBuffer.wrap( (len == 0) ? new byte[0] : blob.getBytes(1, (int)len));
+		case BOOL_ARRAY: {
+			boolean[] v = row.getBoolArray(index);
+			List<Boolean> list = new ArrayList<Boolean>(v.length);
+			for ( boolean e : v ) list.add(e);
+			return list;
+		}
+		case STRING_ARRAY:
+			return Arrays.asList(row.getStringArray(index));
+		case BYTE_ARRAY: {
+			byte[] v = row.getByteArray(index);
+			List<Integer> list = new ArrayList<Integer>(v.length);
+			for ( byte e : v ) list.add((int)e);
+			return list;
+		}
+		case SHORT_ARRAY: {
+			short[] v = row.getShortArray(index);
+			List<Integer> list = new ArrayList<Integer>(v.length);
+			for ( short e : v ) list.add((int)e);
+			return list;
+		}
+		case INTEGER_ARRAY: {
+			int[] v = row.getIntegerArray(index);
+			List<Integer> list = new ArrayList<Integer>(v.length);
+			for ( int e : v ) list.add(e);
+			return list;
+		}
+		case LONG_ARRAY: {
+			long[] v = row.getLongArray(index);
+			List<Long> list = new ArrayList<Long>(v.length);
+			for ( long e : v ) list.add(e);
+			return list;
+		}
+		case FLOAT_ARRAY: {
+			float[] v = row.getFloatArray(index);
+			List<Float> list = new ArrayList<Float>(v.length);
+			for ( float e : v ) list.add(e);
+			return list;
+		}
+		case DOUBLE_ARRAY: {
+			double[] v = row.getDoubleArray(index);
+			List<Double> list = new ArrayList<Double>(v.length);
+			for ( double e : v ) list.add(e);
+			return list;
+		}
+		case TIMESTAMP_ARRAY: {
+			Date[] v = row.getTimestampArray(index);
+			List<Long> list = new ArrayList<Long>(v.length);
+			for ( Date e : v ) list.add(e.getTime());
+			return list;
+		}
+		default:
+			throw new GSEIException(messageResource.getString("MESS_COMM_ERR_ROWBNY_12")
+					+": columnType=["+m_columnTypes[index]+"]");
+		}
+	}
+
+
+	//**********************************************************************
+	// Load container data
+	//**********************************************************************
+	/**
+	 * Load the export data of the container.
+	 *
+	 * @param contInfo Target container information object
+	 * @param fileNameList File name list
+	 */
+	public void readContainer(ToolContainerInfo contInfo, List<String> fileNameList) throws GSEIException{
+		m_containerInfo = contInfo;
+		m_fileNameList = fileNameList;
+		m_currentFileNum = 0;
+		m_timeFileIO = 0;
+		m_timeFileRead = 0;
+		m_timeFileRead2 = 0;
+
+		long start = System.currentTimeMillis();
+		try {
+			createSchema(contInfo);
+			m_record = null;
+			openReader(m_fileNameList.get(m_currentFileNum++));
+
+		} finally {
+			long end = System.currentTimeMillis();
+			m_timeFileIO += (end-start);
+		}
+	}
+
+	private void openReader(String fileName) throws GSEIException {
+		closeReader();
+		File file = new File(m_targetPath, fileName);
+		try {
+			// The schema of the file is used as it is for reading (the fields are read by position)
+			m_reader = new DataFileReader<GenericRecord>(file, new GenericDatumReader<GenericRecord>());
+			if ( m_reader.getSchema().getFields().size() != m_columnTypes.length ){
+				// The number of the columns does not match the schema
+				throw new GSEIException(messageResource.getString("MESS_COMM_ERR_ROWCSV_16")
+						+": containerName=["+m_containerInfo.getFullName()
+						+"] file=["+file.getAbsolutePath()+"] columnCount=["+m_reader.getSchema().getFields().size()+"]");
+			}
+			m_file = file;
+		} catch ( GSEIException e ){
+			throw e;
+		} catch ( Exception e ){
+			// An error occurred while reading the file
+			throw new GSEIException(messageResource.getString("MESS_COMM_ERR_ROWCSV_12")
+					+": containerName=["+m_containerInfo.getFullName()
+					+"] file=["+file.getAbsolutePath()+"] msg=["+e.getMessage()+"]", e);
+		}
+	}
+
+	private void closeReader(){
+		if ( m_reader != null ){
+			try {
+				m_reader.close();
+			} catch ( Exception e ){}
+			m_reader = null;
+		}
+	}
+
+	/**
+	 * Check for the next ROW data.
+	 *
+	 * @return true:If there is the next Row data / false:none
+	 */
+	public boolean hasNextRow() throws GSEIException {
+		long start = System.currentTimeMillis();
+		try {
+			while ( !m_reader.hasNext() ){
+				// End of file  ⇒  If there is still a file to read, read it
+				if ( m_currentFileNum < m_fileNameList.size() ){
+					openReader(m_fileNameList.get(m_currentFileNum++));
+				} else {
+					closeReader();
+					return false;
+				}
+			}
+			return true;
+
+		} catch ( GSEIException e ){
+			throw e;
+		} catch ( Exception e ){
+			throw new GSEIException(messageResource.getString("MESS_COMM_ERR_ROWCSV_12")
+					+": containerName=["+m_containerInfo.getFullName()
+					+"] file=["+m_file.getAbsolutePath()+"] msg=["+e.getMessage()+"]", e);
+		} finally {
+			long end = System.currentTimeMillis();
+			m_timeFileIO += (end-start);
+		}
+	}
+
+	/**
+	 * Reads row data.
+	 *
+	 * @param container Container
+	 * @return Row data
+	 */
+	public Row readRow(Container<?, Row> container) throws GSEIException {
+		long start = System.currentTimeMillis();
+		try {
+			m_record = m_reader.next(m_record);
+			long end = System.currentTimeMillis();
+			m_timeFileRead += (end-start);
+
+			Row row = container.createRow();
+			for ( int i = 0; i < m_columnTypes.length; i++ ){
+				Object value = m_record.get(i);
+				if ( value == null ){
+					row.setValue(i, null);
+				} else {
+					setValue(row, i, value);
+				}
+			}
+			m_timeFileRead2 += (System.currentTimeMillis()-end);
+			return row;
+
+		} catch ( GSEIException e ){
+			throw e;
+		} catch ( Exception e ){
+			throw new GSEIException(messageResource.getString("MESS_COMM_ERR_ROWBNY_13")
+					+": containerName=["+m_containerInfo.getFullName()
+					+"] file=["+m_file.getAbsolutePath()+"] msg=["+e.getMessage()+"]", e);
+		}
+	}
+
+	/**
+	 * Sets the Avro datum to the column of the row.
+	 */
+	private void setValue(Row row, int index, Object value) throws Exception {
+		switch(m_columnTypes[index]){
+		case BOOL:
+			row.setBool(index, (Boolean)value);
+			break;
+		case BYTE:
+			row.setByte(index, ((Integer)value).byteValue());
+			break;
+		case SHORT:
+			row.setShort(index, ((Integer)value).shortValue());
+			break;
+		case INTEGER:
+			row.setInteger(index, (Integer)value);
+			break;
+		case LONG:
+			row.setLong(index, (Long)value);
+			break;
+		case FLOAT:
+			row.setFloat(index, (Float)value);
+			break;
+		case DOUBLE:
+			row.setDouble(index, (Double)value);
+			break;
+		case TIMESTAMP:
+			if ( m_preciseColumns[index] ){
+				GenericRecord r = (GenericRecord)value;
+				Timestamp ts = new Timestamp((Long)r.get(0));
+				ts.setNanos((Integer)r.get(1));
+				row.setPreciseTimestamp(index, ts);
+			} else {
+				row.setTimestamp(index, new Date((Long)value));
+			}
+			break;
+		case STRING:
+			row.setString(index, value.toString());
+			break;
+		case GEOMETRY:
+			row.setGeometry(index, Geometry.valueOf(value.toString()));
+			break;
+		case BLOB: {
+			// The buffer is reused by the reader
+			ByteBuffer buf = (ByteBuffer)value;
+			byte[] b = new byte[buf.remaining()];
+			buf.duplicate().get(b);
+			if ( b.length != 0 ){
+				row.setBlob(index, new SerialBlob(b));
+			}
+			break;
+		}
+		case BOOL_ARRAY: {
+			List<?> list = (List<?>)value;
+			boolean[] v = new boolean[list.size()];
+			for ( int j = 0; j < v.length; j++ ) v[j] = (Boolean)list.get(j);
+			row.setBoolArray(index, v);
+			break;
+		}
+		case STRING_ARRAY: {
+			List<?> list = (List<?>)value;
+			String[] v = new String[list.size()];
+			for ( int j = 0; j < v.length; j++ ) v[j] = list.get(j).toString();
+			row.setStringArray(index, v);
+			break;
+		}
+		case BYTE_ARRAY: {
+			List<?> list = (List<?>)value;
+			byte[] v = new byte[list.size()];
+			for ( int j = 0; j < v.length; j++ ) v[j] = ((Integer)list.get(j)).byteValue();
+			row.setByteArray(index, v);
+			break;
+		}
+		case SHORT_ARRAY: {
+			List<?> list = (List<?>)value;
+			short[] v = new short[list.size()];
+			for ( int j = 0; j < v.length; j++ ) v[j] = ((Integer)list.get(j)).shortValue();
+			row.setShortArray(index, v);
+			break;
+		}
+		case INTEGER_ARRAY: {
+			List<?> list = (List<?>)value;
+			int[] v = new int[list.size()];
+			for ( int j = 0; j < v.length; j++ ) v[j] = (Integer)list.get(j);
+			row.setIntegerArray(index, v);
+			break;
+		}
+		case LONG_ARRAY: {
+			List<?> list = (List<?>)value;
+			long[] v = new long[list.size()];
+			for ( int j = 0; j < v.length; j++ ) v[j] = (Long)list.get(j);
+			row.setLongArray(index, v);
+			break;
+		}
+		case FLOAT_ARRAY: {
+			List<?> list = (List<?>)value;
+			float[] v = new float[list.size()];
+			for ( int j = 0; j < v.length; j++ ) v[j] = (Float)list.get(j);
+			row.setFloatArray(index, v);
+			break;
+		}
+		case DOUBLE_ARRAY: {
+			List<?> list = (List<?>)value;
+			double[] v = new double[list.size()];
+			for ( int j = 0; j < v.length; j++ ) v[j] = (Double)list.get(j);
+			row.setDoubleArray(index, v);
+			break;
+		}
+		case TIMESTAMP_ARRAY: {
+			List<?> list = (List<?>)value;
+			Date[] v = new Date[list.size()];
+			for ( int j = 0; j < v.length; j++ ) v[j] = new Date((Long)list.get(j));
+			row.setTimestampArray(index, v);
+			break;
+		}
+		default:
+			throw new GSEIException(messageResource.getString("MESS_COMM_ERR_ROWBNY_12")
+					+": columnType=["+m_columnTypes[index]+"]");
+		}
+	}
+}
@@ -0,0 +1,1259 @@
+/*
+    Copyright (c) 2021 TOSHIBA Digital Solutions Corporation.
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+        http://www.apache.org/licenses/LICENSE-2.0
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+
+package com.toshiba.mwcloud.gs.tools.expimp;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.nio.charset.Charset;
+import java.sql.Blob;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ResourceBundle;
+
+import javax.sql.rowset.serial.SerialBlob;
+
+import com.toshiba.mwcloud.gs.ColumnInfo;
+import com.toshiba.mwcloud.gs.Container;
+import com.toshiba.mwcloud.gs.GSType;
+import com.toshiba.mwcloud.gs.Geometry;
+import com.toshiba.mwcloud.gs.Row;
+import com.toshiba.mwcloud.gs.tools.common.data.MetaContainerFileIO;
+import com.toshiba.mwcloud.gs.tools.common.data.ToolContainerInfo;
+import com.toshiba.mwcloud.gs.tools.expimp.util.Utility;
+
+/**
+ * Columnar block format row data I/O processing class
+ *
+ *   One file is created for each container. The rows are stored in blocks of
+ *   GSConstants.COLUMNAR_BLOCK_ROW_NUM rows, and each column of a block is stored separately.
+ *
+ *   File    : magic "GSCB", version(int), column count(varint), { column type(UTF), precise(byte) } ...
+ *             block ... , 0(varint)
+ *   Block   : row count(varint), { byte length(varint), column data } ...
+ *   Column  : null flag(byte), [null bitmap], values of the rows that are not null
+ *
+ *   Values of each column type
+ *     BYTE/SHORT/INTEGER/LONG     zig-zag varint of the difference from the previous value
+ *     TIMESTAMP                   delta-of-delta bit stream of the milliseconds
+ *                                 (precise TIMESTAMP : and varint of the nanoseconds less than a millisecond)
+ *     FLOAT/DOUBLE                XOR with the previous value (Gorilla) bit stream
+ *     BOOL                        bitmap
+ *     STRING/GEOMETRY             dictionary (when there are few kinds of values) or UTF-8 strings
+ *     BLOB/arrays                 length(varint) and elements
+ *
+ *   [Memo] Only the single container format is supported. (--out cannot be specified)
+ */
+public class rowColumnarFileIO extends GSEIFileIO {
+
+	/** Magic number of the file */
+	private static final byte[] MAGIC = { 'G', 'S', 'C', 'B' };
+
+	/** Format version of the file */
+	private static final int FORMAT_VERSION = 1;
+
+	/** Encoding of the strings */
+	private static final Charset UTF8 = Charset.forName("UTF-8");
+
+	/** String column : UTF-8 strings */
+	private static final byte STRING_PLAIN = 0;
+	/** String column : dictionary and indexes */
+	private static final byte STRING_DICTIONARY = 1;
+
+	/**
+	 * Internationalized message resource
+	 */
+	private static ResourceBundle messageResource;
+
+	/** Column type of each column */
+	private GSType[] m_columnTypes;
+
+	/** Whether each column is a TIMESTAMP with a precision of micro/nanoseconds */
+	private boolean[] m_preciseColumns;
+
+	/** Values of the block (one object per column) */
+	private ColumnBlock[] m_block;
+
+	/** Number of rows in the block */
+	private int m_blockRowCount;
+
+	/** Row of the block to read next */
+	private int m_blockRowIndex;
+
+	/** Output stream */
+	private DataOutputStream m_out;
+
+	/** Input stream */
+	private DataInputStream m_in;
+
+	/** Buffer to encode / decode a column */
+	private ByteArrayBuffer m_buf = new ByteArrayBuffer();
+
+	/** File name list to read */
+	private List<String> m_fileNameList;
+
+	/** Number of files read */
+	private int m_currentFileNum;
+
+	/**
+	 * Constructor
+	 *
+	 * @param cli Command parameter information class
+	 */
+	public rowColumnarFileIO(commandLineInfo cli) {
+		super(cli);
+		messageResource = Utility.getResource();
+	}
+
+	public void changeDateFormat() {
+		// The timestamp is stored as a number
+	}
+
+	/**
+	 * Creates the column buffers of the block from the column information of the container.
+	 *
+	 * @param contInfo Container information
+	 */
+	private void createBlock(ToolContainerInfo contInfo){
+		List<ColumnInfo> columnInfoList = contInfo.getColumnInfoList();
+		m_columnTypes = new GSType[columnInfoList.size()];
+		m_preciseColumns = new boolean[columnInfoList.size()];
+		m_block = new ColumnBlock[columnInfoList.size()];
+		for ( int i = 0; i < columnInfoList.size(); i++ ){
+			ColumnInfo info = columnInfoList.get(i);
+			m_columnTypes[i] = info.getType();
+			m_preciseColumns[i] = ( info.getType() == GSType.TIMESTAMP ) && MetaContainerFileIO.isPreciseColumn(info);
+			m_block[i] = new ColumnBlock(GSConstants.COLUMNAR_BLOCK_ROW_NUM);
+		}
+		m_blockRowCount = 0;
+		m_blockRowIndex = 0;
+	}
+
+	//**********************************************************************
+	// Start/end of file output
+	//**********************************************************************
+	/**
+	 * Prepare for file output.
+	 */
+	public void startWrite(){
+		// No processing in particular
+	}
+
+	/**
+	 * Ends file output.
+	 */
+	public void endWrite(){
+		closeWriter();
+	}
+
+	private void closeWriter(){
+		if ( m_out != null ){
+			try {
+				m_out.close();
+			} catch ( Exception e ){}
+			m_out = null;
+		}
+	}
+
+	//**********************************************************************
+	// Start/end of container unit
+	//**********************************************************************
+	/**
+	 * Prepare to output container data.
+	 *
+	 *    Create a file to output the container data, and write the header.
+	 *
+	 * @param containerInfo Container information
+	 */
+	public void startWriteContainer(ToolContainerInfo containerInfo) throws GSEIException{
+		m_containerInfo = containerInfo;
+
+		// No file output in test mode
+		if (cmdLineInfo.getTestFlag()) return;
+
+		String fileName = GSEIFileIO.createRowFileName(m_containerInfo, cmdLineInfo);
+		containerInfo.setFileBaseName(fileName);
+
+		if ( cmdLineInfo.getSchemaOnlyFlag() ) return;
+
+		m_file = new File(m_targetPath, fileName + GSConstants.FILE_EXT_COLUMNAR);
+		try {
+			createBlock(containerInfo);
+			m_out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(m_file), GSConstants.COLUMNAR_BUFFER_SIZE));
+			m_out.write(MAGIC);
+			m_out.writeInt(FORMAT_VERSION);
+			writeVarint(m_out, m_columnTypes.length);
+			for ( int i = 0; i < m_columnTypes.length; i++ ){
+				m_out.writeUTF(m_columnTypes[i].toString());
+				m_out.writeByte(m_preciseColumns[i] ? 1 : 0);
+			}
+
+		} catch ( Exception e ){
+			// An error occurred while creating the file
+			throw new GSEIException(messageResource.getString("MESS_COMM_ERR_ROWBNY_5")
+					+": containerName=["+m_containerInfo.getFullName()
+					+"] file=["+m_file.getAbsolutePath()+"] msg=["+e.getMessage()+"]", e);
+		}
+	}
+
+	/**
+	 * Container data output is finished.
+	 */
+	public void endWriteContainer() throws GSEIException {
+		// No file output in test mode
+		if ( cmdLineInfo.getTestFlag() ) return;
+		if ( cmdLineInfo.getSchemaOnlyFlag() ) return;
+
+		try {
+			// Save the name of the output file
+			m_containerInfo.addContainerFile(m_file.getName());
+			writeBlock();
+			writeVarint(m_out, 0);
+			m_out.close();
+		} catch ( Exception e ){
+			// An error occurred while writing the file
+			throw new GSEIException(messageResource.getString("MESS_COMM_ERR_ROWCSV_24")
+					+": containerName=["+m_containerInfo.getFullName()
+					+"] file=["+m_file.getAbsolutePath()+"] msg=["+e.getMessage()+"]", e);
+		} finally {
+			m_out = null;
+		}
+	}
+
+	/**
+	 * Returns the name of the row file being output.
+	 */
+	public String createRowFileName() throws GSEIException{
+		return m_containerInfo.getFileBaseName() + GSConstants.FILE_EXT_COLUMNAR;
+	}
+
+	//**********************************************************************
+	// Row data output
+	//**********************************************************************
+	/**
+	 * Adds row data to the block. The block is written when it is full.
+	 *
+	 * @param row Row data
+	 * @param rowIndex Row number
+	 */
+	public void writeRow(Row row, int rowIndex) throws GSEIException {
+		try {
+			int r = m_blockRowCount;
+			for ( int i = 0; i < m_columnTypes.length; i++ ){
+				ColumnBlock col = m_block[i];
+				if ( row.isNull(i) ){
+					col.m_nulls[r] = true;
+					col.m_hasNull = true;
+					continue;
+				}
+				col.m_nulls[r] = false;
+				switch(m_columnTypes[i]){
+				case BOOL:
+					col.m_longs[r] = row.getBool(i) ? 1 : 0;
+					break;
+				case BYTE:
+					col.m_longs[r] = row.getByte(i);
+					break;
+				case SHORT:
+					col.m_longs[r] = row.getShort(i);
+					break;
+				case INTEGER:
+					col.m_longs[r] = row.getInteger(i);
+					break;
+				case LONG:
+					col.m_longs[r] = row.getLong(i);
+					break;
+				case FLOAT:
+					col.m_longs[r] = Float.floatToRawIntBits(row.getFloat(i)) & 0xffffffffL;
+					break;
+				case DOUBLE:
+					col.m_longs[r] = Double.doubleToRawLongBits(row.getDouble(i));
+					break;
+				case TIMESTAMP:
+					if ( m_preciseColumns[i] ){
+						Timestamp ts = row.getPreciseTimestamp(i);
+						col.m_longs[r] = ts.getTime();
+						col.m_ints[r] = ts.getNanos() % 1000000;
+					} else {
+						col.m_longs[r] = row.getTimestamp(i).getTime();
+					}
+					break;
+				case STRING:
+					col.m_objects[r] = row.getString(i);
+					break;
+				case GEOMETRY:
+					col.m_objects[r] = row.getGeometry(i).toString();
+					break;
+				case BLOB:
+					Blob blob = row.getBlob(i);
+					long len = blob.length();
+					col.m_objects[r] = (len == 0) ? new byte[0] : blob.getBytes(1, (int)len);
+					break;
+				default:
+					col.m_objects[r] = row.getValue(i);
+					break;
+				}
+			}
+			m_blockRowCount++;
+			if ( m_blockRowCount >= GSConstants.COLUMNAR_BLOCK_ROW_NUM ){
+				writeBlock();
+			}
+
+		} catch ( Exception e ){
+			// An error occurred while writing the row data
+			throw new GSEIException(messageResource.getString("MESS_COMM_ERR_ROWCSV_29")
+					+": containerName=["+m_containerInfo.getFullName()
+					+"] rowNum=["+rowIndex+"] msg=["+e.getMessage()+"]", e);
+		}
+	}
+
+	/**
+	 * Encodes the columns of the block and writes them to the file.
+	 */
+	private void writeBlock() throws Exception {
+		if ( m_blockRowCount == 0 ){
+			return;
+		}
+		writeVarint(m_out, m_blockRowCount);
+		for ( int i = 0; i < m_columnTypes.length; i++ ){
+			m_buf.clear();
+			encodeColumn(m_columnTypes[i], m_preciseColumns[i], m_block[i], m_blockRowCount, m_buf);
+			writeVarint(m_out, m_buf.m_length);
+			m_out.write(m_buf.m_data, 0, m_buf.m_length);
+			m_block[i].clear(m_blockRowCount);
+		}
+		m_blockRowCount = 0;
+	}
+
+	/**
+	 * Encodes the values of a column of the block.
+	 */
+	private static void encodeColumn(GSType type, boolean precise, ColumnBlock col, int rowCount, ByteArrayBuffer buf){
+		// Null bitmap
+		buf.writeByte(col.m_hasNull ? 1 : 0);
+		if ( col.m_hasNull ){
+			BitWriter bits = new BitWriter(buf);
+			for ( int r = 0; r < rowCount; r++ ){
+				bits.write(col.m_nulls[r] ? 1 : 0, 1);
+			}
+			bits.flush();
+		}
+
+		switch(type){
+		case BOOL: {
+			BitWriter bits = new BitWriter(buf);
+			for ( int r = 0; r < rowCount; r++ ){
+				if ( !col.m_nulls[r] ) bits.write(col.m_longs[r], 1);
+			}
+			bits.flush();
+			break;
+		}
+		case BYTE:
+		case SHORT:
+		case INTEGER:
+		case LONG: {
+			long prev = 0;
+			for ( int r = 0; r < rowCount; r++ ){
+				if ( col.m_nulls[r] ) continue;
+				buf.writeVarlong(zigzag(col.m_longs[r] - prev));
+				prev = col.m_longs[r];
+			}
+			break;
+		}
+		case TIMESTAMP: {
+			DeltaOfDeltaWriter dod = new DeltaOfDeltaWriter(new BitWriter(buf));
+			for ( int r = 0; r < rowCount; r++ ){
+				if ( !col.m_nulls[r] ) dod.write(col.m_longs[r]);
+			}
+			dod.m_bits.flush();
+			if ( precise ){
+				for ( int r = 0; r < rowCount; r++ ){
+					if ( !col.m_nulls[r] ) buf.writeVarlong(col.m_ints[r]);
+				}
+			}
+			break;
+		}
+		case FLOAT:
+		case DOUBLE: {
+			XorWriter xor = new XorWriter(new BitWriter(buf));
+			for ( int r = 0; r < rowCount; r++ ){
+				if ( !col.m_nulls[r] ) xor.write(col.m_longs[r]);
+			}
+			xor.m_bits.flush();
+			break;
+		}
+		case STRING:
+		case GEOMETRY:
+			encodeStrings(col, rowCount, buf);
+			break;
+		case BLOB:
+			for ( int r = 0; r < rowCount; r++ ){
+				if ( col.m_nulls[r] ) continue;
+				byte[] b = (byte[])col.m_objects[r];
+				buf.writeVarlong(b.length);
+				buf.write(b, 0, b.length);
+			}
+			break;
+		default:
+			for ( int r = 0; r < rowCount; r++ ){
+				if ( !col.m_nulls[r] ) encodeArray(type, col.m_objects[r], buf);
+			}
+			break;
+		}
+	}
+
+	/**
+	 * Encodes the strings. A dictionary is used when the number of kinds is half the number of values or less.
+	 */
+	private static void encodeStrings(ColumnBlock col, int rowCount, ByteArrayBuffer buf){
+		Map<String, Integer> dictionary = new HashMap<String, Integer>();
+		int valueCount = 0;
+		for ( int r = 0; r < rowCount; r++ ){
+			if ( col.m_nulls[r] ) continue;
+			valueCount++;
+			String s = (String)col.m_objects[r];
+			if ( !dictionary.containsKey(s) ){
+				dictionary.put(s, dictionary.size());
+			}
+		}
+
+		if ( dictionary.size() * 2 <= valueCount ){
+			buf.writeByte(STRING_DICTIONARY);
+			String[] words = new String[dictionary.size()];
+			for ( Map.Entry<String, Integer> e : dictionary.entrySet() ){
+				words[e.getValue()] = e.getKey();
+			}
+			buf.writeVarlong(words.length);
+			for ( String s : words ){
+				buf.writeString(s);
+			}
+			for ( int r = 0; r < rowCount; r++ ){
+				if ( !col.m_nulls[r] ) buf.writeVarlong(dictionary.get((String)col.m_objects[r]));
+			}
+		} else {
+			buf.writeByte(STRING_PLAIN);
+			for ( int r = 0; r < rowCount; r++ ){
+				if ( !col.m_nulls[r] ) buf.writeString((String)col.m_objects[r]);
+			}
+		}
+	}
+
+	/**
+	 * Encodes an array value.
+	 */
+	private static void encodeArray(GSType type, Object value, ByteArrayBuffer buf){
+		switch(type){
+		case BOOL_ARRAY: {
+			boolean[] v = (boolean[])value;
+			buf.writeVarlong(v.length);
+			for ( boolean e : v ) buf.writeByte(e ? 1 : 0);
+			break;
+		}
+		case STRING_ARRAY: {
+			String[] v = (String[])value;
+			buf.writeVarlong(v.length);
+			for ( String e : v ) buf.writeString(e);
+			break;
+		}
+		case BYTE_ARRAY: {
+			byte[] v = (byte[])value;
+			buf.writeVarlong(v.length);
+			for ( byte e : v ) buf.writeVarlong(zigzag(e));
+			break;
+		}
+		case SHORT_ARRAY: {
+			short[] v = (short[])value;
+			buf.writeVarlong(v.length);
+			for ( short e : v ) buf.writeVarlong(zigzag(e));
+			break;
+		}
+		case INTEGER_ARRAY: {
+			int[] v = (int[])value;
+			buf.writeVarlong(v.length);
+			for ( int e : v ) buf.writeVarlong(zigzag(e));
+			break;
+		}
+		case LONG_ARRAY: {
+			long[] v = (long[])value;
+			buf.writeVarlong(v.length);
+			for ( long e : v ) buf.writeVarlong(zigzag(e));
+			break;
+		}
+		case FLOAT_ARRAY: {
+			float[] v = (float[])value;
+			buf.writeVarlong(v.length);
+			for ( float e : v ) buf.writeFixed(Float.floatToRawIntBits(e), 4);
+			break;
+		}
+		case DOUBLE_ARRAY: {
+			double[] v = (double[])value;
+			buf.writeVarlong(v.length);
+			for ( double e : v ) buf.writeFixed(Double.doubleToRawLongBits(e), 8);
+			break;
+		}
+		case TIMESTAMP_ARRAY: {
+			Date[] v = (Date[])value;
+			buf.writeVarlong(v.length);
+			for ( Date e : v ) buf.writeVarlong(zigzag(e.getTime()));
+			break;
+		}
+		default:
+			throw new IllegalArgumentException("columnType=["+type+"]");
+		}
+	}
+
+
+	//**********************************************************************
+	// Load container data
+	//**********************************************************************
+	/**
+	 * Load the export data of the container.
+	 *
+	 * @param contInfo Target container information object
+	 * @param fileNameList File name list
+	 */
+	public void readContainer(ToolContainerInfo contInfo, List<String> fileNameList) throws GSEIException{
+		m_containerInfo = contInfo;
+		m_fileNameList = fileNameList;
+		m_currentFileNum = 0;
+		m_timeFileIO = 0;
+		m_timeFileRead = 0;
+		m_timeFileRead2 = 0;
+
+		long start = System.currentTimeMillis();
+		try {
+			createBlock(contInfo);
+			openReader(m_fileNameList.get(m_currentFileNum++));
+
+		} finally {
+			long end = System.currentTimeMillis();
+			m_timeFileIO += (end-start);
+		}
+	}
+
+	private void openReader(String fileName) throws GSEIException {
+		closeReader();
+		File file = new File(m_targetPath, fileName);
+		m_file = file;
+		try {
+			m_in = new DataInputStream(new BufferedInputStream(new FileInputStream(file), GSConstants.COLUMNAR_BUFFER_SIZE));
+			byte[] magic = new byte[MAGIC.length];
+			m_in.readFully(magic);
+			if ( !Arrays.equals(magic, MAGIC) || (m_in.readInt() != FORMAT_VERSION) ){
+				throw new GSEIException(messageResource.getString("MESS_COMM_ERR_ROWCSV_12")
+						+": containerName=["+m_containerInfo.getFullName()
+						+"] file=["+file.getAbsolutePath()+"] msg=[Not a columnar row data file]");
+			}
+			int columnCount = (int)readVarint(m_in);
+			boolean match = (columnCount == m_columnTypes.length);
+			for ( int i = 0; i < columnCount; i++ ){
+				String type = m_in.readUTF();
+				boolean precise = (m_in.readByte() != 0);
+				if ( match && (!type.equals(m_columnTypes[i].toString()) || (precise != m_preciseColumns[i])) ){
+					match = false;
+				}
+			}
+			if ( !match ){
+				// The columns do not match the schema
+				throw new GSEIException(messageResource.getString("MESS_COMM_ERR_ROWCSV_16")
+						+": containerName=["+m_containerInfo.getFullName()
+						+"] file=["+file.getAbsolutePath()+"] columnCount=["+columnCount+"]");
+			}
+		} catch ( GSEIException e ){
+			throw e;
+		} catch ( Exception e ){
+			// An error occurred while reading the file
+			throw new GSEIException(messageResource.getString("MESS_COMM_ERR_ROWCSV_12")
+					+": containerName=["+m_containerInfo.getFullName()
+					+"] file=["+file.getAbsolutePath()+"] msg=["+e.getMessage()+"]", e);
+		}
+	}
+
+	private void closeReader(){
+		if ( m_in != null ){
+			try {
+				m_in.close();
+			} catch ( Exception e ){}
+			m_in = null;
+		}
+	}
+
+	/**
+	 * Check for the next ROW data.
+	 *
+	 * @return true:If there is the next Row data / false:none
+	 */
+	public boolean hasNextRow() throws GSEIException {
+		long start = System.currentTimeMillis();
+		try {
+			while ( m_blockRowIndex >= m_blockRowCount ){
+				if ( (m_in != null) && readBlock() ){
+					continue;
+				}
+				// End of file  ⇒  If there is still a file to read, read it
+				if ( m_currentFileNum < m_fileNameList.size() ){
+					openReader(m_fileNameList.get(m_currentFileNum++));
+				} else {
+					closeReader();
+					return false;
+				}
+			}
+			return true;
+
+		} catch ( GSEIException e ){
+			throw e;
+		} catch ( Exception e ){
+			throw new GSEIException(messageResource.getString("MESS_COMM_ERR_ROWCSV_12")
+					+": containerName=["+m_containerInfo.getFullName()
+					+"] file=["+m_file.getAbsolutePath()+"] msg=["+e.getMessage()+"]", e);
+		} finally {
+			long end = System.currentTimeMillis();
+			m_timeFileIO += (end-start);
+		}
+	}
+
+	/**
+	 * Reads and decodes the next block of the file.
+	 *
+	 * @return false: end of the file
+	 */
+	private boolean readBlock() throws Exception {
+		long start = System.currentTimeMillis();
+		int rowCount;
+		try {
+			rowCount = (int)readVarint(m_in);
+		} catch ( EOFException e ){
+			rowCount = 0;
+		}
+		if ( rowCount == 0 ){
+			closeReader();
+			return false;
+		}
+		if ( rowCount > m_block[0].m_nulls.length ){
+			for ( int i = 0; i < m_block.length; i++ ){
+				m_block[i] = new ColumnBlock(rowCount);
+			}
+		}
+		for ( int i = 0; i < m_columnTypes.length; i++ ){
+			int len = (int)readVarint(m_in);
+			m_buf.clear();
+			m_buf.ensure(len);
+			m_in.readFully(m_buf.m_data, 0, len);
+			m_buf.m_length = len;
+			decodeColumn(m_columnTypes[i], m_preciseColumns[i], m_block[i], rowCount, m_buf);
+		}
+		m_blockRowCount = rowCount;
+		m_blockRowIndex = 0;
+		m_timeFileRead += (System.currentTimeMillis()-start);
+		return true;
+	}
+
+	/**
+	 * Decodes the values of a column of the block.
+	 */
+	private static void decodeColumn(GSType type, boolean precise, ColumnBlock col, int rowCount, ByteArrayBuffer buf){
+		// Null bitmap
+		col.m_hasNull = ( buf.readByte() != 0 );
+		if ( col.m_hasNull ){
+			BitReader bits = new BitReader(buf);
+			for ( int r = 0; r < rowCount; r++ ){
+				col.m_nulls[r] = ( bits.read(1) != 0 );
+			}
+		} else {
+			Arrays.fill(col.m_nulls, 0, rowCount, false);
+		}
+
+		switch(type){
+		case BOOL: {
+			BitReader bits = new BitReader(buf);
+			for ( int r = 0; r < rowCount; r++ ){
+				if ( !col.m_nulls[r] ) col.m_longs[r] = bits.read(1);
+			}
+			break;
+		}
+		case BYTE:
+		case SHORT:
+		case INTEGER:
+		case LONG: {
+			long prev = 0;
+			for ( int r = 0; r < rowCount; r++ ){
+				if ( col.m_nulls[r] ) continue;
+				prev += unzigzag(buf.readVarlong());
+				col.m_longs[r] = prev;
+			}
+			break;
+		}
+		case TIMESTAMP: {
+			DeltaOfDeltaReader dod = new DeltaOfDeltaReader(new BitReader(buf));
+			for ( int r = 0; r < rowCount; r++ ){
+				if ( !col.m_nulls[r] ) col.m_longs[r] = dod.read();
+			}
+			if ( precise ){
+				for ( int r = 0; r < rowCount; r++ ){
+					if ( !col.m_nulls[r] ) col.m_ints[r] = (int)buf.readVarlong();
+				}
+			}
+			break;
+		}
+		case FLOAT:
+		case DOUBLE: {
+			XorReader xor = new XorReader(new BitReader(buf));
+			for ( int r = 0; r < rowCount; r++ ){
+				if ( !col.m_nulls[r] ) col.m_longs[r] = xor.read();
+			}
+			break;
+		}
+		case STRING:
+		case GEOMETRY:
+			if ( buf.readByte() == STRING_DICTIONARY ){
+				String[] words = new String[(int)buf.readVarlong()];
+				for ( int j = 0; j < words.length; j++ ){
+					words[j] = buf.readString();
+				}
+				for ( int r = 0; r < rowCount; r++ ){
+					if ( !col.m_nulls[r] ) col.m_objects[r] = words[(int)buf.readVarlong()];
+				}
+			} else {
+				for ( int r = 0; r < rowCount; r++ ){
+					if ( !col.m_nulls[r] ) col.m_objects[r] = buf.readString();
+				}
+			}
+			break;
+		case BLOB:
+			for ( int r = 0; r < rowCount; r++ ){
+				if ( col.m_nulls[r] ) continue;
+				byte[] b = new byte[(int)buf.readVarlong()];
+				buf.read(b);
+				col.m_objects[r] = b;
+			}
+			break;
+		default:
+			for ( int r = 0; r < rowCount; r++ ){
+				if ( !col.m_nulls[r] ) col.m_objects[r] = decodeArray(type, buf);
+			}
+			break;
+		}
+	}
+
+	/**
+	 * Decodes an array value.
+	 */
+	private static Object decodeArray(GSType type, ByteArrayBuffer buf){
+		int len = (int)buf.readVarlong();
+		switch(type){
+		case BOOL_ARRAY: {
+			boolean[] v = new boolean[len];
+			for ( int j = 0; j < len; j++ ) v[j] = ( buf.readByte() != 0 );
+			return v;
+		}
+		case STRING_ARRAY: {
+			String[] v = new String[len];
+			for ( int j = 0; j < len; j++ ) v[j] = buf.readString();
+			return v;
+		}
+		case BYTE_ARRAY: {
+			byte[] v = new byte[len];
+			for ( int j = 0; j < len; j++ ) v[j] = (byte)unzigzag(buf.readVarlong());
+			return v;
+		}
+		case SHORT_ARRAY: {
+			short[] v = new short[len];
+			for ( int j = 0; j < len; j++ ) v[j] = (short)unzigzag(buf.readVarlong());
+			return v;
+		}
+		case INTEGER_ARRAY: {
+			int[] v = new int[len];
+			for ( int j = 0; j < len; j++ ) v[j] = (int)unzigzag(buf.readVarlong());
+			return v;
+		}
+		case LONG_ARRAY: {
+			long[] v = new long[len];
+			for ( int j = 0; j < len; j++ ) v[j] = unzigzag(buf.readVarlong());
+			return v;
+		}
+		case FLOAT_ARRAY: {
+			float[] v = new float[len];
+			for ( int j = 0; j < len; j++ ) v[j] = Float.intBitsToFloat((int)buf.readFixed(4));
+			return v;
+		}
+		case DOUBLE_ARRAY: {
+			double[] v = new double[len];
+			for ( int j = 0; j < len; j++ ) v[j] = Double.longBitsToDouble(buf.readFixed(8));
+			return v;
+		}
+		case TIMESTAMP_ARRAY: {
+			Date[] v = new Date[len];
+			for ( int j = 0; j < len; j++ ) v[j] = new Date(unzigzag(buf.readVarlong()));
+			return v;
+		}
+		default:
+			throw new IllegalArgumentException("columnType=["+type+"]");
+		}
+	}
+
+	/**
+	 * Reads row data.
+	 *
+	 * @param container Container
+	 * @return Row data
+	 */
+	public Row readRow(Container<?, Row> container) throws GSEIException {
+		long start = System.currentTimeMillis();
+		int r = m_blockRowIndex++;
+		try {
+			Row row = container.createRow();
+			for ( int i = 0; i < m_columnTypes.length; i++ ){
+				ColumnBlock col = m_block[i];
+				if ( col.m_nulls[r] ){
+					row.setValue(i, null);
+					continue;
+				}
+				switch(m_columnTypes[i]){
+				case BOOL:
+					row.setBool(i, col.m_longs[r] != 0);
+					break;
+				case BYTE:
+					row.setByte(i, (byte)col.m_longs[r]);
+					break;
+				case SHORT:
+					row.setShort(i, (short)col.m_longs[r]);
+					break;
+				case INTEGER:
+					row.setInteger(i, (int)col.m_longs[r]);
+					break;
+				case LONG:
+					row.setLong(i, col.m_longs[r]);
+					break;
+				case FLOAT:
+					row.setFloat(i, Float.intBitsToFloat((int)col.m_longs[r]));
+					break;
+				case DOUBLE:
+					row.setDouble(i, Double.longBitsToDouble(col.m_longs[r]));
+					break;
+				case TIMESTAMP:
+					if ( m_preciseColumns[i] ){
+						Timestamp ts = new Timestamp(col.m_longs[r]);
+						ts.setNanos(ts.getNanos() + col.m_ints[r]);
+						row.setPreciseTimestamp(i, ts);
+					} else {
+						row.setTimestamp(i, new Date(col.m_longs[r]));
+					}
+					break;
+				case STRING:
+					row.setString(i, (String)col.m_objects[r]);
+					break;
+				case GEOMETRY:
+					row.setGeometry(i, Geometry.valueOf((String)col.m_objects[r]));
+					break;
+				case BLOB: {
+					byte[] b = (byte[])col.m_objects[r];
+					if ( b.length != 0 ){
+						row.setBlob(i, new SerialBlob(b));
+					}
+					break;
+				}
+				default:
+					row.setValue(i, col.m_objects[r]);
+					break;
+				}
+			}
+			m_timeFileRead2 += (System.currentTimeMillis()-start);
+			return row;
+
+		} catch ( Exception e ){
+			throw new GSEIException(messageResource.getString("MESS_COMM_ERR_ROWBNY_13")
+					+": containerName=["+m_containerInfo.getFullName()
+					+"] file=["+m_file.getAbsolutePath()+"] msg=["+e.getMessage()+"]", e);
+		}
+	}
+
+
+	//**********************************************************************
+	// Encoding
+	//**********************************************************************
+	private static long zigzag(long v){
+		return (v << 1) ^ (v >> 63);
+	}
+
+	private static long unzigzag(long v){
+		return (v >>> 1) ^ -(v & 1);
+	}
+
+	private static void writeVarint(DataOutputStream out, long v) throws Exception {
+		while ( (v & ~0x7fL) != 0 ){
+			out.writeByte((int)((v & 0x7f) | 0x80));
+			v >>>= 7;
+		}
+		out.writeByte((int)v);
+	}
+
+	private static long readVarint(DataInputStream in) throws Exception {
+		long v = 0;
+		for ( int shift = 0; shift < 64; shift += 7 ){
+			int b = in.readUnsignedByte();
+			v |= (long)(b & 0x7f) << shift;
+			if ( (b & 0x80) == 0 ){
+				return v;
+			}
+		}
+		throw new IllegalStateException("Malformed varint");
+	}
+
+	/**
+	 * Values of a column of the block
+	 */
+	private static class ColumnBlock {
+		/** Whether the value is null */
+		boolean[] m_nulls;
+		/** Whether the block has a null */
+		boolean m_hasNull;
+		/** BOOL, integer, bits of floating point number, milliseconds of TIMESTAMP */
+		long[] m_longs;
+		/** Nanoseconds less than a millisecond of precise TIMESTAMP */
+		int[] m_ints;
+		/** String, BLOB, array */
+		Object[] m_objects;
+
+		ColumnBlock(int size){
+			m_nulls = new boolean[size];
+			m_longs = new long[size];
+			m_ints = new int[size];
+			m_objects = new Object[size];
+		}
+
+		void clear(int rowCount){
+			Arrays.fill(m_objects, 0, rowCount, null);
+			m_hasNull = false;
+		}
+	}
+
+	/**
+	 * Growable byte array
+	 */
+	private static class ByteArrayBuffer {
+		byte[] m_data = new byte[64 * 1024];
+		int m_length;
+		int m_position;
+
+		void clear(){
+			m_length = 0;
+			m_position = 0;
+		}
+
+		void ensure(int size){
+			if ( m_data.length < size ){
+				m_data = Arrays.copyOf(m_data, Math.max(size, m_data.length * 2));
+			}
+		}
+
+		void writeByte(int b){
+			ensure(m_length + 1);
+			m_data[m_length++] = (byte)b;
+		}
+
+		void write(byte[] b, int off, int len){
+			ensure(m_length + len);
+			System.arraycopy(b, off, m_data, m_length, len);
+			m_length += len;
+		}
+
+		void writeVarlong(long v){
+			while ( (v & ~0x7fL) != 0 ){
+				writeByte((int)((v & 0x7f) | 0x80));
+				v >>>= 7;
+			}
+			writeByte((int)v);
+		}
+
+		void writeFixed(long v, int size){
+			for ( int i = size - 1; i >= 0; i-- ){
+				writeByte((int)(v >>> (i * 8)));
+			}
+		}
+
+		void writeString(String s){
+			byte[] b = s.getBytes(UTF8);
+			writeVarlong(b.length);
+			write(b, 0, b.length);
+		}
+
+		int readByte(){
+			if ( m_position >= m_length ){
+				throw new IllegalStateException("Unexpected end of the column data");
+			}
+			return m_data[m_position++] & 0xff;
+		}
+
+		void read(byte[] b){
+			if ( m_position + b.length > m_length ){
+				throw new IllegalStateException("Unexpected end of the column data");
+			}
+			System.arraycopy(m_data, m_position, b, 0, b.length);
+			m_position += b.length;
+		}
+
+		long readVarlong(){
+			long v = 0;
+			for ( int shift = 0; shift < 64; shift += 7 ){
+				int b = readByte();
+				v |= (long)(b & 0x7f) << shift;
+				if ( (b & 0x80) == 0 ){
+					return v;
+				}
+			}
+			throw new IllegalStateException("Malformed varint");
+		}
+
+		long readFixed(int size){
+			long v = 0;
+			for ( int i = 0; i < size; i++ ){
+				v = (v << 8) | readByte();
+			}
+			return v;
+		}
+
+		String readString(){
+			int len = (int)readVarlong();
+			if ( m_position + len > m_length ){
+				throw new IllegalStateException("Unexpected end of the column data");
+			}
+			String s = new String(m_data, m_position, len, UTF8);
+			m_position += len;
+			return s;
+		}
+	}
+
+	/**
+	 * Writes bits to a ByteArrayBuffer (most significant bit first).
+	 */
+	private static class BitWriter {
+		private ByteArrayBuffer m_buf;
+		private int m_current;
+		private int m_count;
+
+		BitWriter(ByteArrayBuffer buf){
+			m_buf = buf;
+		}
+
+		/** Writes the lower num bits of v. (num: 1 - 64) */
+		void write(long v, int num){
+			for ( int i = num - 1; i >= 0; i-- ){
+				m_current = (m_current << 1) | (int)((v >>> i) & 1);
+				if ( ++m_count == 8 ){
+					m_buf.writeByte(m_current);
+					m_current = 0;
+					m_count = 0;
+				}
+			}
+		}
+
+		/** Writes the last bits with 0 padding. */
+		void flush(){
+			if ( m_count > 0 ){
+				m_buf.writeByte(m_current << (8 - m_count));
+				m_current = 0;
+				m_count = 0;
+			}
+		}
+	}
+
+	/**
+	 * Reads bits from a ByteArrayBuffer. Starts at the position of the buffer, and ends at a byte boundary.
+	 */
+	private static class BitReader {
+		private ByteArrayBuffer m_buf;
+		private int m_current;
+		private int m_count;
+
+		BitReader(ByteArrayBuffer buf){
+			m_buf = buf;
+		}
+
+		/** Reads num bits. (num: 1 - 64) */
+		long read(int num){
+			long v = 0;
+			for ( int i = 0; i < num; i++ ){
+				if ( m_count == 0 ){
+					m_current = m_buf.readByte();
+					m_count = 8;
+				}
+				m_count--;
+				v = (v << 1) | ((m_current >>> m_count) & 1);
+			}
+			return v;
+		}
+	}
+
+	/**
+	 * Delta-of-delta encoding of the timestamps
+	 *   '0' : same interval, '10' + 7 bits, '110' + 9 bits, '1110' + 12 bits, '1111' + 64 bits
+	 */
+	private static class DeltaOfDeltaWriter {
+		BitWriter m_bits;
+		private int m_count;
+		private long m_prev;
+		private long m_prevDelta;
+
+		DeltaOfDeltaWriter(BitWriter bits){
+			m_bits = bits;
+		}
+
+		void write(long v){
+			if ( m_count++ == 0 ){
+				m_bits.write(v, 64);
+			} else {
+				long delta = v - m_prev;
+				long dod = delta - m_prevDelta;
+				if ( dod == 0 ){
+					m_bits.write(0, 1);
+				} else if ( (dod >= -63) && (dod <= 64) ){
+					m_bits.write(0x2, 2);
+					m_bits.write(dod + 63, 7);
+				} else if ( (dod >= -255) && (dod <= 256) ){
+					m_bits.write(0x6, 3);
+					m_bits.write(dod + 255, 9);
+				} else if ( (dod >= -2047) && (dod <= 2048) ){
+					m_bits.write(0xe, 4);
+					m_bits.write(dod + 2047, 12);
+				} else {
+					m_bits.write(0xf, 4);
+					m_bits.write(dod, 64);
+				}
+				m_prevDelta = delta;
+			}
+			m_prev = v;
+		}
+	}
+
+	private static class DeltaOfDeltaReader {
+		private BitReader m_bits;
+		private int m_count;
+		private long m_prev;
+		private long m_prevDelta;
+
+		DeltaOfDeltaReader(BitReader bits){
+			m_bits = bits;
+		}
+
+		long read(){
+			if ( m_count++ == 0 ){
+				m_prev = m_bits.read(64);
+				return m_prev;
+			}
+			long dod;
+			if ( m_bits.read(1) == 0 ){
+				dod = 0;
+			} else if ( m_bits.read(1) == 0 ){
+				dod = m_bits.read(7) - 63;
+			} else if ( m_bits.read(1) == 0 ){
+				dod = m_bits.read(9) - 255;
+			} else if ( m_bits.read(1) == 0 ){
+				dod = m_bits.read(12) - 2047;
+			} else {
+				dod = m_bits.read(64);
+			}
+			m_prevDelta += dod;
+			m_prev += m_prevDelta;
+			return m_prev;
+		}
+	}
+
+	/**
+	 * XOR encoding of the floating point numbers (Gorilla)
+	 *   '0' : same value, '10' + bits in the previous window, '11' + leading zeros(5) + length(6) + bits
+	 */
+	private static class XorWriter {
+		BitWriter m_bits;
+		private boolean m_first = true;
+		private long m_prev;
+		private int m_leading = -1;
+		private int m_trailing;
+
+		XorWriter(BitWriter bits){
+			m_bits = bits;
+		}
+
+		void write(long v){
+			if ( m_first ){
+				m_first = false;
+				m_bits.write(v, 64);
+				m_prev = v;
+				return;
+			}
+			long xor = v ^ m_prev;
+			m_prev = v;
+			if ( xor == 0 ){
+				m_bits.write(0, 1);
+				return;
+			}
+			int leading = Math.min(Long.numberOfLeadingZeros(xor), 31);
+			int trailing = Long.numberOfTrailingZeros(xor);
+			if ( (m_leading >= 0) && (leading >= m_leading) && (trailing >= m_trailing) ){
+				m_bits.write(0x2, 2);
+				m_bits.write(xor >>> m_trailing, 64 - m_leading - m_trailing);
+			} else {
+				int length = 64 - leading - trailing;
+				m_bits.write(0x3, 2);
+				m_bits.write(leading, 5);
+				m_bits.write(length == 64 ? 0 : length, 6);
+				m_bits.write(xor >>> trailing, length);
+				m_leading = leading;
+				m_trailing = trailing;
+			}
+		}
+	}
+
+	private static class XorReader {
+		private BitReader m_bits;
+		private boolean m_first = true;
+		private long m_prev;
+		private int m_leading;
+		private int m_trailing;
+
+		XorReader(BitReader bits){
+			m_bits = bits;
+		}
+
+		long read(){
+			if ( m_first ){
+				m_first = false;
+				m_prev = m_bits.read(64);
+				return m_prev;
+			}
+			if ( m_bits.read(1) == 0 ){
+				return m_prev;
+			}
+			if ( m_bits.read(1) != 0 ){
+				m_leading = (int)m_bits.read(5);
+				int length = (int)m_bits.read(6);
+				if ( length == 0 ){
+					length = 64;
+				}
+				m_trailing = 64 - m_leading - length;
+			}
+			long xor = m_bits.read(64 - m_leading - m_trailing) << m_trailing;
+			m_prev ^= xor;
+			return m_prev;
+		}
+	}
+}
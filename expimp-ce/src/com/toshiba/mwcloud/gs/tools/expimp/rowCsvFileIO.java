@@ -19,10 +19,13 @@ import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.nio.ByteBuffer;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
@@ -79,18 +82,42 @@ public class rowCsvFileIO extends GSEIFileIO{
 	/** CSV output file object */
 	private CSVWriter m_outFile;
 
+	/** Writer under the CSV output file object (Row data is written directly) */
+	private Writer m_outWriter;
+
+	/** Output stream under the writer (counts the bytes written to the file) */
+	private CountingOutputStream m_outStream;
+
+	/** Number of rows of the container written to the multi-container format file */
+	private long m_containerRowCount;
+
+	/** Buffer to build one line of row data (reused for every row) */
+	private StringBuilder m_lineBuilder = new StringBuilder(1024);
+
+	/** Buffer to pass one line of row data to the writer (reused for every row) */
+	private char[] m_lineChars = new char[1024];
+
+	/** Buffer to build the value of an array column (reused for every column) */
+	private StringBuilder m_cellBuilder = new StringBuilder();
+
 	/** CSV read file object */
 	private CSVReader m_inFile;
 
 	/** Number of lines read */
 	private int m_lineCount;
 
+	/** Number of rows of the container left to read (-1: read until the next container name line) */
+	private long m_remainingRowCount = -1;
+
 	private String[] csvLine;
 
 	private SimpleDateFormat dateFormatCheck;
 	private SimpleDateFormat dateFormat;
 	private SimpleDateFormat dateFormatNotTimezone;
 
+	// For TimeStamp conversion(String<->Date, Timestamp)
+	private TimestampCodec m_timestampCodec = new TimestampCodec(false);
+
 	// For TimeStamp conversion(String->Date)
 	private String m_timeZoneStr = "";
 	private int m_diffDate = 0;
@@ -138,6 +165,8 @@ public class rowCsvFileIO extends GSEIFileIO{
 			
 		// 妥当性チェックなし日付フォーマット
 		dateFormat = new SimpleDateFormat(GSConstants.DATE_FORMAT_BEFORE);
+
+		m_timestampCodec = new TimestampCodec(true);
 	}
 
 	//**********************************************************************
@@ -200,8 +229,7 @@ public class rowCsvFileIO extends GSEIFileIO{
 
 				// File creation
 				try {
-					m_outFile = new CSVWriter(new BufferedWriter(new OutputStreamWriter(
-							new FileOutputStream(m_file), GSConstants.ENCODING_CSV)), SEPARATOR, QUOTE, ESCAPE);
+					createCsvWriter();
 
 				} catch ( Exception e ){
 					// An error occurred while creating the CSV file
@@ -218,8 +246,7 @@ public class rowCsvFileIO extends GSEIFileIO{
 			//m_file = new File(m_targetPath, containerInfo.getFullName()+GSConstants.FILE_EXT_CSV);
 			m_file = new File(m_targetPath, fileName + GSConstants.FILE_EXT_CSV);
 			try {
-				m_outFile = new CSVWriter(new BufferedWriter(new OutputStreamWriter(
-								new FileOutputStream(m_file), GSConstants.ENCODING_CSV)), SEPARATOR, QUOTE, ESCAPE);
+				createCsvWriter();
 
 			} catch ( Exception e ){
 				// An error occurred while creating the CSV file
@@ -233,11 +260,42 @@ public class rowCsvFileIO extends GSEIFileIO{
 
 		}
 
+		if ( m_outputMode == OUTPUT_MODE.MULTI ){
+			// Position of the container name line in the file (for the import to seek directly)
+			try {
+				m_outFile.flush();
+			} catch ( IOException e ){
+				// An error occurred while writing the file
+				throw new GSEIException(messageResource.getString("MESS_COMM_ERR_ROWCSV_24")+": path=["+m_file.getAbsolutePath()
+						+"] msg=["+e.getMessage()+"]", e);
+			}
+			containerInfo.setContainerFileOffset(m_outStream.getCount());
+			m_containerRowCount = 0;
+		}
+
 		csvWriteHeaderContainer();
 
 
 	}
 
+	/**
+	 * Create the CSV output file object.
+	 *
+	 *   If csvWriteBufferSize is specified, the buffer is flushed when it exceeds the size
+	 *   or at the end of the container.  (0: Flush every row)
+	 */
+	private void createCsvWriter() throws Exception {
+		int bufferSize = cmdLineInfo.getCsvWriteBufferSize();
+		m_outStream = new CountingOutputStream(new FileOutputStream(m_file));
+		OutputStreamWriter osw = new OutputStreamWriter(m_outStream, GSConstants.ENCODING_CSV);
+		if ( bufferSize > 0 ){
+			m_outWriter = new BufferedWriter(osw, bufferSize);
+		} else {
+			m_outWriter = new BufferedWriter(osw);
+		}
+		m_outFile = new CSVWriter(m_outWriter, SEPARATOR, QUOTE, ESCAPE);
+	}
+
 	/**
 	 * Ends the output of container data.
 	 */
@@ -255,6 +313,11 @@ public class rowCsvFileIO extends GSEIFileIO{
 			if ( m_outputMode == OUTPUT_MODE.SINGLE ){
 				m_outFile.close();
 				m_outFile = null;
+				m_outWriter = null;
+			} else {
+				// Write out the rows of the container
+				m_outFile.flush();
+				m_containerInfo.setContainerFileRowCount(m_containerRowCount);
 			}
 
 		} catch (Exception e) {}
@@ -273,15 +336,26 @@ public class rowCsvFileIO extends GSEIFileIO{
 		try {
 			// Convert Row data to String   (If external file output is required, output it)
 			ContainerInfo ci = row.getSchema();
-			String[] data = new String[ci.getColumnCount()];
+			StringBuilder line = m_lineBuilder;
+			line.setLength(0);
 			for (int i = 0; i < ci.getColumnCount(); i++) {
 				ColumnInfo col = ci.getColumnInfo(i);
-				data[i] = getRowValue(row, rowNum, col.getType(), i );
+				if ( i > 0 ) line.append(SEPARATOR);
+				appendCsvValue(line, getRowValue(row, rowNum, col.getType(), i ));
 			}
+			line.append(CSVWriter.DEFAULT_LINE_END);
 
 			// Write to file
-			m_outFile.writeNext(data);
-			m_outFile.flush();
+			int length = line.length();
+			if ( m_lineChars.length < length ){
+				m_lineChars = new char[Math.max(length, m_lineChars.length * 2)];
+			}
+			line.getChars(0, length, m_lineChars, 0);
+			m_outWriter.write(m_lineChars, 0, length);
+			if ( cmdLineInfo.getCsvWriteBufferSize() <= 0 ){
+				m_outWriter.flush();
+			}
+			m_containerRowCount++;
 
 		} catch ( GSEIException e ){
 			throw e;
@@ -295,6 +369,29 @@ public class rowCsvFileIO extends GSEIFileIO{
 
 
 
+	/**
+	 * Appends a column value to the line in the same format as CSVWriter.writeNext.
+	 *   (All values are quoted, NULL is output as an empty value.
+	 *    The quote character and the escape character are escaped.)
+	 *
+	 * @param line Line buffer
+	 * @param value Column value
+	 */
+	private static void appendCsvValue(StringBuilder line, String value){
+		if ( value == null ){
+			return;
+		}
+		line.append(QUOTE);
+		for ( int i = 0; i < value.length(); i++ ){
+			char c = value.charAt(i);
+			if ( (c == QUOTE) || (c == ESCAPE) ){
+				line.append(ESCAPE);
+			}
+			line.append(c);
+		}
+		line.append(QUOTE);
+	}
+
 	public void readContainer(ToolContainerInfo contInfo, List<String> fileList) throws GSEIException {
 		m_containerInfo = contInfo;
 
@@ -302,13 +399,14 @@ public class rowCsvFileIO extends GSEIFileIO{
 		try {
 			m_timeFileIO = 0;
 
-			String identifer = m_containerInfo.getFullName();
+			String identifer = getContainerIdentifier();
 			File file = new File(m_targetPath, fileList.get(0));
-			if ( (m_containerInfo.getVersion() != null) && (m_containerInfo.getVersion().startsWith("1.") || m_containerInfo.getVersion().startsWith("2.")
-					|| m_containerInfo.getVersion().startsWith("3.")) ){
-				if ( m_containerInfo.getDbName() == null  || m_containerInfo.getDbName().equalsIgnoreCase(ToolConstants.PUBLIC_DB) ){
-					identifer = m_containerInfo.getName();
-				}
+
+			m_remainingRowCount = -1;
+			if ( m_containerInfo.getContainerFileOffset() >= 0 ){
+				// The position of the container in the multi-container format file is known
+				readContainerAt(identifer, fileList.get(0));
+				return;
 			}
 
 			boolean readNewFile = true;
@@ -324,25 +422,7 @@ public class rowCsvFileIO extends GSEIFileIO{
 			for ( int i = 0; i < 2; i++ ){
 				if (readNewFile) {
 					// Open CSV file (CSV file is not divided. Only one file)
-					m_file = new File(m_targetPath, fileList.get(0));
-					if ( m_inFile != null ) m_inFile.close();
-
-					char escapeChar = ESCAPE;
-					if ( (m_containerInfo.getVersion() != null) && (m_containerInfo.getVersion().startsWith("1.") || m_containerInfo.getVersion().startsWith("2.")) ){
-						escapeChar = ESCAPE_NULL;
-					}
-					CSVParser parser = new CSVParserBuilder()
-										.withSeparator(SEPARATOR)
-										.withQuoteChar(QUOTE)
-										.withEscapeChar(escapeChar)
-										.withFieldAsNull(CSVReaderNullFieldIndicator.EMPTY_SEPARATORS)
-										.build();
-					m_inFile = new CSVReaderBuilder(new BufferedReader(new InputStreamReader(
-								new FileInputStream(m_file), GSConstants.ENCODING_CSV)))
-								//.withFieldAsNull(CSVReaderNullFieldIndicator.EMPTY_SEPARATORS)
-								.withCSVParser(parser)
-								.withKeepCarriageReturn(true)
-								.build();
+					openCsvReader(fileList.get(0), 0);
 				}
 
 				// Read line by line
@@ -385,10 +465,144 @@ public class rowCsvFileIO extends GSEIFileIO{
 
 	}
 
+	/**
+	 * Returns the container name written in the container name line of the CSV file.
+	 *
+	 * @return Container name
+	 */
+	String getContainerIdentifier(){
+		String identifer = m_containerInfo.getFullName();
+		if ( (m_containerInfo.getVersion() != null) && (m_containerInfo.getVersion().startsWith("1.") || m_containerInfo.getVersion().startsWith("2.")
+				|| m_containerInfo.getVersion().startsWith("3.")) ){
+			if ( m_containerInfo.getDbName() == null  || m_containerInfo.getDbName().equalsIgnoreCase(ToolConstants.PUBLIC_DB) ){
+				identifer = m_containerInfo.getName();
+			}
+		}
+		return identifer;
+	}
+
+	/**
+	 * Returns the escape character of the CSV file.
+	 *
+	 * @return Escape character (ESCAPE_NULL: No escape character)
+	 */
+	char getEscapeChar(){
+		if ( (m_containerInfo.getVersion() != null) && (m_containerInfo.getVersion().startsWith("1.") || m_containerInfo.getVersion().startsWith("2.")) ){
+			return ESCAPE_NULL;
+		}
+		return ESCAPE;
+	}
+
+	/**
+	 * Create the CSV parser.
+	 *
+	 * @return CSV parser
+	 */
+	CSVParser createCsvParser(){
+		return new CSVParserBuilder()
+				.withSeparator(SEPARATOR)
+				.withQuoteChar(QUOTE)
+				.withEscapeChar(getEscapeChar())
+				.withFieldAsNull(CSVReaderNullFieldIndicator.EMPTY_SEPARATORS)
+				.build();
+	}
+
+	/**
+	 * Create the object that converts the lines of the same CSV file in another thread.
+	 *
+	 *   The date formats are copied, because SimpleDateFormat cannot be shared between threads.
+	 *
+	 * @param contInfo Container information
+	 * @param fileName CSV file name
+	 * @return Row data conversion object
+	 */
+	rowCsvFileIO createLineConverter(ToolContainerInfo contInfo, String fileName){
+		rowCsvFileIO converter = new rowCsvFileIO(cmdLineInfo);
+		converter.dateFormatCheck = (SimpleDateFormat)dateFormatCheck.clone();
+		converter.dateFormat = (SimpleDateFormat)dateFormat.clone();
+		converter.dateFormatNotTimezone = (SimpleDateFormat)dateFormatNotTimezone.clone();
+		converter.m_timestampCodec = new TimestampCodec(m_timestampCodec.isBasicOffset());
+		converter.m_containerInfo = contInfo;
+		converter.m_file = new File(m_targetPath, fileName);
+		return converter;
+	}
+
+	/**
+	 * Converts a line of the CSV file to row data.
+	 *
+	 * @param container Container
+	 * @param line Values of the line
+	 * @param lineCount Line number (for the error message)
+	 * @return Row data
+	 * @throws GSEIException
+	 */
+	Row convertLine(Container<?, Row> container, String[] line, int lineCount) throws GSEIException {
+		csvLine = line;
+		m_lineCount = lineCount;
+		return readRow(container);
+	}
+
+	/**
+	 * Open the CSV file.
+	 *
+	 * @param fileName CSV file name
+	 * @param offset Position to start reading (bytes)
+	 * @throws Exception
+	 */
+	private void openCsvReader(String fileName, long offset) throws Exception {
+		m_file = new File(m_targetPath, fileName);
+		if ( m_inFile != null ) m_inFile.close();
+
+		CSVParser parser = createCsvParser();
+		FileInputStream in = new FileInputStream(m_file);
+		if ( offset > 0 ){
+			in.getChannel().position(offset);
+		}
+		m_inFile = new CSVReaderBuilder(new BufferedReader(new InputStreamReader(
+					in, GSConstants.ENCODING_CSV)))
+					//.withFieldAsNull(CSVReaderNullFieldIndicator.EMPTY_SEPARATORS)
+					.withCSVParser(parser)
+					.withKeepCarriageReturn(true)
+					.build();
+	}
+
+	/**
+	 * Load the container data from the position recorded in the meta information.
+	 *
+	 *   The file is opened for each container, so the containers in the same file
+	 *   can be read in any order (or by several threads).
+	 *
+	 * @param identifer Container name in the container name line
+	 * @param fileName Multi-container format CSV file name
+	 * @throws Exception
+	 */
+	private void readContainerAt(String identifer, String fileName) throws Exception {
+		openCsvReader(fileName, m_containerInfo.getContainerFileOffset());
+		m_lineCount = 0;
+
+		// The first line is the container name line
+		csvLine = m_inFile.readNext();
+		m_lineCount++;
+		if ( (csvLine == null) || (csvLine.length < 2) || !csvLine[0].trim().equals("$")
+				|| !csvLine[1].trim().contains(identifer) ){
+			// Data for the specified container does not exist
+			throw new GSEIException(messageResource.getString("MESS_COMM_ERR_ROWCSV_30")
+					+": db=["+m_containerInfo.getDbName()+"] containerName=["+m_containerInfo.getName()+"] path=["+m_file.getAbsolutePath()
+					+"] offset=["+m_containerInfo.getContainerFileOffset()+"]");
+		}
+		m_csvContName = identifer;
+		m_remainingRowCount = m_containerInfo.getContainerFileRowCount();
+	}
+
 	public boolean hasNextRow() throws GSEIException{
 
 		long start = System.currentTimeMillis();
 		try {
+			// All the rows of the container have been read
+			if ( m_remainingRowCount == 0 ){
+				return false;
+			}
+
 			while ((csvLine = m_inFile.readNext())!=null){
 				m_lineCount++;
 
@@ -406,6 +620,9 @@ public class rowCsvFileIO extends GSEIFileIO{
 						break;
 					}
 				}
+				if ( m_remainingRowCount > 0 ){
+					m_remainingRowCount--;
+				}
 				return true;
 			}
 
@@ -475,7 +692,7 @@ public class rowCsvFileIO extends GSEIFileIO{
 	 * @return GridStore row information class
 	 * @throws GSEIException
 	 */
-	private Row setRowValue(Container<?, Row> container, Row row, GSType columnType,
+	Row setRowValue(Container<?, Row> container, Row row, GSType columnType,
 			String value, int columnNum) throws GSEIException {
 		try {
 			//value = value.trim();
@@ -686,7 +903,7 @@ public class rowCsvFileIO extends GSEIFileIO{
 	 * @return Date object
 	 * @throws Exception
 	 */
-	private Date convertStr2Date(String value) throws Exception{
+	Date convertStr2Date(String value) throws Exception{
 		// Date format index
         // 0         1         2
 		// 012345678901234567890123
@@ -694,6 +911,12 @@ public class rowCsvFileIO extends GSEIFileIO{
 		// yyyy-MM-dd HH:mm:ss.SSS
 		// These two formats are OK
 
+		Date date = m_timestampCodec.parseDate(value);
+		if ( date != null ){
+			return date;
+		}
+
+		// Strings that the codec does not convert (before 1901, near a transition of the time zone, error)
 		int yearEnd = value.indexOf("-");
 		if ( yearEnd != 4 ){
 			throw new Exception("Illegal TimeStamp Format '"+GSConstants.DATE_FORMAT + "'. value=["+value+"]");
@@ -771,6 +994,11 @@ public class rowCsvFileIO extends GSEIFileIO{
 	 * @throws ParseException
 	 */
 	private Timestamp convertStr2Timestamp(String value) throws ParseException {
+		Timestamp timestamp = m_timestampCodec.parseTimestamp(value);
+		if ( timestamp != null ){
+			return timestamp;
+		}
+
 		// yyyy-MM-dd HH:mm:ss.SSS compability
 		if (value.matches("^\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2}.\\d{3}$")) {
 			value = value.replace(" ", "T") + "Z";
@@ -960,7 +1188,7 @@ public class rowCsvFileIO extends GSEIFileIO{
 	 *
 	 * @return Column data string
 	 */
-	private String getRowValue(Row row, int rowNum, GSType columnType, int columnNum ) throws GSEIException{
+	String getRowValue(Row row, int rowNum, GSType columnType, int columnNum ) throws GSEIException{
 		try {
 			if (row.isNull(columnNum)) {
 				return null;
@@ -1002,16 +1230,25 @@ public class rowCsvFileIO extends GSEIFileIO{
 				if (MetaContainerFileIO.isPreciseColumn(columnInfo)) {
 					TimeUnit    precision  = columnInfo.getTimePrecision();
 					Timestamp   timestamp  = row.getPreciseTimestamp(columnNum);
+					String str = m_timestampCodec.formatTimestamp(timestamp, precision);
+					if ( str != null ){
+						return str;
+					}
 					ZonedDateTime  zdt  = ZonedDateTime.ofInstant(timestamp.toInstant(), ZoneId.systemDefault());
 					return zdt.format(MetaContainerFileIO.getDateTimeFormatter(precision));
 				}
 				else {
 					java.util.Date date = row.getTimestamp(columnNum);
+					String str = m_timestampCodec.formatDate(date.getTime());
+					if ( str != null ){
+						return str;
+					}
 					return dateFormat.format(date);
 				}
 
 			} else if (columnType.equals(GSType.GEOMETRY)) {
-				StringBuilder sb = new StringBuilder();
+				StringBuilder sb = m_cellBuilder;
+				sb.setLength(0);
 				sb.append(row.getGeometry(columnNum).toString());
 				return writeExternalTextFile(rowNum, columnNum, columnType, sb);
 
@@ -1019,7 +1256,8 @@ public class rowCsvFileIO extends GSEIFileIO{
 				return writeExternalBinaryFile(rowNum, columnNum, row);
 
 			} else if (columnType.equals(GSType.BOOL_ARRAY)) {
-				StringBuilder sb = new StringBuilder();
+				StringBuilder sb = m_cellBuilder;
+				sb.setLength(0);
 				for (boolean b : row.getBoolArray(columnNum)) {
 					sb.append(String.valueOf(b)).append(",");
 				}
@@ -1031,7 +1269,8 @@ public class rowCsvFileIO extends GSEIFileIO{
 				}
 
 			} else if (columnType.equals(GSType.STRING_ARRAY)) {
-				StringBuilder sb = new StringBuilder();
+				StringBuilder sb = m_cellBuilder;
+				sb.setLength(0);
 				String[] data = row.getStringArray(columnNum);
 				boolean check = false;
 				for (String b : data) {
@@ -1055,7 +1294,8 @@ public class rowCsvFileIO extends GSEIFileIO{
 				}
 
 			} else if (columnType.equals(GSType.BYTE_ARRAY)) {
-				StringBuilder sb = new StringBuilder();
+				StringBuilder sb = m_cellBuilder;
+				sb.setLength(0);
 				for (byte b : row.getByteArray(columnNum)) {
 					sb.append(Byte.toString(b)).append(",");
 				}
@@ -1067,7 +1307,8 @@ public class rowCsvFileIO extends GSEIFileIO{
 				}
 
 			} else if (columnType.equals(GSType.SHORT_ARRAY)) {
-				StringBuilder sb = new StringBuilder();
+				StringBuilder sb = m_cellBuilder;
+				sb.setLength(0);
 				for (short b : row.getShortArray(columnNum)) {
 					sb.append(Short.toString(b)).append(",");
 				}
@@ -1079,7 +1320,8 @@ public class rowCsvFileIO extends GSEIFileIO{
 				}
 
 			} else if (columnType.equals(GSType.INTEGER_ARRAY)) {
-				StringBuilder sb = new StringBuilder();
+				StringBuilder sb = m_cellBuilder;
+				sb.setLength(0);
 				for (int b : row.getIntegerArray(columnNum)) {
 					sb.append(Integer.toString(b)).append(",");
 				}
@@ -1091,7 +1333,8 @@ public class rowCsvFileIO extends GSEIFileIO{
 				}
 
 			} else if (columnType.equals(GSType.LONG_ARRAY)) {
-				StringBuilder sb = new StringBuilder();
+				StringBuilder sb = m_cellBuilder;
+				sb.setLength(0);
 				for (long b : row.getLongArray(columnNum)) {
 					sb.append(Long.toString(b)).append(",");
 				}
@@ -1103,7 +1346,8 @@ public class rowCsvFileIO extends GSEIFileIO{
 				}
 
 			} else if (columnType.equals(GSType.FLOAT_ARRAY)) {
-				StringBuilder sb = new StringBuilder();
+				StringBuilder sb = m_cellBuilder;
+				sb.setLength(0);
 				for (float b : row.getFloatArray(columnNum)) {
 					sb.append(Float.toString(b)).append(",");
 				}
@@ -1115,7 +1359,8 @@ public class rowCsvFileIO extends GSEIFileIO{
 				}
 
 			} else if (columnType.equals(GSType.DOUBLE_ARRAY)) {
-				StringBuilder sb = new StringBuilder();
+				StringBuilder sb = m_cellBuilder;
+				sb.setLength(0);
 				for (double b : row.getDoubleArray(columnNum)) {
 					sb.append(Double.toString(b)).append(",");
 				}
@@ -1127,9 +1372,13 @@ public class rowCsvFileIO extends GSEIFileIO{
 				}
 
 			} else if (columnType.equals(GSType.TIMESTAMP_ARRAY)) {
-				StringBuilder sb = new StringBuilder();
+				StringBuilder sb = m_cellBuilder;
+				sb.setLength(0);
 				for (java.util.Date b : row.getTimestampArray(columnNum)) {
-					sb.append(dateFormat.format(b)).append(",");
+					if ( !m_timestampCodec.appendDate(sb, b.getTime()) ){
+						sb.append(dateFormat.format(b));
+					}
+					sb.append(",");
 				}
 				if (sb.length() > 0) sb.deleteCharAt(sb.length() - 1);
 				if (sb.length() > MAX_CELL_LENGTH) {
@@ -1395,4 +1644,30 @@ public class rowCsvFileIO extends GSEIFileIO{
 	}
 
 
+	/**
+	 * Output stream that counts the bytes written.
+	 */
+	private static class CountingOutputStream extends FilterOutputStream {
+		private long m_count;
+
+		CountingOutputStream(OutputStream out){
+			super(out);
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			out.write(b);
+			m_count++;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			out.write(b, off, len);
+			m_count += len;
+		}
+
+		long getCount(){
+			return m_count;
+		}
+	}
 }
@@ -15,18 +15,19 @@ package com.toshiba.mwcloud.gs.tools.expimp;
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.ResourceBundle;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
 
@@ -76,6 +77,12 @@ public class rowDataFileIO extends GSEIFileIO{
 	/** ZipInputStream object */
 	private ZipInputStream m_inSingle;
 
+	/** Multi-container format file (the entries are looked up in the central directory) */
+	private ZipFile m_inMulti;
+
+	/** Stream of the entry being read (m_inSingle, or the entry of m_inMulti) */
+	private InputStream m_entryIn;
+
 	/** List of files to be read */
 	private List<String> m_fileNameList;
 
@@ -85,6 +92,12 @@ public class rowDataFileIO extends GSEIFileIO{
 	/** Raw data size after serialization */
 	private long m_objSize;
 
+	/** Whether the head of the entry has been read (Check of the entry header) */
+	private boolean m_entryHeaderChecked;
+
+	/** Whether the current entry is written by the schema-driven codec */
+	private boolean m_useRowCodec;
+
 	//-------------------------------
 	// write related
 	//-------------------------------
@@ -104,8 +117,8 @@ public class rowDataFileIO extends GSEIFileIO{
 	/** (In the case of single format, the serial number of each container, in the case of multi format, the entire serial number)*/
 	private int m_zipFileNum;
 
-	/** Serialized object */
-	private RowSerialize m_serialize;
+	/** Row data codec (generated per container) */
+	private RowCodec m_rowCodec;
 
 	// Row size byte size (long is 8 bytes)
 	private int rowSizeLength = 8;
@@ -116,8 +129,17 @@ public class rowDataFileIO extends GSEIFileIO{
 	// Row size buffer when reading
 	private byte[] bufRowSizeRead = new byte[rowSizeLength];
 
-	// Buffer when reading row data
-	private byte[] bufRowData = new byte[1024*100];
+	// Initial size of the buffer when reading row data
+	private static final int ROW_DATA_BUFFER_SIZE = 1024*100;
+
+	// Maximum size of the buffer kept for each thread when reading row data
+	private static final int ROW_DATA_BUFFER_MAX_SIZE = 1024*1024*4;
+
+	/**
+	 * Buffer when reading row data (one per thread, extended as needed up to ROW_DATA_BUFFER_MAX_SIZE)
+	 * The row data is read directly into this buffer and decoded in place.
+	 */
+	private static ThreadLocal<ByteBuffer> m_readBuffer = new ThreadLocal<ByteBuffer>();
 
 
 	/**
@@ -203,9 +225,6 @@ public class rowDataFileIO extends GSEIFileIO{
 	public void startWrite(){
 		// Specify the maximum size of the Zip file
 		m_zipLimitSize = cmdLineInfo.getFileSizeLimit()*1024*1024; // The size is specified in MB.
-
-		// Serialized object
-		m_serialize = new RowSerialize();
 	}
 
 	/**
@@ -234,13 +253,8 @@ public class rowDataFileIO extends GSEIFileIO{
 		m_entryNum = 0;
 		m_entrySize = 0;
 
-		// Object generation for serialization
-		List<GSType> columnTypeList = new ArrayList<GSType>(containerInfo.getColumnInfoList().size());
-		for ( ColumnInfo info : containerInfo.getColumnInfoList() ){
-			columnTypeList.add(info.getType());
-		}
-		RowSerialize.setColumnTypeList(columnTypeList);
-		RowSerialize.setMetaFileVersion(GSConstants.EXPORT_MNG_FILE_VERSION);
+		// Codec generation for the container columns
+		m_rowCodec = new RowCodec(containerInfo);
 
 		// Create a filename base
 		String fileName = super.createRowFileName(m_containerInfo, cmdLineInfo);
@@ -305,7 +319,7 @@ public class rowDataFileIO extends GSEIFileIO{
 				}
 				break;
 			}
-			RowSerialize.removeColumnTypeList();
+			m_rowCodec = null;
 
 		} catch (Exception e) {
 			// An error occurred in the binary format file output processing of raw data
@@ -349,22 +363,21 @@ public class rowDataFileIO extends GSEIFileIO{
 				m_entry = new ZipEntry(rowFileName);
 				m_outSingle.putNextEntry(m_entry);
 				m_currentFileSize += rowFileName.getBytes("utf-8").length + ZIP_HEADER_SIZE;
-				m_entrySize = 0;
-			}
 
-			// Serialize Row into a byte array
-			ByteArrayOutputStream bos = new ByteArrayOutputStream();
-			ObjectOutputStream oos = new ObjectOutputStream(bos);
+				// Entry header (Format of the row data)
+				bufRowSizeWrite.clear();
+				m_outSingle.write(bufRowSizeWrite.putLong(RowCodec.getEntryHeader()).array());
+				m_entrySize = rowSizeLength;
+			}
 
-			RowSerialize.setRow(row);
-			oos.writeObject(m_serialize);
-			byte b[] = bos.toByteArray();
+			// Encode Row into the buffer
+			ByteBuffer b = m_rowCodec.encode(row);
 
 			// Write size and data to file
-			long rowDataSize = b.length;
+			long rowDataSize = b.remaining();
 			bufRowSizeWrite.clear();
 			m_outSingle.write(bufRowSizeWrite.putLong(rowDataSize).array());
-			m_outSingle.write(b);
+			m_outSingle.write(b.array(), b.arrayOffset(), b.remaining());
 			m_entrySize += rowSizeLength + rowDataSize;
 
 			// The unit type of m_entrySize is bytes
@@ -422,6 +435,7 @@ public class rowDataFileIO extends GSEIFileIO{
 		try {
 			m_file = file;
 			m_inSingle = new ZipInputStream(new BufferedInputStream(new FileInputStream(file)));
+			m_entryIn = m_inSingle;
 			m_entry = null;
 
 		} catch ( Exception e ){
@@ -460,6 +474,7 @@ public class rowDataFileIO extends GSEIFileIO{
 
 				m_inSingle.close();
 				m_inSingle = null;
+				m_entryIn = null;
 			}
 
 		} catch ( Exception e ){}
@@ -494,40 +509,15 @@ public class rowDataFileIO extends GSEIFileIO{
 	/**
 	 * Open the Zip file (multi-format) and look for the entry that corresponds to the container name.
 	 *
+	 *   The entry is looked up in the central directory of the Zip file, so the containers can be
+	 *   read in any order. The file is kept open for the next container in the same file.
+	 *
 	 * @param fileName file name
 	 */
 	private void readMCFile(String fileName) throws GSEIException {
 		try {
-			// [Memo] The container data storage order of the binary file and
-			// the container specification order (--container option) to be processed are different.
-			// In case, if the container data is not found in the binary file, read it again from the beginning of the file.
-			for ( int i = 0; i < 2; i++ ){
-				File file = new File(m_targetPath, fileName);
-				if ( (m_file == null) || !m_file.equals(file) ){
-					// If it is different from the loaded file, load a new file
-					closeZipFile();
-					readZipFile(file);
-					m_entry = m_inSingle.getNextEntry();
-				}
-
-				// Find the internal entry that matches the specified container name
-				String entryName = getEntryName(m_containerInfo);
-				while( m_entry != null ){
-					String name = m_entry.getName();
-					if ( name.equals(entryName)){
-						break;
-					}
-					m_entry = m_inSingle.getNextEntry();
-				}
-
-				if ( m_entry != null ){
-					break;
-				} else {
-					// At the first time, once you read to the end, close once
-					if ( i == 0 ) closeZipFile();
-				}
-			}
-			if ( m_entry == null ){
+			openMCFile(fileName);
+			if ( !openMCEntry() ){
 				// Raw data for the specified container cannot be found
 				throw new GSEIException(messageResource.getString("MESS_COMM_ERR_ROWBNY_19")
 						+": containerName=["+m_containerInfo.getFullName()+"] path=["+m_file.getAbsolutePath()+"]");
@@ -543,6 +533,69 @@ public class rowDataFileIO extends GSEIFileIO{
 		}
 	}
 
+	/**
+	 * Open the Zip file (multi-format).  Nothing is done if the file is already open.
+	 *
+	 * @param fileName file name
+	 * @throws IOException
+	 */
+	private void openMCFile(String fileName) throws IOException {
+		File file = new File(m_targetPath, fileName);
+		if ( (m_inMulti == null) || !m_inMulti.getName().equals(file.getPath()) ){
+			closeMCFile();
+			m_inMulti = new ZipFile(file);
+		}
+		m_file = file;
+	}
+
+	/**
+	 * Open the entry of the container with the current entry number in the Zip file (multi-format).
+	 *
+	 * @return true:Opened / false:The entry does not exist in the file
+	 * @throws IOException
+	 */
+	private boolean openMCEntry() throws IOException {
+		closeMCEntry();
+		m_entry = m_inMulti.getEntry(getEntryName(m_containerInfo));
+		m_entryHeaderChecked = false;
+		if ( m_entry == null ){
+			return false;
+		}
+		m_entryIn = new BufferedInputStream(m_inMulti.getInputStream(m_entry));
+		return true;
+	}
+
+	private void closeMCEntry(){
+		if ( m_entryIn != null && m_entryIn != m_inSingle ){
+			try {
+				m_entryIn.close();
+			} catch ( Exception e ){}
+		}
+		m_entryIn = null;
+	}
+
+	/**
+	 * Close the multi container format file.
+	 */
+	private void closeMCFile(){
+		closeMCEntry();
+		if ( m_inMulti != null ){
+			try {
+				m_inMulti.close();
+			} catch ( Exception e ){}
+			m_inMulti = null;
+		}
+	}
+
+	/**
+	 * Close the multi container format file kept open for the next container.
+	 */
+	@Override
+	void close(){
+		closeMCFile();
+		closeZipFile();
+	}
+
 	/**
 	 * Load the export data of the container.
 	 *
@@ -590,6 +643,8 @@ public class rowDataFileIO extends GSEIFileIO{
 			}
 			RowSerialize.setColumnTypeList(columnTypeList);
 			RowSerialize.setMetaFileVersion(contInfo.getVersion());
+			m_rowCodec = new RowCodec(contInfo);
+			m_entryHeaderChecked = false;
 
 		} catch ( GSEIException e ){
 			throw e;
@@ -615,8 +670,22 @@ public class rowDataFileIO extends GSEIFileIO{
 		try{
 			// Entry loop
 			while ( true ){
-				if ( m_entry == null ){
+				if ( (m_entry == null) && (m_outputMode == OUTPUT_MODE.MULTI) ){
+					// Next entry of the container
+					if ( !openMCEntry() ){
+						// The entries of the container continue in the next file
+						if ( m_currentFileNum < m_fileNameList.size() ){
+							openMCFile(m_fileNameList.get(m_currentFileNum++));
+							continue;
+						} else {
+							RowSerialize.removeColumnTypeList();
+							return false;
+						}
+					}
+
+				} else if ( m_entry == null ){
 					m_entry = m_inSingle.getNextEntry();
+					m_entryHeaderChecked = false;
 
 					if ( m_entry == null ){
 						// End of file  ⇒  If there is still a file to read, read it
@@ -629,36 +698,26 @@ public class rowDataFileIO extends GSEIFileIO{
 							return false;
 						}
 					}
-					// Check entry name
-					if ( m_outputMode == OUTPUT_MODE.MULTI ){
-						String name = m_entry.getName();
-						if ( name.equals(getEntryName(m_containerInfo))){
-						} else {
-							// Break with the next container
-							RowSerialize.removeColumnTypeList();
-							return false;
-						}
-					}
 				}
 
 				// Checking stored data
-				int writtenSize = 0;
-				int writeSize = rowSizeLength;
-				int allSize = 0;
-				ByteArrayOutputStream bo = new ByteArrayOutputStream();
-				while ((writtenSize = m_inSingle.read(bufRowSizeRead, 0, writeSize)) != -1) {
-					bo.write(bufRowSizeRead, 0, writtenSize);
-					allSize += writtenSize;
-					if ( allSize == rowSizeLength ){
-						break;
-					} else {
-						writeSize = rowSizeLength - allSize;
+				boolean exists = readRowSize();
+				if ( exists && !m_entryHeaderChecked ){
+					// Head of the entry  ⇒  Check the format of the row data
+					m_entryHeaderChecked = true;
+					m_useRowCodec = RowCodec.isEntryHeader(m_objSize);
+					if ( m_useRowCodec ){
+						if ( (int)m_objSize > GSConstants.BINARY_ROW_FORMAT_VERSION ){
+							// Unsupported format version
+							throw new GSEIException(messageResource.getString("MESS_COMM_ERR_ROWBNY_7")
+									+": containerName=["+m_containerInfo.getFullName()
+									+"] formatVersion=["+(int)m_objSize+"]");
+						}
+						exists = readRowSize();
 					}
-			    }
+				}
 
-				if ( allSize != 0 ){
-					ByteBuffer b = ByteBuffer.wrap(bo.toByteArray());
-					m_objSize = b.getLong();
+				if ( exists ){
 					return true;
 				} else {
 					// End of entry  ⇒  To the next entry
@@ -667,6 +726,8 @@ public class rowDataFileIO extends GSEIFileIO{
 				}
 			}
 
+		} catch (GSEIException e){
+			throw e;
 		} catch (Exception e){
 			// An error occurred while reading the binary file
 			throw new GSEIException(messageResource.getString("MESS_COMM_ERR_ROWBNY_25")
@@ -678,6 +739,76 @@ public class rowDataFileIO extends GSEIFileIO{
 		}
 	}
 
+	/**
+	 * Reads the row data size (8 bytes) from the entry.
+	 *
+	 * @return true:Read / false:End of entry
+	 * @throws IOException
+	 */
+	private boolean readRowSize() throws IOException {
+		int allSize = readFully(bufRowSizeRead, 0, rowSizeLength);
+		if ( allSize == 0 ){
+			return false;
+		} else if ( allSize < rowSizeLength ){
+			throw new EOFException("row size is truncated");
+		}
+
+		long size = 0;
+		for ( int i = 0; i < rowSizeLength; i++ ){
+			size = (size << 8) | (bufRowSizeRead[i] & 0xFF);
+		}
+		m_objSize = size;
+		return true;
+	}
+
+	/**
+	 * Reads the specified size from the entry.
+	 *
+	 * @param b Destination
+	 * @param off Offset
+	 * @param len Size to read
+	 * @return Size actually read (less than len only at the end of the entry)
+	 * @throws IOException
+	 */
+	private int readFully(byte[] b, int off, int len) throws IOException {
+		int allSize = 0;
+		while ( allSize < len ){
+			int readSize = m_entryIn.read(b, off + allSize, len - allSize);
+			if ( readSize == -1 ){
+				break;
+			}
+			allSize += readSize;
+		}
+		return allSize;
+	}
+
+	/**
+	 * Returns the read buffer of the current thread with at least the specified capacity.
+	 *
+	 *   A row larger than ROW_DATA_BUFFER_MAX_SIZE is read into a buffer allocated only for that row,
+	 *   so that the buffer kept by the thread does not stay at the size of the largest row.
+	 *
+	 * @param size Required size
+	 * @return Read buffer (position=0, limit=size)
+	 */
+	private static ByteBuffer getReadBuffer(int size){
+		if ( size > ROW_DATA_BUFFER_MAX_SIZE ){
+			return ByteBuffer.allocate(size);
+		}
+		ByteBuffer buf = m_readBuffer.get();
+		if ( (buf == null) || (buf.capacity() < size) ){
+			int capacity = (buf == null ? ROW_DATA_BUFFER_SIZE : buf.capacity());
+			while ( capacity < size ){
+				capacity *= 2;
+			}
+			buf = ByteBuffer.allocate(Math.min(capacity, ROW_DATA_BUFFER_MAX_SIZE));
+			m_readBuffer.set(buf);
+		}
+		buf.clear();
+		buf.limit(size);
+		return buf;
+	}
+
 	/**
 	 * Reads and returns ROW data.
 	 *
@@ -690,36 +821,31 @@ public class rowDataFileIO extends GSEIFileIO{
 
 			Row row = container.createRow();
 
-			// Read from file
-			int writeSize = (m_objSize>bufRowData.length?bufRowData.length:(int)m_objSize);
-			long allSize = 0;
-			int writtenSize = 0;
-			ByteArrayOutputStream bo = new ByteArrayOutputStream();
-			while ((writtenSize = m_inSingle.read(bufRowData, 0, writeSize)) != -1) {
-				bo.write(bufRowData, 0, writtenSize);
-				allSize += writtenSize;
-				if ( allSize == m_objSize ){
-					break;
-				} else {
-					writeSize = ((m_objSize-allSize)>bufRowData.length?bufRowData.length:(int)(m_objSize-allSize));
-				}
-		    }
+			// Read from file directly into the buffer of this thread
+			ByteBuffer buf = getReadBuffer((int)m_objSize);
+			int allSize = readFully(buf.array(), buf.arrayOffset(), (int)m_objSize);
 			if ( allSize == 0 ){
 				return row;
 			}
+			buf.limit(allSize);
+
+			if ( m_useRowCodec ){
+				// Decode in place
+				m_rowCodec.decode(buf, row);
 
-			// Deserialize
-			RowSerialize.setRow(row);
-			// [memo] RowSeriarize is newly created without permission, so specify row with the above method.
-			byte[] test = bo.toByteArray();
-			ByteArrayInputStream bai = new ByteArrayInputStream(test);
-			ObjectInputStream ois = new ObjectInputStream(bai);
-			ois.readObject();
+			} else {
+				// Deserialize (Old format)
+				RowSerialize.setRow(row);
+				// [memo] RowSeriarize is newly created without permission, so specify row with the above method.
+				ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(buf.array(), buf.arrayOffset(), allSize));
+				ois.readObject();
+				row = RowSerialize.getRow();
+			}
 
 			long end = System.currentTimeMillis();
 			m_timeFileIO += (end-start);
 
-			return RowSerialize.getRow();
+			return row;
 
 		} catch ( Exception e ){
 			// An error occurred while reading the binary file